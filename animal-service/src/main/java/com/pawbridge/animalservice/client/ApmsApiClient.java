@@ -1,6 +1,5 @@
 package com.pawbridge.animalservice.client;
 
-import com.pawbridge.animalservice.config.FeignConfig;
 import com.pawbridge.animalservice.dto.apms.ApmsAnimal;
 import com.pawbridge.animalservice.dto.apms.ApmsRootResponse;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -9,11 +8,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * APMS 유기동물 조회 API FeignClient
+ * - 서킷 브레이커/벌크헤드/타임아웃: resilience4j.*.configs.apms-api (application.yml)
+ * - 커넥션 풀/재시도: ApmsFeignConfig
  */
 @FeignClient(
         name = "apms-api",
         url = "${apms.api.base-url}",
-        configuration = FeignConfig.class
+        configuration = ApmsFeignConfig.class,
+        fallbackFactory = ApmsApiClientFallbackFactory.class
 )
 public interface ApmsApiClient {
 
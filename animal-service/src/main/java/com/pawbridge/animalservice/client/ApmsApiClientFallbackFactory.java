@@ -0,0 +1,29 @@
+package com.pawbridge.animalservice.client;
+
+import com.pawbridge.animalservice.dto.apms.ApmsAnimal;
+import com.pawbridge.animalservice.dto.apms.ApmsRootResponse;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * ApmsApiClient 실패 시 예외 전달
+ * - 대체 응답 없음, 원래 예외를 그대로 전파 (fallback이 없으면 NoFallbackAvailableException으로 감싸짐)
+ * - FeignException: 배치 Step이 해당 아이템만 skip
+ * - 서킷 오픈(CallNotPermittedException): skip 대상이 아니므로 Step 실패 (장애 중인 API를 계속 호출하지 않음)
+ */
+@Component
+public class ApmsApiClientFallbackFactory implements FallbackFactory<ApmsApiClient> {
+
+    @Override
+    public ApmsApiClient create(Throwable cause) {
+        return (serviceKey, pageNo, numOfRows, bgnde, endde, upkind, state, type) -> {
+            throw propagate(cause);
+        };
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException("APMS API call failed", cause);
+    }
+}
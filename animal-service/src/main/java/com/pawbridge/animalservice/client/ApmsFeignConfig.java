@@ -0,0 +1,51 @@
+package com.pawbridge.animalservice.client;
+
+import com.pawbridge.animalservice.config.BudgetedRetryer;
+import com.pawbridge.animalservice.config.PooledHttpClientFactory;
+import feign.Client;
+import feign.Retryer;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * ApmsApiClient 전용 HTTP 설정
+ * - @FeignClient(configuration = ApmsFeignConfig.class)로만 적용 (@Configuration을 붙이지 않음)
+ *   → 루트 컨텍스트에 풀/메트릭이 중복 생성되지 않음
+ * - 전용 커넥션 풀 (페이지 단위 대량 조회 시 매 요청 연결/TLS 핸드셰이크 방지)
+ * - 재시도 예산이 있는 Retryer (APMS 조회는 멱등한 GET)
+ */
+public class ApmsFeignConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient apmsHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${apms.http.max-connections:10}") int maxConnections,
+            @Value("${apms.http.connect-timeout:3s}") Duration connectTimeout,
+            @Value("${apms.http.keep-alive:30s}") Duration keepAlive,
+            @Value("${apms.http.time-to-live:5m}") Duration timeToLive) {
+        return PooledHttpClientFactory.create("apms-api", maxConnections, connectTimeout, keepAlive, timeToLive, meterRegistry);
+    }
+
+    @Bean
+    public Client apmsFeignClient(@Qualifier("apmsHttpClient") CloseableHttpClient apmsHttpClient) {
+        return new ApacheHttp5Client(apmsHttpClient);
+    }
+
+    /**
+     * IO 오류만 재시도, 재시도는 전체 요청의 budget-ratio 비율 이내
+     */
+    @Bean
+    public Retryer budgetedRetryer(
+            @Value("${resilience.feign-retry.max-attempts:2}") int maxAttempts,
+            @Value("${resilience.feign-retry.backoff-ms:500}") long backoffMs,
+            @Value("${resilience.feign-retry.budget-ratio:0.1}") double budgetRatio,
+            @Value("${resilience.feign-retry.max-budget:10}") int maxBudget) {
+        return new BudgetedRetryer(maxAttempts, backoffMs, budgetRatio, maxBudget);
+    }
+}
@@ -7,7 +7,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -68,11 +67,7 @@ public class ImageController {
 
         log.info("다중 이미지 업로드 요청: count={}", files.length);
 
-        List<String> imageUrls = new ArrayList<>();
-        for (MultipartFile file : files) {
-            String imageUrl = s3Service.uploadImage(file);
-            imageUrls.add(imageUrl);
-        }
+        List<String> imageUrls = s3Service.uploadImages(files);
 
         Map<String, Object> response = new HashMap<>();
         response.put("imageUrls", imageUrls);
@@ -1,14 +1,18 @@
 package com.pawbridge.animalservice.document;
 
+import com.pawbridge.animalservice.util.ImageVariants;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 
+import java.util.Map;
+
 /**
  * Elasticsearch용 동물 문서
  * - Debezium CDC를 통해 자동 동기화
@@ -121,4 +125,12 @@ public class AnimalDocument {
 
     @Field(name = "updated_at", type = FieldType.Keyword)
     private String updatedAt;
+
+    /**
+     * 대표 이미지의 너비별 썸네일 URL (인덱스에 저장하지 않고 image_url에서 계산)
+     */
+    @Transient
+    public Map<Integer, String> getThumbnailUrls() {
+        return ImageVariants.variantUrls(imageUrl);
+    }
 }
\ No newline at end of file
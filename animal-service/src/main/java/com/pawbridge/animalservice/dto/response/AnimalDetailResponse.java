@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * 동물 상세 응답 DTO (상세 조회용)
@@ -117,6 +118,11 @@ public class AnimalDetailResponse {
      */
     private String imageUrl;
 
+    /**
+     * 대표 이미지 썸네일 URL (너비 → WebP URL, 자체 업로드 이미지만)
+     */
+    private Map<Integer, String> thumbnailUrls;
+
     /**
      * 추가 이미지 URL
      */
@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * 동물 응답 DTO (목록 조회용)
@@ -79,6 +80,11 @@ public class AnimalResponse {
      */
     private String imageUrl;
 
+    /**
+     * 대표 이미지 썸네일 URL (너비 → WebP URL, 자체 업로드 이미지만)
+     */
+    private Map<Integer, String> thumbnailUrls;
+
     /**
      * 찜 횟수
      */
@@ -0,0 +1,74 @@
+package com.pawbridge.animalservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pawbridge.animalservice.enums.AnimalStatus;
+import com.pawbridge.animalservice.enums.Gender;
+import com.pawbridge.animalservice.enums.Species;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 동물 요약 응답 DTO (찜 목록 카드용)
+ * - POST /api/v1/mypage/animals/batch
+ * - 카드 표시에 필요한 필드만 포함 (AnimalResponse 대비 응답 크기 축소)
+ * - JPQL 생성자 프로젝션으로 조회 (엔티티/보호소 로딩 없음)
+ */
+@Getter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnimalSummaryResponse {
+
+    /**
+     * 동물 ID
+     */
+    private Long id;
+
+    /**
+     * 축종
+     */
+    private Species species;
+
+    /**
+     * 품종명
+     */
+    private String breed;
+
+    /**
+     * 성별
+     */
+    private Gender gender;
+
+    /**
+     * 나이 (계산된 값)
+     */
+    private Integer age;
+
+    /**
+     * 동물 상태
+     */
+    private AnimalStatus status;
+
+    /**
+     * 대표 이미지 URL
+     */
+    private String imageUrl;
+
+    /**
+     * 보호소 이름 (간단 표시용)
+     */
+    private String shelterName;
+
+    public AnimalSummaryResponse(Long id, Species species, String breed, Gender gender, Integer birthYear,
+                                 AnimalStatus status, String imageUrl, String shelterName) {
+        this.id = id;
+        this.species = species;
+        this.breed = breed;
+        this.gender = gender;
+        this.age = birthYear != null ? LocalDate.now().getYear() - birthYear : null;
+        this.status = status;
+        this.imageUrl = imageUrl;
+        this.shelterName = shelterName;
+    }
+}
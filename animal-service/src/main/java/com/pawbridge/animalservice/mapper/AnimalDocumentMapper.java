@@ -41,6 +41,7 @@ public class AnimalDocumentMapper {
             .status(document.getStatus() != null ? AnimalStatus.valueOf(document.getStatus()) : null)
             .noticeEndDate(toLocalDate(document.getNoticeEndDate()))
             .imageUrl(document.getImageUrl())
+            .thumbnailUrls(document.getThumbnailUrls())
             .favoriteCount(document.getFavoriteCount())
             .shelterId(document.getShelterId())
             .shelterName(document.getShelterName())
@@ -83,6 +84,7 @@ public class AnimalDocumentMapper {
 
             // 이미지
             .imageUrl(document.getImageUrl())
+            .thumbnailUrls(document.getThumbnailUrls())
             .imageUrl2(document.getImageUrl2())
 
             // 설명
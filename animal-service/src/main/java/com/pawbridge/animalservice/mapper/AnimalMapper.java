@@ -5,6 +5,7 @@ import com.pawbridge.animalservice.dto.response.AnimalDetailResponse;
 import com.pawbridge.animalservice.dto.response.AnimalResponse;
 import com.pawbridge.animalservice.entity.Animal;
 import com.pawbridge.animalservice.entity.Shelter;
+import com.pawbridge.animalservice.util.ImageVariants;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -66,6 +67,7 @@ public class AnimalMapper {
                 .status(animal.getStatus())
                 .noticeEndDate(animal.getNoticeEndDate())
                 .imageUrl(animal.getImageUrl())
+                .thumbnailUrls(ImageVariants.variantUrls(animal.getImageUrl()))
                 .favoriteCount(animal.getFavoriteCount())
                 .shelterId(animal.getShelter() != null ? animal.getShelter().getId() : null)
                 .shelterName(animal.getShelter() != null ? animal.getShelter().getName() : null)
@@ -97,6 +99,7 @@ public class AnimalMapper {
                 .happenPlace(animal.getHappenPlace())
                 .happenDate(animal.getHappenDate())
                 .imageUrl(animal.getImageUrl())
+                .thumbnailUrls(ImageVariants.variantUrls(animal.getImageUrl()))
                 .imageUrl2(animal.getImageUrl2())
                 .description(animal.getDescription())
                 .favoriteCount(animal.getFavoriteCount())
@@ -1,6 +1,7 @@
 package com.pawbridge.animalservice.mypage.controller;
 
 import com.pawbridge.animalservice.dto.response.AnimalResponse;
+import com.pawbridge.animalservice.dto.response.AnimalSummaryResponse;
 import com.pawbridge.animalservice.mypage.service.MyPageAnimalService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -28,12 +29,12 @@ public class MyPageAnimalController {
      * 여러 동물 ID로 일괄 조회 (FeignClient용)
      * - POST /api/v1/mypage/animals/batch
      * - MySQL IN 쿼리 사용
-     * - user-service의 찜 목록 조회에 사용
+     * - user-service의 찜 목록 조회에 사용 (카드용 요약 필드만 반환)
      */
     @PostMapping("/batch")
-    public ResponseEntity<List<AnimalResponse>> getAnimalsByIds(
+    public ResponseEntity<List<AnimalSummaryResponse>> getAnimalsByIds(
             @RequestBody List<Long> animalIds) {
-        List<AnimalResponse> animals = myPageAnimalService.findByIds(animalIds);
+        List<AnimalSummaryResponse> animals = myPageAnimalService.findByIds(animalIds);
         return ResponseEntity.ok(animals);
     }
 
@@ -1,6 +1,7 @@
 package com.pawbridge.animalservice.mypage.service;
 
 import com.pawbridge.animalservice.dto.response.AnimalResponse;
+import com.pawbridge.animalservice.dto.response.AnimalSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,11 +15,11 @@ import java.util.List;
 public interface MyPageAnimalService {
 
     /**
-     * 여러 ID로 동물 목록 일괄 조회 (MySQL)
+     * 여러 ID로 동물 요약 일괄 조회 (MySQL)
      * @param ids 동물 ID 목록
-     * @return 동물 목록
+     * @return 동물 요약 목록
      */
-    List<AnimalResponse> findByIds(List<Long> ids);
+    List<AnimalSummaryResponse> findByIds(List<Long> ids);
 
     /**
      * 보호소별 동물 목록 조회 (MySQL)
@@ -1,6 +1,7 @@
 package com.pawbridge.animalservice.mypage.service;
 
 import com.pawbridge.animalservice.dto.response.AnimalResponse;
+import com.pawbridge.animalservice.dto.response.AnimalSummaryResponse;
 import com.pawbridge.animalservice.entity.Animal;
 import com.pawbridge.animalservice.mapper.AnimalMapper;
 import com.pawbridge.animalservice.repository.AnimalRepository;
@@ -13,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 마이페이지용 동물 조회 서비스 구현
@@ -29,24 +29,20 @@ public class MyPageAnimalServiceImpl implements MyPageAnimalService {
     private final AnimalMapper animalMapper;
 
     /**
-     * 여러 ID로 동물 목록 일괄 조회 (MySQL)
-     * - user-service의 찜 목록 조회에 사용
+     * 여러 ID로 동물 요약 일괄 조회 (MySQL)
+     * - user-service의 찜 목록 조회에 사용 (캐시에 없는 ID만 요청됨)
+     * - 요약 프로젝션 조회 (보호소 JOIN 1회)
      */
     @Override
     @Transactional(readOnly = true)
-    public List<AnimalResponse> findByIds(List<Long> ids) {
+    public List<AnimalSummaryResponse> findByIds(List<Long> ids) {
         log.debug("[MyPage] 여러 ID로 조회: {}", ids);
 
         if (ids == null || ids.isEmpty()) {
             return new ArrayList<>();
         }
 
-        // JPA의 findAllById 사용 (IN 쿼리)
-        List<Animal> animals = animalRepository.findAllById(ids);
-
-        return animals.stream()
-                .map(animalMapper::toResponse)
-                .collect(Collectors.toList());
+        return animalRepository.findSummariesByIdIn(ids);
     }
 
     /**
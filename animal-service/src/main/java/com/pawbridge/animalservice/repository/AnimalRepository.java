@@ -1,5 +1,6 @@
 package com.pawbridge.animalservice.repository;
 
+import com.pawbridge.animalservice.dto.response.AnimalSummaryResponse;
 import com.pawbridge.animalservice.entity.Animal;
 import com.pawbridge.animalservice.enums.AnimalStatus;
 import com.pawbridge.animalservice.enums.Gender;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -162,4 +164,16 @@ public interface AnimalRepository extends JpaRepository<Animal, Long>,
      * @return 개수
      */
     long countByApmsNoticeNoStartingWith(String prefix);
+
+    /**
+     * 여러 ID로 동물 요약 일괄 조회
+     * - 찜 목록 카드용 (마이페이지 batch API)
+     * - 생성자 프로젝션 + 보호소 LEFT JOIN 1회 (엔티티/보호소 N+1 로딩 없음)
+     * @param ids 동물 ID 목록
+     * @return 동물 요약 목록 (존재하는 ID만)
+     */
+    @Query("SELECT new com.pawbridge.animalservice.dto.response.AnimalSummaryResponse(" +
+           "a.id, a.species, a.breed, a.gender, a.birthYear, a.status, a.imageUrl, s.name) " +
+           "FROM Animal a LEFT JOIN a.shelter s WHERE a.id IN :ids")
+    List<AnimalSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,29 @@
+package com.pawbridge.animalservice.scheduler;
+
+import com.pawbridge.animalservice.service.ThumbnailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 썸네일 정합성 복구 스케줄러
+ * - 대기열 초과/재시도 소진으로 생성되지 않은 썸네일 생성 (응답에 노출된 썸네일 URL의 영구 404 방지)
+ * - 원본 삭제와 생성이 겹쳐 남은 고아 썸네일 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailBackfillScheduler {
+
+    private final ThumbnailService thumbnailService;
+
+    @Scheduled(fixedDelayString = "${animal.thumbnail.backfill.interval-ms:3600000}", initialDelay = 60000)
+    public void backfillThumbnails() {
+        try {
+            thumbnailService.backfill();
+        } catch (Exception e) {
+            log.error("[THUMBNAIL-BACKFILL] 실패", e);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.pawbridge.animalservice.entity.Shelter;
 import com.pawbridge.animalservice.enums.AnimalStatus;
 import com.pawbridge.animalservice.enums.ApiSource;
 import com.pawbridge.animalservice.event.AnimalCreatedEvent;
+import com.pawbridge.animalservice.event.AnimalDeletedEvent;
 import com.pawbridge.animalservice.event.AnimalStatusChangedEvent;
 import com.pawbridge.animalservice.event.AnimalUpdatedEvent;
 import com.pawbridge.animalservice.mapper.AnimalMapper;
@@ -40,6 +41,7 @@ public class AnimalCommandService {
     private static final String TOPIC_ANIMAL_CREATED = "animal.created";
     private static final String TOPIC_ANIMAL_UPDATED = "animal.updated";
     private static final String TOPIC_ANIMAL_STATUS_CHANGED = "animal.status.changed";
+    private static final String TOPIC_ANIMAL_DELETED = "animal.deleted";
 
     private final AnimalRepository animalRepository;
     private final ShelterRepository shelterRepository;
@@ -186,6 +188,7 @@ public class AnimalCommandService {
 
     /**
      * 동물 삭제
+     * - 다른 서비스의 동물 요약 캐시가 삭제된 동물을 계속 노출하지 않도록 삭제 이벤트 발행
      * @param id 동물 ID
      * @throws EntityNotFoundException 동물이 없을 때
      */
@@ -195,6 +198,16 @@ public class AnimalCommandService {
             throw new EntityNotFoundException("Animal not found: " + id);
         }
         animalRepository.deleteById(id);
+
+        // Outbox에 이벤트 저장 (같은 트랜잭션)
+        AnimalDeletedEvent event = AnimalDeletedEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType("ANIMAL_DELETED")
+                .timestamp(LocalDateTime.now())
+                .animalId(id)
+                .build();
+        outboxService.saveEvent("Animal", String.valueOf(id),
+                "ANIMAL_DELETED", TOPIC_ANIMAL_DELETED, event);
     }
 
     /**
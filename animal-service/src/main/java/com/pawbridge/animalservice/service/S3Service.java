@@ -1,8 +1,9 @@
 package com.pawbridge.animalservice.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -11,9 +12,13 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * S3 이미지 업로드 서비스
@@ -21,10 +26,11 @@ import java.util.UUID;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3Service {
 
     private final S3Client s3Client;
+    private final ThreadPoolTaskExecutor s3UploadExecutor;
+    private final ThumbnailService thumbnailService;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
@@ -32,6 +38,14 @@ public class S3Service {
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    public S3Service(S3Client s3Client,
+                     @Qualifier("s3UploadExecutor") ThreadPoolTaskExecutor s3UploadExecutor,
+                     ThumbnailService thumbnailService) {
+        this.s3Client = s3Client;
+        this.s3UploadExecutor = s3UploadExecutor;
+        this.thumbnailService = thumbnailService;
+    }
+
     private static final String ANIMALS_FOLDER = "animals/";
 
     private static final List<String> ALLOWED_IMAGE_TYPES = Arrays.asList(
@@ -63,7 +77,12 @@ public class S3Service {
                     .contentType(file.getContentType())
                     .build();
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+            try (InputStream inputStream = file.getInputStream()) {
+                s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, file.getSize()));
+            }
+
+            // 목록용 썸네일은 요청과 분리해 비동기 생성
+            thumbnailService.generateAsync(key);
 
             String imageUrl = buildS3Url(key);
             log.info("이미지 업로드 완료: {}", imageUrl);
@@ -75,6 +94,43 @@ public class S3Service {
         }
     }
 
+    /**
+     * 다중 이미지 병렬 업로드
+     * - 전체 파일 검증 후 s3UploadExecutor로 동시 업로드
+     * - 하나라도 실패하면 업로드된 이미지를 삭제하고 예외 (고아 객체 방지)
+     * @param files 업로드할 이미지 파일들
+     * @return 업로드된 이미지의 S3 URL 목록 (요청 순서 유지)
+     */
+    public List<String> uploadImages(MultipartFile[] files) {
+        Arrays.stream(files).forEach(this::validateImageFile);
+
+        List<CompletableFuture<String>> futures = Arrays.stream(files)
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadImage(file), s3UploadExecutor))
+                .toList();
+
+        List<String> imageUrls = new ArrayList<>(futures.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<String> future : futures) {
+            try {
+                imageUrls.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause
+                            ? cause
+                            : new RuntimeException("이미지 업로드에 실패했습니다.", e.getCause());
+                }
+            }
+        }
+
+        if (failure != null) {
+            imageUrls.forEach(this::deleteImage);
+            log.error("다중 이미지 업로드 실패, 업로드된 {}개 이미지 정리 완료", imageUrls.size());
+            throw failure;
+        }
+
+        return imageUrls;
+    }
+
     /**
      * 이미지 삭제
      * @param imageUrl 삭제할 이미지의 S3 URL
@@ -98,6 +154,7 @@ public class S3Service {
                     .build();
 
             s3Client.deleteObject(deleteRequest);
+            thumbnailService.deleteVariants(key);
             log.info("이미지 삭제 완료: {}", key);
 
         } catch (Exception e) {
@@ -1,13 +1,25 @@
 package com.pawbridge.communityservice.client;
 
+import com.pawbridge.communityservice.config.FeignRetryConfig;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.Map;
+import java.util.Set;
 
 /**
  * User Service와 통신하는 Feign Client
+ * - 서킷 브레이커/벌크헤드/타임아웃: resilience4j.*.configs.user-service (application.yml)
  */
-@FeignClient(name = "user-service", url = "${service.user.url:}")
+@FeignClient(
+        name = "user-service",
+        url = "${service.user.url:}",
+        configuration = FeignRetryConfig.class,
+        fallbackFactory = UserServiceClientFallbackFactory.class
+)
 public interface UserServiceClient {
 
     /**
@@ -17,4 +29,12 @@ public interface UserServiceClient {
      */
     @GetMapping("/api/v1/users/internal/{userId}/nickname")
     String getUserNickname(@PathVariable("userId") Long userId);
+
+    /**
+     * 사용자 닉네임 일괄 조회
+     * @param userIds 사용자 ID 목록
+     * @return userId → 닉네임 (존재하지 않는 userId는 빠짐)
+     */
+    @PostMapping("/api/v1/users/internal/nicknames")
+    Map<Long, String> getUserNicknames(@RequestBody Set<Long> userIds);
 }
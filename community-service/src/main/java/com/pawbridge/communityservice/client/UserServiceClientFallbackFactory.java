@@ -0,0 +1,42 @@
+package com.pawbridge.communityservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * UserServiceClient 장애 시 대체 응답
+ * - 닉네임 일괄 조회: 빈 결과 반환 → NicknameResolver가 기본 닉네임 적용 (캐시에는 저장 안 됨)
+ * - 그 외: 원래 예외 그대로 전파
+ * - 서킷 오픈(CallNotPermittedException), 동시 호출 한도 초과(BulkheadFullException), 타임아웃 모두 포함
+ */
+@Slf4j
+@Component
+public class UserServiceClientFallbackFactory implements FallbackFactory<UserServiceClient> {
+
+    @Override
+    public UserServiceClient create(Throwable cause) {
+        return new UserServiceClient() {
+            @Override
+            public String getUserNickname(Long userId) {
+                throw propagate(cause);
+            }
+
+            @Override
+            public Map<Long, String> getUserNicknames(Set<Long> userIds) {
+                log.warn("[FALLBACK] user-service nicknames unavailable, using defaults for {} users: {}",
+                        userIds.size(), cause.toString());
+                return Map.of();
+            }
+        };
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException("user-service call failed", cause);
+    }
+}
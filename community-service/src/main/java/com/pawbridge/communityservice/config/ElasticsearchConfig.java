@@ -42,6 +42,7 @@ public class ElasticsearchConfig {
                 // 인덱스가 이미 존재하면 스킵
                 if (indexOps.exists()) {
                     log.info("✅ Elasticsearch index 'posts' already exists");
+                    updateMapping(indexOps);
                     return;
                 }
 
@@ -69,4 +70,17 @@ public class ElasticsearchConfig {
             }
         }
     }
+
+    /**
+     * 기존 인덱스에 새로 추가된 필드 매핑 반영
+     * - 필드 추가는 재색인 없이 가능 (기존 필드 타입 변경은 불가)
+     * - 실패해도 기동은 계속 (해당 필드는 동적 매핑으로 저장됨)
+     */
+    private void updateMapping(IndexOperations indexOps) {
+        try {
+            indexOps.putMapping(indexOps.createMapping());
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to update Elasticsearch mapping for 'posts': {}", e.getMessage());
+        }
+    }
 }
@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.util.backoff.FixedBackOff;
 
@@ -13,7 +15,7 @@ import org.springframework.util.backoff.FixedBackOff;
  *
  * 에러 핸들링:
  * - 3회 재시도 (1초 간격)
- * - 실패 시 로그만 남김 (보상 트랜잭션 없음)
+ * - 재시도 소진 시 DLT({topic}.DLT)로 전송 (유실 없이 재처리 가능)
  * - SyncScheduler가 주기적으로 누락 복구
  */
 @Configuration
@@ -22,22 +24,53 @@ public class KafkaConsumerConfig {
 
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
-            ConsumerFactory<String, String> consumerFactory) {
+            ConsumerFactory<String, String> consumerFactory,
+            KafkaTemplate<String, String> kafkaTemplate) {
 
         ConcurrentKafkaListenerContainerFactory<String, String> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory);
 
-        // 에러 핸들러: 3회 재시도, 1초 간격
-        DefaultErrorHandler errorHandler = new DefaultErrorHandler(
-                (record, exception) -> {
-                    log.error("❌ Kafka message processing failed after retries: {}", record, exception);
-                },
-                new FixedBackOff(1000L, 3L)  // 1초 간격, 3회 재시도
-        );
+        // 에러 핸들러: 3회 재시도(1초 간격) 후 DLT 전송
+        factory.setCommonErrorHandler(deadLetterErrorHandler(kafkaTemplate));
+
+        return factory;
+    }
 
-        factory.setCommonErrorHandler(errorHandler);
+    /**
+     * 배치 리스너 컨테이너 (PostEventBatchConsumer)
+     * - poll 단위로 List<ConsumerRecord>를 전달
+     * - 예외 시 배치 전체 재전달 (이미 처리된 이벤트는 processed_events로 걸러짐)
+     * - BatchListenerFailedException이면 실패 레코드 앞까지 커밋하고 해당 레코드부터 재전달
+     * - 재시도 소진 시 배치의 레코드를 DLT로 전송
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchKafkaListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory,
+            KafkaTemplate<String, String> kafkaTemplate) {
+
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+
+        factory.setCommonErrorHandler(deadLetterErrorHandler(kafkaTemplate));
 
         return factory;
     }
+
+    /**
+     * 3회 재시도(1초 간격) 후 DLT({topic}.DLT) 전송
+     * - DLT 전송 실패 시 레코드를 다시 seek하여 재처리 (오프셋 미커밋)
+     */
+    private DefaultErrorHandler deadLetterErrorHandler(KafkaTemplate<String, String> kafkaTemplate) {
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(
+                new DeadLetterPublishingRecoverer(kafkaTemplate),
+                new FixedBackOff(1000L, 3L)
+        );
+        errorHandler.setRetryListeners((record, ex, deliveryAttempt) ->
+                log.warn("[KAFKA-RETRY] attempt {} for topic={}, partition={}, offset={}",
+                        deliveryAttempt, record.topic(), record.partition(), record.offset()));
+        return errorHandler;
+    }
 }
@@ -0,0 +1,52 @@
+package com.pawbridge.communityservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * S3 업로드 Executor 설정
+ *
+ * - s3UploadExecutor: 게시글 미디어 파일 병렬 업로드
+ *   - 스레드 수와 대기열을 제한해 S3 커넥션/메모리 사용량 상한 보장
+ *   - 대기열이 가득 차면 요청 스레드에서 직접 업로드 (CallerRunsPolicy, 자연스러운 backpressure)
+ * - thumbnailExecutor: 이미지 썸네일 생성
+ *   - 디코딩/인코딩 비용이 커서 동시 처리 수를 작게 유지
+ *   - 대기열 초과 시 요청 스레드로 넘기지 않고 거절 (ThumbnailServiceImpl에서 생략 처리)
+ */
+@Configuration
+public class S3UploadConfig {
+
+    @Bean(name = "s3UploadExecutor")
+    public ThreadPoolTaskExecutor s3UploadExecutor(
+            @Value("${community.upload.parallelism:8}") int parallelism,
+            @Value("${community.upload.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "thumbnailExecutor")
+    public ThreadPoolTaskExecutor thumbnailExecutor(
+            @Value("${community.thumbnail.parallelism:2}") int parallelism,
+            @Value("${community.thumbnail.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,15 +1,19 @@
 package com.pawbridge.communityservice.controller;
 
+import com.pawbridge.communityservice.dto.request.CommentSortOrder;
 import com.pawbridge.communityservice.dto.request.CreateCommentRequest;
 import com.pawbridge.communityservice.dto.request.UpdateCommentRequest;
 import com.pawbridge.communityservice.dto.response.CommentResponse;
+import com.pawbridge.communityservice.dto.response.CommentSliceResponse;
 import com.pawbridge.communityservice.service.CommentService;
 import com.pawbridge.communityservice.util.ResponseDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -80,4 +84,25 @@ public class CommentController {
                 .status(response.getCode())
                 .body(response);
     }
+
+    /**
+     * 특정 게시글의 댓글 목록 조회 (커서 페이징)
+     * - GET /api/v1/comments/posts/read/{postId}/scroll?order=NEWEST&cursorCreatedAt=...&cursorId=...&size=20
+     * - order: NEWEST(최신순, 기본값) / OLDEST(오래된순)
+     * - 응답의 nextCursorCreatedAt, nextCursorId를 다음 요청에 전달
+     */
+    @GetMapping("/posts/read/{postId}/scroll")
+    public ResponseEntity<ResponseDTO<CommentSliceResponse>> getCommentsByPostIdWithCursor(
+            @PathVariable Long postId,
+            @RequestParam(defaultValue = "NEWEST") CommentSortOrder order,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        CommentSliceResponse slice = commentService.getCommentsByPostIdWithCursor(
+                postId, order, cursorCreatedAt, cursorId, size);
+        ResponseDTO<CommentSliceResponse> response = ResponseDTO.okWithData(slice);
+        return ResponseEntity
+                .status(response.getCode())
+                .body(response);
+    }
 }
@@ -3,15 +3,19 @@ package com.pawbridge.communityservice.controller;
 import com.pawbridge.communityservice.domain.entity.BoardType;
 import com.pawbridge.communityservice.dto.request.CreatePostRequest;
 import com.pawbridge.communityservice.dto.request.UpdatePostRequest;
+import com.pawbridge.communityservice.dto.response.PostFeedResponse;
 import com.pawbridge.communityservice.dto.response.PostResponse;
+import com.pawbridge.communityservice.service.PostFeedService;
 import com.pawbridge.communityservice.service.PostService;
 import com.pawbridge.communityservice.util.ResponseDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -26,6 +30,7 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final PostFeedService postFeedService;
 
     /**
      * 게시글 생성
@@ -113,4 +118,24 @@ public class PostController {
                 .status(response.getCode())
                 .body(response);
     }
+
+    /**
+     * 게시글 피드 조회 (커서 페이징)
+     * - GET /api/v1/posts/feed?boardType=...&authorId=...&cursorCreatedAt=...&cursorId=...&size=20
+     * - 응답의 nextCursorCreatedAt, nextCursorId를 다음 요청에 전달
+     * - 목록용 경량 응답 (본문, 미디어 목록 제외)
+     */
+    @GetMapping("feed")
+    public ResponseEntity<ResponseDTO<PostFeedResponse>> getFeed(
+            @RequestParam(required = false) BoardType boardType,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        PostFeedResponse feed = postFeedService.getFeed(boardType, authorId, cursorCreatedAt, cursorId, size);
+        ResponseDTO<PostFeedResponse> response = ResponseDTO.okWithData(feed);
+        return ResponseEntity
+                .status(response.getCode())
+                .body(response);
+    }
 }
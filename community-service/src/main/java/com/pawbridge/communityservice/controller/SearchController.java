@@ -1,6 +1,8 @@
 package com.pawbridge.communityservice.controller;
 
+import com.pawbridge.communityservice.domain.entity.BoardType;
 import com.pawbridge.communityservice.dto.response.PostResponse;
+import com.pawbridge.communityservice.dto.response.PostSearchPageResponse;
 import com.pawbridge.communityservice.service.SearchService;
 import com.pawbridge.communityservice.util.ResponseDTO;
 import lombok.RequiredArgsConstructor;
@@ -40,4 +42,27 @@ public class SearchController {
                 .status(response.getCode())
                 .body(response);
     }
+
+    /**
+     * 게시글 검색 (페이징 + 하이라이트)
+     *
+     * Query Parameter:
+     * - keyword: 검색어 (title, content에서 검색)
+     * - boardType: 게시판 필터 (선택)
+     * - page: 페이지 번호 (0부터), size: 페이지 크기
+     *
+     * 예시: GET /api/v1/posts/search/page?keyword=강아지&page=0&size=20
+     */
+    @GetMapping("/page")
+    public ResponseEntity<ResponseDTO<PostSearchPageResponse>> searchPostsPage(
+            @RequestParam String keyword,
+            @RequestParam(required = false) BoardType boardType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PostSearchPageResponse searchPage = searchService.searchPostsPage(keyword, boardType, page, size);
+        ResponseDTO<PostSearchPageResponse> response = ResponseDTO.okWithData(searchPage);
+        return ResponseEntity
+                .status(response.getCode())
+                .body(response);
+    }
 }
@@ -17,7 +17,9 @@ import java.time.LocalDateTime;
  * - Soft delete 지원 (deleted_at)
  */
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_post_id_created_at_id", columnList = "post_id, created_at, comment_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
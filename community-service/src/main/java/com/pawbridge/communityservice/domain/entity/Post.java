@@ -14,7 +14,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at, post_id"),
+        @Index(name = "idx_posts_board_type_created_at_id", columnList = "board_type, created_at, post_id"),
+        @Index(name = "idx_posts_author_id_created_at_id", columnList = "author_id, created_at, post_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -45,6 +49,16 @@ public class Post {
     @Builder.Default
     private List<String> imageUrls = new ArrayList<>();
 
+    /**
+     * 댓글 수 (비정규화)
+     * - 목록/상세에서 COUNT 쿼리 없이 댓글 총계 표시
+     * - 댓글 생성/삭제 시 PostRepository의 원자적 UPDATE로만 갱신
+     * - updatable = false: 게시글 수정 시 엔티티 flush가 최신 값을 덮어쓰지 않도록
+     */
+    @Column(nullable = false, updatable = false, name = "comment_count")
+    @Builder.Default
+    private Integer commentCount = 0;
+
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
@@ -0,0 +1,8 @@
+package com.pawbridge.communityservice.domain.event;
+
+/**
+ * 게시글 생성/수정/삭제 이벤트 (애플리케이션 내부)
+ * - 커밋 이후 피드 첫 페이지 캐시 무효화에 사용
+ */
+public record PostFeedChangedEvent(Long postId) {
+}
@@ -1,8 +1,12 @@
 package com.pawbridge.communityservice.domain.repository;
 
 import com.pawbridge.communityservice.domain.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +20,49 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     // commentId로 조회 (삭제되지 않은 것만)
     Optional<Comment> findByCommentIdAndDeletedAtIsNull(Long commentId);
+
+    /**
+     * 댓글 첫 페이지 조회 (최신순)
+     * - (postId, createdAt, commentId) 복합 인덱스 사용
+     */
+    @Query("SELECT c FROM Comment c " +
+           "WHERE c.postId = :postId AND c.deletedAt IS NULL " +
+           "ORDER BY c.createdAt DESC, c.commentId DESC")
+    List<Comment> findFirstPageNewest(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 댓글 다음 페이지 조회 (최신순, 키셋 커서)
+     */
+    @Query("SELECT c FROM Comment c " +
+           "WHERE c.postId = :postId AND c.deletedAt IS NULL " +
+           "AND (c.createdAt < :cursorCreatedAt " +
+           "     OR (c.createdAt = :cursorCreatedAt AND c.commentId < :cursorId)) " +
+           "ORDER BY c.createdAt DESC, c.commentId DESC")
+    List<Comment> findNextPageNewest(
+            @Param("postId") Long postId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 댓글 첫 페이지 조회 (오래된순)
+     */
+    @Query("SELECT c FROM Comment c " +
+           "WHERE c.postId = :postId AND c.deletedAt IS NULL " +
+           "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<Comment> findFirstPageOldest(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 댓글 다음 페이지 조회 (오래된순, 키셋 커서)
+     */
+    @Query("SELECT c FROM Comment c " +
+           "WHERE c.postId = :postId AND c.deletedAt IS NULL " +
+           "AND (c.createdAt > :cursorCreatedAt " +
+           "     OR (c.createdAt = :cursorCreatedAt AND c.commentId > :cursorId)) " +
+           "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<Comment> findNextPageOldest(
+            @Param("postId") Long postId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 }
@@ -0,0 +1,22 @@
+package com.pawbridge.communityservice.domain.repository;
+
+import com.pawbridge.communityservice.domain.entity.BoardType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 피드 목록 조회용 프로젝션
+ * - content(TEXT) 컬럼 제외
+ * - imageUrls는 대표 썸네일 계산용
+ */
+public record PostFeedRow(
+        Long postId,
+        Long authorId,
+        String title,
+        BoardType boardType,
+        Integer commentCount,
+        List<String> imageUrls,
+        LocalDateTime createdAt
+) {
+}
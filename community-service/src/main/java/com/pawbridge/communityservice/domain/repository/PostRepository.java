@@ -1,9 +1,11 @@
 package com.pawbridge.communityservice.domain.repository;
 
+import com.pawbridge.communityservice.domain.entity.BoardType;
 import com.pawbridge.communityservice.domain.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -25,6 +27,45 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     // postId로 조회 (삭제되지 않은 것만)
     Optional<Post> findByPostIdAndDeletedAtIsNull(Long postId);
 
+    /**
+     * 피드 첫 페이지 조회 (커서 없음)
+     * - (createdAt DESC, postId DESC) 정렬, 복합 인덱스 사용
+     * - boardType, authorId는 선택 필터 (null이면 전체)
+     * - content는 조회하지 않음 (목록용 경량 프로젝션)
+     */
+    @Query("SELECT new com.pawbridge.communityservice.domain.repository.PostFeedRow(" +
+           "p.postId, p.authorId, p.title, p.boardType, p.commentCount, p.imageUrls, p.createdAt) " +
+           "FROM Post p " +
+           "WHERE p.deletedAt IS NULL " +
+           "AND (:boardType IS NULL OR p.boardType = :boardType) " +
+           "AND (:authorId IS NULL OR p.authorId = :authorId) " +
+           "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostFeedRow> findFeedFirstPage(
+            @Param("boardType") BoardType boardType,
+            @Param("authorId") Long authorId,
+            Pageable pageable);
+
+    /**
+     * 피드 다음 페이지 조회 (키셋 커서)
+     * - 마지막으로 받은 (createdAt, postId) 이후의 게시글
+     * - OFFSET 없이 인덱스 탐색만으로 조회하므로 페이지 깊이와 무관하게 일정한 속도
+     */
+    @Query("SELECT new com.pawbridge.communityservice.domain.repository.PostFeedRow(" +
+           "p.postId, p.authorId, p.title, p.boardType, p.commentCount, p.imageUrls, p.createdAt) " +
+           "FROM Post p " +
+           "WHERE p.deletedAt IS NULL " +
+           "AND (:boardType IS NULL OR p.boardType = :boardType) " +
+           "AND (:authorId IS NULL OR p.authorId = :authorId) " +
+           "AND (p.createdAt < :cursorCreatedAt " +
+           "     OR (p.createdAt = :cursorCreatedAt AND p.postId < :cursorId)) " +
+           "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<PostFeedRow> findFeedAfterCursor(
+            @Param("boardType") BoardType boardType,
+            @Param("authorId") Long authorId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
     /**
      * 특정 기간에 작성된 게시글 수 조회 (관리자용)
      * @param startDateTime 시작 시간
@@ -33,4 +74,37 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     @Query("SELECT COUNT(p) FROM Post p WHERE p.createdAt >= :startDateTime AND p.createdAt < :endDateTime AND p.deletedAt IS NULL")
     Long countByCreatedAtBetween(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+
+    /**
+     * 댓글 수 조회 (삭제되지 않은 게시글만)
+     */
+    @Query("SELECT p.commentCount FROM Post p WHERE p.postId = :postId AND p.deletedAt IS NULL")
+    Optional<Integer> findCommentCountByPostId(@Param("postId") Long postId);
+
+    /**
+     * 댓글 수 증가 (원자적 UPDATE - 동시 댓글 작성 시 갱신 손실 방지)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.postId = :postId")
+    int incrementCommentCount(@Param("postId") Long postId);
+
+    /**
+     * 댓글 수 감소 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount > 0 THEN p.commentCount - 1 ELSE 0 END " +
+           "WHERE p.postId = :postId")
+    int decrementCommentCount(@Param("postId") Long postId);
+
+    /**
+     * 검색 인덱스 정합성 검사용 키셋 스캔 (postId 오름차순)
+     * - 삭제된 게시글도 포함 (인덱스에 남은 문서 정리용)
+     * - postId, updatedAt, deletedAt만 조회
+     */
+    @Query("SELECT new com.pawbridge.communityservice.domain.repository.PostSyncRow(" +
+           "p.postId, p.updatedAt, p.deletedAt) " +
+           "FROM Post p " +
+           "WHERE p.postId > :lastPostId " +
+           "ORDER BY p.postId ASC")
+    List<PostSyncRow> findSyncRowsAfter(@Param("lastPostId") Long lastPostId, Pageable pageable);
 }
@@ -0,0 +1,16 @@
+package com.pawbridge.communityservice.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 인덱스 정합성 검사용 프로젝션
+ */
+public record PostSyncRow(
+        Long postId,
+        LocalDateTime updatedAt,
+        LocalDateTime deletedAt
+) {
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.pawbridge.communityservice.domain.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * processed_events 일괄 기록용 커스텀 Repository
+ * - JPA saveAll은 할당 PK(event_id) 엔티티마다 SELECT 후 INSERT하므로 JDBC batch 사용
+ */
+public interface ProcessedEventBulkRepository {
+
+    /**
+     * 처리 완료 이벤트 일괄 기록 (이미 있는 event_id는 무시)
+     * @param eventTypesById eventId → eventType
+     */
+    void insertIgnoreAll(Map<String, String> eventTypesById);
+
+    /**
+     * 이미 처리된 eventId 조회 (한 번의 IN 쿼리)
+     */
+    Set<String> findProcessedEventIds(Collection<String> eventIds);
+}
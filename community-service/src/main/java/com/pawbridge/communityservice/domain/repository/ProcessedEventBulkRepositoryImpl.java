@@ -0,0 +1,54 @@
+package com.pawbridge.communityservice.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ProcessedEventBulkRepository 구현체 (Spring Data 커스텀 fragment)
+ */
+@RequiredArgsConstructor
+public class ProcessedEventBulkRepositoryImpl implements ProcessedEventBulkRepository {
+
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO processed_events (event_id, event_type, processed_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public void insertIgnoreAll(Map<String, String> eventTypesById) {
+        if (eventTypesById.isEmpty()) {
+            return;
+        }
+
+        Timestamp processedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(eventTypesById.size());
+        eventTypesById.forEach((eventId, eventType) -> rows.add(new Object[]{eventId, eventType, processedAt}));
+
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, rows);
+    }
+
+    @Override
+    public Set<String> findProcessedEventIds(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> found = namedParameterJdbcTemplate.queryForList(
+                "SELECT event_id FROM processed_events WHERE event_id IN (:eventIds)",
+                new MapSqlParameterSource("eventIds", eventIds),
+                String.class);
+        return new HashSet<>(found);
+    }
+}
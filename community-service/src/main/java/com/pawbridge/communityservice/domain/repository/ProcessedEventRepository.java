@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 /**
  * Processed Event Repository
  */
-public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, String> {
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, String>, ProcessedEventBulkRepository {
 
     /**
      * Idempotency 체크: 이벤트 처리 여부 확인
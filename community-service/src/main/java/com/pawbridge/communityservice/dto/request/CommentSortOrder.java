@@ -0,0 +1,11 @@
+package com.pawbridge.communityservice.dto.request;
+
+/**
+ * 댓글 정렬 순서
+ * - NEWEST: 최신순 (createdAt DESC, commentId DESC)
+ * - OLDEST: 오래된순 (createdAt ASC, commentId ASC)
+ */
+public enum CommentSortOrder {
+    NEWEST,
+    OLDEST
+}
@@ -0,0 +1,18 @@
+package com.pawbridge.communityservice.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 댓글 커서 페이징 응답 DTO
+ * - 응답의 nextCursorCreatedAt, nextCursorId를 다음 요청에 전달
+ * - totalCount는 게시글의 비정규화된 댓글 수 (COUNT 쿼리 없음)
+ */
+public record CommentSliceResponse(
+        List<CommentResponse> comments,
+        boolean hasNext,
+        LocalDateTime nextCursorCreatedAt,
+        Long nextCursorId,
+        Integer totalCount
+) {
+}
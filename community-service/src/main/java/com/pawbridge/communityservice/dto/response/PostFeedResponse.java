@@ -0,0 +1,17 @@
+package com.pawbridge.communityservice.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 피드 커서 페이징 응답 DTO
+ * - 응답의 nextCursorCreatedAt, nextCursorId를 다음 요청에 전달
+ * - hasNext가 false면 커서는 null
+ */
+public record PostFeedResponse(
+        List<PostSummaryResponse> posts,
+        boolean hasNext,
+        LocalDateTime nextCursorCreatedAt,
+        Long nextCursorId
+) {
+}
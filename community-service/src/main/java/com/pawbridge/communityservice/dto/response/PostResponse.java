@@ -17,6 +17,7 @@ public record PostResponse(
         String content,
         BoardType boardType,
         List<String> imageUrls,
+        Integer commentCount,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
@@ -29,6 +30,7 @@ public record PostResponse(
                 post.getContent(),
                 post.getBoardType(),
                 post.getImageUrls(),
+                post.getCommentCount(),
                 post.getCreatedAt(),
                 post.getUpdatedAt()
         );
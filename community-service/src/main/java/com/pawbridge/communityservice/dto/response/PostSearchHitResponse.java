@@ -0,0 +1,26 @@
+package com.pawbridge.communityservice.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 검색 결과 항목 DTO
+ * - Elasticsearch 문서만으로 구성 (MySQL 재조회 없음)
+ * - titleHighlights, contentHighlights: 검색어가 <em> 태그로 감싸진 조각
+ * - thumbnailUrls: 첫 번째 이미지의 너비별 썸네일 URL
+ */
+public record PostSearchHitResponse(
+        Long postId,
+        Long authorId,
+        String authorNickname,
+        String title,
+        String boardType,
+        String thumbnailUrl,
+        Map<Integer, String> thumbnailUrls,
+        LocalDateTime createdAt,
+        float score,
+        List<String> titleHighlights,
+        List<String> contentHighlights
+) {
+}
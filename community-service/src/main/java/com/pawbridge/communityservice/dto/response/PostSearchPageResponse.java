@@ -0,0 +1,17 @@
+package com.pawbridge.communityservice.dto.response;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 페이징 응답 DTO
+ * - hits: 관련도 순서 그대로
+ * - totalHits: 전체 검색 결과 수 (Elasticsearch track_total_hits)
+ */
+public record PostSearchPageResponse(
+        List<PostSearchHitResponse> hits,
+        long totalHits,
+        int page,
+        int size,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,36 @@
+package com.pawbridge.communityservice.dto.response;
+
+import com.pawbridge.communityservice.domain.entity.BoardType;
+import com.pawbridge.communityservice.domain.repository.PostFeedRow;
+import com.pawbridge.communityservice.util.ImageVariants;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 게시글 목록용 응답 DTO (본문, 미디어 목록 제외)
+ * - thumbnailUrls: 첫 번째 이미지의 너비별 썸네일 URL
+ */
+public record PostSummaryResponse(
+        Long postId,
+        Long authorId,
+        String authorNickname,
+        String title,
+        BoardType boardType,
+        Integer commentCount,
+        Map<Integer, String> thumbnailUrls,
+        LocalDateTime createdAt
+) {
+    public static PostSummaryResponse fromRow(PostFeedRow row, String authorNickname) {
+        return new PostSummaryResponse(
+                row.postId(),
+                row.authorId(),
+                authorNickname,
+                row.title(),
+                row.boardType(),
+                row.commentCount(),
+                ImageVariants.firstImageVariantUrls(row.imageUrls()),
+                row.createdAt()
+        );
+    }
+}
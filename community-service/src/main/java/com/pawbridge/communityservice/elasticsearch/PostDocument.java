@@ -1,14 +1,17 @@
 package com.pawbridge.communityservice.elasticsearch;
 
+import com.pawbridge.communityservice.domain.entity.Post;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -17,6 +20,7 @@ import java.util.List;
  * 목적: 게시글 검색 기능 제공
  * - title, content 전문 검색
  * - nori (한국어 형태소 분석기) 사용
+ * - 목록 표시 필드(작성자 닉네임, 작성일시) 포함 → 검색 결과를 MySQL 재조회 없이 응답
  */
 @Document(indexName = "posts")
 @Getter
@@ -32,6 +36,10 @@ public class PostDocument {
     @Field(type = FieldType.Long)
     private Long authorId;
 
+    // 표시용 (닉네임 변경 시 user.profile.events로 일괄 갱신)
+    @Field(type = FieldType.Keyword, index = false)
+    private String authorNickname;
+
     // nori 분석기로 한국어 형태소 분석
     @Field(type = FieldType.Text, analyzer = "nori")
     private String title;
@@ -44,4 +52,28 @@ public class PostDocument {
 
     @Field(type = FieldType.Keyword)
     private List<String> imageUrls;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime createdAt;
+
+    // 정합성 검사용 (MySQL posts.updated_at과 비교해 오래된 문서 판별)
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime updatedAt;
+
+    /**
+     * MySQL Post 엔티티 → 문서 변환 (정합성 복구용)
+     */
+    public static PostDocument from(Post post, String authorNickname) {
+        return PostDocument.builder()
+                .postId(post.getPostId())
+                .authorId(post.getAuthorId())
+                .authorNickname(authorNickname)
+                .title(post.getTitle())
+                .content(post.getContent())
+                .boardType(post.getBoardType().name())
+                .imageUrls(post.getImageUrls())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,19 @@
+package com.pawbridge.communityservice.kafka;
+
+import java.util.Map;
+
+/**
+ * community.post.events 메시지 한 건 (배치 처리용)
+ * - eventId, eventType: Debezium Outbox 헤더
+ * - payload: Outbox payload (Elasticsearch 저장용 데이터)
+ */
+public record PostEvent(
+        String eventId,
+        String eventType,
+        Long postId,
+        Map<String, Object> payload
+) {
+    public boolean isDelete() {
+        return "POST_DELETED".equals(eventType);
+    }
+}
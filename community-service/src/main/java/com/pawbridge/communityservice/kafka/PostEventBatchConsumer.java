@@ -0,0 +1,128 @@
+package com.pawbridge.communityservice.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Kafka Batch Consumer: community.post.events 토픽 구독
+ *
+ * - poll 단위(max-poll-records)로 메시지를 받아 PostEventBatchHandler에 위임
+ * - 파싱할 수 없는 메시지는 재시도 없이 DLT({topic}.DLT)로 전송 후 제외 (재시도해도 성공할 수 없음)
+ * - DLT 전송 실패 시 BatchListenerFailedException(레코드 인덱스)으로 배치 실패 처리
+ *   (에러 핸들러가 앞선 레코드 오프셋만 커밋하고 실패 레코드부터 재시도)
+ * - community.kafka.post-batch.enabled=false면 건별 PostEventConsumer 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "community.kafka.post-batch.enabled", havingValue = "true", matchIfMissing = true)
+public class PostEventBatchConsumer {
+
+    private static final String DLT_SUFFIX = ".DLT";
+    private static final long DLT_SEND_TIMEOUT_SECONDS = 10L;
+
+    private final PostEventBatchHandler postEventBatchHandler;
+    private final ObjectMapper objectMapper;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    @KafkaListener(
+            topics = "community.post.events",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void consumePostEvents(List<ConsumerRecord<String, String>> records) {
+        log.info("📥 Received post event batch: size={}", records.size());
+
+        List<PostEvent> events = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            PostEvent event = parse(records.get(i), i);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+
+        if (!events.isEmpty()) {
+            postEventBatchHandler.handleBatch(events);
+        }
+    }
+
+    /**
+     * @param index 배치 내 레코드 위치 (DLT 전송 실패 시 에러 핸들러에 전달)
+     */
+    @SuppressWarnings("unchecked")
+    private PostEvent parse(ConsumerRecord<String, String> record, int index) {
+        try {
+            String eventId = extractHeader(record, "id");
+            String eventType = extractHeader(record, "eventType");
+
+            // Debezium EventRouter 구조: {schema, payload}
+            Map<String, Object> debeziumMessage = objectMapper.readValue(record.value(), Map.class);
+            Map<String, Object> payload = (Map<String, Object>) debeziumMessage.get("payload");
+
+            if (eventId == null || eventType == null || payload == null || payload.get("postId") == null) {
+                throw new IllegalArgumentException("Invalid post event: eventId=" + eventId + ", eventType=" + eventType);
+            }
+
+            switch (eventType) {
+                case "POST_CREATED", "POST_UPDATED", "POST_DELETED" -> {
+                    return new PostEvent(eventId, eventType, ((Number) payload.get("postId")).longValue(), payload);
+                }
+                default -> {
+                    log.warn("⚠️ Unknown event type: {}", eventType);
+                    return null;
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ Failed to parse post event: offset={}", record.offset(), e);
+            sendToDeadLetter(record, index);
+            return null;
+        }
+    }
+
+    /**
+     * DLT 동기 전송 (원본 헤더 유지)
+     * - 전송 실패 시 BatchListenerFailedException으로 실패 레코드 인덱스를 알림
+     *   → 앞선 레코드 오프셋만 커밋되고 실패 레코드부터 재전달
+     */
+    private void sendToDeadLetter(ConsumerRecord<String, String> record, int index) {
+        String dltTopic = record.topic() + DLT_SUFFIX;
+        ProducerRecord<String, String> deadLetter =
+                new ProducerRecord<>(dltTopic, null, record.key(), record.value(), record.headers());
+        try {
+            kafkaTemplate.send(deadLetter).get(DLT_SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            log.warn("⚠️ Post event sent to DLT: topic={}, offset={}", dltTopic, record.offset());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BatchListenerFailedException(
+                    "DLT publish interrupted: topic=" + dltTopic + ", offset=" + record.offset(), e, index);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new BatchListenerFailedException(
+                    "DLT publish failed: topic=" + dltTopic + ", offset=" + record.offset(), e, index);
+        }
+    }
+
+    /**
+     * Kafka Header 추출 헬퍼 메서드
+     */
+    private String extractHeader(ConsumerRecord<String, String> record, String key) {
+        Header header = record.headers().lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,192 @@
+package com.pawbridge.communityservice.kafka;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.pawbridge.communityservice.domain.repository.ProcessedEventRepository;
+import com.pawbridge.communityservice.elasticsearch.PostDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Post 이벤트 배치 핸들러
+ *
+ * 한 번의 poll에 대해:
+ * 1. processed_events 한 번의 IN 쿼리로 중복 제거
+ * 2. 같은 게시글의 이벤트는 마지막 상태 하나로 병합 (생성→수정→수정 = 최종 문서 1건)
+ * 3. 인덱싱과 삭제(문서 ID 기준)를 같은 bulk 요청 한 번으로 반영 (refresh 없음)
+ * 4. 항목별 응답을 확인하여 실패한 문서만 개별 재시도
+ * 5. 성공한 게시글의 이벤트만 processed_events에 일괄 기록
+ *
+ * 재시도 후에도 실패한 게시글이 있으면 예외를 던져 배치를 재전달 받음
+ * (이미 기록된 이벤트는 1단계에서 걸러지므로 실패분만 다시 처리됨)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostEventBatchHandler {
+
+    private static final int ITEM_RETRY_ATTEMPTS = 3;
+
+    private final ProcessedEventRepository processedEventRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final PostEventHandler postEventHandler;
+
+    public void handleBatch(List<PostEvent> events) {
+        long start = System.currentTimeMillis();
+
+        // 1. 중복 제거 (한 번의 쿼리 + 배치 내 중복 eventId)
+        Set<String> processed = processedEventRepository.findProcessedEventIds(
+                events.stream().map(PostEvent::eventId).toList());
+
+        Map<String, PostEvent> pending = new LinkedHashMap<>();
+        for (PostEvent event : events) {
+            if (!processed.contains(event.eventId())) {
+                pending.putIfAbsent(event.eventId(), event);
+            }
+        }
+        if (pending.isEmpty()) {
+            log.info("⚠️ All {} events already processed", events.size());
+            return;
+        }
+
+        // 2. 게시글별 최종 상태로 병합 (offset 순서 = 발생 순서)
+        Map<Long, PostEvent> finalStates = new LinkedHashMap<>();
+        for (PostEvent event : pending.values()) {
+            finalStates.put(event.postId(), event);
+        }
+
+        List<PostDocument> documents = new ArrayList<>();
+        List<Long> deletedPostIds = new ArrayList<>();
+        finalStates.values().forEach(event -> {
+            if (event.isDelete()) {
+                deletedPostIds.add(event.postId());
+            } else {
+                documents.add(postEventHandler.toDocument(event.payload()));
+            }
+        });
+
+        // 3. Elasticsearch 반영 (인덱싱 + 삭제를 bulk 한 번으로)
+        Set<Long> failedPostIds = bulkApply(documents, deletedPostIds);
+
+        // 4. 성공한 게시글의 이벤트만 기록 (병합으로 건너뛴 이벤트 포함)
+        Map<String, String> succeeded = new LinkedHashMap<>();
+        pending.values().stream()
+                .filter(event -> !failedPostIds.contains(event.postId()))
+                .forEach(event -> succeeded.put(event.eventId(), event.eventType()));
+        processedEventRepository.insertIgnoreAll(succeeded);
+
+        log.info("✅ Post event batch applied: received={}, pending={}, indexed={}, deleted={}, failed={}, elapsedMs={}",
+                events.size(), pending.size(), documents.size(), deletedPostIds.size(), failedPostIds.size(),
+                System.currentTimeMillis() - start);
+
+        if (!failedPostIds.isEmpty()) {
+            throw new IllegalStateException("Failed to apply post events for postIds=" + failedPostIds);
+        }
+    }
+
+    /**
+     * 인덱싱과 삭제를 한 bulk 요청으로 반영 + 실패 항목만 개별 재시도
+     * - 삭제는 문서 ID 기준 delete (delete-by-query는 refresh 전 문서를 찾지 못해 0건 삭제될 수 있음)
+     * - 항목별 응답을 확인하여 실패한 게시글만 반환 (없는 문서 삭제 404는 성공으로 간주)
+     * @return 재시도 후에도 실패한 postId
+     */
+    private Set<Long> bulkApply(List<PostDocument> documents, List<Long> deletedPostIds) {
+        if (documents.isEmpty() && deletedPostIds.isEmpty()) {
+            return Set.of();
+        }
+
+        ElasticsearchOperations operations = elasticsearchOperations.withRefreshPolicy(RefreshPolicy.NONE);
+        String index = elasticsearchOperations.getIndexCoordinatesFor(PostDocument.class).getIndexName();
+        ElasticsearchConverter converter = elasticsearchOperations.getElasticsearchConverter();
+
+        List<BulkOperation> bulkOperations = new ArrayList<>(documents.size() + deletedPostIds.size());
+        for (PostDocument document : documents) {
+            // 날짜 포맷 등 매핑은 Spring Data 저장과 동일하게 변환
+            Document source = converter.mapObject(document);
+            bulkOperations.add(BulkOperation.of(op -> op.index(i -> i
+                    .index(index)
+                    .id(String.valueOf(document.getPostId()))
+                    .document(source))));
+        }
+        for (Long postId : deletedPostIds) {
+            bulkOperations.add(BulkOperation.of(op -> op.delete(d -> d
+                    .index(index)
+                    .id(String.valueOf(postId)))));
+        }
+
+        Set<String> failedIds = new HashSet<>();
+        try {
+            BulkResponse response = elasticsearchClient.bulk(BulkRequest.of(b -> b.operations(bulkOperations)));
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() != null) {
+                    failedIds.add(item.id());
+                    log.warn("⚠️ Bulk item failed: operation={}, postId={}, status={}, reason={}",
+                            item.operationType(), item.id(), item.status(), item.error().reason());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Bulk request failed, retrying per document: {}", e.getMessage());
+            documents.forEach(document -> failedIds.add(String.valueOf(document.getPostId())));
+            deletedPostIds.forEach(postId -> failedIds.add(String.valueOf(postId)));
+        }
+        if (failedIds.isEmpty()) {
+            return Set.of();
+        }
+
+        log.warn("⚠️ Bulk partially failed: {}/{} operations", failedIds.size(), bulkOperations.size());
+        Set<Long> stillFailed = new HashSet<>();
+        for (PostDocument document : documents) {
+            if (failedIds.contains(String.valueOf(document.getPostId())) && !retryIndex(operations, document)) {
+                stillFailed.add(document.getPostId());
+            }
+        }
+        for (Long postId : deletedPostIds) {
+            if (failedIds.contains(String.valueOf(postId)) && !retryDelete(operations, postId)) {
+                stillFailed.add(postId);
+            }
+        }
+        return stillFailed;
+    }
+
+    private boolean retryIndex(ElasticsearchOperations operations, PostDocument document) {
+        for (int attempt = 1; attempt <= ITEM_RETRY_ATTEMPTS; attempt++) {
+            try {
+                operations.save(document);
+                return true;
+            } catch (Exception e) {
+                log.warn("⚠️ Retry index failed: postId={}, attempt={}/{}, error={}",
+                        document.getPostId(), attempt, ITEM_RETRY_ATTEMPTS, e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private boolean retryDelete(ElasticsearchOperations operations, Long postId) {
+        for (int attempt = 1; attempt <= ITEM_RETRY_ATTEMPTS; attempt++) {
+            try {
+                operations.delete(String.valueOf(postId), PostDocument.class);
+                return true;
+            } catch (Exception e) {
+                log.warn("⚠️ Retry delete failed: postId={}, attempt={}/{}, error={}",
+                        postId, attempt, ITEM_RETRY_ATTEMPTS, e.getMessage());
+            }
+        }
+        return false;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.header.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -21,8 +22,11 @@ import java.util.Map;
  * Delegator 패턴:
  * - Consumer는 메시지 수신 및 라우팅만
  * - Handler가 실제 비즈니스 로직 처리
+ *
+ * community.kafka.post-batch.enabled=false일 때만 사용 (기본은 PostEventBatchConsumer)
  */
 @Component
+@ConditionalOnProperty(name = "community.kafka.post-batch.enabled", havingValue = "false")
 @RequiredArgsConstructor
 @Slf4j
 public class PostEventConsumer {
@@ -5,10 +5,15 @@ import com.pawbridge.communityservice.domain.repository.ProcessedEventRepository
 import com.pawbridge.communityservice.elasticsearch.PostDocument;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -44,14 +49,7 @@ public class PostEventHandler {
         }
 
         // 2. Elasticsearch 인덱싱 먼저 (실패 시 재시도 가능)
-        PostDocument document = PostDocument.builder()
-                .postId(((Number) payload.get("postId")).longValue())
-                .authorId(((Number) payload.get("authorId")).longValue())
-                .title((String) payload.get("title"))
-                .content((String) payload.get("content"))
-                .boardType((String) payload.get("boardType"))
-                .imageUrls((List<String>) payload.get("imageUrls"))
-                .build();
+        PostDocument document = toDocument(payload);
 
         elasticsearchOperations.save(document);
 
@@ -71,16 +69,8 @@ public class PostEventHandler {
             return;
         }
 
-        Long postId = ((Number) payload.get("postId")).longValue();
-
-        PostDocument document = PostDocument.builder()
-                .postId(postId)
-                .authorId(((Number) payload.get("authorId")).longValue())
-                .title((String) payload.get("title"))
-                .content((String) payload.get("content"))
-                .boardType((String) payload.get("boardType"))
-                .imageUrls((List<String>) payload.get("imageUrls"))
-                .build();
+        PostDocument document = toDocument(payload);
+        Long postId = document.getPostId();
 
         elasticsearchOperations.save(document);
         processedEventRepository.save(ProcessedEvent.of(eventId, "POST_UPDATED"));
@@ -105,4 +95,49 @@ public class PostEventHandler {
 
         log.info("✅ Deleted post: postId={}, eventId={}", postId, eventId);
     }
+
+    /**
+     * USER_NICKNAME_CHANGED: 작성자의 모든 게시글 문서 닉네임 갱신
+     * - update_by_query 한 번으로 처리 (게시글별 호출 없음)
+     * - 같은 값으로 다시 실행해도 결과 동일 (멱등)
+     */
+    public void updateAuthorNickname(Long authorId, String nickname) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.term(t -> t.field("authorId").value(authorId)))
+                .build();
+
+        UpdateQuery updateQuery = UpdateQuery.builder(query)
+                .withScriptType(ScriptType.INLINE)
+                .withLang("painless")
+                .withScript("ctx._source.authorNickname = params.nickname")
+                .withParams(Map.of("nickname", nickname))
+                .build();
+
+        ByQueryResponse response = elasticsearchOperations.updateByQuery(
+                updateQuery, elasticsearchOperations.getIndexCoordinatesFor(PostDocument.class));
+
+        log.info("✅ Updated author nickname in index: authorId={}, updated={}", authorId, response.getUpdated());
+    }
+
+    /**
+     * Outbox payload → PostDocument 변환
+     * - authorNickname, createdAt, updatedAt은 이전 버전 이벤트에 없을 수 있음 (null 허용)
+     */
+    @SuppressWarnings("unchecked")
+    PostDocument toDocument(Map<String, Object> payload) {
+        String createdAt = (String) payload.get("createdAt");
+        String updatedAt = (String) payload.get("updatedAt");
+
+        return PostDocument.builder()
+                .postId(((Number) payload.get("postId")).longValue())
+                .authorId(((Number) payload.get("authorId")).longValue())
+                .authorNickname((String) payload.get("authorNickname"))
+                .title((String) payload.get("title"))
+                .content((String) payload.get("content"))
+                .boardType((String) payload.get("boardType"))
+                .imageUrls((List<String>) payload.get("imageUrls"))
+                .createdAt(createdAt != null ? LocalDateTime.parse(createdAt) : null)
+                .updatedAt(updatedAt != null ? LocalDateTime.parse(updatedAt) : null)
+                .build();
+    }
 }
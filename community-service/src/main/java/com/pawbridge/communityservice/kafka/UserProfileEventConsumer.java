@@ -0,0 +1,99 @@
+package com.pawbridge.communityservice.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawbridge.communityservice.service.NicknameResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Kafka Consumer: user.profile.events 토픽 구독
+ *
+ * 1. 닉네임 로컬 캐시 무효화:
+ * - 캐시는 인스턴스마다 존재하므로 인스턴스별 consumer group 사용 (브로드캐스트)
+ * - 재시작 시 과거 이벤트는 불필요하므로 latest부터 소비
+ *
+ * 2. 검색 문서 닉네임 갱신:
+ * - Elasticsearch는 공유 저장소이므로 서비스 공통 consumer group 사용 (한 인스턴스만 처리)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserProfileEventConsumer {
+
+    private final NicknameResolver nicknameResolver;
+    private final PostEventHandler postEventHandler;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "user.profile.events",
+            groupId = "community-service-nickname-cache-${random.uuid}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeUserProfileEvent(ConsumerRecord<String, String> record) {
+        try {
+            String eventType = extractHeader(record, "eventType");
+
+            // Debezium EventRouter 구조: {schema, payload} 또는 payload 단독
+            JsonNode message = objectMapper.readTree(record.value());
+            JsonNode payload = message.has("payload") ? message.get("payload") : message;
+
+            if (!payload.hasNonNull("userId")) {
+                log.warn("⚠️ userId missing in user profile event: eventType={}", eventType);
+                return;
+            }
+            Long userId = payload.get("userId").asLong();
+
+            if ("USER_NICKNAME_CHANGED".equals(eventType)) {
+                String nickname = payload.hasNonNull("nickname") ? payload.get("nickname").asText() : null;
+                nicknameResolver.refresh(userId, nickname);
+                log.info("✅ Nickname cache refreshed: userId={}", userId);
+            } else {
+                nicknameResolver.evict(userId);
+                log.debug("Nickname cache evicted: userId={}, eventType={}", userId, eventType);
+            }
+
+        } catch (Exception e) {
+            // 캐시 무효화 실패는 TTL로 보정되므로 재시도하지 않음
+            log.error("❌ Failed to consume user profile event", e);
+        }
+    }
+
+    @KafkaListener(topics = "user.profile.events", groupId = "${spring.kafka.consumer.group-id}")
+    public void consumeUserProfileEventForIndex(ConsumerRecord<String, String> record) {
+        try {
+            String eventType = extractHeader(record, "eventType");
+            if (!"USER_NICKNAME_CHANGED".equals(eventType)) {
+                return;
+            }
+
+            JsonNode message = objectMapper.readTree(record.value());
+            JsonNode payload = message.has("payload") ? message.get("payload") : message;
+
+            if (!payload.hasNonNull("userId") || !payload.hasNonNull("nickname")) {
+                log.warn("⚠️ userId or nickname missing in user profile event");
+                return;
+            }
+
+            postEventHandler.updateAuthorNickname(payload.get("userId").asLong(), payload.get("nickname").asText());
+
+        } catch (Exception e) {
+            log.error("❌ Failed to update author nickname in index", e);
+            throw new RuntimeException(e);  // Kafka retry
+        }
+    }
+
+    /**
+     * Kafka Header 추출 헬퍼 메서드
+     */
+    private String extractHeader(ConsumerRecord<String, String> record, String key) {
+        Header header = record.headers().lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
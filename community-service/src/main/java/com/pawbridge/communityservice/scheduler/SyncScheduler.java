@@ -2,64 +2,243 @@ package com.pawbridge.communityservice.scheduler;
 
 import com.pawbridge.communityservice.domain.entity.Post;
 import com.pawbridge.communityservice.domain.repository.PostRepository;
+import com.pawbridge.communityservice.domain.repository.PostSyncRow;
 import com.pawbridge.communityservice.elasticsearch.PostDocument;
-import lombok.RequiredArgsConstructor;
+import com.pawbridge.communityservice.service.NicknameResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Sync Scheduler: MySQL → Elasticsearch 동기화
+ * Sync Scheduler: MySQL → Elasticsearch 정합성 복구
  *
- * 목적: Kafka 실패 시 누락된 문서 복구
- * - 매일 새벽 2시 실행
- * - MySQL의 모든 게시글을 Elasticsearch와 비교
- * - 누락된 문서 재인덱싱
+ * 목적: Kafka 실패 시 누락되거나 오래된 문서 복구
+ * - MySQL에서 (postId, updatedAt, deletedAt)만 키셋 배치로 스캔
+ * - 배치마다 multi-get 한 번으로 인덱스 상태 확인 (updatedAt만 조회)
+ * - 누락/오래된 문서만 bulk 재인덱싱, 삭제된 게시글의 잔여 문서는 일괄 삭제
+ * - 드리프트 지표(missing/stale/orphaned/repaired/failed)를 Micrometer로 노출
+ *
+ * 설정:
+ * - community.sync.cron (기본: 매일 새벽 2시)
+ * - community.sync.batch-size (기본: 500)
  *
  * 참고: Eventual Consistency 보장
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SyncScheduler {
 
     private final PostRepository postRepository;
     private final ElasticsearchOperations elasticsearchOperations;
+    private final NicknameResolver nicknameResolver;
+    private final int batchSize;
+
+    private final Counter scannedCounter;
+    private final Counter missingCounter;
+    private final Counter staleCounter;
+    private final Counter orphanedCounter;
+    private final Counter repairedCounter;
+    private final Counter failedCounter;
+    private final Timer runTimer;
+    private final AtomicLong lastRunDrift = new AtomicLong();
+
+    public SyncScheduler(PostRepository postRepository,
+                         ElasticsearchOperations elasticsearchOperations,
+                         NicknameResolver nicknameResolver,
+                         MeterRegistry meterRegistry,
+                         @Value("${community.sync.batch-size:500}") int batchSize) {
+        this.postRepository = postRepository;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.nicknameResolver = nicknameResolver;
+        this.batchSize = batchSize;
+
+        this.scannedCounter = meterRegistry.counter("community.index.sync.scanned");
+        this.missingCounter = meterRegistry.counter("community.index.sync.drift", "type", "missing");
+        this.staleCounter = meterRegistry.counter("community.index.sync.drift", "type", "stale");
+        this.orphanedCounter = meterRegistry.counter("community.index.sync.drift", "type", "orphaned");
+        this.repairedCounter = meterRegistry.counter("community.index.sync.repaired");
+        this.failedCounter = meterRegistry.counter("community.index.sync.failed");
+        this.runTimer = meterRegistry.timer("community.index.sync.duration");
+        meterRegistry.gauge("community.index.sync.last.drift", lastRunDrift);
+    }
 
     /**
-     * 매일 새벽 2시: MySQL → Elasticsearch 동기화
+     * MySQL → Elasticsearch 정합성 복구 (기본: 매일 새벽 2시)
      */
-    @Scheduled(cron = "0 0 2 * * ?")
+    @Scheduled(cron = "${community.sync.cron:0 0 2 * * ?}")
     public void syncPostsToElasticsearch() {
-        log.info("🔄 Starting MySQL → Elasticsearch sync");
-
-        List<Post> posts = postRepository.findByDeletedAtIsNullOrderByCreatedAtDesc();
-        int synced = 0;
-
-        for (Post post : posts) {
-            try {
-                // Elasticsearch에 문서가 없으면 재인덱싱
-                if (!elasticsearchOperations.exists(String.valueOf(post.getPostId()), PostDocument.class)) {
-                    PostDocument document = PostDocument.builder()
-                            .postId(post.getPostId())
-                            .authorId(post.getAuthorId())
-                            .title(post.getTitle())
-                            .content(post.getContent())
-                            .boardType(post.getBoardType().name())
-                            .imageUrls(post.getImageUrls())
-                            .build();
-
-                    elasticsearchOperations.save(document);
-                    synced++;
+        log.info("🔄 Starting MySQL → Elasticsearch reconciliation (batchSize={})", batchSize);
+
+        runTimer.record(() -> {
+            SyncStats total = new SyncStats();
+            long lastPostId = 0L;
+
+            while (true) {
+                List<PostSyncRow> rows = postRepository.findSyncRowsAfter(lastPostId, PageRequest.of(0, batchSize));
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                try {
+                    total.add(reconcileBatch(rows));
+                } catch (Exception e) {
+                    // 배치 단위 실패는 건너뛰고 다음 배치 계속 (다음 실행에서 재검사)
+                    failedCounter.increment(rows.size());
+                    total.failed += rows.size();
+                    log.error("❌ Failed to reconcile batch: postId {}~{}",
+                            rows.get(0).postId(), rows.get(rows.size() - 1).postId(), e);
+                }
+
+                lastPostId = rows.get(rows.size() - 1).postId();
+            }
+
+            lastRunDrift.set(total.missing + total.stale + total.orphaned);
+            log.info("✅ Reconciliation completed: scanned={}, missing={}, stale={}, orphaned={}, repaired={}, failed={}",
+                    total.scanned, total.missing, total.stale, total.orphaned, total.repaired, total.failed);
+        });
+    }
+
+    /**
+     * 배치 하나 비교 및 복구
+     */
+    private SyncStats reconcileBatch(List<PostSyncRow> rows) {
+        SyncStats stats = new SyncStats();
+        stats.scanned = rows.size();
+        scannedCounter.increment(rows.size());
+
+        Map<Long, LocalDateTime> indexedUpdatedAt = fetchIndexedUpdatedAt(rows);
+
+        List<Long> repairIds = new ArrayList<>();
+        List<String> orphanIds = new ArrayList<>();
+
+        for (PostSyncRow row : rows) {
+            boolean indexed = indexedUpdatedAt.containsKey(row.postId());
+
+            if (row.isDeleted()) {
+                if (indexed) {
+                    orphanIds.add(String.valueOf(row.postId()));
                 }
-            } catch (Exception e) {
-                log.error("❌ Failed to sync post: postId={}", post.getPostId(), e);
+                continue;
+            }
+
+            if (!indexed) {
+                stats.missing++;
+                repairIds.add(row.postId());
+            } else if (isStale(indexedUpdatedAt.get(row.postId()), row.updatedAt())) {
+                stats.stale++;
+                repairIds.add(row.postId());
+            }
+        }
+        stats.orphaned = orphanIds.size();
+
+        missingCounter.increment(stats.missing);
+        staleCounter.increment(stats.stale);
+        orphanedCounter.increment(stats.orphaned);
+
+        if (!repairIds.isEmpty()) {
+            stats.repaired += reindex(repairIds);
+        }
+        if (!orphanIds.isEmpty()) {
+            NativeQuery orphanQuery = NativeQuery.builder()
+                    .withQuery(q -> q.ids(i -> i.values(orphanIds)))
+                    .build();
+            elasticsearchOperations.delete(DeleteQuery.builder(orphanQuery).build(), PostDocument.class);
+            stats.repaired += orphanIds.size();
+        }
+        repairedCounter.increment(stats.repaired);
+
+        return stats;
+    }
+
+    /**
+     * multi-get 한 번으로 배치의 인덱스 상태 조회
+     * - updatedAt 필드만 가져옴 (본문 전송 없음)
+     * - 문서가 있으면 Map에 포함 (updatedAt이 없는 이전 문서는 null 값)
+     */
+    private Map<Long, LocalDateTime> fetchIndexedUpdatedAt(List<PostSyncRow> rows) {
+        List<String> ids = rows.stream()
+                .map(row -> String.valueOf(row.postId()))
+                .toList();
+
+        NativeQuery query = NativeQuery.builder()
+                .withIds(ids)
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes("postId", "updatedAt").build())
+                .build();
+
+        List<MultiGetItem<PostDocument>> items = elasticsearchOperations.multiGet(query, PostDocument.class);
+
+        Map<Long, LocalDateTime> indexed = new HashMap<>();
+        for (MultiGetItem<PostDocument> item : items) {
+            if (item.hasItem()) {
+                PostDocument document = item.getItem();
+                indexed.put(document.getPostId(), document.getUpdatedAt());
             }
         }
+        return indexed;
+    }
+
+    /**
+     * Elasticsearch는 밀리초까지 저장하므로 MySQL 값을 밀리초로 잘라 비교
+     */
+    private boolean isStale(LocalDateTime indexedUpdatedAt, LocalDateTime dbUpdatedAt) {
+        if (indexedUpdatedAt == null) {
+            return true;
+        }
+        return dbUpdatedAt != null && indexedUpdatedAt.isBefore(dbUpdatedAt.truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    /**
+     * 누락/오래된 문서 bulk 재인덱싱
+     */
+    private int reindex(List<Long> postIds) {
+        List<Post> posts = postRepository.findAllById(postIds).stream()
+                .filter(post -> post.getDeletedAt() == null)
+                .toList();
 
-        log.info("✅ Sync completed: {} posts synced", synced);
+        Map<Long, String> nicknames = nicknameResolver.resolveAll(
+                posts.stream().map(Post::getAuthorId).toList());
+
+        List<PostDocument> documents = posts.stream()
+                .map(post -> PostDocument.from(post, nicknames.get(post.getAuthorId())))
+                .toList();
+
+        elasticsearchOperations.save(documents);
+        return documents.size();
+    }
+
+    private static class SyncStats {
+        long scanned;
+        long missing;
+        long stale;
+        long orphaned;
+        long repaired;
+        long failed;
+
+        void add(SyncStats other) {
+            scanned += other.scanned;
+            missing += other.missing;
+            stale += other.stale;
+            orphaned += other.orphaned;
+            repaired += other.repaired;
+            failed += other.failed;
+        }
     }
 }
@@ -0,0 +1,31 @@
+package com.pawbridge.communityservice.scheduler;
+
+import com.pawbridge.communityservice.service.ThumbnailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Thumbnail Backfill Scheduler: 게시글 이미지 썸네일 정합성 복구
+ *
+ * 목적: 목록에 노출되는 썸네일 URL이 영구 404가 되지 않도록 보정
+ * - 대기열 초과/재시도 소진으로 생성되지 않은 썸네일 생성
+ * - 원본 삭제와 생성이 겹쳐 남은 고아 썸네일 삭제
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ThumbnailBackfillScheduler {
+
+    private final ThumbnailService thumbnailService;
+
+    @Scheduled(fixedDelayString = "${community.thumbnail.backfill.interval-ms:3600000}", initialDelay = 60000)
+    public void backfillThumbnails() {
+        try {
+            thumbnailService.backfill();
+        } catch (Exception e) {
+            log.error("[THUMBNAIL-BACKFILL] 실패", e);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.pawbridge.communityservice.service;
 
+import com.pawbridge.communityservice.dto.request.CommentSortOrder;
 import com.pawbridge.communityservice.dto.request.CreateCommentRequest;
 import com.pawbridge.communityservice.dto.request.UpdateCommentRequest;
 import com.pawbridge.communityservice.dto.response.CommentResponse;
+import com.pawbridge.communityservice.dto.response.CommentSliceResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -18,4 +21,13 @@ public interface CommentService {
     void deleteComment(Long commentId, Long authorId);
 
     List<CommentResponse> getCommentsByPostId(Long postId);
+
+    /**
+     * 특정 게시글의 댓글 커서 페이징 조회
+     * @param order 정렬 순서 (최신순/오래된순)
+     * @param cursorCreatedAt 이전 페이지 마지막 댓글의 작성일시 (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 댓글 ID (첫 페이지는 null)
+     */
+    CommentSliceResponse getCommentsByPostIdWithCursor(Long postId, CommentSortOrder order,
+                                                       LocalDateTime cursorCreatedAt, Long cursorId, int size);
 }
@@ -1,21 +1,26 @@
 package com.pawbridge.communityservice.service;
 
-import com.pawbridge.communityservice.client.UserServiceClient;
 import com.pawbridge.communityservice.domain.entity.Comment;
 import com.pawbridge.communityservice.domain.repository.CommentRepository;
 import com.pawbridge.communityservice.domain.repository.PostRepository;
+import com.pawbridge.communityservice.dto.request.CommentSortOrder;
 import com.pawbridge.communityservice.dto.request.CreateCommentRequest;
 import com.pawbridge.communityservice.dto.request.UpdateCommentRequest;
 import com.pawbridge.communityservice.dto.response.CommentResponse;
+import com.pawbridge.communityservice.dto.response.CommentSliceResponse;
 import com.pawbridge.communityservice.exception.CommentNotFoundException;
 import com.pawbridge.communityservice.exception.PostNotFoundException;
 import com.pawbridge.communityservice.exception.UnauthorizedCommentAccessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -30,9 +35,11 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final UserServiceClient userServiceClient;
+    private final NicknameResolver nicknameResolver;
 
     /**
      * 댓글 생성
@@ -51,9 +58,10 @@ public class CommentServiceImpl implements CommentService {
                 .build();
 
         Comment saved = commentRepository.save(comment);
+        postRepository.incrementCommentCount(postId);
         log.info("✅ Comment created: commentId={}", saved.getCommentId());
 
-        String authorNickname = getUserNickname(authorId);
+        String authorNickname = nicknameResolver.resolve(authorId);
         return CommentResponse.fromEntity(saved, authorNickname);
     }
 
@@ -76,7 +84,7 @@ public class CommentServiceImpl implements CommentService {
 
         log.info("✅ Comment updated: commentId={}", commentId);
 
-        String authorNickname = getUserNickname(authorId);
+        String authorNickname = nicknameResolver.resolve(authorId);
         return CommentResponse.fromEntity(updated, authorNickname);
     }
 
@@ -96,6 +104,7 @@ public class CommentServiceImpl implements CommentService {
 
         comment.delete();
         commentRepository.save(comment);
+        postRepository.decrementCommentCount(comment.getPostId());
 
         log.info("✅ Comment deleted: commentId={}", commentId);
     }
@@ -106,24 +115,60 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsByPostId(Long postId) {
-        return commentRepository.findByPostIdAndDeletedAtIsNullOrderByCreatedAtDesc(postId).stream()
-                .map(comment -> {
-                    String authorNickname = getUserNickname(comment.getAuthorId());
-                    return CommentResponse.fromEntity(comment, authorNickname);
-                })
+        List<Comment> comments = commentRepository.findByPostIdAndDeletedAtIsNullOrderByCreatedAtDesc(postId);
+        Map<Long, String> nicknames = nicknameResolver.resolveAll(
+                comments.stream().map(Comment::getAuthorId).toList());
+
+        return comments.stream()
+                .map(comment -> CommentResponse.fromEntity(comment, nicknames.get(comment.getAuthorId())))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 사용자 닉네임 조회 헬퍼 메서드
-     * User Service가 다운되거나 사용자를 찾을 수 없을 경우 기본값 반환
+     * 특정 게시글의 댓글 커서 페이징 조회
+     *
+     * - (createdAt, commentId) 키셋 커서로 OFFSET 없이 조회
+     * - size + 1개를 조회해 다음 페이지 존재 여부 판단
+     * - 댓글 총계는 Post.commentCount 사용 (COUNT 쿼리 없음)
+     * - 작성자 닉네임은 페이지 단위로 일괄 조회
      */
-    private String getUserNickname(Long userId) {
-        try {
-            return userServiceClient.getUserNickname(userId);
-        } catch (Exception e) {
-            log.warn("Failed to fetch nickname for userId={}, using default. Error: {}", userId, e.getMessage());
-            return "사용자" + userId;
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public CommentSliceResponse getCommentsByPostIdWithCursor(Long postId, CommentSortOrder order,
+                                                              LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        Integer totalCount = postRepository.findCommentCountByPostId(postId)
+                .orElseThrow(PostNotFoundException::new);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        boolean firstPage = cursorCreatedAt == null || cursorId == null;
+
+        List<Comment> comments = switch (order == null ? CommentSortOrder.NEWEST : order) {
+            case NEWEST -> firstPage
+                    ? commentRepository.findFirstPageNewest(postId, limit)
+                    : commentRepository.findNextPageNewest(postId, cursorCreatedAt, cursorId, limit);
+            case OLDEST -> firstPage
+                    ? commentRepository.findFirstPageOldest(postId, limit)
+                    : commentRepository.findNextPageOldest(postId, cursorCreatedAt, cursorId, limit);
+        };
+
+        boolean hasNext = comments.size() > pageSize;
+        List<Comment> pageComments = hasNext ? comments.subList(0, pageSize) : comments;
+
+        Map<Long, String> nicknames = nicknameResolver.resolveAll(
+                pageComments.stream().map(Comment::getAuthorId).toList());
+
+        List<CommentResponse> responses = pageComments.stream()
+                .map(comment -> CommentResponse.fromEntity(comment, nicknames.get(comment.getAuthorId())))
+                .toList();
+
+        Comment last = hasNext ? pageComments.get(pageComments.size() - 1) : null;
+        return new CommentSliceResponse(
+                responses,
+                hasNext,
+                last != null ? last.getCreatedAt() : null,
+                last != null ? last.getCommentId() : null,
+                totalCount
+        );
     }
 }
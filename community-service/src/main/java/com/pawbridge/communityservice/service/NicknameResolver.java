@@ -0,0 +1,108 @@
+package com.pawbridge.communityservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pawbridge.communityservice.client.UserServiceClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 작성자 닉네임 조회기
+ *
+ * 목록 조회 시 게시글/댓글마다 User Service를 호출하던 N+1 호출을 제거:
+ * - 한 요청에서 필요한 userId를 모아 로컬 캐시에서 먼저 조회
+ * - 캐시에 없는 userId만 한 번의 벌크 호출로 조회
+ * - user.profile.events(닉네임 변경) 수신 시 해당 항목 무효화
+ *
+ * User Service 장애 시 기본값("사용자" + userId) 반환 (캐시에는 저장하지 않음)
+ */
+@Component
+@Slf4j
+public class NicknameResolver {
+
+    private final UserServiceClient userServiceClient;
+    private final Cache<Long, String> nicknameCache;
+
+    public NicknameResolver(UserServiceClient userServiceClient,
+                            @Value("${community.nickname-cache.max-size:10000}") long maxSize,
+                            @Value("${community.nickname-cache.expire-after-write:30m}") Duration expireAfterWrite) {
+        this.userServiceClient = userServiceClient;
+        this.nicknameCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    /**
+     * 단건 닉네임 조회
+     */
+    public String resolve(Long userId) {
+        return resolveAll(Set.of(userId)).get(userId);
+    }
+
+    /**
+     * 닉네임 일괄 조회
+     * @param userIds 조회할 사용자 ID (중복/null 허용)
+     * @return userId → 닉네임 (요청한 모든 userId 포함)
+     */
+    public Map<Long, String> resolveAll(Collection<Long> userIds) {
+        Set<Long> distinctIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Long, String> nicknames = new HashMap<>(nicknameCache.getAllPresent(distinctIds));
+
+        Set<Long> missingIds = distinctIds.stream()
+                .filter(userId -> !nicknames.containsKey(userId))
+                .collect(Collectors.toSet());
+
+        if (!missingIds.isEmpty()) {
+            Map<Long, String> fetched = fetchNicknames(missingIds);
+            nicknameCache.putAll(fetched);
+            nicknames.putAll(fetched);
+        }
+
+        // 조회되지 않은 사용자(탈퇴/장애)는 기본값
+        distinctIds.forEach(userId -> nicknames.putIfAbsent(userId, defaultNickname(userId)));
+        return nicknames;
+    }
+
+    /**
+     * 닉네임 변경 반영 (user.profile.events)
+     */
+    public void refresh(Long userId, String nickname) {
+        if (nickname == null) {
+            nicknameCache.invalidate(userId);
+            return;
+        }
+        nicknameCache.put(userId, nickname);
+    }
+
+    public void evict(Long userId) {
+        nicknameCache.invalidate(userId);
+    }
+
+    private Map<Long, String> fetchNicknames(Set<Long> userIds) {
+        try {
+            Map<Long, String> fetched = userServiceClient.getUserNicknames(userIds);
+            return fetched != null ? fetched : Map.of();
+        } catch (Exception e) {
+            log.warn("Failed to fetch nicknames for {} users, using default. Error: {}", userIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private String defaultNickname(Long userId) {
+        return "사용자" + userId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.pawbridge.communityservice.service;
+
+import com.pawbridge.communityservice.domain.entity.BoardType;
+import com.pawbridge.communityservice.dto.response.PostFeedResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 피드 서비스 인터페이스
+ */
+public interface PostFeedService {
+
+    /**
+     * 커서 기반 게시글 피드 조회
+     * @param boardType 게시판 필터 (null이면 전체)
+     * @param authorId 작성자 필터 (null이면 전체)
+     * @param cursorCreatedAt 이전 페이지 마지막 게시글의 작성일시 (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 게시글 ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    PostFeedResponse getFeed(BoardType boardType, Long authorId,
+                             LocalDateTime cursorCreatedAt, Long cursorId, int size);
+
+    /**
+     * 캐시된 기본 피드 첫 페이지 무효화 (게시글 생성/수정/삭제 시)
+     */
+    void evictFirstPage();
+}
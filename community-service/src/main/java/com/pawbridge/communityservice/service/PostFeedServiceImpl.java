@@ -0,0 +1,111 @@
+package com.pawbridge.communityservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pawbridge.communityservice.domain.entity.BoardType;
+import com.pawbridge.communityservice.domain.event.PostFeedChangedEvent;
+import com.pawbridge.communityservice.domain.repository.PostFeedRow;
+import com.pawbridge.communityservice.domain.repository.PostRepository;
+import com.pawbridge.communityservice.dto.response.PostFeedResponse;
+import com.pawbridge.communityservice.dto.response.PostSummaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 피드 서비스 구현체
+ *
+ * 키셋 페이징:
+ * - (createdAt DESC, postId DESC) 순서, 커서는 마지막 게시글의 (createdAt, postId)
+ * - size + 1개를 조회해 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+ * - 페이지당 메모리 사용량은 size에 비례 (전체 게시글 수와 무관)
+ *
+ * 기본 피드(필터 없음) 첫 페이지는 짧은 TTL로 캐싱:
+ * - 트래픽 대부분이 첫 화면에 몰리므로 DB/User Service 호출을 흡수
+ * - 게시글 생성/수정/삭제 커밋 이후 무효화 (커밋 전 무효화 시 동시 조회가 이전 데이터를 다시 캐싱)
+ */
+@Service
+@Slf4j
+public class PostFeedServiceImpl implements PostFeedService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final PostRepository postRepository;
+    private final NicknameResolver nicknameResolver;
+    private final Cache<Integer, PostFeedResponse> firstPageCache;
+
+    public PostFeedServiceImpl(PostRepository postRepository,
+                               NicknameResolver nicknameResolver,
+                               @Value("${community.feed.first-page-cache-ttl:5s}") Duration firstPageCacheTtl) {
+        this.postRepository = postRepository;
+        this.nicknameResolver = nicknameResolver;
+        this.firstPageCache = Caffeine.newBuilder()
+                .maximumSize(MAX_PAGE_SIZE)
+                .expireAfterWrite(firstPageCacheTtl)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostFeedResponse getFeed(BoardType boardType, Long authorId,
+                                    LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        boolean firstPage = cursorCreatedAt == null || cursorId == null;
+
+        if (firstPage && boardType == null && authorId == null) {
+            return firstPageCache.get(pageSize, key -> loadFeed(null, null, null, null, key));
+        }
+        return loadFeed(boardType, authorId, cursorCreatedAt, cursorId, pageSize);
+    }
+
+    @Override
+    public void evictFirstPage() {
+        firstPageCache.invalidateAll();
+    }
+
+    /**
+     * 게시글 변경 커밋 이후 첫 페이지 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostFeedChanged(PostFeedChangedEvent event) {
+        log.debug("[FEED] 게시글 변경 커밋, 첫 페이지 캐시 무효화: postId={}", event.postId());
+        evictFirstPage();
+    }
+
+    private PostFeedResponse loadFeed(BoardType boardType, Long authorId,
+                                      LocalDateTime cursorCreatedAt, Long cursorId, int pageSize) {
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<PostFeedRow> rows = (cursorCreatedAt == null || cursorId == null)
+                ? postRepository.findFeedFirstPage(boardType, authorId, limit)
+                : postRepository.findFeedAfterCursor(boardType, authorId, cursorCreatedAt, cursorId, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PostFeedRow> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Map<Long, String> nicknames = nicknameResolver.resolveAll(
+                pageRows.stream().map(PostFeedRow::authorId).toList());
+
+        List<PostSummaryResponse> posts = pageRows.stream()
+                .map(row -> PostSummaryResponse.fromRow(row, nicknames.get(row.authorId())))
+                .toList();
+
+        PostFeedRow last = hasNext ? pageRows.get(pageRows.size() - 1) : null;
+        return new PostFeedResponse(
+                posts,
+                hasNext,
+                last != null ? last.createdAt() : null,
+                last != null ? last.postId() : null
+        );
+    }
+}
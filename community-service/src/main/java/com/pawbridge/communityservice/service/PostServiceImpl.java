@@ -1,7 +1,7 @@
 package com.pawbridge.communityservice.service;
 
-import com.pawbridge.communityservice.client.UserServiceClient;
 import com.pawbridge.communityservice.domain.entity.Post;
+import com.pawbridge.communityservice.domain.event.PostFeedChangedEvent;
 import com.pawbridge.communityservice.domain.repository.PostRepository;
 import com.pawbridge.communityservice.dto.request.CreatePostRequest;
 import com.pawbridge.communityservice.dto.request.UpdatePostRequest;
@@ -10,13 +10,17 @@ import com.pawbridge.communityservice.exception.PostNotFoundException;
 import com.pawbridge.communityservice.exception.UnauthorizedPostAccessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -32,55 +36,56 @@ public class PostServiceImpl implements PostService {
     private final PostRepository postRepository;
     private final OutboxService outboxService;
     private final S3Service s3Service;
-    private final UserServiceClient userServiceClient;
+    private final NicknameResolver nicknameResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 게시글 생성
      *
      * 동작 흐름:
-     * 1. 미디어 파일(이미지/영상)을 S3에 업로드
-     * 2. Post 엔티티 저장 (posts 테이블, 미디어 URL 포함)
-     * 3. Outbox 이벤트 저장 (outbox_events 테이블)
-     * 4. Debezium이 Kafka로 발행
-     * 5. Consumer가 Elasticsearch에 인덱싱
+     * 1. 미디어 파일(이미지/영상)을 S3에 병렬 업로드 (트랜잭션 밖)
+     * 2. 짧은 트랜잭션에서 Post 저장 + Outbox 이벤트 저장
+     * 3. 트랜잭션 실패 시 업로드한 파일 삭제 (고아 객체 방지)
+     * 4. Debezium이 Kafka로 발행 → Consumer가 Elasticsearch에 인덱싱
      */
     @Override
-    @Transactional
     public PostResponse createPost(CreatePostRequest request, MultipartFile[] images, Long authorId) {
-        // 1. 미디어 파일 S3 업로드 (이미지 + 영상)
-        List<String> imageUrls = s3Service.uploadImages(images);
+        String authorNickname = nicknameResolver.resolve(authorId);
 
-        // 2. Post 저장
-        Post post = Post.builder()
-                .authorId(authorId)
-                .title(request.title())
-                .content(request.content())
-                .boardType(request.boardType())
-                .imageUrls(imageUrls)
-                .build();
-
-        Post saved = postRepository.save(post);
-
-        // 3. Outbox 이벤트 저장
-        Map<String, Object> payload = Map.of(
-                "postId", saved.getPostId(),
-                "authorId", saved.getAuthorId(),
-                "title", saved.getTitle(),
-                "content", saved.getContent(),
-                "boardType", saved.getBoardType().name(),
-                "imageUrls", saved.getImageUrls()
-        );
+        // 1. 미디어 파일 S3 업로드 (이미지 + 영상) - DB 커넥션을 잡지 않은 상태에서 수행
+        List<String> imageUrls = s3Service.uploadImages(images);
 
-        outboxService.saveEvent(
-                "Post",
-                saved.getPostId().toString(),
-                "POST_CREATED",
-                payload
-        );
+        // 2. Post + Outbox 저장 (짧은 트랜잭션)
+        Post saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                Post post = Post.builder()
+                        .authorId(authorId)
+                        .title(request.title())
+                        .content(request.content())
+                        .boardType(request.boardType())
+                        .imageUrls(imageUrls)
+                        .build();
+
+                Post persisted = postRepository.saveAndFlush(post);
+
+                outboxService.saveEvent(
+                        "Post",
+                        persisted.getPostId().toString(),
+                        "POST_CREATED",
+                        buildIndexPayload(persisted, authorNickname)
+                );
+                eventPublisher.publishEvent(new PostFeedChangedEvent(persisted.getPostId()));
+                return persisted;
+            });
+        } catch (RuntimeException e) {
+            deleteUploadedFiles(imageUrls);
+            throw e;
+        }
 
         log.info("✅ Post created: postId={}, imageCount={}", saved.getPostId(), imageUrls.size());
 
-        String authorNickname = getUserNickname(authorId);
         return PostResponse.fromEntity(saved, authorNickname);
     }
 
@@ -88,60 +93,17 @@ public class PostServiceImpl implements PostService {
      * 게시글 수정
      *
      * 동작 흐름:
-     * 1. 새로운 이미지가 있으면 기존 이미지를 S3에서 삭제
-     * 2. 새로운 이미지를 S3에 업로드
-     * 3. Post 엔티티 수정 (null이 아닌 필드만)
-     * 4. Outbox 이벤트 저장
+     * 1. 게시글 존재/권한 사전 확인
+     * 2. 새로운 이미지가 있으면 S3에 병렬 업로드 (트랜잭션 밖)
+     * 3. 짧은 트랜잭션에서 Post 수정 (null이 아닌 필드만) + Outbox 이벤트 저장
+     * 4. 커밋 성공 후 기존 이미지를 S3에서 삭제 (실패 시 새 이미지 삭제)
      */
     @Override
-    @Transactional
     public PostResponse updatePost(Long postId, UpdatePostRequest request, MultipartFile[] images, Long authorId) {
-        Post post = postRepository.findByPostIdAndDeletedAtIsNull(postId)
-                .orElseThrow(PostNotFoundException::new);
-
-        // 권한 체크
-        if (!post.getAuthorId().equals(authorId)) {
-            throw new UnauthorizedPostAccessException();
-        }
-
-        // 이미지 처리: null이 아니고 빈 배열이 아닐 때만 처리
-        List<String> newImageUrls = null;
-        if (images != null && images.length > 0) {
-            // 기존 미디어 파일 삭제
-            List<String> oldImageUrls = post.getImageUrls();
-            if (oldImageUrls != null && !oldImageUrls.isEmpty()) {
-                oldImageUrls.forEach(s3Service::deleteFile);
-            }
-
-            // 새로운 미디어 파일 업로드
-            newImageUrls = s3Service.uploadImages(images);
-        }
-
-        // 수정 (null이 아닌 필드만 업데이트)
-        post.update(request.title(), request.content(), newImageUrls);
-        Post updated = postRepository.save(post);
-
-        // Outbox 이벤트 저장
-        Map<String, Object> payload = Map.of(
-                "postId", updated.getPostId(),
-                "authorId", updated.getAuthorId(),
-                "title", updated.getTitle(),
-                "content", updated.getContent(),
-                "boardType", updated.getBoardType().name(),
-                "imageUrls", updated.getImageUrls()
-        );
-
-        outboxService.saveEvent(
-                "Post",
-                updated.getPostId().toString(),
-                "POST_UPDATED",
-                payload
-        );
+        // 업로드 전에 권한을 확인해 불필요한 업로드 방지
+        Post post = loadEditablePost(postId, authorId);
 
-        log.info("✅ Post updated: postId={}, imageUpdated={}", postId, newImageUrls != null);
-
-        String authorNickname = getUserNickname(authorId);
-        return PostResponse.fromEntity(updated, authorNickname);
+        return updatePostWithMedia(postId, authorId, nicknameResolver.resolve(post.getAuthorId()), request, images);
     }
 
     /**
@@ -183,6 +145,8 @@ public class PostServiceImpl implements PostService {
                 payload
         );
 
+        eventPublisher.publishEvent(new PostFeedChangedEvent(postId));
+
         log.info("✅ Post deleted: postId={}", postId);
     }
 
@@ -195,34 +159,116 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findByPostIdAndDeletedAtIsNull(postId)
                 .orElseThrow(PostNotFoundException::new);
 
-        String authorNickname = getUserNickname(post.getAuthorId());
+        String authorNickname = nicknameResolver.resolve(post.getAuthorId());
         return PostResponse.fromEntity(post, authorNickname);
     }
 
     /**
      * 게시글 목록 조회
+     * - 전체 게시글을 한 번에 반환 (대용량 목록은 PostFeedService 커서 피드 사용)
      */
     @Override
     @Transactional(readOnly = true)
     public List<PostResponse> getAllPosts() {
-        return postRepository.findByDeletedAtIsNullOrderByCreatedAtDesc().stream()
-                .map(post -> {
-                    String authorNickname = getUserNickname(post.getAuthorId());
-                    return PostResponse.fromEntity(post, authorNickname);
-                })
+        List<Post> posts = postRepository.findByDeletedAtIsNullOrderByCreatedAtDesc();
+        Map<Long, String> nicknames = nicknameResolver.resolveAll(
+                posts.stream().map(Post::getAuthorId).toList());
+
+        return posts.stream()
+                .map(post -> PostResponse.fromEntity(post, nicknames.get(post.getAuthorId())))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 사용자 닉네임 조회 헬퍼 메서드
-     * User Service가 다운되거나 사용자를 찾을 수 없을 경우 기본값 반환
+     * 검색 인덱스용 Outbox payload 생성
+     * - 목록 렌더링에 필요한 표시 필드(작성자 닉네임, 작성일시)까지 포함
+     * - 검색 결과를 MySQL 재조회 없이 Elasticsearch 문서만으로 응답하기 위함
      */
-    private String getUserNickname(Long userId) {
+    private Map<String, Object> buildIndexPayload(Post post, String authorNickname) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("postId", post.getPostId());
+        payload.put("authorId", post.getAuthorId());
+        payload.put("authorNickname", authorNickname);
+        payload.put("title", post.getTitle());
+        payload.put("content", post.getContent());
+        payload.put("boardType", post.getBoardType().name());
+        payload.put("imageUrls", post.getImageUrls());
+        payload.put("createdAt", post.getCreatedAt() != null ? post.getCreatedAt().toString() : null);
+        payload.put("updatedAt", post.getUpdatedAt() != null ? post.getUpdatedAt().toString() : null);
+        return payload;
+    }
+
+    /**
+     * 미디어 교체를 포함한 게시글 수정 공통 처리
+     * - authorId가 null이면 작성자 체크 생략 (관리자)
+     * - 업로드는 트랜잭션 밖, Post/Outbox 저장만 짧은 트랜잭션에서 수행
+     * - 트랜잭션 내에서 권한을 다시 확인 (업로드 중 삭제/변경 대비)
+     * - 작성자 닉네임은 호출 전에 조회 (User Service 호출이 DB 커넥션을 잡고 있지 않도록)
+     */
+    private PostResponse updatePostWithMedia(Long postId, Long authorId, String authorNickname,
+                                             UpdatePostRequest request, MultipartFile[] images) {
+        // 이미지 처리: null이 아니고 빈 배열이 아닐 때만 처리
+        List<String> newImageUrls = images != null && images.length > 0
+                ? s3Service.uploadImages(images)
+                : null;
+
+        List<String> oldImageUrls = new ArrayList<>();
+        Post updated;
         try {
-            return userServiceClient.getUserNickname(userId);
-        } catch (Exception e) {
-            log.warn("Failed to fetch nickname for userId={}, using default. Error: {}", userId, e.getMessage());
-            return "사용자" + userId;
+            updated = transactionTemplate.execute(status -> {
+                Post post = loadEditablePost(postId, authorId);
+                if (newImageUrls != null && post.getImageUrls() != null) {
+                    oldImageUrls.addAll(post.getImageUrls());
+                }
+
+                // 수정 (null이 아닌 필드만 업데이트)
+                post.update(request.title(), request.content(), newImageUrls);
+                // flush로 @LastModifiedDate(updatedAt)를 확정한 뒤 Outbox payload에 담음
+                Post flushed = postRepository.saveAndFlush(post);
+
+                outboxService.saveEvent(
+                        "Post",
+                        postId.toString(),
+                        "POST_UPDATED",
+                        buildIndexPayload(flushed, authorNickname)
+                );
+                eventPublisher.publishEvent(new PostFeedChangedEvent(postId));
+                return flushed;
+            });
+        } catch (RuntimeException e) {
+            deleteUploadedFiles(newImageUrls);
+            throw e;
+        }
+
+        // 커밋 이후 기존 미디어 파일 삭제 (롤백 시 원본 유실 방지)
+        deleteUploadedFiles(oldImageUrls);
+
+        log.info("✅ Post updated: postId={}, imageUpdated={}", postId, newImageUrls != null);
+
+        return PostResponse.fromEntity(updated, authorNickname);
+    }
+
+    /**
+     * 수정 가능한 게시글 조회
+     * - authorId가 null이면 작성자 체크 생략 (관리자)
+     */
+    private Post loadEditablePost(Long postId, Long authorId) {
+        Post post = postRepository.findByPostIdAndDeletedAtIsNull(postId)
+                .orElseThrow(PostNotFoundException::new);
+
+        // 권한 체크
+        if (authorId != null && !post.getAuthorId().equals(authorId)) {
+            throw new UnauthorizedPostAccessException();
+        }
+        return post;
+    }
+
+    /**
+     * S3 파일 일괄 삭제 (업로드 보상 / 교체된 기존 파일 정리)
+     */
+    private void deleteUploadedFiles(List<String> fileUrls) {
+        if (fileUrls != null && !fileUrls.isEmpty()) {
+            fileUrls.forEach(s3Service::deleteFile);
         }
     }
 
@@ -237,61 +283,28 @@ public class PostServiceImpl implements PostService {
         log.info("전체 게시글 조회 (관리자): page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
 
         Page<Post> posts = postRepository.findByDeletedAtIsNull(pageable);
-        return posts.map(post -> {
-            String authorNickname = getUserNickname(post.getAuthorId());
-            return PostResponse.fromEntity(post, authorNickname);
-        });
+        Map<Long, String> nicknames = nicknameResolver.resolveAll(
+                posts.getContent().stream().map(Post::getAuthorId).toList());
+
+        return posts.map(post -> PostResponse.fromEntity(post, nicknames.get(post.getAuthorId())));
     }
 
     /**
      * 게시글 수정 (관리자용 - 작성자 체크 없음)
      */
     @Override
-    @Transactional
     public PostResponse updatePostByAdmin(Long postId, UpdatePostRequest request, MultipartFile[] files) {
         log.info("게시글 수정 (관리자): postId={}", postId);
 
-        // 1. 기존 게시글 조회
-        Post post = postRepository.findByPostIdAndDeletedAtIsNull(postId)
-                .orElseThrow(PostNotFoundException::new);
-
-        // 2. 이미지 처리: null이 아니고 빈 배열이 아닐 때만 처리
-        List<String> newImageUrls = null;
-        if (files != null && files.length > 0) {
-            // 기존 미디어 파일 삭제 (S3)
-            if (post.getImageUrls() != null && !post.getImageUrls().isEmpty()) {
-                post.getImageUrls().forEach(s3Service::deleteFile);
-            }
-
-            // 새 미디어 파일 업로드
-            newImageUrls = s3Service.uploadImages(files);
-        }
+        // 1. 기존 게시글 존재 확인
+        Post post = loadEditablePost(postId, null);
 
-        // 3. Post 수정 (null이 아닌 필드만)
-        post.update(request.title(), request.content(), newImageUrls);
-        Post updatedPost = postRepository.save(post);
+        // 2. 업로드 → 짧은 트랜잭션 수정 → 기존 미디어 정리
+        PostResponse response = updatePostWithMedia(
+                postId, null, nicknameResolver.resolve(post.getAuthorId()), request, files);
 
-        // 4. Outbox 이벤트 저장
-        Map<String, Object> payload = Map.of(
-                "postId", updatedPost.getPostId(),
-                "authorId", updatedPost.getAuthorId(),
-                "title", updatedPost.getTitle(),
-                "content", updatedPost.getContent(),
-                "boardType", updatedPost.getBoardType().name(),
-                "imageUrls", updatedPost.getImageUrls()
-        );
-
-        outboxService.saveEvent(
-                "Post",
-                postId.toString(),
-                "POST_UPDATED",
-                payload
-        );
-
-        String authorNickname = getUserNickname(post.getAuthorId());
-        log.info("✅ Post updated by admin: postId={}, imageUpdated={}", postId, newImageUrls != null);
-
-        return PostResponse.fromEntity(updatedPost, authorNickname);
+        log.info("✅ Post updated by admin: postId={}", postId);
+        return response;
     }
 
     /**
@@ -325,6 +338,8 @@ public class PostServiceImpl implements PostService {
                 payload
         );
 
+        eventPublisher.publishEvent(new PostFeedChangedEvent(postId));
+
         log.info("✅ Post deleted by admin: postId={}", postId);
     }
 
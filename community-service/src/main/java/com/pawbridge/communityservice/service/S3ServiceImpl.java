@@ -1,35 +1,71 @@
 package com.pawbridge.communityservice.service;
 
 import com.pawbridge.communityservice.exception.InvalidImageFormatException;
-import lombok.RequiredArgsConstructor;
+import com.pawbridge.communityservice.exception.S3UploadException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * S3 파일 업로드 서비스 구현체
+ *
+ * 업로드 파이프라인:
+ * - 파일 타입 검증을 먼저 모두 끝낸 뒤 s3UploadExecutor로 병렬 업로드
+ * - multipartThreshold 이상 파일은 S3 Multipart Upload (partSize 단위로 스트리밍)
+ * - 그 외 파일은 putObject에 InputStream을 그대로 전달 (힙에 전체 파일을 올리지 않음)
+ * - 하나라도 실패하면 이미 올라간 객체를 삭제하고 예외 (고아 객체 방지)
+ *
+ * 호출 측은 DB 트랜잭션 밖에서 업로드를 끝낸 뒤 짧은 트랜잭션으로 URL만 저장해야 함
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class S3ServiceImpl implements S3Service {
 
     private final S3Client s3Client;
+    private final ThreadPoolTaskExecutor s3UploadExecutor;
+    private final ThumbnailService thumbnailService;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
 
+    // 이 크기 이상이면 Multipart Upload (기본 16MB)
+    @Value("${community.upload.multipart-threshold:16777216}")
+    private long multipartThreshold;
+
+    // Multipart 파트 크기 (S3 최소 5MB, 기본 8MB) - 업로드당 힙 사용량 상한
+    @Value("${community.upload.part-size:8388608}")
+    private int partSize;
+
+    public S3ServiceImpl(S3Client s3Client,
+                         @Qualifier("s3UploadExecutor") ThreadPoolTaskExecutor s3UploadExecutor,
+                         ThumbnailService thumbnailService) {
+        this.s3Client = s3Client;
+        this.s3UploadExecutor = s3UploadExecutor;
+        this.thumbnailService = thumbnailService;
+    }
+
     // 허용된 파일 타입 (이미지 + 영상)
     private static final List<String> ALLOWED_IMAGE_TYPES = Arrays.asList(
             "image/jpeg",
@@ -47,40 +83,55 @@ public class S3ServiceImpl implements S3Service {
     );
 
     /**
-     * 여러 이미지/영상 파일을 S3에 업로드
+     * 여러 이미지/영상 파일을 S3에 병렬 업로드
+     * - 반환 순서는 요청 파일 순서와 동일
      */
     @Override
     public List<String> uploadImages(MultipartFile[] files) {
-        List<String> uploadedUrls = new ArrayList<>();
-
         if (files == null || files.length == 0) {
-            return uploadedUrls;
+            return new ArrayList<>();
         }
 
-        for (MultipartFile file : files) {
-            if (file.isEmpty()) {
-                continue;
-            }
+        List<MultipartFile> targets = Arrays.stream(files)
+                .filter(file -> !file.isEmpty())
+                .toList();
+
+        // 업로드 시작 전에 전체 검증 (일부만 올라가는 상황 방지)
+        targets.forEach(this::validateFileType);
+
+        long start = System.currentTimeMillis();
 
+        List<CompletableFuture<String>> futures = targets.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadSingleFile(file), s3UploadExecutor))
+                .toList();
+
+        List<String> uploadedUrls = new ArrayList<>(futures.size());
+        Throwable failure = null;
+        for (CompletableFuture<String> future : futures) {
             try {
-                String uploadedUrl = uploadSingleFile(file);
-                uploadedUrls.add(uploadedUrl);
-            } catch (IOException e) {
-                log.error("파일 업로드 실패: {}", file.getOriginalFilename(), e);
-                throw new RuntimeException("파일 업로드 중 오류가 발생했습니다", e);
+                uploadedUrls.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
             }
         }
 
+        if (failure != null) {
+            // 성공한 업로드 정리 (고아 객체 방지)
+            uploadedUrls.forEach(this::deleteFile);
+            log.error("파일 업로드 실패, 업로드된 {}개 파일 정리 완료", uploadedUrls.size(), failure);
+            throw new S3UploadException("파일 업로드 중 오류가 발생했습니다");
+        }
+
+        log.info("파일 병렬 업로드 완료: count={}, elapsedMs={}", uploadedUrls.size(), System.currentTimeMillis() - start);
         return uploadedUrls;
     }
 
     /**
      * 단일 파일을 S3에 업로드
      */
-    private String uploadSingleFile(MultipartFile file) throws IOException {
-        // 파일 타입 검증 (이미지 + 영상)
-        validateFileType(file);
-
+    private String uploadSingleFile(MultipartFile file) {
         // 고유한 파일명 생성 (파일 타입에 따라 경로 분리)
         String originalFilename = file.getOriginalFilename();
         String extension = originalFilename != null && originalFilename.contains(".")
@@ -92,14 +143,26 @@ public class S3ServiceImpl implements S3Service {
         String folder = isVideoType(contentType) ? "posts/videos/" : "posts/images/";
         String uniqueFilename = folder + UUID.randomUUID() + extension;
 
-        // S3에 업로드
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(uniqueFilename)
-                .contentType(file.getContentType())
-                .build();
+        try {
+            if (file.getSize() >= multipartThreshold) {
+                uploadMultipart(file, uniqueFilename);
+            } else {
+                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(uniqueFilename)
+                        .contentType(contentType)
+                        .build();
+
+                try (InputStream inputStream = file.getInputStream()) {
+                    s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, file.getSize()));
+                }
+            }
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
 
-        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        // 목록용 썸네일은 요청과 분리해 비동기 생성 (이미지만 대상)
+        thumbnailService.generateAsync(uniqueFilename);
 
         // 업로드된 파일의 URL 반환
         String fileUrl = String.format("https://%s.s3.%s.amazonaws.com/%s",
@@ -109,6 +172,57 @@ public class S3ServiceImpl implements S3Service {
         return fileUrl;
     }
 
+    /**
+     * S3 Multipart Upload
+     * - partSize만큼만 읽어 업로드하므로 파일 크기와 무관하게 힙 사용량 일정
+     * - 실패 시 abort로 미완성 파트 정리
+     */
+    private void uploadMultipart(MultipartFile file, String key) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(file.getContentType())
+                        .build())
+                .uploadId();
+
+        try (InputStream inputStream = file.getInputStream()) {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[partSize];
+            int partNumber = 1;
+            int read;
+
+            while ((read = inputStream.readNBytes(buffer, 0, partSize)) > 0) {
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) read)
+                                .build(),
+                        RequestBody.fromBytes(read == partSize ? buffer : Arrays.copyOf(buffer, read)))
+                        .eTag();
+
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
     /**
      * 파일 타입 검증 (이미지 + 영상)
      */
@@ -165,6 +279,7 @@ public class S3ServiceImpl implements S3Service {
                     .build();
 
             s3Client.deleteObject(deleteObjectRequest);
+            thumbnailService.deleteVariants(key);
             log.info("파일 삭제 성공: {}", fileUrl);
 
         } catch (Exception e) {
@@ -1,6 +1,8 @@
 package com.pawbridge.communityservice.service;
 
+import com.pawbridge.communityservice.domain.entity.BoardType;
 import com.pawbridge.communityservice.dto.response.PostResponse;
+import com.pawbridge.communityservice.dto.response.PostSearchPageResponse;
 
 import java.util.List;
 
@@ -15,4 +17,12 @@ public interface SearchService {
      * - nori 한국어 형태소 분석기 사용
      */
     List<PostResponse> searchPosts(String keyword);
+
+    /**
+     * 게시글 검색 (페이징 + 하이라이트)
+     * - 관련도 순서, 전체 건수, 하이라이트 조각을 Elasticsearch에서 바로 반환
+     * @param boardType 게시판 필터 (null이면 전체)
+     * @param page 0부터 시작
+     */
+    PostSearchPageResponse searchPostsPage(String keyword, BoardType boardType, int page, int size);
 }
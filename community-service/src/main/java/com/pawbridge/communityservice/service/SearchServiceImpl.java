@@ -1,19 +1,33 @@
 package com.pawbridge.communityservice.service;
 
-import com.pawbridge.communityservice.client.UserServiceClient;
+import co.elastic.clients.elasticsearch._types.SortOrder;
 import com.pawbridge.communityservice.domain.entity.BoardType;
+import com.pawbridge.communityservice.domain.entity.Post;
 import com.pawbridge.communityservice.domain.repository.PostRepository;
 import com.pawbridge.communityservice.dto.response.PostResponse;
+import com.pawbridge.communityservice.dto.response.PostSearchHitResponse;
+import com.pawbridge.communityservice.dto.response.PostSearchPageResponse;
 import com.pawbridge.communityservice.elasticsearch.PostDocument;
+import com.pawbridge.communityservice.util.ImageVariants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightFieldParameters;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -28,9 +42,13 @@ import java.util.stream.Collectors;
 @Slf4j
 public class SearchServiceImpl implements SearchService {
 
+    // Elasticsearch index.max_result_window 기본값 (from + size 상한)
+    private static final int MAX_RESULT_WINDOW = 10_000;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final ElasticsearchOperations elasticsearchOperations;
     private final PostRepository postRepository;
-    private final UserServiceClient userServiceClient;
+    private final NicknameResolver nicknameResolver;
 
     /**
      * 게시글 검색
@@ -77,25 +95,113 @@ public class SearchServiceImpl implements SearchService {
         }
 
         // MySQL에서 실제 데이터 조회 (삭제되지 않은 것만)
-        return postRepository.findAllById(postIds).stream()
+        // findAllById는 순서를 보장하지 않으므로 Elasticsearch 관련도 순서로 재정렬
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            rank.put(postIds.get(i), i);
+        }
+        List<Post> posts = postRepository.findAllById(postIds).stream()
                 .filter(post -> post.getDeletedAt() == null)
-                .map(post -> {
-                    String authorNickname = getUserNickname(post.getAuthorId());
-                    return PostResponse.fromEntity(post, authorNickname);
-                })
+                .sorted(Comparator.comparing(post -> rank.get(post.getPostId())))
+                .toList();
+        Map<Long, String> nicknames = nicknameResolver.resolveAll(
+                posts.stream().map(Post::getAuthorId).toList());
+
+        return posts.stream()
+                .map(post -> PostResponse.fromEntity(post, nicknames.get(post.getAuthorId())))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 사용자 닉네임 조회 헬퍼 메서드
-     * User Service가 다운되거나 사용자를 찾을 수 없을 경우 기본값 반환
+     * 게시글 검색 (페이징 + 하이라이트)
+     *
+     * - 관련도(_score) 내림차순, 동점은 최신 게시글 우선
+     * - 목록 표시 필드는 문서에 저장되어 있으므로 MySQL 재조회 없음
+     * - content는 _source에서 제외하고 하이라이트 조각만 반환 (응답 크기 축소)
+     * - 닉네임이 없는 이전 문서만 NicknameResolver로 보완 (캐시 + 벌크 조회)
      */
-    private String getUserNickname(Long userId) {
-        try {
-            return userServiceClient.getUserNickname(userId);
-        } catch (Exception e) {
-            log.warn("Failed to fetch nickname for userId={}, using default. Error: {}", userId, e.getMessage());
-            return "사용자" + userId;
-        }
+    @Override
+    public PostSearchPageResponse searchPostsPage(String keyword, BoardType boardType, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.min(Math.max(page, 0), MAX_RESULT_WINDOW / pageSize - 1);
+
+        log.info("🔍 Searching posts (paged): keyword={}, boardType={}, page={}, size={}",
+                keyword, boardType, pageNumber, pageSize);
+
+        HighlightParameters highlightParameters = HighlightParameters.builder()
+                .withPreTags("<em>")
+                .withPostTags("</em>")
+                .withFragmentSize(100)
+                .withNumberOfFragments(2)
+                .build();
+        HighlightField titleField = new HighlightField("title",
+                HighlightFieldParameters.builder().withNumberOfFragments(0).build());
+        Highlight highlight = new Highlight(highlightParameters, List.of(titleField, new HighlightField("content")));
+
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> {
+                    b.must(m -> m.multiMatch(mm -> mm
+                            .query(keyword)
+                            .fields("title^2", "content")
+                            .analyzer("nori")));
+                    if (boardType != null) {
+                        b.filter(f -> f.term(t -> t.field("boardType").value(boardType.name())));
+                    }
+                    return b;
+                }))
+                .withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)))
+                .withSort(s -> s.field(f -> f.field("postId").order(SortOrder.Desc)))
+                .withHighlightQuery(new HighlightQuery(highlight, PostDocument.class))
+                .withSourceFilter(new FetchSourceFilterBuilder().withExcludes("content").build())
+                .withPageable(PageRequest.of(pageNumber, pageSize))
+                .withTrackTotalHits(true)
+                .build();
+
+        SearchHits<PostDocument> searchHits = elasticsearchOperations.search(query, PostDocument.class);
+
+        // 닉네임이 저장되지 않은 이전 문서 보완
+        List<Long> authorIdsWithoutNickname = searchHits.getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .filter(document -> document.getAuthorNickname() == null)
+                .map(PostDocument::getAuthorId)
+                .toList();
+        Map<Long, String> fallbackNicknames = authorIdsWithoutNickname.isEmpty()
+                ? Map.of()
+                : nicknameResolver.resolveAll(authorIdsWithoutNickname);
+
+        List<PostSearchHitResponse> hits = searchHits.getSearchHits().stream()
+                .map(hit -> toHitResponse(hit, fallbackNicknames))
+                .toList();
+
+        long totalHits = searchHits.getTotalHits();
+        boolean hasNext = (long) (pageNumber + 1) * pageSize < Math.min(totalHits, MAX_RESULT_WINDOW);
+
+        log.info("✅ Found {} posts in Elasticsearch (returned {})", totalHits, hits.size());
+
+        return new PostSearchPageResponse(hits, totalHits, pageNumber, pageSize, hasNext);
+    }
+
+    private PostSearchHitResponse toHitResponse(SearchHit<PostDocument> hit, Map<Long, String> fallbackNicknames) {
+        PostDocument document = hit.getContent();
+        String authorNickname = document.getAuthorNickname() != null
+                ? document.getAuthorNickname()
+                : fallbackNicknames.get(document.getAuthorId());
+        String thumbnailUrl = document.getImageUrls() != null && !document.getImageUrls().isEmpty()
+                ? document.getImageUrls().get(0)
+                : null;
+
+        return new PostSearchHitResponse(
+                document.getPostId(),
+                document.getAuthorId(),
+                authorNickname,
+                document.getTitle(),
+                document.getBoardType(),
+                thumbnailUrl,
+                ImageVariants.firstImageVariantUrls(document.getImageUrls()),
+                document.getCreatedAt(),
+                hit.getScore(),
+                hit.getHighlightField("title"),
+                hit.getHighlightField("content")
+        );
     }
 }
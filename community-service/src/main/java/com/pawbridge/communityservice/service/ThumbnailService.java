@@ -0,0 +1,24 @@
+package com.pawbridge.communityservice.service;
+
+/**
+ * 게시글 이미지 썸네일 서비스 인터페이스
+ */
+public interface ThumbnailService {
+
+    /**
+     * 너비별 WebP 썸네일 비동기 생성 (원본 옆 thumbnails/ 경로에 저장)
+     * @param originalKey 원본 이미지 S3 키
+     */
+    void generateAsync(String originalKey);
+
+    /**
+     * 원본 이미지의 썸네일 삭제
+     * @param originalKey 원본 이미지 S3 키
+     */
+    void deleteVariants(String originalKey);
+
+    /**
+     * 썸네일 누락(대기열 초과/생성 실패) 생성 및 고아 썸네일 삭제
+     */
+    void backfill();
+}
@@ -0,0 +1,393 @@
+package com.pawbridge.communityservice.service;
+
+import com.pawbridge.communityservice.util.ImageVariants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 이미지 썸네일 서비스 구현체
+ * - 업로드된 원본을 S3에서 읽어 너비별 WebP 썸네일 생성 후 원본 옆에 저장
+ * - 요청 스레드와 분리된 thumbnailExecutor에서 실행 (동시 처리 수 제한)
+ * - 디코딩 시 서브샘플링으로 픽셀 수를 maxDecodedPixels 이하로 제한 (이미지당 메모리 상한)
+ * - 생성 실패 시 max-attempts까지 재시도, 대기열 초과/재시도 소진 건은 backfill이 복구
+ * - 생성 중 원본이 삭제되면 방금 만든 썸네일 삭제 (고아 객체 방지)
+ */
+@Service
+@Slf4j
+public class ThumbnailServiceImpl implements ThumbnailService {
+
+    private static final String WEBP_MIME_TYPE = "image/webp";
+    private static final String LOSSY_COMPRESSION = "Lossy";
+    private static final String VARIANT_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final S3Client s3Client;
+    private final ThreadPoolTaskExecutor thumbnailExecutor;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    // 디코딩 최대 픽셀 수 (기본 4MP ≒ 16MB)
+    @Value("${community.thumbnail.max-decoded-pixels:4000000}")
+    private long maxDecodedPixels;
+
+    @Value("${community.thumbnail.quality:0.8}")
+    private float quality;
+
+    @Value("${community.thumbnail.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${community.thumbnail.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    // 업로드 직후/삭제 진행 중인 객체를 backfill 대상에서 제외하는 유예 시간
+    @Value("${community.thumbnail.backfill.grace:10m}")
+    private Duration backfillGrace;
+
+    // backfill 1회 최대 생성 요청 수
+    @Value("${community.thumbnail.backfill.batch-size:100}")
+    private int backfillBatchSize;
+
+    public ThumbnailServiceImpl(S3Client s3Client,
+                                @Qualifier("thumbnailExecutor") ThreadPoolTaskExecutor thumbnailExecutor) {
+        this.s3Client = s3Client;
+        this.thumbnailExecutor = thumbnailExecutor;
+    }
+
+    /**
+     * 썸네일 비동기 생성 요청
+     * - 대기열이 가득 차면 생략 (다음 backfill에서 생성)
+     */
+    @Override
+    public void generateAsync(String originalKey) {
+        if (!ImageVariants.supports(originalKey)) {
+            return;
+        }
+
+        try {
+            thumbnailExecutor.execute(() -> generateWithRetry(originalKey));
+        } catch (TaskRejectedException e) {
+            log.warn("썸네일 생성 대기열 초과, backfill에서 생성: {}", originalKey);
+        }
+    }
+
+    /**
+     * 썸네일 누락/고아 정리
+     * - 원본은 있는데 썸네일이 하나라도 없으면 생성 요청 (batch-size 건까지, 대기열 초과 시 중단)
+     * - 원본이 없는 썸네일은 삭제 (삭제와 생성이 겹쳐 남은 객체)
+     * - 유예 시간 이내 객체는 진행 중인 업로드/생성/삭제와 겹치지 않도록 제외
+     * - 생성/삭제 모두 멱등이므로 여러 인스턴스가 동시에 실행해도 결과는 같음
+     */
+    @Override
+    public void backfill() {
+        Instant cutoff = Instant.now().minus(backfillGrace);
+
+        Set<String> originalKeys = new HashSet<>();
+        List<S3Object> originals = new ArrayList<>();
+        List<S3Object> variants = new ArrayList<>();
+        for (S3Object object : listObjects(ImageVariants.SOURCE_PREFIX)) {
+            if (ImageVariants.supports(object.key())) {
+                originalKeys.add(object.key());
+                originals.add(object);
+            } else {
+                variants.add(object);
+            }
+        }
+
+        Set<String> variantKeys = new HashSet<>();
+        variants.forEach(variant -> variantKeys.add(variant.key()));
+
+        // 1. 고아 썸네일 삭제
+        Set<String> expectedVariantKeys = new HashSet<>();
+        for (String originalKey : originalKeys) {
+            for (int width : ImageVariants.WIDTHS) {
+                expectedVariantKeys.add(ImageVariants.variantKey(originalKey, width));
+            }
+        }
+        int orphans = 0;
+        for (S3Object variant : variants) {
+            if (!expectedVariantKeys.contains(variant.key()) && variant.lastModified().isBefore(cutoff)) {
+                deleteObject(variant.key());
+                orphans++;
+            }
+        }
+
+        // 2. 누락 썸네일 생성 요청
+        int requested = 0;
+        for (S3Object original : originals) {
+            if (requested >= backfillBatchSize) {
+                break;
+            }
+            if (!original.lastModified().isBefore(cutoff) || hasAllVariants(original.key(), variantKeys)) {
+                continue;
+            }
+            try {
+                thumbnailExecutor.execute(() -> generateWithRetry(original.key()));
+                requested++;
+            } catch (TaskRejectedException e) {
+                log.warn("[THUMBNAIL-BACKFILL] 대기열 초과로 중단, 다음 실행에서 계속: requested={}", requested);
+                break;
+            }
+        }
+
+        log.info("[THUMBNAIL-BACKFILL] 완료: originals={}, variants={}, requested={}, orphansDeleted={}",
+                originals.size(), variants.size(), requested, orphans);
+    }
+
+    /**
+     * 원본 이미지의 썸네일 삭제
+     */
+    @Override
+    public void deleteVariants(String originalKey) {
+        if (!ImageVariants.supports(originalKey)) {
+            return;
+        }
+
+        for (int width : ImageVariants.WIDTHS) {
+            deleteObject(ImageVariants.variantKey(originalKey, width));
+        }
+    }
+
+    /**
+     * 썸네일 생성 (실패 시 max-attempts까지 재시도, 소진 시 backfill에서 복구)
+     */
+    private void generateWithRetry(String originalKey) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                generate(originalKey);
+                return;
+            } catch (NoSuchKeyException e) {
+                log.info("원본이 삭제되어 썸네일 생성 생략: {}", originalKey);
+                return;
+            } catch (Exception e) {
+                if (attempt == maxAttempts) {
+                    log.error("썸네일 생성 실패 ({}회), backfill에서 재시도: {}", attempt, originalKey, e);
+                    return;
+                }
+                log.warn("썸네일 생성 실패, 재시도 예정 ({}/{}): key={}, cause={}",
+                        attempt, maxAttempts, originalKey, e.getMessage());
+                try {
+                    Thread.sleep(retryBackoffMs * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 썸네일 생성 (S3 원본 다운로드 → 디코딩 → 너비별 리사이즈/인코딩 → 업로드)
+     * - 업로드 후 원본 존재를 다시 확인 (생성 중 원본 삭제 시 deleteVariants가 먼저 지나갔을 수 있음)
+     */
+    private void generate(String originalKey) throws IOException {
+        long start = System.currentTimeMillis();
+
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(originalKey)
+                .build();
+
+        try (ResponseInputStream<GetObjectResponse> objectStream = s3Client.getObject(getObjectRequest);
+             ImageInputStream imageInput = ImageIO.createImageInputStream(objectStream)) {
+
+            BufferedImage source = decode(imageInput);
+            if (source == null) {
+                log.warn("지원하지 않는 이미지 형식으로 썸네일 생략: {}", originalKey);
+                return;
+            }
+
+            for (int width : ImageVariants.WIDTHS) {
+                byte[] encoded = encodeWebp(resize(source, width));
+
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucketName)
+                                .key(ImageVariants.variantKey(originalKey, width))
+                                .contentType(WEBP_MIME_TYPE)
+                                .cacheControl(VARIANT_CACHE_CONTROL)
+                                .build(),
+                        RequestBody.fromBytes(encoded));
+            }
+        }
+
+        if (!originalExists(originalKey)) {
+            log.info("생성 중 원본이 삭제되어 썸네일 삭제: {}", originalKey);
+            deleteVariants(originalKey);
+            return;
+        }
+
+        log.info("썸네일 생성 완료: key={}, elapsedMs={}", originalKey, System.currentTimeMillis() - start);
+    }
+
+    private boolean originalExists(String originalKey) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(originalKey)
+                    .build());
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private boolean hasAllVariants(String originalKey, Set<String> variantKeys) {
+        for (int width : ImageVariants.WIDTHS) {
+            if (!variantKeys.contains(ImageVariants.variantKey(originalKey, width))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<S3Object> listObjects(String prefix) {
+        List<S3Object> objects = new ArrayList<>();
+        String continuationToken = null;
+        do {
+            ListObjectsV2Response response = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                    .bucket(bucketName)
+                    .prefix(prefix)
+                    .continuationToken(continuationToken)
+                    .build());
+            objects.addAll(response.contents());
+            continuationToken = Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null;
+        } while (continuationToken != null);
+        return objects;
+    }
+
+    private void deleteObject(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (Exception e) {
+            log.error("썸네일 삭제 실패: {}", key, e);
+        }
+    }
+
+    /**
+     * 메모리 상한을 지키며 디코딩
+     * - 원본 크기만 먼저 읽고, 픽셀 수가 maxDecodedPixels를 넘으면 서브샘플링으로 축소 디코딩
+     */
+    private BufferedImage decode(ImageInputStream imageInput) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+        if (!readers.hasNext()) {
+            return null;
+        }
+
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(imageInput, true, true);
+            long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+            int subsampling = (int) Math.ceil(Math.sqrt((double) pixels / maxDecodedPixels));
+
+            ImageReadParam param = reader.getDefaultReadParam();
+            if (subsampling > 1) {
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+            }
+            return reader.read(0, param);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * 목표 너비로 축소 (확대하지 않음)
+     * - 절반씩 단계적으로 줄여 한 번에 크게 축소할 때의 계단 현상 방지
+     */
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= width) {
+            current = scale(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2));
+        }
+        return scale(current, width, height);
+    }
+
+    private BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // 투명 배경(PNG/GIF)은 흰색으로 채움
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * WebP 손실 압축 인코딩 (webp-imageio ImageIO 플러그인)
+     */
+    private byte[] encodeWebp(BufferedImage image) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(WEBP_MIME_TYPE);
+        if (!writers.hasNext()) {
+            throw new IllegalStateException("WebP ImageWriter를 찾을 수 없습니다.");
+        }
+
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionType(LOSSY_COMPRESSION);
+                param.setCompressionQuality(quality);
+            }
+
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,82 @@
+package com.pawbridge.communityservice.util;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미지 썸네일 변형(variant) 규칙
+ * - 원본 옆 thumbnails/ 경로에 너비별 WebP 파일 저장
+ *   예) posts/images/{uuid}.jpg → posts/images/thumbnails/{uuid}_w320.webp
+ * - 키가 원본 키에서 결정되므로 DB/인덱스에 별도 저장 없이 URL 계산 가능
+ * - 게시글 이미지(posts/images/)만 대상 (영상 제외)
+ */
+public final class ImageVariants {
+
+    public static final List<Integer> WIDTHS = List.of(320, 640, 960);
+
+    public static final String SOURCE_PREFIX = "posts/images/";
+    private static final String THUMBNAIL_DIR = "thumbnails/";
+    private static final String VARIANT_EXTENSION = ".webp";
+    private static final String S3_HOST_SUFFIX = ".amazonaws.com/";
+
+    private ImageVariants() {
+    }
+
+    /**
+     * 썸네일 생성 대상 원본 키인지 확인
+     */
+    public static boolean supports(String originalKey) {
+        return originalKey != null
+                && originalKey.startsWith(SOURCE_PREFIX)
+                && !originalKey.contains(THUMBNAIL_DIR);
+    }
+
+    /**
+     * 원본 키 → 너비별 썸네일 키
+     */
+    public static String variantKey(String originalKey, int width) {
+        int slash = originalKey.lastIndexOf('/');
+        String directory = originalKey.substring(0, slash + 1);
+        String filename = originalKey.substring(slash + 1);
+        int dot = filename.lastIndexOf('.');
+        String baseName = dot > 0 ? filename.substring(0, dot) : filename;
+        return directory + THUMBNAIL_DIR + baseName + "_w" + width + VARIANT_EXTENSION;
+    }
+
+    /**
+     * 원본 URL → 너비별 썸네일 URL (대상이 아니면 빈 Map)
+     */
+    public static Map<Integer, String> variantUrls(String originalUrl) {
+        if (originalUrl == null) {
+            return Map.of();
+        }
+
+        int hostEnd = originalUrl.indexOf(S3_HOST_SUFFIX);
+        if (hostEnd < 0) {
+            return Map.of();
+        }
+
+        String baseUrl = originalUrl.substring(0, hostEnd + S3_HOST_SUFFIX.length());
+        String originalKey = originalUrl.substring(baseUrl.length());
+        if (!supports(originalKey)) {
+            return Map.of();
+        }
+
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (int width : WIDTHS) {
+            urls.put(width, baseUrl + variantKey(originalKey, width));
+        }
+        return urls;
+    }
+
+    /**
+     * 게시글 이미지 목록 중 첫 번째 이미지의 썸네일 URL (목록 대표 이미지)
+     */
+    public static Map<Integer, String> firstImageVariantUrls(List<String> imageUrls) {
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return Map.of();
+        }
+        return variantUrls(imageUrls.get(0));
+    }
+}
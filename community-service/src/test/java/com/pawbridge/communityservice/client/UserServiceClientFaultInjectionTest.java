@@ -0,0 +1,200 @@
+package com.pawbridge.communityservice.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawbridge.communityservice.config.BudgetedRetryer;
+import com.pawbridge.communityservice.service.NicknameResolver;
+import feign.Client;
+import feign.Feign;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * user-service 장애 주입 테스트
+ * - 실제 Feign 프록시에 장애를 내는 Client를 연결하고, application.yml의 재시도/타임아웃 설정을 그대로 사용
+ * - Spring Cloud CircuitBreaker의 Feign 연동처럼 TimeLimiter 실패 원인을 FallbackFactory로 전달
+ */
+class UserServiceClientFaultInjectionTest {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UserServiceClientFallbackFactory fallbackFactory = new UserServiceClientFallbackFactory();
+
+    private Properties config;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        config = yaml.getObject();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 연결_실패는_최대_시도_횟수만큼_재시도한_뒤_빈_닉네임으로_대체한다() {
+        UserServiceClient client = feignClient((request, options) -> {
+            attempts.incrementAndGet();
+            throw new ConnectException("Connection refused");
+        });
+
+        Map<Long, String> nicknames = callWithFallback(client, timeLimit(), c -> c.getUserNicknames(Set.of(1L)));
+
+        assertThat(nicknames).isEmpty();
+        assertThat(attempts).hasValue(maxAttempts());
+    }
+
+    @Test
+    void 읽기_타임아웃이_반복돼도_재시도가_time_limiter_예산_안에서_끝난다() {
+        UserServiceClient client = feignClient((request, options) -> {
+            attempts.incrementAndGet();
+            sleep(options.readTimeoutMillis());
+            throw new SocketTimeoutException("Read timed out");
+        });
+
+        long start = System.nanoTime();
+        // 폴백이 TimeoutException이 아닌 RetryableException을 받으면 재시도가 제한 시간 안에 끝난 것
+        assertThatThrownBy(() -> callWithFallback(client, timeLimit(), c -> c.getUserNickname(1L)))
+                .isInstanceOf(RetryableException.class);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(attempts).hasValue(maxAttempts());
+        assertThat(elapsedMs).isLessThan(timeLimit().toMillis());
+    }
+
+    @Test
+    void 제한_시간을_넘기면_단건_닉네임_조회는_타임아웃을_전파한다() {
+        UserServiceClient client = feignClient((request, options) -> {
+            sleep(2000);
+            throw new SocketTimeoutException("Read timed out");
+        });
+
+        assertThatThrownBy(() -> callWithFallback(client, Duration.ofMillis(200), c -> c.getUserNickname(1L)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void 장애_중에는_기본_닉네임을_반환하고_복구되면_실제_닉네임을_조회한다() {
+        AtomicBoolean healthy = new AtomicBoolean(false);
+        UserServiceClient client = feignClient((request, options) -> {
+            if (!healthy.get()) {
+                sleep(2000);
+                throw new SocketTimeoutException("Read timed out");
+            }
+            return Response.builder()
+                    .status(200)
+                    .request(request)
+                    .headers(Map.of())
+                    .body("{\"1\":\"멍멍\"}", StandardCharsets.UTF_8)
+                    .build();
+        });
+        NicknameResolver nicknameResolver = new NicknameResolver(
+                guarded(client, Duration.ofMillis(200)), 100, Duration.ofMinutes(30));
+
+        assertThat(nicknameResolver.resolveAll(List.of(1L))).containsEntry(1L, "사용자1");
+
+        // 기본 닉네임은 캐시에 남지 않으므로 복구 후 바로 실제 닉네임 조회
+        healthy.set(true);
+        assertThat(nicknameResolver.resolveAll(List.of(1L))).containsEntry(1L, "멍멍");
+    }
+
+    private UserServiceClient guarded(UserServiceClient client, Duration timeLimit) {
+        return new UserServiceClient() {
+            @Override
+            public String getUserNickname(Long userId) {
+                return callWithFallback(client, timeLimit, c -> c.getUserNickname(userId));
+            }
+
+            @Override
+            public Map<Long, String> getUserNicknames(Set<Long> userIds) {
+                return callWithFallback(client, timeLimit, c -> c.getUserNicknames(userIds));
+            }
+        };
+    }
+
+    private <T> T callWithFallback(UserServiceClient client, Duration timeLimit, Function<UserServiceClient, T> call) {
+        TimeLimiter timeLimiter = TimeLimiter.of(timeLimit);
+        try {
+            return timeLimiter.executeFutureSupplier(() -> executor.submit(() -> call.apply(client)));
+        } catch (Exception e) {
+            return call.apply(fallbackFactory.create(e));
+        }
+    }
+
+    private UserServiceClient feignClient(Client faultyClient) {
+        String clientConfig = "spring.cloud.openfeign.client.config.user-service.";
+        return Feign.builder()
+                .contract(new SpringMvcContract())
+                .encoder((body, bodyType, template) ->
+                        template.body(String.valueOf(body).getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8))
+                .decoder((response, type) ->
+                        objectMapper.readValue(response.body().asInputStream(), objectMapper.constructType(type)))
+                .client(faultyClient)
+                .options(new Request.Options(
+                        intConfig(clientConfig + "connect-timeout"), TimeUnit.MILLISECONDS,
+                        intConfig(clientConfig + "read-timeout"), TimeUnit.MILLISECONDS, true))
+                .retryer(new BudgetedRetryer(
+                        maxAttempts(),
+                        intConfig("resilience.feign-retry.backoff-ms"),
+                        Double.parseDouble(config.getProperty("resilience.feign-retry.budget-ratio")),
+                        intConfig("resilience.feign-retry.max-budget")))
+                .target(UserServiceClient.class, "http://user-service");
+    }
+
+    private Duration timeLimit() {
+        return DurationStyle.detectAndParse(
+                config.getProperty("resilience4j.timelimiter.configs.user-service.timeout-duration"));
+    }
+
+    private int maxAttempts() {
+        return intConfig("resilience.feign-retry.max-attempts");
+    }
+
+    private int intConfig(String key) {
+        return Integer.parseInt(config.getProperty(key));
+    }
+
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("cancelled by time limiter");
+        }
+    }
+}
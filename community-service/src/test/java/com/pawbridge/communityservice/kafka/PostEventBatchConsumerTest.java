@@ -0,0 +1,82 @@
+package com.pawbridge.communityservice.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostEventBatchConsumerTest {
+
+    private static final String TOPIC = "community.post.events";
+    private static final String VALID = "{\"payload\":{\"postId\":1,\"title\":\"제목\"}}";
+
+    @Mock
+    private PostEventBatchHandler postEventBatchHandler;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Captor
+    private ArgumentCaptor<List<PostEvent>> eventsCaptor;
+
+    private PostEventBatchConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new PostEventBatchConsumer(postEventBatchHandler, new ObjectMapper(), kafkaTemplate);
+    }
+
+    @Test
+    void 파싱_불가_레코드는_DLT로_보내고_나머지만_처리한다() {
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        consumer.consumePostEvents(List.of(record(0L, "e1", VALID), record(1L, "e2", "not-json")));
+
+        verify(postEventBatchHandler).handleBatch(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).extracting(PostEvent::eventId).containsExactly("e1");
+    }
+
+    @Test
+    void DLT_전송_실패시_해당_레코드_인덱스로_배치를_실패시킨다() {
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // 앞선 정상 레코드(0)는 커밋 대상, 실패 레코드(1)부터 재전달
+        assertThatThrownBy(() -> consumer.consumePostEvents(
+                List.of(record(0L, "e1", VALID), record(1L, "e2", "not-json"), record(2L, "e3", VALID))))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1))
+                .hasMessageContaining("DLT publish failed");
+        verify(postEventBatchHandler, never()).handleBatch(anyList());
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String eventId, String value) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC, 0, offset, "1", value);
+        record.headers().add("id", eventId.getBytes(StandardCharsets.UTF_8));
+        record.headers().add("eventType", "POST_CREATED".getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
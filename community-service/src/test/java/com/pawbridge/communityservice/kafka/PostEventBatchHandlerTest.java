@@ -0,0 +1,172 @@
+package com.pawbridge.communityservice.kafka;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import com.pawbridge.communityservice.domain.repository.ProcessedEventRepository;
+import com.pawbridge.communityservice.elasticsearch.PostDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostEventBatchHandlerTest {
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private ElasticsearchOperations noRefreshOperations;
+
+    @Mock
+    private ElasticsearchConverter elasticsearchConverter;
+
+    @Mock
+    private ElasticsearchClient elasticsearchClient;
+
+    @Mock
+    private PostEventHandler postEventHandler;
+
+    private PostEventBatchHandler postEventBatchHandler;
+
+    @BeforeEach
+    void setUp() {
+        postEventBatchHandler = new PostEventBatchHandler(
+                processedEventRepository, elasticsearchOperations, elasticsearchClient, postEventHandler);
+        given(processedEventRepository.findProcessedEventIds(anyCollection())).willReturn(Set.of());
+        lenient().when(elasticsearchOperations.withRefreshPolicy(RefreshPolicy.NONE)).thenReturn(noRefreshOperations);
+        lenient().when(elasticsearchOperations.getIndexCoordinatesFor(PostDocument.class))
+                .thenReturn(IndexCoordinates.of("posts"));
+        lenient().when(elasticsearchOperations.getElasticsearchConverter()).thenReturn(elasticsearchConverter);
+        lenient().when(elasticsearchConverter.mapObject(any())).thenReturn(Document.create());
+        lenient().when(postEventHandler.toDocument(anyMap()))
+                .thenAnswer(invocation -> PostDocument.builder()
+                        .postId(((Number) invocation.<Map<String, Object>>getArgument(0).get("postId")).longValue())
+                        .build());
+    }
+
+    @Test
+    void 인덱싱과_삭제를_ID_기준으로_같은_bulk_요청에_담는다() throws IOException {
+        given(elasticsearchClient.bulk(any(BulkRequest.class))).willReturn(response(
+                item(OperationType.Index, "1", 201, null),
+                item(OperationType.Delete, "2", 200, null)));
+
+        postEventBatchHandler.handleBatch(List.of(event("e1", "POST_CREATED", 1L), event("e2", "POST_DELETED", 2L)));
+
+        List<BulkOperation> operations = capturedBulk().operations();
+        assertThat(operations).hasSize(2);
+        assertThat(operations.get(0).isIndex()).isTrue();
+        assertThat(operations.get(0).index().id()).isEqualTo("1");
+        assertThat(operations.get(0).index().index()).isEqualTo("posts");
+        assertThat(operations.get(1).isDelete()).isTrue();
+        assertThat(operations.get(1).delete().id()).isEqualTo("2");
+        verify(processedEventRepository).insertIgnoreAll(Map.of("e1", "POST_CREATED", "e2", "POST_DELETED"));
+    }
+
+    @Test
+    void 같은_poll의_생성_후_삭제는_삭제_하나로_병합하고_없는_문서_404도_성공으로_기록한다() throws IOException {
+        given(elasticsearchClient.bulk(any(BulkRequest.class))).willReturn(response(
+                item(OperationType.Delete, "1", 404, null)));
+
+        postEventBatchHandler.handleBatch(List.of(event("e1", "POST_CREATED", 1L), event("e2", "POST_DELETED", 1L)));
+
+        List<BulkOperation> operations = capturedBulk().operations();
+        assertThat(operations).hasSize(1);
+        assertThat(operations.get(0).isDelete()).isTrue();
+        verify(processedEventRepository).insertIgnoreAll(Map.of("e1", "POST_CREATED", "e2", "POST_DELETED"));
+    }
+
+    @Test
+    void 항목_실패는_개별_재시도하고_성공하면_기록한다() throws IOException {
+        given(elasticsearchClient.bulk(any(BulkRequest.class))).willReturn(response(
+                item(OperationType.Index, "1", 429, "es_rejected_execution_exception"),
+                item(OperationType.Delete, "2", 200, null)));
+
+        postEventBatchHandler.handleBatch(List.of(event("e1", "POST_UPDATED", 1L), event("e2", "POST_DELETED", 2L)));
+
+        verify(noRefreshOperations).save(any(PostDocument.class));
+        verify(noRefreshOperations, never()).delete("2", PostDocument.class);
+        verify(processedEventRepository).insertIgnoreAll(Map.of("e1", "POST_UPDATED", "e2", "POST_DELETED"));
+    }
+
+    @Test
+    void 재시도_후에도_실패한_게시글의_이벤트는_기록하지_않고_배치를_실패시킨다() throws IOException {
+        given(elasticsearchClient.bulk(any(BulkRequest.class))).willReturn(response(
+                item(OperationType.Index, "1", 201, null),
+                item(OperationType.Delete, "2", 503, "unavailable_shards_exception")));
+        given(noRefreshOperations.delete("2", PostDocument.class)).willThrow(new IllegalStateException("unavailable"));
+
+        assertThatThrownBy(() -> postEventBatchHandler.handleBatch(
+                List.of(event("e1", "POST_CREATED", 1L), event("e2", "POST_DELETED", 2L))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("postIds=[2]");
+
+        verify(noRefreshOperations, times(3)).delete("2", PostDocument.class);
+        verify(processedEventRepository).insertIgnoreAll(Map.of("e1", "POST_CREATED"));
+    }
+
+    @Test
+    void bulk_요청_자체가_실패하면_모든_항목을_개별_재시도한다() throws IOException {
+        given(elasticsearchClient.bulk(any(BulkRequest.class))).willThrow(new IOException("connection reset"));
+
+        postEventBatchHandler.handleBatch(List.of(event("e1", "POST_CREATED", 1L), event("e2", "POST_DELETED", 2L)));
+
+        verify(noRefreshOperations).save(any(PostDocument.class));
+        verify(noRefreshOperations).delete("2", PostDocument.class);
+        verify(processedEventRepository).insertIgnoreAll(Map.of("e1", "POST_CREATED", "e2", "POST_DELETED"));
+    }
+
+    private BulkRequest capturedBulk() throws IOException {
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(elasticsearchClient).bulk(captor.capture());
+        return captor.getValue();
+    }
+
+    private PostEvent event(String eventId, String eventType, Long postId) {
+        return new PostEvent(eventId, eventType, postId, Map.of("postId", postId));
+    }
+
+    private BulkResponse response(BulkResponseItem... items) {
+        return BulkResponse.of(r -> r.errors(false).took(1L).items(List.of(items)));
+    }
+
+    private BulkResponseItem item(OperationType type, String id, int status, String errorType) {
+        return BulkResponseItem.of(i -> {
+            i.operationType(type).index("posts").id(id).status(status);
+            if (errorType != null) {
+                i.error(e -> e.type(errorType).reason(errorType));
+            }
+            return i;
+        });
+    }
+}
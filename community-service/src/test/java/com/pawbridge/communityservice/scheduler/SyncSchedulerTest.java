@@ -0,0 +1,143 @@
+package com.pawbridge.communityservice.scheduler;
+
+import com.pawbridge.communityservice.domain.entity.BoardType;
+import com.pawbridge.communityservice.domain.entity.Post;
+import com.pawbridge.communityservice.domain.repository.PostRepository;
+import com.pawbridge.communityservice.domain.repository.PostSyncRow;
+import com.pawbridge.communityservice.elasticsearch.PostDocument;
+import com.pawbridge.communityservice.service.NicknameResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SyncSchedulerTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 123_456_789);
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private NicknameResolver nicknameResolver;
+
+    @Captor
+    private ArgumentCaptor<Iterable<PostDocument>> savedCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SyncScheduler syncScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        syncScheduler = new SyncScheduler(postRepository, elasticsearchOperations, nicknameResolver, meterRegistry, 10);
+    }
+
+    @Test
+    void 누락_오래된_문서만_재인덱싱하고_삭제된_게시글의_잔여_문서만_지운다() {
+        given(postRepository.findSyncRowsAfter(0L, PageRequest.of(0, 10))).willReturn(List.of(
+                new PostSyncRow(1L, UPDATED_AT, null),                     // 인덱스 없음 → missing
+                new PostSyncRow(2L, UPDATED_AT, null),                     // 인덱스가 오래됨 → stale
+                new PostSyncRow(3L, UPDATED_AT, null),                     // 밀리초까지 같음 → 정상
+                new PostSyncRow(4L, UPDATED_AT, UPDATED_AT),               // 삭제됐는데 인덱스 있음 → orphaned
+                new PostSyncRow(5L, UPDATED_AT, UPDATED_AT)));             // 삭제됐고 인덱스 없음 → 무시
+        given(postRepository.findSyncRowsAfter(5L, PageRequest.of(0, 10))).willReturn(List.of());
+        given(elasticsearchOperations.multiGet(any(NativeQuery.class), eq(PostDocument.class))).willReturn(List.of(
+                indexed(2L, UPDATED_AT.minusMinutes(1)),
+                indexed(3L, UPDATED_AT.withNano(123_000_000)),
+                indexed(4L, UPDATED_AT)));
+        given(postRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(post(1L), post(2L)));
+        given(nicknameResolver.resolveAll(anyCollection())).willReturn(Map.of(1L, "멍멍"));
+
+        syncScheduler.syncPostsToElasticsearch();
+
+        verify(elasticsearchOperations).save(savedCaptor.capture());
+        assertThat(savedCaptor.getValue()).extracting(PostDocument::getPostId).containsExactly(1L, 2L);
+
+        ArgumentCaptor<DeleteQuery> deleteCaptor = ArgumentCaptor.forClass(DeleteQuery.class);
+        verify(elasticsearchOperations).delete(deleteCaptor.capture(), eq(PostDocument.class));
+        NativeQuery deleteQuery = (NativeQuery) deleteCaptor.getValue().getQuery();
+        assertThat(deleteQuery.getQuery().ids().values()).containsExactly("4");
+
+        assertThat(drift("missing")).isEqualTo(1);
+        assertThat(drift("stale")).isEqualTo(1);
+        assertThat(drift("orphaned")).isEqualTo(1);
+        assertThat(meterRegistry.counter("community.index.sync.repaired").count()).isEqualTo(3);
+    }
+
+    @Test
+    void 인덱스가_최신이면_쓰기_요청을_보내지_않는다() {
+        given(postRepository.findSyncRowsAfter(0L, PageRequest.of(0, 10)))
+                .willReturn(List.of(new PostSyncRow(1L, UPDATED_AT, null)));
+        given(postRepository.findSyncRowsAfter(1L, PageRequest.of(0, 10))).willReturn(List.of());
+        given(elasticsearchOperations.multiGet(any(NativeQuery.class), eq(PostDocument.class)))
+                .willReturn(List.of(indexed(1L, UPDATED_AT)));
+
+        syncScheduler.syncPostsToElasticsearch();
+
+        verify(elasticsearchOperations, never()).save(any(Iterable.class));
+        verify(elasticsearchOperations, never()).delete(any(DeleteQuery.class), eq(PostDocument.class));
+    }
+
+    @Test
+    void 배치가_실패해도_마지막_postId_이후로_다음_배치를_계속한다() {
+        given(postRepository.findSyncRowsAfter(0L, PageRequest.of(0, 10)))
+                .willReturn(List.of(new PostSyncRow(1L, UPDATED_AT, null), new PostSyncRow(2L, UPDATED_AT, null)));
+        given(postRepository.findSyncRowsAfter(2L, PageRequest.of(0, 10)))
+                .willReturn(List.of(new PostSyncRow(3L, UPDATED_AT, null)));
+        given(postRepository.findSyncRowsAfter(3L, PageRequest.of(0, 10))).willReturn(List.of());
+        given(elasticsearchOperations.multiGet(any(NativeQuery.class), eq(PostDocument.class)))
+                .willThrow(new IllegalStateException("cluster unavailable"))
+                .willReturn(List.of(indexed(3L, UPDATED_AT)));
+
+        syncScheduler.syncPostsToElasticsearch();
+
+        verify(postRepository).findSyncRowsAfter(3L, PageRequest.of(0, 10));
+        assertThat(meterRegistry.counter("community.index.sync.failed").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("community.index.sync.scanned").count()).isEqualTo(3);
+    }
+
+    private double drift(String type) {
+        return meterRegistry.counter("community.index.sync.drift", "type", type).count();
+    }
+
+    private MultiGetItem<PostDocument> indexed(Long postId, LocalDateTime updatedAt) {
+        return MultiGetItem.of(PostDocument.builder().postId(postId).updatedAt(updatedAt).build(), null);
+    }
+
+    private Post post(Long postId) {
+        return Post.builder()
+                .postId(postId)
+                .authorId(1L)
+                .title("제목 " + postId)
+                .content("본문")
+                .boardType(BoardType.MISSING)
+                .updatedAt(UPDATED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.pawbridge.communityservice.service;
+
+import com.pawbridge.communityservice.domain.entity.Comment;
+import com.pawbridge.communityservice.domain.entity.Post;
+import com.pawbridge.communityservice.domain.repository.CommentRepository;
+import com.pawbridge.communityservice.domain.repository.PostRepository;
+import com.pawbridge.communityservice.dto.request.CommentSortOrder;
+import com.pawbridge.communityservice.dto.request.CreateCommentRequest;
+import com.pawbridge.communityservice.dto.response.CommentResponse;
+import com.pawbridge.communityservice.dto.response.CommentSliceResponse;
+import com.pawbridge.communityservice.exception.PostNotFoundException;
+import com.pawbridge.communityservice.exception.UnauthorizedCommentAccessException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceImplTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Long AUTHOR_ID = 7L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private NicknameResolver nicknameResolver;
+
+    @InjectMocks
+    private CommentServiceImpl commentService;
+
+    @Test
+    void 댓글_작성시_게시글_댓글_수를_원자적으로_증가시킨다() {
+        given(postRepository.findByPostIdAndDeletedAtIsNull(POST_ID))
+                .willReturn(Optional.of(Post.builder().postId(POST_ID).build()));
+        given(commentRepository.save(any(Comment.class))).willReturn(comment(100L, 0));
+
+        commentService.createComment(POST_ID, new CreateCommentRequest("좋아요"), AUTHOR_ID);
+
+        verify(postRepository).incrementCommentCount(POST_ID);
+    }
+
+    @Test
+    void 없는_게시글에_댓글을_작성하면_댓글_수를_변경하지_않는다() {
+        given(postRepository.findByPostIdAndDeletedAtIsNull(POST_ID)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> commentService.createComment(POST_ID, new CreateCommentRequest("좋아요"), AUTHOR_ID))
+                .isInstanceOf(PostNotFoundException.class);
+        verify(postRepository, never()).incrementCommentCount(anyLong());
+    }
+
+    @Test
+    void 댓글_삭제시_해당_게시글_댓글_수를_감소시킨다() {
+        given(commentRepository.findByCommentIdAndDeletedAtIsNull(100L)).willReturn(Optional.of(comment(100L, 0)));
+
+        commentService.deleteComment(100L, AUTHOR_ID);
+
+        verify(postRepository).decrementCommentCount(POST_ID);
+    }
+
+    @Test
+    void 작성자가_아니면_삭제하지_않고_댓글_수도_유지한다() {
+        given(commentRepository.findByCommentIdAndDeletedAtIsNull(100L)).willReturn(Optional.of(comment(100L, 0)));
+
+        assertThatThrownBy(() -> commentService.deleteComment(100L, 999L))
+                .isInstanceOf(UnauthorizedCommentAccessException.class);
+        verify(postRepository, never()).decrementCommentCount(anyLong());
+    }
+
+    @Test
+    void 댓글_수_감소는_0_미만으로_내려가지_않는다() throws NoSuchMethodException {
+        // 감소는 DB 단일 UPDATE로 처리되므로 쿼리 자체가 0에서 멈춰야 함
+        String jpql = PostRepository.class.getMethod("decrementCommentCount", Long.class)
+                .getAnnotation(Query.class).value();
+
+        assertThat(jpql).contains("CASE WHEN p.commentCount > 0 THEN p.commentCount - 1 ELSE 0 END");
+    }
+
+    @Test
+    void 커서_조회는_비정규화된_댓글_수를_총계로_반환한다() {
+        given(postRepository.findCommentCountByPostId(POST_ID)).willReturn(Optional.of(42));
+        given(commentRepository.findNextPageNewest(POST_ID, NOW, 100L, PageRequest.of(0, 3)))
+                .willReturn(List.of(comment(90L, 0), comment(80L, 0), comment(70L, -1)));
+        given(nicknameResolver.resolveAll(anyCollection())).willReturn(Map.of(AUTHOR_ID, "멍멍"));
+
+        CommentSliceResponse slice = commentService.getCommentsByPostIdWithCursor(
+                POST_ID, CommentSortOrder.NEWEST, NOW, 100L, 2);
+
+        assertThat(slice.totalCount()).isEqualTo(42);
+        assertThat(slice.comments()).extracting(CommentResponse::commentId).containsExactly(90L, 80L);
+        assertThat(slice.hasNext()).isTrue();
+        // 같은 시각의 댓글은 commentId로 구분
+        assertThat(slice.nextCursorCreatedAt()).isEqualTo(NOW);
+        assertThat(slice.nextCursorId()).isEqualTo(80L);
+    }
+
+    @Test
+    void 삭제된_게시글의_댓글은_조회하지_않는다() {
+        given(postRepository.findCommentCountByPostId(POST_ID)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> commentService.getCommentsByPostIdWithCursor(
+                POST_ID, CommentSortOrder.OLDEST, null, null, 20))
+                .isInstanceOf(PostNotFoundException.class);
+        verify(commentRepository, never()).findFirstPageOldest(anyLong(), any());
+    }
+
+    private Comment comment(Long commentId, int minutesAfterNow) {
+        return Comment.builder()
+                .commentId(commentId)
+                .postId(POST_ID)
+                .authorId(AUTHOR_ID)
+                .content("댓글 " + commentId)
+                .createdAt(NOW.plusMinutes(minutesAfterNow))
+                .build();
+    }
+}
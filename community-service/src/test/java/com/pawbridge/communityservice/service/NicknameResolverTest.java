@@ -0,0 +1,80 @@
+package com.pawbridge.communityservice.service;
+
+import com.pawbridge.communityservice.client.UserServiceClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NicknameResolverTest {
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    private NicknameResolver nicknameResolver;
+
+    @BeforeEach
+    void setUp() {
+        nicknameResolver = new NicknameResolver(userServiceClient, 100, Duration.ofMinutes(30));
+    }
+
+    @Test
+    void 중복_null을_제거하고_한_번의_벌크_호출로_조회한다() {
+        given(userServiceClient.getUserNicknames(Set.of(1L, 2L))).willReturn(Map.of(1L, "멍멍", 2L, "야옹"));
+
+        Map<Long, String> nicknames = nicknameResolver.resolveAll(Arrays.asList(1L, 2L, 1L, null));
+
+        assertThat(nicknames).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "멍멍", 2L, "야옹"));
+        verify(userServiceClient, times(1)).getUserNicknames(anySet());
+    }
+
+    @Test
+    void 캐시에_없는_사용자만_조회한다() {
+        given(userServiceClient.getUserNicknames(Set.of(1L))).willReturn(Map.of(1L, "멍멍"));
+        given(userServiceClient.getUserNicknames(Set.of(2L))).willReturn(Map.of(2L, "야옹"));
+        nicknameResolver.resolveAll(List.of(1L));
+
+        Map<Long, String> nicknames = nicknameResolver.resolveAll(List.of(1L, 2L));
+
+        assertThat(nicknames).containsEntry(1L, "멍멍").containsEntry(2L, "야옹");
+        verify(userServiceClient).getUserNicknames(Set.of(1L));
+        verify(userServiceClient).getUserNicknames(Set.of(2L));
+        verifyNoMoreInteractions(userServiceClient);
+    }
+
+    @Test
+    void 닉네임_변경_이벤트는_캐시에_즉시_반영된다() {
+        given(userServiceClient.getUserNicknames(Set.of(1L))).willReturn(Map.of(1L, "멍멍"));
+        nicknameResolver.resolve(1L);
+
+        nicknameResolver.refresh(1L, "왈왈");
+
+        assertThat(nicknameResolver.resolve(1L)).isEqualTo("왈왈");
+        verify(userServiceClient, times(1)).getUserNicknames(anySet());
+    }
+
+    @Test
+    void 조회_실패시_기본값을_반환하고_캐시하지_않는다() {
+        given(userServiceClient.getUserNicknames(Set.of(1L)))
+                .willThrow(new IllegalStateException("user-service down"))
+                .willReturn(Map.of(1L, "멍멍"));
+
+        assertThat(nicknameResolver.resolve(1L)).isEqualTo("사용자1");
+        assertThat(nicknameResolver.resolve(1L)).isEqualTo("멍멍");
+    }
+}
@@ -0,0 +1,122 @@
+package com.pawbridge.communityservice.service;
+
+import com.pawbridge.communityservice.domain.entity.BoardType;
+import com.pawbridge.communityservice.domain.event.PostFeedChangedEvent;
+import com.pawbridge.communityservice.domain.repository.PostFeedRow;
+import com.pawbridge.communityservice.domain.repository.PostRepository;
+import com.pawbridge.communityservice.dto.response.PostFeedResponse;
+import com.pawbridge.communityservice.dto.response.PostSummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostFeedServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private NicknameResolver nicknameResolver;
+
+    private PostFeedServiceImpl postFeedService;
+
+    @BeforeEach
+    void setUp() {
+        postFeedService = new PostFeedServiceImpl(postRepository, nicknameResolver, Duration.ofMinutes(1));
+        given(nicknameResolver.resolveAll(anyCollection())).willReturn(Map.of(1L, "멍멍"));
+    }
+
+    @Test
+    void size_더하기_1건으로_다음_페이지를_판단하고_마지막_행을_커서로_반환한다() {
+        given(postRepository.findFeedAfterCursor(BoardType.MISSING, null, NOW, 100L, PageRequest.of(0, 3)))
+                .willReturn(List.of(row(90L, 0), row(80L, -1), row(70L, -2)));
+
+        PostFeedResponse feed = postFeedService.getFeed(BoardType.MISSING, null, NOW, 100L, 2);
+
+        assertThat(feed.posts()).extracting(PostSummaryResponse::postId).containsExactly(90L, 80L);
+        assertThat(feed.posts()).extracting(PostSummaryResponse::authorNickname).containsOnly("멍멍");
+        assertThat(feed.hasNext()).isTrue();
+        assertThat(feed.nextCursorCreatedAt()).isEqualTo(NOW.minusMinutes(1));
+        assertThat(feed.nextCursorId()).isEqualTo(80L);
+    }
+
+    @Test
+    void 생성일시가_같은_게시글은_postId로_다음_커서를_구분한다() {
+        given(postRepository.findFeedFirstPage(BoardType.MISSING, null, PageRequest.of(0, 3)))
+                .willReturn(List.of(row(30L, 0), row(20L, 0), row(10L, 0)));
+
+        PostFeedResponse feed = postFeedService.getFeed(BoardType.MISSING, null, null, null, 2);
+
+        assertThat(feed.nextCursorCreatedAt()).isEqualTo(NOW);
+        assertThat(feed.nextCursorId()).isEqualTo(20L);
+    }
+
+    @Test
+    void 마지막_페이지는_커서가_없다() {
+        given(postRepository.findFeedAfterCursor(null, 1L, NOW, 100L, PageRequest.of(0, 21)))
+                .willReturn(List.of(row(90L, 0)));
+
+        PostFeedResponse feed = postFeedService.getFeed(null, 1L, NOW, 100L, 20);
+
+        assertThat(feed.hasNext()).isFalse();
+        assertThat(feed.nextCursorCreatedAt()).isNull();
+        assertThat(feed.nextCursorId()).isNull();
+    }
+
+    @Test
+    void 페이지_크기는_최대값으로_제한한다() {
+        given(postRepository.findFeedFirstPage(BoardType.REPORT, null, PageRequest.of(0, 51))).willReturn(List.of());
+
+        postFeedService.getFeed(BoardType.REPORT, null, null, null, 1000);
+
+        verify(postRepository).findFeedFirstPage(BoardType.REPORT, null, PageRequest.of(0, 51));
+    }
+
+    @Test
+    void 필터_없는_첫_페이지는_캐시하고_변경_커밋_이후_다시_조회한다() {
+        given(postRepository.findFeedFirstPage(null, null, PageRequest.of(0, 21)))
+                .willReturn(List.of(row(10L, 0)));
+
+        postFeedService.getFeed(null, null, null, null, 20);
+        postFeedService.getFeed(null, null, null, null, 20);
+        verify(postRepository, times(1)).findFeedFirstPage(null, null, PageRequest.of(0, 21));
+
+        postFeedService.onPostFeedChanged(new PostFeedChangedEvent(10L));
+        postFeedService.getFeed(null, null, null, null, 20);
+
+        verify(postRepository, times(2)).findFeedFirstPage(null, null, PageRequest.of(0, 21));
+    }
+
+    @Test
+    void 필터가_있는_첫_페이지는_캐시하지_않는다() {
+        given(postRepository.findFeedFirstPage(BoardType.MISSING, null, PageRequest.of(0, 21)))
+                .willReturn(List.of(row(10L, 0)));
+
+        postFeedService.getFeed(BoardType.MISSING, null, null, null, 20);
+        postFeedService.getFeed(BoardType.MISSING, null, null, null, 20);
+
+        verify(postRepository, times(2)).findFeedFirstPage(BoardType.MISSING, null, PageRequest.of(0, 21));
+    }
+
+    private PostFeedRow row(Long postId, int minutesAfterNow) {
+        return new PostFeedRow(postId, 1L, "제목 " + postId, BoardType.MISSING, 0, List.of(),
+                NOW.plusMinutes(minutesAfterNow));
+    }
+}
@@ -0,0 +1,137 @@
+package com.pawbridge.communityservice.service;
+
+import com.pawbridge.communityservice.domain.entity.BoardType;
+import com.pawbridge.communityservice.domain.entity.Post;
+import com.pawbridge.communityservice.domain.repository.PostRepository;
+import com.pawbridge.communityservice.dto.response.PostResponse;
+import com.pawbridge.communityservice.dto.response.PostSearchHitResponse;
+import com.pawbridge.communityservice.dto.response.PostSearchPageResponse;
+import com.pawbridge.communityservice.elasticsearch.PostDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private NicknameResolver nicknameResolver;
+
+    @Mock
+    private SearchHits<PostDocument> searchHits;
+
+    @InjectMocks
+    private SearchServiceImpl searchService;
+
+    @Test
+    void DB가_ID_순서로_반환해도_Elasticsearch_관련도_순서를_유지한다() {
+        givenSearchHits(List.of(hit(document(30L, null)), hit(document(10L, null)), hit(document(20L, null))));
+        // findAllById는 PK 순서로 반환
+        given(postRepository.findAllById(List.of(30L, 10L, 20L)))
+                .willReturn(List.of(post(10L, null), post(20L, null), post(30L, null)));
+        given(nicknameResolver.resolveAll(anyCollection())).willReturn(Map.of(1L, "멍멍"));
+
+        List<PostResponse> results = searchService.searchPosts("강아지");
+
+        assertThat(results).extracting(PostResponse::postId).containsExactly(30L, 10L, 20L);
+        assertThat(results).extracting(PostResponse::authorNickname).containsOnly("멍멍");
+    }
+
+    @Test
+    void 삭제된_게시글은_제외하고_나머지_순서는_유지한다() {
+        givenSearchHits(List.of(hit(document(30L, null)), hit(document(10L, null)), hit(document(20L, null))));
+        given(postRepository.findAllById(List.of(30L, 10L, 20L)))
+                .willReturn(List.of(post(10L, NOW), post(20L, null), post(30L, null)));
+        given(nicknameResolver.resolveAll(anyCollection())).willReturn(Map.of());
+
+        List<PostResponse> results = searchService.searchPosts("강아지");
+
+        assertThat(results).extracting(PostResponse::postId).containsExactly(30L, 20L);
+    }
+
+    @Test
+    void 검색_결과가_없으면_DB를_조회하지_않는다() {
+        givenSearchHits(List.of());
+
+        assertThat(searchService.searchPosts("없는키워드")).isEmpty();
+        verifyNoInteractions(postRepository, nicknameResolver);
+    }
+
+    @Test
+    void 페이지_검색은_문서_순서를_그대로_쓰고_닉네임_없는_문서만_보완한다() {
+        givenSearchHits(List.of(hit(document(30L, "저장된닉네임")), hit(document(10L, null))));
+        given(searchHits.getTotalHits()).willReturn(2L);
+        given(nicknameResolver.resolveAll(List.of(1L))).willReturn(Map.of(1L, "보완닉네임"));
+
+        PostSearchPageResponse page = searchService.searchPostsPage("강아지", BoardType.MISSING, 0, 20);
+
+        assertThat(page.hits()).extracting(PostSearchHitResponse::postId).containsExactly(30L, 10L);
+        assertThat(page.hits()).extracting(PostSearchHitResponse::authorNickname)
+                .containsExactly("저장된닉네임", "보완닉네임");
+        assertThat(page.hasNext()).isFalse();
+        verify(nicknameResolver).resolveAll(anyList());
+        verifyNoInteractions(postRepository);
+    }
+
+    private void givenSearchHits(List<SearchHit<PostDocument>> hits) {
+        given(elasticsearchOperations.search(any(NativeQuery.class), eq(PostDocument.class))).willReturn(searchHits);
+        given(searchHits.getSearchHits()).willReturn(hits);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchHit<PostDocument> hit(PostDocument document) {
+        SearchHit<PostDocument> hit = mock(SearchHit.class);
+        given(hit.getContent()).willReturn(document);
+        return hit;
+    }
+
+    private PostDocument document(Long postId, String authorNickname) {
+        return PostDocument.builder()
+                .postId(postId)
+                .authorId(1L)
+                .authorNickname(authorNickname)
+                .title("제목 " + postId)
+                .boardType(BoardType.MISSING.name())
+                .createdAt(NOW)
+                .build();
+    }
+
+    private Post post(Long postId, LocalDateTime deletedAt) {
+        return Post.builder()
+                .postId(postId)
+                .authorId(1L)
+                .title("제목 " + postId)
+                .content("본문")
+                .boardType(BoardType.MISSING)
+                .deletedAt(deletedAt)
+                .build();
+    }
+}
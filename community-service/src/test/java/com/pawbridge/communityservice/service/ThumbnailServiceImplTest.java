@@ -0,0 +1,134 @@
+package com.pawbridge.communityservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailServiceImplTest {
+
+    private static final Instant OLD = Instant.now().minus(Duration.ofHours(1));
+    private static final Instant RECENT = Instant.now();
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private ThreadPoolTaskExecutor thumbnailExecutor;
+
+    private ThumbnailServiceImpl thumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        thumbnailService = new ThumbnailServiceImpl(s3Client, thumbnailExecutor);
+        ReflectionTestUtils.setField(thumbnailService, "bucketName", "bucket");
+        ReflectionTestUtils.setField(thumbnailService, "backfillGrace", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(thumbnailService, "backfillBatchSize", 100);
+    }
+
+    @Test
+    void 썸네일이_누락된_원본만_생성_요청한다() {
+        givenObjects(
+                object("posts/images/done.jpg", OLD),
+                object("posts/images/thumbnails/done_w320.webp", OLD),
+                object("posts/images/thumbnails/done_w640.webp", OLD),
+                object("posts/images/thumbnails/done_w960.webp", OLD),
+                object("posts/images/partial.jpg", OLD),
+                object("posts/images/thumbnails/partial_w320.webp", OLD),
+                object("posts/images/missing.jpg", OLD));
+
+        thumbnailService.backfill();
+
+        verify(thumbnailExecutor, times(2)).execute(any(Runnable.class));
+        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    void 유예_시간_이내_원본은_진행_중인_생성과_겹치지_않도록_제외한다() {
+        givenObjects(object("posts/images/new.jpg", RECENT));
+
+        thumbnailService.backfill();
+
+        verify(thumbnailExecutor, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    void 원본이_없는_오래된_썸네일은_삭제한다() {
+        givenObjects(
+                object("posts/images/thumbnails/gone_w320.webp", OLD),
+                object("posts/images/thumbnails/deleting_w320.webp", RECENT));
+
+        thumbnailService.backfill();
+
+        verify(s3Client).deleteObject(DeleteObjectRequest.builder()
+                .bucket("bucket")
+                .key("posts/images/thumbnails/gone_w320.webp")
+                .build());
+        verify(s3Client, times(1)).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    void 대기열이_가득_차면_이번_실행을_중단한다() {
+        givenObjects(object("posts/images/a.jpg", OLD), object("posts/images/b.jpg", OLD));
+        willThrow(new TaskRejectedException("full")).given(thumbnailExecutor).execute(any(Runnable.class));
+
+        thumbnailService.backfill();
+
+        verify(thumbnailExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void 목록은_continuation_token으로_끝까지_조회한다() {
+        given(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+                .willReturn(ListObjectsV2Response.builder()
+                        .contents(object("posts/images/a.jpg", OLD))
+                        .isTruncated(true)
+                        .nextContinuationToken("next")
+                        .build())
+                .willReturn(ListObjectsV2Response.builder()
+                        .contents(object("posts/images/b.jpg", OLD))
+                        .isTruncated(false)
+                        .build());
+        List<Runnable> submitted = new ArrayList<>();
+        doAnswer(invocation -> submitted.add(invocation.getArgument(0)))
+                .when(thumbnailExecutor).execute(any(Runnable.class));
+
+        thumbnailService.backfill();
+
+        assertThat(submitted).hasSize(2);
+        verify(s3Client, times(2)).listObjectsV2(any(ListObjectsV2Request.class));
+    }
+
+    private void givenObjects(S3Object... objects) {
+        given(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+                .willReturn(ListObjectsV2Response.builder().contents(objects).isTruncated(false).build());
+    }
+
+    private S3Object object(String key, Instant lastModified) {
+        return S3Object.builder().key(key).lastModified(lastModified).build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.pawbridge.communityservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantsTest {
+
+    @Test
+    void 원본_키에서_너비별_썸네일_키를_계산한다() {
+        assertThat(ImageVariants.variantKey("posts/images/abc.jpg", 320))
+                .isEqualTo("posts/images/thumbnails/abc_w320.webp");
+    }
+
+    @Test
+    void 게시글_이미지만_대상이고_썸네일은_제외한다() {
+        assertThat(ImageVariants.supports("posts/images/abc.jpg")).isTrue();
+        assertThat(ImageVariants.supports("posts/images/thumbnails/abc_w320.webp")).isFalse();
+        assertThat(ImageVariants.supports("posts/videos/abc.mp4")).isFalse();
+    }
+
+    @Test
+    void 원본_URL에서_썸네일_URL을_계산한다() {
+        String url = "https://bucket.s3.ap-northeast-2.amazonaws.com/posts/images/abc.png";
+
+        assertThat(ImageVariants.firstImageVariantUrls(List.of(url)))
+                .containsEntry(640, "https://bucket.s3.ap-northeast-2.amazonaws.com/posts/images/thumbnails/abc_w640.webp")
+                .hasSize(ImageVariants.WIDTHS.size());
+        assertThat(ImageVariants.variantUrls("https://cdn.example.com/abc.png")).isEmpty();
+    }
+}
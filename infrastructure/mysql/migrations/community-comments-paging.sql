@@ -0,0 +1,34 @@
+-- PawBridge community-service 댓글 페이징
+-- 1. posts.comment_count 비정규화 컬럼 추가 및 기존 데이터 백필
+-- 2. 댓글 커서 페이징용 복합 인덱스 (엔티티 @Index와 동일)
+-- 사용: mysql -uroot -p pawbridge_community < community-comments-paging.sql
+
+USE pawbridge_community;
+
+SET @col_exists := (SELECT COUNT(*) FROM information_schema.COLUMNS
+                    WHERE TABLE_SCHEMA = 'pawbridge_community' AND TABLE_NAME = 'posts'
+                      AND COLUMN_NAME = 'comment_count');
+SET @ddl := IF(@col_exists = 0,
+               'ALTER TABLE posts ADD COLUMN comment_count INT NOT NULL DEFAULT 0',
+               'SELECT ''posts.comment_count already exists''');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 삭제되지 않은 댓글 기준으로 백필 (재실행해도 동일 결과)
+UPDATE posts p
+LEFT JOIN (SELECT post_id, COUNT(*) AS cnt
+           FROM comments
+           WHERE deleted_at IS NULL
+           GROUP BY post_id) c ON c.post_id = p.post_id
+SET p.comment_count = COALESCE(c.cnt, 0);
+
+SET @idx_exists := (SELECT COUNT(*) FROM information_schema.STATISTICS
+                    WHERE TABLE_SCHEMA = 'pawbridge_community' AND TABLE_NAME = 'comments'
+                      AND INDEX_NAME = 'idx_comments_post_id_created_at_id');
+SET @ddl := IF(@idx_exists = 0,
+               'CREATE INDEX idx_comments_post_id_created_at_id ON comments (post_id, created_at, comment_id)',
+               'SELECT ''idx_comments_post_id_created_at_id already exists''');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,35 @@
+-- PawBridge community-service 게시글 피드 인덱스
+-- 커서 페이징 (created_at DESC, post_id DESC) + 선택 필터용 복합 인덱스 (엔티티 @Index와 동일)
+-- 사용: mysql -uroot -p pawbridge_community < community-posts-feed.sql
+
+USE pawbridge_community;
+
+SET @idx_exists := (SELECT COUNT(*) FROM information_schema.STATISTICS
+                    WHERE TABLE_SCHEMA = 'pawbridge_community' AND TABLE_NAME = 'posts'
+                      AND INDEX_NAME = 'idx_posts_created_at_id');
+SET @ddl := IF(@idx_exists = 0,
+               'CREATE INDEX idx_posts_created_at_id ON posts (created_at, post_id)',
+               'SELECT ''idx_posts_created_at_id already exists''');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists := (SELECT COUNT(*) FROM information_schema.STATISTICS
+                    WHERE TABLE_SCHEMA = 'pawbridge_community' AND TABLE_NAME = 'posts'
+                      AND INDEX_NAME = 'idx_posts_board_type_created_at_id');
+SET @ddl := IF(@idx_exists = 0,
+               'CREATE INDEX idx_posts_board_type_created_at_id ON posts (board_type, created_at, post_id)',
+               'SELECT ''idx_posts_board_type_created_at_id already exists''');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @idx_exists := (SELECT COUNT(*) FROM information_schema.STATISTICS
+                    WHERE TABLE_SCHEMA = 'pawbridge_community' AND TABLE_NAME = 'posts'
+                      AND INDEX_NAME = 'idx_posts_author_id_created_at_id');
+SET @ddl := IF(@idx_exists = 0,
+               'CREATE INDEX idx_posts_author_id_created_at_id ON posts (author_id, created_at, post_id)',
+               'SELECT ''idx_posts_author_id_created_at_id already exists''');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,56 @@
+-- PawBridge payment-service 결제 대사(Reconciliation)
+-- 1. reconciliation_checkpoint: 작업별 진행 위치(구간 + keyset 커서)와 실행 임대(owner, locked_until)
+-- 2. reconciliation_issue: 불일치 기록 (결제당 유형별 1건)
+-- 3. payments.reconciled_at 컬럼 + 대사 대상 조회용 인덱스 (엔티티 @Index와 동일)
+-- 사용: mysql -uroot -p pawbridge_payment < payment-reconciliation.sql
+
+USE pawbridge_payment;
+
+CREATE TABLE IF NOT EXISTS reconciliation_checkpoint (
+    job_name        VARCHAR(50) NOT NULL,
+    window_from     DATETIME(6) NULL,
+    window_to       DATETIME(6) NULL,
+    last_payment_id BIGINT      NOT NULL,
+    completed       BIT(1)      NOT NULL,
+    owner           VARCHAR(36) NULL,
+    locked_until    DATETIME(6) NULL,
+    PRIMARY KEY (job_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS reconciliation_issue (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    payment_key     VARCHAR(100) NOT NULL,
+    order_id        VARCHAR(36)  NOT NULL,
+    issue_type      VARCHAR(30)  NOT NULL,
+    local_status    VARCHAR(20)  NULL,
+    provider_status VARCHAR(30)  NULL,
+    order_status    VARCHAR(20)  NULL,
+    local_amount    BIGINT       NULL,
+    provider_amount BIGINT       NULL,
+    corrected       BIT(1)       NOT NULL,
+    created_at      DATETIME(6)  NULL,
+    updated_at      DATETIME(6)  NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reconciliation_issue_payment_type UNIQUE (payment_key, issue_type)
+) ENGINE = InnoDB;
+
+SET @col_exists := (SELECT COUNT(*) FROM information_schema.COLUMNS
+                    WHERE TABLE_SCHEMA = 'pawbridge_payment' AND TABLE_NAME = 'payments'
+                      AND COLUMN_NAME = 'reconciled_at');
+SET @ddl := IF(@col_exists = 0,
+               'ALTER TABLE payments ADD COLUMN reconciled_at DATETIME(6) NULL',
+               'SELECT ''payments.reconciled_at already exists''');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 대사 대상 조회 (status IN ... AND (reconciled_at IS NULL OR reconciled_at < ?))
+SET @idx_exists := (SELECT COUNT(*) FROM information_schema.STATISTICS
+                    WHERE TABLE_SCHEMA = 'pawbridge_payment' AND TABLE_NAME = 'payments'
+                      AND INDEX_NAME = 'idx_payments_status_reconciled_at');
+SET @ddl := IF(@idx_exists = 0,
+               'CREATE INDEX idx_payments_status_reconciled_at ON payments (status, reconciled_at)',
+               'SELECT ''idx_payments_status_reconciled_at already exists''');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
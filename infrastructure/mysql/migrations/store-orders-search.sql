@@ -0,0 +1,27 @@
+-- PawBridge store-service 관리자 주문 검색 인덱스
+-- JPA ddl-auto로 생성되지 않는 FULLTEXT 인덱스를 수동 적용 (최초 1회)
+-- 사용: mysql -uroot -p pawbridge_store < store-orders-search.sql
+
+USE pawbridge_store;
+
+-- 키셋 페이징용 복합 인덱스 (엔티티 @Index와 동일, ddl-auto 미사용 환경 대비)
+SET @idx_exists := (SELECT COUNT(*) FROM information_schema.STATISTICS
+                    WHERE TABLE_SCHEMA = 'pawbridge_store' AND TABLE_NAME = 'orders'
+                      AND INDEX_NAME = 'idx_orders_created_at_id');
+SET @ddl := IF(@idx_exists = 0,
+               'CREATE INDEX idx_orders_created_at_id ON orders (created_at, id)',
+               'SELECT ''idx_orders_created_at_id already exists''');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 수령인 이름 전문 검색 (한글 2글자 토큰, ngram_token_size 기본값 2)
+SET @ft_exists := (SELECT COUNT(*) FROM information_schema.STATISTICS
+                   WHERE TABLE_SCHEMA = 'pawbridge_store' AND TABLE_NAME = 'orders'
+                     AND INDEX_NAME = 'ft_orders_receiver_name');
+SET @ddl := IF(@ft_exists = 0,
+               'ALTER TABLE orders ADD FULLTEXT INDEX ft_orders_receiver_name (receiver_name) WITH PARSER ngram',
+               'SELECT ''ft_orders_receiver_name already exists''');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -1,11 +1,20 @@
 package com.pawbridge.paymentservice.client;
 
+import com.pawbridge.paymentservice.common.config.FeignRetryConfig;
 import com.pawbridge.paymentservice.domain.payment.dto.StoreOrderResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-@FeignClient(name = "store-service", url = "${service.store.url:}")
+/**
+ * Store Service Feign Client (결제 금액 이중 검증용 주문 조회)
+ * - 서킷 브레이커/벌크헤드/타임아웃: resilience4j.*.configs.store-service (application.yml)
+ */
+@FeignClient(
+        name = "store-service",
+        url = "${service.store.url:}",
+        configuration = FeignRetryConfig.class
+)
 public interface StoreServiceClient {
 
     @GetMapping("/api/orders/uuid/{orderUuid}")
@@ -4,23 +4,33 @@ import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentCancelRequest;
 import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentConfirmRequest;
 import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentResponse;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 
-@FeignClient(name = "toss-payments", url = "https://api.tosspayments.com/v1")
+/**
+ * 토스 페이먼츠 API
+ * - 서킷 브레이커/벌크헤드/타임아웃: resilience4j.*.configs.toss-payments (application.yml)
+ * - 재시도 없음 (승인/취소는 멱등하지 않음, 결과 불명 건은 PENDING 복구 스케줄러가 조회로 확정)
+ * - 커넥션 풀/엔드포인트별 타임아웃/인증 헤더: TossPaymentsFeignConfig
+ */
+@FeignClient(
+        name = "toss-payments",
+        url = "https://api.tosspayments.com/v1",
+        configuration = TossPaymentsFeignConfig.class,
+        fallbackFactory = TossPaymentsClientFallbackFactory.class
+)
 public interface TossPaymentsClient {
 
     @PostMapping("/payments/confirm")
-    TossPaymentResponse confirmPayment(
-            @RequestHeader("Authorization") String authorization,
-            @RequestBody TossPaymentConfirmRequest request
-    );
+    TossPaymentResponse confirmPayment(@RequestBody TossPaymentConfirmRequest request);
+
+    @GetMapping("/payments/{paymentKey}")
+    TossPaymentResponse getPayment(@PathVariable("paymentKey") String paymentKey);
 
     @PostMapping("/payments/{paymentKey}/cancel")
     TossPaymentResponse cancelPayment(
-            @RequestHeader("Authorization") String authorization,
             @PathVariable("paymentKey") String paymentKey,
             @RequestBody TossPaymentCancelRequest request
     );
@@ -0,0 +1,45 @@
+package com.pawbridge.paymentservice.client;
+
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentCancelRequest;
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentConfirmRequest;
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentResponse;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * TossPaymentsClient 실패 시 예외 전달
+ *
+ * 결제는 대체 응답이 없으므로 원래 예외를 그대로 전파 (fallback이 없으면 NoFallbackAvailableException으로 감싸짐):
+ * - FeignException: 토스 응답 오류 (PaymentServiceImpl이 상태 코드/에러 코드로 분기)
+ * - CallNotPermittedException / BulkheadFullException: 서킷 오픈 또는 동시 호출 한도 초과 (요청이 나가지 않음)
+ * - 그 외 (타임아웃 등): 결과 불명
+ */
+@Component
+public class TossPaymentsClientFallbackFactory implements FallbackFactory<TossPaymentsClient> {
+
+    @Override
+    public TossPaymentsClient create(Throwable cause) {
+        return new TossPaymentsClient() {
+            @Override
+            public TossPaymentResponse confirmPayment(TossPaymentConfirmRequest request) {
+                throw propagate(cause);
+            }
+
+            @Override
+            public TossPaymentResponse getPayment(String paymentKey) {
+                throw propagate(cause);
+            }
+
+            @Override
+            public TossPaymentResponse cancelPayment(String paymentKey, TossPaymentCancelRequest request) {
+                throw propagate(cause);
+            }
+        };
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException("Toss Payments call failed", cause);
+    }
+}
@@ -0,0 +1,62 @@
+package com.pawbridge.paymentservice.client;
+
+import com.pawbridge.paymentservice.common.config.EndpointTimeoutClient;
+import com.pawbridge.paymentservice.common.config.PooledHttpClientFactory;
+import feign.Client;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TossPaymentsClient 전용 HTTP 설정
+ * - @FeignClient(configuration = TossPaymentsFeignConfig.class)로만 적용 (@Configuration을 붙이지 않음)
+ * - 전용 커넥션 풀 (결제 트래픽 급증 시 연결/TLS 핸드셰이크 재사용)
+ * - 승인/취소는 긴 읽기 타임아웃, 결제 조회는 짧은 읽기 타임아웃
+ * - Authorization 헤더는 기동 시 한 번만 계산
+ */
+public class TossPaymentsFeignConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient tossHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${toss.http.max-connections:100}") int maxConnections,
+            @Value("${toss.http.connect-timeout:3s}") Duration connectTimeout,
+            @Value("${toss.http.keep-alive:30s}") Duration keepAlive,
+            @Value("${toss.http.time-to-live:5m}") Duration timeToLive) {
+        return PooledHttpClientFactory.create("toss-payments", maxConnections, connectTimeout, keepAlive, timeToLive, meterRegistry);
+    }
+
+    @Bean
+    public Client tossFeignClient(
+            @Qualifier("tossHttpClient") CloseableHttpClient tossHttpClient,
+            @Value("${toss.http.connect-timeout:3s}") Duration connectTimeout,
+            @Value("${toss.http.lookup-read-timeout:5s}") Duration lookupReadTimeout) {
+        Request.Options lookupOptions = new Request.Options(
+                connectTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                lookupReadTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                true);
+        return new EndpointTimeoutClient(new ApacheHttp5Client(tossHttpClient), Map.of(
+                "TossPaymentsClient#getPayment(String)", lookupOptions));
+    }
+
+    /**
+     * 시크릿 키 인코딩 (Basic Auth), 요청마다 다시 만들지 않음
+     */
+    @Bean
+    public RequestInterceptor tossAuthorizationInterceptor(@Value("${toss.secret-key}") String secretKey) {
+        String authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+        return template -> template.header("Authorization", authorization);
+    }
+}
@@ -0,0 +1,82 @@
+package com.pawbridge.paymentservice.common.config;
+
+import feign.RetryableException;
+import feign.Retryer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산이 있는 Feign Retryer
+ *
+ * 장애 중인 서비스에 재시도가 몰려 부하가 증폭되지 않도록:
+ * - 요청당 최대 시도 횟수 제한 (maxAttempts, 첫 시도 포함)
+ * - 클라이언트 단위 예산: 요청마다 budgetRatio만큼 적립, 재시도 1회에 1만큼 소모
+ *   → 재시도는 전체 요청의 budgetRatio 비율을 넘지 못함 (예: 0.1 → 10%)
+ * - Feign은 요청마다 clone()을 호출하므로 clone()에서 적립
+ *
+ * Feign은 RetryableException(연결 실패, 읽기 타임아웃 등 IO 오류)만 재시도하므로
+ * 멱등한 조회 클라이언트에만 적용 (결제 승인처럼 멱등하지 않은 호출에는 사용 금지)
+ *
+ * 타임아웃 예산:
+ * - 최악의 경우 maxAttempts × (connect-timeout + read-timeout) + 백오프 합만큼 걸림
+ * - TimeLimiter timeout-duration은 이 값 이상이어야 재시도가 끝까지 수행됨
+ *
+ * 서비스마다 독립된 Gradle 빌드라 공유 모듈이 없으므로 서비스별로 동일한 사본을 둠
+ * (S3Service, BaseEntity와 같은 방식). 수정 시 community/user/animal/payment 사본을 함께 맞출 것
+ */
+public class BudgetedRetryer implements Retryer {
+
+    private static final long SCALE = 1000;
+
+    private final AtomicLong budget; // 남은 예산 (SCALE 단위)
+    private final long depositPerRequest;
+    private final long maxBudget;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private int attempt = 1;
+
+    public BudgetedRetryer(int maxAttempts, long backoffMs, double budgetRatio, int maxBudget) {
+        this(new AtomicLong(maxBudget * SCALE), (long) (budgetRatio * SCALE), maxBudget * SCALE,
+                maxAttempts, backoffMs);
+    }
+
+    private BudgetedRetryer(AtomicLong budget, long depositPerRequest, long maxBudget,
+                            int maxAttempts, long backoffMs) {
+        this.budget = budget;
+        this.depositPerRequest = depositPerRequest;
+        this.maxBudget = maxBudget;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (attempt >= maxAttempts || !withdraw()) {
+            throw e;
+        }
+        try {
+            Thread.sleep(backoffMs * attempt);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+        attempt++;
+    }
+
+    @Override
+    public Retryer clone() {
+        budget.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxBudget, current + deposit));
+        return new BudgetedRetryer(budget, depositPerRequest, maxBudget, maxAttempts, backoffMs);
+    }
+
+    private boolean withdraw() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - SCALE));
+        return true;
+    }
+}
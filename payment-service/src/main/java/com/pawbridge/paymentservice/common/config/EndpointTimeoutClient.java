@@ -0,0 +1,32 @@
+package com.pawbridge.paymentservice.common.config;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 엔드포인트(메서드)별 타임아웃을 적용하는 Feign Client
+ * - 키: Feign configKey ("클라이언트#메서드(파라미터 타입)")
+ * - 등록되지 않은 메서드는 클라이언트 기본 타임아웃 (spring.cloud.openfeign.client.config.<name>)
+ */
+public class EndpointTimeoutClient implements Client {
+
+    private final Client delegate;
+    private final Map<String, Request.Options> endpointOptions;
+
+    public EndpointTimeoutClient(Client delegate, Map<String, Request.Options> endpointOptions) {
+        this.delegate = delegate;
+        this.endpointOptions = Map.copyOf(endpointOptions);
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Request.Options endpoint = request.requestTemplate() != null && request.requestTemplate().methodMetadata() != null
+                ? endpointOptions.get(request.requestTemplate().methodMetadata().configKey())
+                : null;
+        return delegate.execute(request, endpoint != null ? endpoint : options);
+    }
+}
@@ -0,0 +1,24 @@
+package com.pawbridge.paymentservice.common.config;
+
+import feign.Retryer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 조회용 FeignClient 재시도 설정
+ * - @FeignClient(configuration = FeignRetryConfig.class)로 클라이언트별 적용
+ * - 클라이언트마다 별도 컨텍스트에서 생성되므로 재시도 예산도 클라이언트 단위
+ * - @Configuration을 붙이지 않음 (전역 Retryer로 등록되는 것 방지)
+ * - BudgetedRetryer와 함께 서비스별 사본 유지 (community/user/payment, 내용 동일)
+ */
+public class FeignRetryConfig {
+
+    @Bean
+    public Retryer budgetedRetryer(
+            @Value("${resilience.feign-retry.max-attempts:2}") int maxAttempts,
+            @Value("${resilience.feign-retry.backoff-ms:100}") long backoffMs,
+            @Value("${resilience.feign-retry.budget-ratio:0.1}") double budgetRatio,
+            @Value("${resilience.feign-retry.max-budget:10}") int maxBudget) {
+        return new BudgetedRetryer(maxAttempts, backoffMs, budgetRatio, maxBudget);
+    }
+}
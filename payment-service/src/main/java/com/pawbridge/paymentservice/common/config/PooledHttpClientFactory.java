@@ -0,0 +1,66 @@
+package com.pawbridge.paymentservice.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 호출용 커넥션 풀 HttpClient 생성
+ *
+ * 요청마다 TCP 연결/TLS 핸드셰이크를 반복하지 않도록:
+ * - 클라이언트(대상 서버)별 전용 커넥션 풀 (다른 의존 서비스와 풀을 공유하지 않음)
+ * - Keep-Alive: 서버가 알려준 시간과 설정값 중 짧은 쪽까지 유지
+ * - 유휴/만료 커넥션 백그라운드 정리, 오래 쉰 커넥션은 재사용 전 검증
+ * - 풀 상태(사용 중/유휴/대기) 메트릭: httpcomponents.httpclient.pool.* {httpclient=name}
+ * - 자동 재시도 비활성화 (재시도는 Feign Retryer가 담당, 멱등하지 않은 요청 중복 방지)
+ *
+ * 서비스마다 독립된 Gradle 빌드라 공유 모듈이 없으므로 서비스별로 동일한 사본을 둠
+ * (S3Service, BaseEntity와 같은 방식). 수정 시 animal/payment 사본을 함께 맞출 것
+ */
+public final class PooledHttpClientFactory {
+
+    private PooledHttpClientFactory() {
+    }
+
+    public static CloseableHttpClient create(String name,
+                                             int maxConnections,
+                                             Duration connectTimeout,
+                                             Duration keepAlive,
+                                             Duration timeToLive,
+                                             MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections) // 클라이언트당 대상 호스트 1개
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(timeToLive.toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(keepAlive.toMillis());
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(serverKeepAlive) && serverKeepAlive.compareTo(maxKeepAlive) < 0
+                            ? serverKeepAlive
+                            : maxKeepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(maxKeepAlive)
+                .disableAutomaticRetries()
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.pawbridge.paymentservice.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 결제 대사 작업용 스레드 풀 설정
+ * - 토스/스토어 조회 동시 실행 수를 스레드 수로 제한 (토스 API 호출량 보호)
+ * - 대기열이 가득 차면 호출 스레드에서 실행 (청크 처리 속도를 자연스럽게 늦춤)
+ */
+@Configuration
+public class ReconciliationConfig {
+
+    @Bean(name = "reconciliationExecutor")
+    public ThreadPoolTaskExecutor reconciliationExecutor(
+            @Value("${payment.reconciliation.concurrency:4}") int concurrency,
+            @Value("${payment.reconciliation.batch-size:200}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("reconciliation-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,24 @@
+package com.pawbridge.paymentservice.common.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Idempotency-Key 처리 실패
+ * - 처리 중인 중복 요청 대기 초과: 409
+ * - 다른 요청에 같은 키 재사용: 422
+ */
+public class IdempotencyException extends ResponseStatusException {
+
+    public IdempotencyException(HttpStatus status, String reason) {
+        super(status, reason);
+    }
+
+    public static IdempotencyException inProgress() {
+        return new IdempotencyException(HttpStatus.CONFLICT, "Request with the same Idempotency-Key is in progress");
+    }
+
+    public static IdempotencyException keyReused() {
+        return new IdempotencyException(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key was used with a different request");
+    }
+}
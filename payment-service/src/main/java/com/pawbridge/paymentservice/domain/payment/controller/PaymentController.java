@@ -1,5 +1,6 @@
 package com.pawbridge.paymentservice.domain.payment.controller;
 
+import com.pawbridge.paymentservice.common.service.IdempotencyService;
 import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentConfirmRequest;
 import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentResponse;
 import com.pawbridge.paymentservice.domain.payment.service.PaymentService;
@@ -13,12 +14,21 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final IdempotencyService idempotencyService;
 
+    /**
+     * 결제 승인
+     * - Idempotency-Key 헤더가 있으면 같은 키의 중복 요청은 토스 재호출 없이 첫 결과를 그대로 반환
+     * - DONE / ABORTED 확정 결과만 저장 (IN_PROGRESS는 재시도 시 다시 확인)
+     */
     @PostMapping("/confirm")
     public ResponseEntity<TossPaymentResponse> confirmPayment(
             @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody TossPaymentConfirmRequest request) {
-        TossPaymentResponse response = paymentService.confirmPayment(userId, request);
+        TossPaymentResponse response = idempotencyService.execute("payment-confirm", userId, idempotencyKey, request,
+                TossPaymentResponse.class, () -> paymentService.confirmPayment(userId, request),
+                result -> "DONE".equals(result.getStatus()) || "ABORTED".equals(result.getStatus()));
         return ResponseEntity.ok(response);
     }
 }
@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_payments_status_reconciled_at", columnList = "status, reconciled_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment extends BaseEntity {
 
@@ -41,6 +44,8 @@ public class Payment extends BaseEntity {
     private LocalDateTime requestedAt;
     private LocalDateTime approvedAt;
 
+    private LocalDateTime reconciledAt; // 토스/주문 상태와 일치를 마지막으로 확인한 시각 (대사)
+
     @Builder
     public Payment(String paymentKey, String orderId, Long userId, Long amount, String method, LocalDateTime requestedAt) {
         this.paymentKey = paymentKey;
@@ -52,11 +57,45 @@ public class Payment extends BaseEntity {
         this.status = PaymentStatus.READY;
     }
 
+    /**
+     * 승인 요청 전 PENDING 결제 생성 (토스 호출 전에 먼저 커밋)
+     */
+    public static Payment pending(String paymentKey, String orderId, Long userId, Long amount) {
+        Payment payment = Payment.builder()
+                .paymentKey(paymentKey)
+                .orderId(orderId)
+                .userId(userId)
+                .amount(amount)
+                .requestedAt(LocalDateTime.now())
+                .build();
+        payment.status = PaymentStatus.PENDING;
+        return payment;
+    }
+
+    public boolean isPending() {
+        return this.status == PaymentStatus.PENDING;
+    }
+
     public void approve(LocalDateTime approvedAt) {
         this.status = PaymentStatus.DONE;
         this.approvedAt = approvedAt;
     }
 
+    /**
+     * 토스 승인 결과로 확정
+     */
+    public void approve(String method, LocalDateTime requestedAt, LocalDateTime approvedAt) {
+        this.method = method;
+        if (requestedAt != null) {
+            this.requestedAt = requestedAt;
+        }
+        approve(approvedAt);
+    }
+
+    public void abort() {
+        this.status = PaymentStatus.ABORTED;
+    }
+
     public void cancel() {
         this.status = PaymentStatus.CANCELED;
     }
@@ -1,5 +1,7 @@
 package com.pawbridge.paymentservice.domain.payment.entity;
 
 public enum PaymentStatus {
-    READY, DONE, CANCELED, ABORTED
+    READY,
+    PENDING, // 토스 승인 요청 중 (결과 미확정, 복구 스케줄러가 토스 조회로 확정)
+    DONE, CANCELED, ABORTED
 }
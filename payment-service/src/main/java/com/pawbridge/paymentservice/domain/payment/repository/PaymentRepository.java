@@ -1,11 +1,54 @@
 package com.pawbridge.paymentservice.domain.payment.repository;
 
 import com.pawbridge.paymentservice.domain.payment.entity.Payment;
+import com.pawbridge.paymentservice.domain.payment.entity.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByPaymentKey(String paymentKey);
     Optional<Payment> findByOrderId(String orderId);
+
+    // 주문당 완료 결제 (실패 후 다른 paymentKey로 재시도하면 주문당 결제 행이 여러 개일 수 있음)
+    Optional<Payment> findFirstByOrderIdAndStatus(String orderId, PaymentStatus status);
+
+    // 상태 전이용 행 잠금 (요청 스레드와 복구 스케줄러의 동시 확정 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.paymentKey = :paymentKey")
+    Optional<Payment> findForUpdateByPaymentKey(@Param("paymentKey") String paymentKey);
+
+    // 오래된 PENDING 결제 조회 (복구 스케줄러용, keyset: id > afterId)
+    List<Payment> findByStatusAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(PaymentStatus status, LocalDateTime before,
+                                                                            Long afterId, Pageable pageable);
+
+    // 대사 대상 결제 (keyset: id > afterId, 생성 시각 구간 내 확정 상태, recheckBefore 이후 확인된 결제 제외)
+    @Query("SELECT p FROM Payment p WHERE p.id > :afterId AND p.createdAt >= :from AND p.createdAt < :to " +
+            "AND p.status IN :statuses AND (p.reconciledAt IS NULL OR p.reconciledAt < :recheckBefore) " +
+            "ORDER BY p.id ASC")
+    List<Payment> findReconciliationBatch(@Param("afterId") Long afterId,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          @Param("statuses") Collection<PaymentStatus> statuses,
+                                          @Param("recheckBefore") LocalDateTime recheckBefore,
+                                          Pageable pageable);
+
+    // 대사 확인 시각 기록
+    @Transactional
+    @Modifying
+    @Query("UPDATE Payment p SET p.reconciledAt = :reconciledAt WHERE p.id IN :ids")
+    int markReconciled(@Param("ids") Collection<Long> ids, @Param("reconciledAt") LocalDateTime reconciledAt);
+
+    // 주문에 완료/진행 중인 다른 결제가 있는지 (실패 후 재시도한 주문 구분)
+    boolean existsByOrderIdAndStatusIn(String orderId, Collection<PaymentStatus> statuses);
 }
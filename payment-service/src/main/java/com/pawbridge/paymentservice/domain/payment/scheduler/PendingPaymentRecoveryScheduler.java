@@ -0,0 +1,32 @@
+package com.pawbridge.paymentservice.domain.payment.scheduler;
+
+import com.pawbridge.paymentservice.domain.payment.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingPaymentRecoveryScheduler {
+
+    private final PaymentService paymentService;
+
+    /**
+     * 결과를 알 수 없어 PENDING으로 남은 결제를 토스 조회로 확정
+     * - 승인 요청 타임아웃, 승인 후 DB 확정 실패, 인스턴스 중단 등으로 남은 건 대상
+     * - 여러 인스턴스가 동시에 실행해도 상태 전이는 행 잠금 후 PENDING일 때만 수행
+     */
+    @Scheduled(fixedDelayString = "${payment.recovery.interval-ms:30000}")
+    public void recoverPendingPayments() {
+        try {
+            int resolved = paymentService.recoverPendingPayments();
+            if (resolved > 0) {
+                log.info("[PAYMENT-RECOVERY] Resolved {} pending payments", resolved);
+            }
+        } catch (Exception e) {
+            log.error("[PAYMENT-RECOVERY] Failed to recover pending payments", e);
+        }
+    }
+}
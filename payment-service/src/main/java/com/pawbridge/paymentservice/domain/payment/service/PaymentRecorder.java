@@ -0,0 +1,130 @@
+package com.pawbridge.paymentservice.domain.payment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawbridge.paymentservice.common.entity.Outbox;
+import com.pawbridge.paymentservice.common.repository.OutboxRepository;
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentConfirmRequest;
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentResponse;
+import com.pawbridge.paymentservice.domain.payment.entity.Payment;
+import com.pawbridge.paymentservice.domain.payment.entity.PaymentStatus;
+import com.pawbridge.paymentservice.domain.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 상태 전이 기록 (짧은 트랜잭션 단위)
+ * - 토스 API 호출은 트랜잭션 밖에서 수행하고, 호출 전후 상태만 각각 짧은 트랜잭션으로 기록
+ * - PENDING → DONE / ABORTED 전이는 행 잠금 후 PENDING일 때만 수행 (요청 스레드와 복구 스케줄러 중 한쪽만 확정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRecorder {
+
+    private final PaymentRepository paymentRepository;
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 토스 승인 요청 전 PENDING 결제 기록
+     * - paymentKey UNIQUE 제약으로 같은 결제의 동시 승인 요청 중 하나만 진행
+     * @throws org.springframework.dao.DataIntegrityViolationException 이미 같은 paymentKey가 있을 때
+     */
+    @Transactional
+    public Payment createPending(Long userId, TossPaymentConfirmRequest request) {
+        return paymentRepository.saveAndFlush(
+                Payment.pending(request.getPaymentKey(), request.getOrderId(), userId, request.getAmount()));
+    }
+
+    /**
+     * 승인 성공 확정 (PENDING → DONE) + PAYMENT_COMPLETED Outbox
+     * @return 이번 호출로 확정했으면 true, 이미 다른 쪽에서 확정했으면 false
+     */
+    @Transactional
+    public boolean complete(String paymentKey, TossPaymentResponse response) {
+        Payment payment = paymentRepository.findForUpdateByPaymentKey(paymentKey).orElse(null);
+        if (payment == null || !payment.isPending()) {
+            return false;
+        }
+
+        payment.approve(
+                response.getMethod(),
+                response.getRequestedAt() != null ? response.getRequestedAt().toLocalDateTime() : null,
+                response.getApprovedAt().toLocalDateTime());
+
+        saveOutbox(paymentKey, "PAYMENT_COMPLETED", response);
+        return true;
+    }
+
+    /**
+     * 승인 실패 확정 (PENDING → ABORTED) + PAYMENT_FAILED Outbox (재고 복구용)
+     * @return 이번 호출로 확정했으면 true, 이미 다른 쪽에서 확정했으면 false
+     */
+    @Transactional
+    public boolean abort(String paymentKey, String orderId) {
+        Payment payment = paymentRepository.findForUpdateByPaymentKey(paymentKey).orElse(null);
+        if (payment == null || !payment.isPending()) {
+            return false;
+        }
+
+        payment.abort();
+
+        TossPaymentResponse failureResponse = TossPaymentResponse.builder()
+                .paymentKey(paymentKey)
+                .orderId(orderId)
+                .status("ABORTED") // 실패 상태로 변경
+                .build();
+        saveOutbox(paymentKey, "PAYMENT_FAILED", failureResponse);
+        return true;
+    }
+
+    /**
+     * 토스에서 취소된 결제 반영 (DONE → CANCELED) + PAYMENT_CANCELED Outbox (주문 취소/재고 복구용)
+     * - 대사 작업에서 토스 상태가 취소/만료인 완료 결제를 보정할 때 사용
+     * @return 이번 호출로 반영했으면 true
+     */
+    @Transactional
+    public boolean cancelByProvider(String paymentKey, String orderId) {
+        Payment payment = paymentRepository.findForUpdateByPaymentKey(paymentKey).orElse(null);
+        if (payment == null || payment.getStatus() != PaymentStatus.DONE) {
+            return false;
+        }
+
+        payment.cancel();
+
+        TossPaymentResponse cancelResponse = TossPaymentResponse.builder()
+                .paymentKey(paymentKey)
+                .orderId(orderId)
+                .status("CANCELED")
+                .build();
+        saveOutbox(paymentKey, "PAYMENT_CANCELED", cancelResponse);
+        return true;
+    }
+
+    /**
+     * 결제 이벤트 재발행 (유실된 이벤트 보정, store-service 처리는 멱등)
+     */
+    @Transactional
+    public void republish(String paymentKey, String eventType, TossPaymentResponse response) {
+        saveOutbox(paymentKey, eventType, response);
+    }
+
+    private void saveOutbox(String paymentKey, String eventType, TossPaymentResponse response) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize payment outbox payload", e);
+        }
+
+        outboxRepository.save(Outbox.builder()
+                .aggregateType("PAYMENT")
+                .aggregateId(paymentKey)
+                .eventType(eventType)
+                .payload(payload)
+                .build());
+    }
+}
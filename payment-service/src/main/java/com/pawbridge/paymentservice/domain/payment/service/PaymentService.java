@@ -5,4 +5,7 @@ import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentResponse;
 
 public interface PaymentService {
     TossPaymentResponse confirmPayment(Long userId, TossPaymentConfirmRequest request);
+
+    // 오래된 PENDING 결제를 토스 조회로 확정 (복구 스케줄러용), 확정된 건수 반환
+    int recoverPendingPayments();
 }
@@ -1,11 +1,7 @@
 package com.pawbridge.paymentservice.domain.payment.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pawbridge.paymentservice.client.StoreServiceClient;
 import com.pawbridge.paymentservice.client.TossPaymentsClient;
-import com.pawbridge.paymentservice.common.entity.Outbox;
-import com.pawbridge.paymentservice.common.repository.OutboxRepository;
 import com.pawbridge.paymentservice.domain.payment.dto.StoreOrderResponse;
 import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentCancelRequest;
 import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentConfirmRequest;
@@ -13,56 +9,75 @@ import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentResponse;
 import com.pawbridge.paymentservice.domain.payment.entity.Payment;
 import com.pawbridge.paymentservice.domain.payment.entity.PaymentStatus;
 import com.pawbridge.paymentservice.domain.payment.repository.PaymentRepository;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 결제 승인 서비스
+ *
+ * 토스 승인 호출 동안 DB 커넥션을 잡지 않도록 짧은 트랜잭션 상태 머신으로 처리:
+ * 1. (트랜잭션) PENDING 결제 기록
+ * 2. (트랜잭션 밖) 토스 승인 API 호출
+ * 3. (트랜잭션) 결과에 따라 DONE / ABORTED 확정 + Outbox
+ * - 타임아웃/5xx 등 결과를 알 수 없는 실패는 PENDING으로 두고 복구 스케줄러가 토스 조회로 확정
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentServiceImpl implements PaymentService {
 
+    // 토스 결제 조회 결과 중 실패로 확정할 상태
+    private static final Set<String> TOSS_FAILED_STATUSES = Set.of("ABORTED", "EXPIRED", "CANCELED");
+
     private final TossPaymentsClient tossPaymentsClient;
     private final PaymentRepository paymentRepository;
-    private final OutboxRepository outboxRepository;
+    private final PaymentRecorder paymentRecorder;
     private final StoreServiceClient storeServiceClient; // 이중 확인용 (Double Check)
-    private final ObjectMapper objectMapper;
 
-    @Value("${toss.secret-key}")
-    private String tossSecretKey;
+    // 복구 조회 커서 (마지막으로 확인한 결제 id, 끝까지 확인하면 0으로 되돌림)
+    private final AtomicLong recoveryCursor = new AtomicLong();
+
+    @Value("${payment.recovery.stale-after-seconds:60}")
+    private long staleAfterSeconds;
 
-    @Transactional
+    @Value("${payment.recovery.batch-size:50}")
+    private int recoveryBatchSize;
+
+    @Override
     public TossPaymentResponse confirmPayment(Long userId, TossPaymentConfirmRequest request) {
         String orderId = request.getOrderId();
         Long amount = request.getAmount();
 
         // 🛡️ 안전장치 1: 멱등성 (Idempotency)
-        // 이미 결제가 존재하는지 확인
-        Optional<Payment> existingPayment = paymentRepository.findByOrderId(orderId);
-        if (existingPayment.isPresent()) {
-            Payment payment = existingPayment.get();
-            if (payment.getStatus() == PaymentStatus.DONE) {
-                log.info("Payment already processed for orderId: {}", orderId);
-                // 정책에 따라 더미 응답 반환 또는 예외 발생
-                // 여기서는 금액이 일치하는지 확인 후 성공 응답 반환
-                if (!payment.getAmount().equals(amount)) {
-                    throw new IllegalStateException("Payment exists but amount mismatch");
-                }
-                return TossPaymentResponse.builder()
-                        .paymentKey(payment.getPaymentKey())
-                        .orderId(payment.getOrderId())
-                        .totalAmount(payment.getAmount())
-                        .status("DONE")
-                        .requestedAt(payment.getRequestedAt().atOffset(java.time.ZoneOffset.of("+09:00")))
-                        .approvedAt(payment.getApprovedAt().atOffset(java.time.ZoneOffset.of("+09:00")))
-                        .build();
+        // 이미 완료된 결제가 있는지 확인
+        Optional<Payment> donePayment = paymentRepository.findFirstByOrderIdAndStatus(orderId, PaymentStatus.DONE);
+        if (donePayment.isPresent()) {
+            Payment payment = donePayment.get();
+            log.info("Payment already processed for orderId: {}", orderId);
+            // 금액이 일치하는지 확인 후 성공 응답 반환
+            if (!payment.getAmount().equals(amount)) {
+                throw new IllegalStateException("Payment exists but amount mismatch");
             }
+            return toDoneResponse(payment);
+        }
+
+        // 같은 paymentKey로 진행 중/실패한 요청이 있으면 그 상태를 그대로 응답
+        Optional<Payment> samePayment = paymentRepository.findByPaymentKey(request.getPaymentKey());
+        if (samePayment.isPresent()) {
+            return toCurrentResponse(samePayment.get());
         }
 
         // 🛡️ 안전장치 2: 이중 검증 (스토어 서비스와 교차 검증)
@@ -72,148 +87,206 @@ public class PaymentServiceImpl implements PaymentService {
             throw new IllegalStateException("Payment Amount Mismatch");
         }
 
-        // 1. 시크릿 키 인코딩 (Basic Auth)
-        String encodedKey = Base64.getEncoder().encodeToString((tossSecretKey + ":").getBytes(StandardCharsets.UTF_8));
-        String authorization = "Basic " + encodedKey;
+        // 1. PENDING 기록 (짧은 트랜잭션, 동시 요청은 paymentKey UNIQUE로 하나만 통과)
+        try {
+            paymentRecorder.createPending(userId, request);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Concurrent confirm detected for paymentKey: {}", request.getPaymentKey());
+            return paymentRepository.findByPaymentKey(request.getPaymentKey())
+                    .map(this::toCurrentResponse)
+                    .orElseThrow(() -> e);
+        }
 
-        // 2. 토스 API 호출 (실제 결제 승인)
-        TossPaymentResponse response = null;
+        // 2. 토스 API 호출 (실제 결제 승인, 트랜잭션 밖)
+        TossPaymentResponse response;
         try {
-            response = tossPaymentsClient.confirmPayment(authorization, request);
-        } catch (Exception e) {
-            log.warn("Toss Payment Failed: {}", e.getMessage());
-
-            // [S008] 중복 요청 처리 (이미 처리 중이거나 완료된 건)
-            // 에러를 던지면 프론트엔드가 혼란스러워 하므로, 이미 저장된 성공 정보를 조회해서 "성공(DONE)"으로 응답함 (멱등성 보장)
-            String errorMsg = e.getMessage();
-            if (errorMsg != null && (errorMsg.contains("S008") || errorMsg.contains("ALREADY_PROCESSED_PAYMENT"))) {
-                log.info("Duplicate Request detected ([S008]). Retrieving existing payment for idempotency.");
-                
-                // Payment existingPayment = paymentRepository.findByOrderId(request.getOrderId())
-                //         .orElseThrow(() -> new RuntimeException("Payment not found", e)); 
-                Optional<Payment> foundPayment = paymentRepository.findByOrderId(request.getOrderId());
-                if (foundPayment.isEmpty()) {
-                     if (e instanceof RuntimeException) {
-                         throw (RuntimeException) e;
-                     } else {
-                         throw new RuntimeException("Payment failed and not found in DB", e);
-                     }
-                }
-                Payment previousPayment = foundPayment.get();
-
-                return TossPaymentResponse.builder()
-                        .paymentKey(previousPayment.getPaymentKey())
-                        .orderId(previousPayment.getOrderId())
-                        .totalAmount(previousPayment.getAmount())
-                        .status("DONE") // 이미 완료된 상태
-                        .requestedAt(previousPayment.getRequestedAt().atOffset(java.time.ZoneOffset.of("+09:00")))
-                        .approvedAt(previousPayment.getApprovedAt().atOffset(java.time.ZoneOffset.of("+09:00")))
-                        .build();
-            }
+            response = tossPaymentsClient.confirmPayment(request);
+        } catch (FeignException e) {
+            return handleConfirmFailure(request, e);
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            // 서킷 오픈/동시 호출 한도 초과 → 승인 요청이 나가지 않았으므로 확정 실패 (재고 복구)
+            log.warn("Toss confirm rejected before sending: paymentKey={}, cause={}", request.getPaymentKey(), e.getMessage());
+            paymentRecorder.abort(request.getPaymentKey(), request.getOrderId());
+            return abortedResponse(request.getPaymentKey(), request.getOrderId());
+        } catch (RuntimeException e) {
+            // 타임아웃 등 → 결과 불명, PENDING 유지 후 복구 스케줄러가 확정
+            log.warn("Toss confirm result unknown, leaving PENDING for recovery: paymentKey={}, cause={}",
+                    request.getPaymentKey(), e.toString());
+            return inProgressResponse(request.getPaymentKey(), request.getOrderId());
+        }
 
-            // [진짜 실패] 잔액 부족, 네트워크 오류 등 -> 재고 복구 필요
-            // 트랜잭션을 커밋시키기 위해 예외를 던지지 않고 'ABORTED' 응답을 반환함.
-            try {
-                savePaymentFailureAndOutbox(request.getPaymentKey(), request.getOrderId(), "PAYMENT_FAILED");
-            } catch (JsonProcessingException ex) {
-                log.error("Failed to save failure outbox during API Error", ex);
-            }
-            
-            // Controller가 200 OK와 함께 ABORTED 상태를 반환하게 함 (프론트에서 처리 필요)
-            return TossPaymentResponse.builder()
-                    .status("ABORTED")
-                    .orderId(request.getOrderId())
-                    .paymentKey(request.getPaymentKey())
-                    .build(); 
+        if (!"DONE".equals(response.getStatus())) {
+            // 가상계좌 입금 대기 등 → PENDING 유지, 복구 스케줄러가 이후 상태 확정
+            log.warn("Payment status is not DONE: {}", response.getStatus());
+            return response;
+        }
+
+        // 3. DONE 확정 (짧은 트랜잭션: 결제 + Outbox) 및 보상 트랜잭션
+        finalizeDone(response);
+        return response;
+    }
+
+    /**
+     * 토스 승인 호출 실패 처리
+     * - [S008] 이미 처리된 결제: 토스 조회로 실제 결과 확정
+     * - 4xx (잔액 부족, 카드 거절 등): 확정 실패 → ABORTED + 재고 복구 이벤트
+     * - 타임아웃/네트워크/5xx: 결과 불명 → PENDING 유지, 복구 스케줄러가 확정
+     */
+    private TossPaymentResponse handleConfirmFailure(TossPaymentConfirmRequest request, FeignException e) {
+        log.warn("Toss Payment Failed: status={}, message={}", e.status(), e.getMessage());
+
+        String errorMsg = e.getMessage();
+        if (errorMsg != null && (errorMsg.contains("S008") || errorMsg.contains("ALREADY_PROCESSED_PAYMENT"))) {
+            log.info("Duplicate Request detected ([S008]). Resolving payment from Toss.");
+            Payment payment = paymentRepository.findByPaymentKey(request.getPaymentKey())
+                    .orElseThrow(() -> new RuntimeException("Payment failed and not found in DB", e));
+            resolveFromToss(payment);
+            return paymentRepository.findByPaymentKey(request.getPaymentKey())
+                    .map(this::toCurrentResponse)
+                    .orElseThrow(() -> new RuntimeException("Payment failed and not found in DB", e));
         }
 
-        if (!response.getStatus().equals("DONE")) {
-             log.warn("Payment status is not DONE: {}", response.getStatus());
-             return response;
+        if (e.status() >= 400 && e.status() < 500) {
+            // [진짜 실패] 잔액 부족 등 -> 재고 복구 필요
+            paymentRecorder.abort(request.getPaymentKey(), request.getOrderId());
+            // Controller가 200 OK와 함께 ABORTED 상태를 반환하게 함 (프론트에서 처리 필요)
+            return abortedResponse(request.getPaymentKey(), request.getOrderId());
         }
 
-        // 3. DB 저장 (메인 DB + Outbox) 및 보상 트랜잭션
+        // 결과 불명 (승인됐을 수도 있음) → 확정하지 않음
+        log.warn("Toss confirm result unknown, leaving PENDING for recovery: paymentKey={}", request.getPaymentKey());
+        return inProgressResponse(request.getPaymentKey(), request.getOrderId());
+    }
+
+    /**
+     * 토스 승인 성공 결과 확정
+     * - DB 확정 실패 시 토스 결제 취소 후 실패 확정 (실패 확정도 안 되면 PENDING으로 남아 복구 스케줄러가 처리)
+     */
+    private void finalizeDone(TossPaymentResponse response) {
         try {
-            savePaymentAndOutbox(userId, response);
+            paymentRecorder.complete(response.getPaymentKey(), response);
         } catch (Exception e) {
             log.error("DB Save Failed after Toss Payment! Triggering Compensation...", e);
-            
+
             // 1. 보상 트랜잭션 (결제 취소)
             cancelPayment(response.getPaymentKey(), "System Error during saving payment record");
 
-            // 2. 실패 이벤트 발행 (재고 복구용)
+            // 2. 실패 확정 + 실패 이벤트 발행 (재고 복구용)
             try {
-                savePaymentFailureAndOutbox(response.getPaymentKey(), response.getOrderId(), "PAYMENT_FAILED");
-            } catch (JsonProcessingException ex) {
-                log.error("Failed to save failure outbox", ex);
+                paymentRecorder.abort(response.getPaymentKey(), response.getOrderId());
+            } catch (Exception ex) {
+                log.error("Failed to record payment failure, recovery will retry: paymentKey={}", response.getPaymentKey(), ex);
             }
-            
+
             throw new RuntimeException("Payment processed but failed to save record. Payment Cancelled.", e);
         }
+    }
 
-        return response;
+    /**
+     * 오래된 PENDING 결제를 토스 조회로 확정 (복구 스케줄러용)
+     * - id 커서(keyset)로 이어서 조회 → 토스에서 계속 진행 중인 결제(입금 대기 등)가 배치를 막지 않음
+     * - 배치가 가득 차지 않으면 끝까지 확인한 것이므로 커서를 처음으로 되돌림
+     * @return 확정된 결제 수
+     */
+    @Override
+    public int recoverPendingPayments() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusSeconds(staleAfterSeconds);
+        List<Payment> pendingPayments = paymentRepository.findByStatusAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                PaymentStatus.PENDING, staleBefore, recoveryCursor.get(), PageRequest.of(0, recoveryBatchSize));
+
+        recoveryCursor.set(pendingPayments.size() < recoveryBatchSize
+                ? 0L
+                : pendingPayments.get(pendingPayments.size() - 1).getId());
+
+        int resolved = 0;
+        for (Payment payment : pendingPayments) {
+            try {
+                if (resolveFromToss(payment)) {
+                    resolved++;
+                }
+            } catch (Exception e) {
+                log.error("Failed to recover pending payment: paymentKey={}", payment.getPaymentKey(), e);
+            }
+        }
+        return resolved;
     }
 
-    private void savePaymentAndOutbox(Long userId, TossPaymentResponse response) throws JsonProcessingException {
-        // A. 결제 엔티티 저장
-        Payment payment = Payment.builder()
-                .paymentKey(response.getPaymentKey())
-                .orderId(response.getOrderId())
-                .userId(userId)
-                .amount(response.getTotalAmount())
-                .method(response.getMethod())
-                .requestedAt(response.getRequestedAt().toLocalDateTime())
-                .build();
-        
-        payment.approve(response.getApprovedAt().toLocalDateTime());
-        paymentRepository.save(payment);
-
-        // B. Outbox 이벤트 저장 (PAYMENT_COMPLETED)
-        String payload = objectMapper.writeValueAsString(response);
-        Outbox outbox = Outbox.builder()
-                .aggregateType("PAYMENT")
-                .aggregateId(response.getPaymentKey())
-                .eventType("PAYMENT_COMPLETED")
-                .payload(payload)
+    /**
+     * 토스 결제 조회 결과로 PENDING 결제 확정
+     * - DONE → DONE 확정, ABORTED/EXPIRED/CANCELED 또는 토스에 없음(404) → ABORTED 확정
+     * - 그 외 (IN_PROGRESS, WAITING_FOR_DEPOSIT 등) → 다음 주기에 다시 확인
+     */
+    private boolean resolveFromToss(Payment payment) {
+        TossPaymentResponse tossPayment;
+        try {
+            tossPayment = tossPaymentsClient.getPayment(payment.getPaymentKey());
+        } catch (FeignException.NotFound e) {
+            log.warn("Pending payment not found at Toss, aborting: paymentKey={}", payment.getPaymentKey());
+            return paymentRecorder.abort(payment.getPaymentKey(), payment.getOrderId());
+        }
+
+        if ("DONE".equals(tossPayment.getStatus())) {
+            log.info("Pending payment resolved as DONE: paymentKey={}", payment.getPaymentKey());
+            return paymentRecorder.complete(payment.getPaymentKey(), tossPayment);
+        }
+        if (TOSS_FAILED_STATUSES.contains(tossPayment.getStatus())) {
+            log.info("Pending payment resolved as failed: paymentKey={}, tossStatus={}",
+                    payment.getPaymentKey(), tossPayment.getStatus());
+            return paymentRecorder.abort(payment.getPaymentKey(), payment.getOrderId());
+        }
+
+        log.debug("Pending payment still in progress at Toss: paymentKey={}, tossStatus={}",
+                payment.getPaymentKey(), tossPayment.getStatus());
+        return false;
+    }
+
+    private TossPaymentResponse toCurrentResponse(Payment payment) {
+        return switch (payment.getStatus()) {
+            case DONE -> toDoneResponse(payment);
+            case ABORTED, CANCELED -> abortedResponse(payment.getPaymentKey(), payment.getOrderId());
+            default -> inProgressResponse(payment.getPaymentKey(), payment.getOrderId());
+        };
+    }
+
+    private TossPaymentResponse toDoneResponse(Payment payment) {
+        return TossPaymentResponse.builder()
+                .paymentKey(payment.getPaymentKey())
+                .orderId(payment.getOrderId())
+                .totalAmount(payment.getAmount())
+                .status("DONE") // 이미 완료된 상태
+                .requestedAt(payment.getRequestedAt().atOffset(java.time.ZoneOffset.of("+09:00")))
+                .approvedAt(payment.getApprovedAt().atOffset(java.time.ZoneOffset.of("+09:00")))
                 .build();
-        outboxRepository.save(outbox);
     }
 
-    private void savePaymentFailureAndOutbox(String paymentKey, String orderId, String eventType) throws JsonProcessingException {
-        // Outbox 이벤트 저장 (PAYMENT_FAILED)
-        // 실패 시에는 상태를 ABORTED 등으로 변경해서 보낼 수도 있음
-        TossPaymentResponse failureResponse = TossPaymentResponse.builder()
-                .paymentKey(paymentKey)
+    private TossPaymentResponse abortedResponse(String paymentKey, String orderId) {
+        return TossPaymentResponse.builder()
+                .status("ABORTED")
                 .orderId(orderId)
-                .status("ABORTED") // 실패 상태로 변경
+                .paymentKey(paymentKey)
                 .build();
+    }
 
-        String payload = objectMapper.writeValueAsString(failureResponse);
-        Outbox outbox = Outbox.builder()
-                .aggregateType("PAYMENT") // AggregateType
-                .aggregateId(paymentKey != null ? paymentKey : "UNKNOWN_" + orderId) // ID
-                .eventType(eventType)
-                .payload(payload)
+    private TossPaymentResponse inProgressResponse(String paymentKey, String orderId) {
+        return TossPaymentResponse.builder()
+                .status("IN_PROGRESS")
+                .orderId(orderId)
+                .paymentKey(paymentKey)
                 .build();
-        outboxRepository.save(outbox);
     }
-    
+
     // 보상 트랜잭션 메서드 (Fallback 취소)
     private void cancelPayment(String paymentKey, String reason) {
         log.warn(">>> TRIGGERING PAYMENT CANCELLATION for key: {}, reason: {}", paymentKey, reason);
-        
-        try {
-            // 1. 시크릿 키 인코딩
-            String encodedKey = Base64.getEncoder().encodeToString((tossSecretKey + ":").getBytes(StandardCharsets.UTF_8));
-            String authorization = "Basic " + encodedKey;
 
-            // 2. 토스 취소 API 호출
+        try {
+            // 토스 취소 API 호출
             TossPaymentCancelRequest request = TossPaymentCancelRequest.builder()
                     .cancelReason(reason)
                     .build();
-            
-            tossPaymentsClient.cancelPayment(authorization, paymentKey, request);
-            
+
+            tossPaymentsClient.cancelPayment(paymentKey, request);
+
             log.info(">>> PAYMENT CANCELLED SUCCESSFULLY for key: {}", paymentKey);
         } catch (Exception e) {
             log.error(">>> CRITICAL: FAILED TO CANCEL PAYMENT during compensation! Manual intervention required. Key: {}", paymentKey, e);
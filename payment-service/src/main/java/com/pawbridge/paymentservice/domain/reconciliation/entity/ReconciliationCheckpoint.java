@@ -0,0 +1,50 @@
+package com.pawbridge.paymentservice.domain.reconciliation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대사(Reconciliation) 작업 진행 위치
+ * - 실행 구간(windowFrom ~ windowTo)과 마지막 처리 결제 ID(keyset 커서)를 청크마다 저장
+ * - 중단 후 재시작하면 같은 구간의 다음 청크부터 이어서 처리
+ * - owner/lockedUntil: 여러 인스턴스 중 하나만 실행하도록 하는 임대(lease) 소유자와 만료 시각
+ * - 상태 변경은 모두 ReconciliationCheckpointRepository의 조건부 UPDATE(owner 일치)로만 수행
+ *   (분리된 엔티티를 save로 병합하면 다른 실행자의 커서/임대를 덮어씀)
+ */
+@Entity
+@Getter
+@Table(name = "reconciliation_checkpoint")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReconciliationCheckpoint {
+
+    @Id
+    @Column(length = 50)
+    private String jobName;
+
+    private LocalDateTime windowFrom;
+    private LocalDateTime windowTo;
+
+    @Column(nullable = false)
+    private Long lastPaymentId;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(length = 36)
+    private String owner;
+
+    private LocalDateTime lockedUntil;
+
+    public ReconciliationCheckpoint(String jobName) {
+        this.jobName = jobName;
+        this.lastPaymentId = 0L;
+        this.completed = true; // 첫 실행 시 새 구간 시작
+    }
+}
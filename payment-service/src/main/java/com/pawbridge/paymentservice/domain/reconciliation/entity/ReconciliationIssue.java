@@ -0,0 +1,74 @@
+package com.pawbridge.paymentservice.domain.reconciliation.entity;
+
+import com.pawbridge.paymentservice.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대사 불일치 기록 (예외 보고서)
+ * - 결제당 유형별 1건 (재실행 시 중복 기록/중복 보정 방지)
+ * - corrected=true: 보정 이벤트를 발행한 건, false: 운영자 확인 필요
+ */
+@Entity
+@Getter
+@Table(name = "reconciliation_issue", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reconciliation_issue_payment_type", columnNames = {"payment_key", "issue_type"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReconciliationIssue extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String paymentKey;
+
+    @Column(nullable = false, length = 36)
+    private String orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ReconciliationIssueType issueType;
+
+    @Column(length = 20)
+    private String localStatus;
+
+    @Column(length = 30)
+    private String providerStatus;
+
+    @Column(length = 20)
+    private String orderStatus;
+
+    private Long localAmount;
+    private Long providerAmount;
+
+    @Column(nullable = false)
+    private boolean corrected;
+
+    @Builder
+    public ReconciliationIssue(String paymentKey, String orderId, ReconciliationIssueType issueType,
+                               String localStatus, String providerStatus, String orderStatus,
+                               Long localAmount, Long providerAmount, boolean corrected) {
+        this.paymentKey = paymentKey;
+        this.orderId = orderId;
+        this.issueType = issueType;
+        this.localStatus = localStatus;
+        this.providerStatus = providerStatus;
+        this.orderStatus = orderStatus;
+        this.localAmount = localAmount;
+        this.providerAmount = providerAmount;
+        this.corrected = corrected;
+    }
+}
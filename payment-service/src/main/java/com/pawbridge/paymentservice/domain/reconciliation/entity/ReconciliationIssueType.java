@@ -0,0 +1,12 @@
+package com.pawbridge.paymentservice.domain.reconciliation.entity;
+
+public enum ReconciliationIssueType {
+    PROVIDER_NOT_FOUND,        // 로컬 DONE인데 토스에 결제 없음 (보고)
+    AMOUNT_MISMATCH,           // 토스 승인 금액과 로컬 금액 불일치 (보고)
+    CANCELED_AT_PROVIDER,      // 로컬 DONE, 토스 취소/만료 → 로컬 CANCELED + PAYMENT_CANCELED 발행 (보정)
+    PARTIALLY_CANCELED,        // 토스 부분 취소 (보고)
+    APPROVED_AT_PROVIDER,      // 로컬 실패/취소, 토스 승인 (보상 취소 실패 등, 환불 필요) (보고)
+    ORDER_NOT_PAID,            // 결제 완료인데 주문 PENDING → PAYMENT_COMPLETED 재발행 (보정)
+    ORDER_CANCELED_BUT_PAID,   // 결제 완료인데 주문 취소/실패 (환불 필요) (보고)
+    ORDER_NOT_CANCELED         // 결제 실패인데 주문 미취소 → PAYMENT_FAILED 재발행 (보정)
+}
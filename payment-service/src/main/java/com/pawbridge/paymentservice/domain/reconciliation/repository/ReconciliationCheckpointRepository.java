@@ -0,0 +1,57 @@
+package com.pawbridge.paymentservice.domain.reconciliation.repository;
+
+import com.pawbridge.paymentservice.domain.reconciliation.entity.ReconciliationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ReconciliationCheckpointRepository extends JpaRepository<ReconciliationCheckpoint, String> {
+
+    // 임대 획득 (만료된 경우에만), 1이면 획득 성공
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReconciliationCheckpoint c SET c.owner = :owner, c.lockedUntil = :lockedUntil " +
+            "WHERE c.jobName = :jobName AND (c.lockedUntil IS NULL OR c.lockedUntil < :now)")
+    int tryAcquire(@Param("jobName") String jobName,
+                   @Param("owner") String owner,
+                   @Param("now") LocalDateTime now,
+                   @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // 이하 owner가 일치할 때만 반영, 0이면 임대를 잃은 것
+
+    // 새 실행 구간 시작 (커서 초기화)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReconciliationCheckpoint c SET c.windowFrom = :windowFrom, c.windowTo = :windowTo, " +
+            "c.lastPaymentId = 0L, c.completed = false WHERE c.jobName = :jobName AND c.owner = :owner")
+    int startRun(@Param("jobName") String jobName,
+                 @Param("owner") String owner,
+                 @Param("windowFrom") LocalDateTime windowFrom,
+                 @Param("windowTo") LocalDateTime windowTo);
+
+    // 청크 처리 완료 후 커서 전진 + 임대 연장
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReconciliationCheckpoint c SET c.lastPaymentId = :lastPaymentId, c.lockedUntil = :lockedUntil " +
+            "WHERE c.jobName = :jobName AND c.owner = :owner")
+    int advance(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("lastPaymentId") Long lastPaymentId,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReconciliationCheckpoint c SET c.completed = true WHERE c.jobName = :jobName AND c.owner = :owner")
+    int complete(@Param("jobName") String jobName, @Param("owner") String owner);
+
+    // 자신이 가진 임대만 해제 (임대 만료 후 다른 인스턴스가 획득했으면 건드리지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReconciliationCheckpoint c SET c.owner = NULL, c.lockedUntil = NULL " +
+            "WHERE c.jobName = :jobName AND c.owner = :owner")
+    int release(@Param("jobName") String jobName, @Param("owner") String owner);
+}
@@ -0,0 +1,9 @@
+package com.pawbridge.paymentservice.domain.reconciliation.repository;
+
+import com.pawbridge.paymentservice.domain.reconciliation.entity.ReconciliationIssue;
+import com.pawbridge.paymentservice.domain.reconciliation.entity.ReconciliationIssueType;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReconciliationIssueRepository extends JpaRepository<ReconciliationIssue, Long> {
+    boolean existsByPaymentKeyAndIssueType(String paymentKey, ReconciliationIssueType issueType);
+}
@@ -0,0 +1,31 @@
+package com.pawbridge.paymentservice.domain.reconciliation.scheduler;
+
+import com.pawbridge.paymentservice.domain.reconciliation.service.PaymentReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "payment.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentReconciliationScheduler {
+
+    private final PaymentReconciliationService paymentReconciliationService;
+
+    /**
+     * 결제 대사 (로컬 결제 ↔ 토스 ↔ 스토어 주문)
+     * - 한 번에 처리하지 못한 청크는 체크포인트부터 다음 실행에서 이어서 처리
+     */
+    @Scheduled(cron = "${payment.reconciliation.cron:0 */30 * * * *}")
+    public void reconcile() {
+        try {
+            int issues = paymentReconciliationService.reconcile();
+            log.info("[PAYMENT-RECON] Finished: newIssues={}", issues);
+        } catch (Exception e) {
+            log.error("[PAYMENT-RECON] Reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.pawbridge.paymentservice.domain.reconciliation.service;
+
+public interface PaymentReconciliationService {
+
+    // 최근 결제를 토스/스토어 주문 상태와 대사, 새로 발견한 불일치 건수 반환
+    int reconcile();
+}
@@ -0,0 +1,346 @@
+package com.pawbridge.paymentservice.domain.reconciliation.service;
+
+import com.pawbridge.paymentservice.client.StoreServiceClient;
+import com.pawbridge.paymentservice.client.TossPaymentsClient;
+import com.pawbridge.paymentservice.domain.payment.dto.StoreOrderResponse;
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentResponse;
+import com.pawbridge.paymentservice.domain.payment.entity.Payment;
+import com.pawbridge.paymentservice.domain.payment.entity.PaymentStatus;
+import com.pawbridge.paymentservice.domain.payment.repository.PaymentRepository;
+import com.pawbridge.paymentservice.domain.reconciliation.entity.ReconciliationCheckpoint;
+import com.pawbridge.paymentservice.domain.reconciliation.entity.ReconciliationIssue;
+import com.pawbridge.paymentservice.domain.reconciliation.entity.ReconciliationIssueType;
+import com.pawbridge.paymentservice.domain.reconciliation.repository.ReconciliationCheckpointRepository;
+import com.pawbridge.paymentservice.domain.reconciliation.repository.ReconciliationIssueRepository;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * 결제 대사 서비스
+ *
+ * 로컬 결제, 토스 결제, 스토어 주문 상태의 불일치를 찾아 보정하거나 보고:
+ * - 최근 결제를 id 기준 keyset 청크로 조회 (청크마다 체크포인트 저장 → 중단 후 이어서 실행)
+ * - 청크 내 토스/스토어 조회는 reconciliationExecutor 스레드 수만큼만 동시 실행
+ * - 일치를 확인한 결제는 reconciledAt 기록 후 recheck-after 동안 다시 조회하지 않음 (토스 조회량 제한)
+ * - 임대는 실행마다 새 owner 토큰으로 획득하고, 커서 전진/연장/해제는 owner가 일치할 때만 반영
+ * - 이벤트 유실/외부 취소는 Outbox 이벤트로 보정, 환불이 필요한 건은 불일치 기록만 (운영자 확인)
+ * - PENDING 결제는 PendingPaymentRecoveryScheduler 담당이므로 제외
+ */
+@Slf4j
+@Service
+public class PaymentReconciliationServiceImpl implements PaymentReconciliationService {
+
+    private static final String JOB_NAME = "payment-reconciliation";
+    private static final Set<PaymentStatus> TARGET_STATUSES =
+            Set.of(PaymentStatus.DONE, PaymentStatus.ABORTED, PaymentStatus.CANCELED);
+    private static final Set<PaymentStatus> ACTIVE_STATUSES = Set.of(PaymentStatus.DONE, PaymentStatus.PENDING);
+    private static final Set<String> PROVIDER_CANCELED_STATUSES = Set.of("CANCELED", "ABORTED", "EXPIRED");
+
+    private final PaymentRepository paymentRepository;
+    private final ReconciliationCheckpointRepository checkpointRepository;
+    private final ReconciliationIssueRepository issueRepository;
+    private final ReconciliationRecorder reconciliationRecorder;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final StoreServiceClient storeServiceClient;
+    private final ThreadPoolTaskExecutor reconciliationExecutor;
+
+    @Value("${payment.reconciliation.lookback:48h}")
+    private Duration lookback;
+
+    @Value("${payment.reconciliation.settle-delay:10m}")
+    private Duration settleDelay;
+
+    @Value("${payment.reconciliation.batch-size:200}")
+    private int batchSize;
+
+    @Value("${payment.reconciliation.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${payment.reconciliation.lease:10m}")
+    private Duration lease;
+
+    @Value("${payment.reconciliation.recheck-after:24h}")
+    private Duration recheckAfter;
+
+    public PaymentReconciliationServiceImpl(PaymentRepository paymentRepository,
+                                            ReconciliationCheckpointRepository checkpointRepository,
+                                            ReconciliationIssueRepository issueRepository,
+                                            ReconciliationRecorder reconciliationRecorder,
+                                            TossPaymentsClient tossPaymentsClient,
+                                            StoreServiceClient storeServiceClient,
+                                            @Qualifier("reconciliationExecutor") ThreadPoolTaskExecutor reconciliationExecutor) {
+        this.paymentRepository = paymentRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.issueRepository = issueRepository;
+        this.reconciliationRecorder = reconciliationRecorder;
+        this.tossPaymentsClient = tossPaymentsClient;
+        this.storeServiceClient = storeServiceClient;
+        this.reconciliationExecutor = reconciliationExecutor;
+    }
+
+    /**
+     * 대사 조회 결과
+     * - provider == null && !providerMissing: 토스 조회 실패 (이번 실행에서는 판단 보류)
+     * - orderStatus == null: 스토어 조회 실패 (주문 상태 비교 생략)
+     */
+    private record Inspection(Payment payment, TossPaymentResponse provider, boolean providerMissing, String orderStatus) {
+
+        boolean isComplete() {
+            return (provider != null || providerMissing) && orderStatus != null;
+        }
+    }
+
+    @Override
+    public int reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        String owner = UUID.randomUUID().toString();
+        ensureCheckpoint();
+
+        // 1. 임대 획득 (다른 인스턴스가 실행 중이면 건너뜀)
+        if (checkpointRepository.tryAcquire(JOB_NAME, owner, now, now.plus(lease)) == 0) {
+            log.info("[PAYMENT-RECON] Another instance is running, skipping");
+            return 0;
+        }
+
+        try {
+            ReconciliationCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME).orElseThrow();
+            LocalDateTime windowFrom = checkpoint.getWindowFrom();
+            LocalDateTime windowTo = checkpoint.getWindowTo();
+            Long lastPaymentId = checkpoint.getLastPaymentId();
+
+            // 2. 이전 실행이 끝났으면 새 구간 시작, 아니면 저장된 커서부터 이어서 실행
+            if (checkpoint.isCompleted()) {
+                windowFrom = now.minus(lookback);
+                windowTo = now.minus(settleDelay);
+                lastPaymentId = 0L;
+                if (checkpointRepository.startRun(JOB_NAME, owner, windowFrom, windowTo) == 0) {
+                    log.warn("[PAYMENT-RECON] Lease lost before start, skipping");
+                    return 0;
+                }
+                log.info("[PAYMENT-RECON] Run started: window={} ~ {}", windowFrom, windowTo);
+            } else {
+                log.info("[PAYMENT-RECON] Resuming run: window={} ~ {}, afterId={}", windowFrom, windowTo, lastPaymentId);
+            }
+
+            // 3. keyset 청크 처리 (한 번에 최대 maxBatchesPerRun 청크, 나머지는 다음 실행에서)
+            LocalDateTime recheckBefore = now.minus(recheckAfter);
+            int issues = 0;
+            for (int batches = 0; batches < maxBatchesPerRun; batches++) {
+                List<Payment> batch = paymentRepository.findReconciliationBatch(
+                        lastPaymentId, windowFrom, windowTo, TARGET_STATUSES, recheckBefore, PageRequest.of(0, batchSize));
+
+                if (batch.isEmpty()) {
+                    if (checkpointRepository.complete(JOB_NAME, owner) == 1) {
+                        log.info("[PAYMENT-RECON] Run completed: window={} ~ {}", windowFrom, windowTo);
+                    }
+                    break;
+                }
+
+                issues += reconcileBatch(batch);
+
+                // 4. 커서 전진 + 임대 연장 (임대를 잃었으면 새 소유자에게 맡기고 중단)
+                lastPaymentId = batch.get(batch.size() - 1).getId();
+                if (checkpointRepository.advance(JOB_NAME, owner, lastPaymentId, LocalDateTime.now().plus(lease)) == 0) {
+                    log.warn("[PAYMENT-RECON] Lease lost, stopping: afterId={}", lastPaymentId);
+                    break;
+                }
+            }
+            return issues;
+        } finally {
+            checkpointRepository.release(JOB_NAME, owner);
+        }
+    }
+
+    /**
+     * 청크 하나 대사
+     * - 외부 조회는 병렬 (동시 실행 수 제한), 보정/기록은 호출 스레드에서 순차 처리
+     * - 토스/스토어 조회가 모두 성공하고 판정까지 끝난 결제만 확인 시각 기록 (조회 실패 건은 다음 실행에서 재확인)
+     */
+    private int reconcileBatch(List<Payment> batch) {
+        List<CompletableFuture<Inspection>> inspections = batch.stream()
+                .map(payment -> CompletableFuture.supplyAsync(() -> inspect(payment), reconciliationExecutor))
+                .toList();
+
+        int issues = 0;
+        List<Long> reconciledIds = new ArrayList<>();
+        for (CompletableFuture<Inspection> future : inspections) {
+            Inspection inspection = future.join();
+            try {
+                if (compareAndRecord(inspection)) {
+                    issues++;
+                }
+                if (inspection.isComplete()) {
+                    reconciledIds.add(inspection.payment().getId());
+                }
+            } catch (DataIntegrityViolationException e) {
+                // 다른 실행에서 이미 기록 (UNIQUE 충돌)
+                log.debug("[PAYMENT-RECON] Issue already recorded: paymentKey={}", inspection.payment().getPaymentKey());
+            } catch (Exception e) {
+                log.error("[PAYMENT-RECON] Failed to record issue: paymentKey={}", inspection.payment().getPaymentKey(), e);
+            }
+        }
+
+        if (!reconciledIds.isEmpty()) {
+            paymentRepository.markReconciled(reconciledIds, LocalDateTime.now());
+        }
+        return issues;
+    }
+
+    /**
+     * 토스 결제 + 스토어 주문 조회 (실패해도 예외 전파 안 함)
+     */
+    private Inspection inspect(Payment payment) {
+        TossPaymentResponse provider = null;
+        boolean providerMissing = false;
+        try {
+            provider = tossPaymentsClient.getPayment(payment.getPaymentKey());
+        } catch (FeignException.NotFound e) {
+            providerMissing = true;
+        } catch (Exception e) {
+            log.warn("[PAYMENT-RECON] Toss lookup failed: paymentKey={}, cause={}", payment.getPaymentKey(), e.toString());
+        }
+
+        String orderStatus = null;
+        try {
+            StoreOrderResponse order = storeServiceClient.getOrder(payment.getOrderId());
+            orderStatus = order != null ? order.getStatus() : null;
+        } catch (Exception e) {
+            log.warn("[PAYMENT-RECON] Order lookup failed: orderId={}, cause={}", payment.getOrderId(), e.toString());
+        }
+
+        return new Inspection(payment, provider, providerMissing, orderStatus);
+    }
+
+    /**
+     * 불일치 판정 + 보정/기록 (결제당 최대 1건)
+     * @return 새로 기록했으면 true
+     */
+    private boolean compareAndRecord(Inspection inspection) {
+        Payment payment = inspection.payment();
+        TossPaymentResponse provider = inspection.provider();
+        boolean localDone = payment.getStatus() == PaymentStatus.DONE;
+
+        if (inspection.providerMissing()) {
+            return localDone && report(inspection, ReconciliationIssueType.PROVIDER_NOT_FOUND);
+        }
+        if (provider == null) {
+            return false; // 토스 조회 실패 → 다음 실행에서 다시 확인 (구간이 겹치도록 lookback 설정)
+        }
+
+        String providerStatus = provider.getStatus();
+        boolean providerDone = "DONE".equals(providerStatus);
+
+        // 1. 로컬 완료 결제
+        if (localDone) {
+            if (PROVIDER_CANCELED_STATUSES.contains(providerStatus)) {
+                return correct(inspection, ReconciliationIssueType.CANCELED_AT_PROVIDER,
+                        reconciliationRecorder::correctCanceled);
+            }
+            if ("PARTIAL_CANCELED".equals(providerStatus)) {
+                return report(inspection, ReconciliationIssueType.PARTIALLY_CANCELED);
+            }
+            if (providerDone && !Objects.equals(provider.getTotalAmount(), payment.getAmount())) {
+                return report(inspection, ReconciliationIssueType.AMOUNT_MISMATCH);
+            }
+            if (providerDone && "PENDING".equals(inspection.orderStatus())) {
+                return correct(inspection, ReconciliationIssueType.ORDER_NOT_PAID,
+                        issue -> reconciliationRecorder.correctByRepublish(issue, "PAYMENT_COMPLETED", provider));
+            }
+            if (providerDone && ("CANCELLED".equals(inspection.orderStatus()) || "FAILED".equals(inspection.orderStatus()))) {
+                return report(inspection, ReconciliationIssueType.ORDER_CANCELED_BUT_PAID);
+            }
+            return false;
+        }
+
+        // 2. 로컬 실패/취소 결제
+        if (providerDone) {
+            // 승인 후 DB 확정 실패 + 보상 취소 실패 등 → 환불 필요
+            return report(inspection, ReconciliationIssueType.APPROVED_AT_PROVIDER);
+        }
+        if (("PENDING".equals(inspection.orderStatus()) || "PAID".equals(inspection.orderStatus()))
+                && !paymentRepository.existsByOrderIdAndStatusIn(payment.getOrderId(), ACTIVE_STATUSES)) {
+            // 같은 주문을 다른 결제로 재시도 중/완료한 경우는 제외
+            TossPaymentResponse failure = TossPaymentResponse.builder()
+                    .paymentKey(payment.getPaymentKey())
+                    .orderId(payment.getOrderId())
+                    .status(payment.getStatus().name())
+                    .build();
+            String eventType = payment.getStatus() == PaymentStatus.CANCELED ? "PAYMENT_CANCELED" : "PAYMENT_FAILED";
+            return correct(inspection, ReconciliationIssueType.ORDER_NOT_CANCELED,
+                    issue -> reconciliationRecorder.correctByRepublish(issue, eventType, failure));
+        }
+        return false;
+    }
+
+    private boolean report(Inspection inspection, ReconciliationIssueType type) {
+        if (issueRepository.existsByPaymentKeyAndIssueType(inspection.payment().getPaymentKey(), type)) {
+            return false;
+        }
+        reconciliationRecorder.report(toIssue(inspection, type, false));
+        log.warn("[PAYMENT-RECON] Mismatch reported: type={}, paymentKey={}, local={}, provider={}, order={}",
+                type, inspection.payment().getPaymentKey(), inspection.payment().getStatus(),
+                providerStatus(inspection), inspection.orderStatus());
+        return true;
+    }
+
+    private boolean correct(Inspection inspection, ReconciliationIssueType type,
+                            Consumer<ReconciliationIssue> correction) {
+        if (issueRepository.existsByPaymentKeyAndIssueType(inspection.payment().getPaymentKey(), type)) {
+            return false;
+        }
+        correction.accept(toIssue(inspection, type, true));
+        log.warn("[PAYMENT-RECON] Mismatch corrected: type={}, paymentKey={}, local={}, provider={}, order={}",
+                type, inspection.payment().getPaymentKey(), inspection.payment().getStatus(),
+                providerStatus(inspection), inspection.orderStatus());
+        return true;
+    }
+
+    private ReconciliationIssue toIssue(Inspection inspection, ReconciliationIssueType type, boolean corrected) {
+        Payment payment = inspection.payment();
+        return ReconciliationIssue.builder()
+                .paymentKey(payment.getPaymentKey())
+                .orderId(payment.getOrderId())
+                .issueType(type)
+                .localStatus(payment.getStatus().name())
+                .providerStatus(providerStatus(inspection))
+                .orderStatus(inspection.orderStatus())
+                .localAmount(payment.getAmount())
+                .providerAmount(inspection.provider() != null ? inspection.provider().getTotalAmount() : null)
+                .corrected(corrected)
+                .build();
+    }
+
+    private String providerStatus(Inspection inspection) {
+        if (inspection.providerMissing()) {
+            return "NOT_FOUND";
+        }
+        return inspection.provider() != null ? inspection.provider().getStatus() : null;
+    }
+
+    private void ensureCheckpoint() {
+        if (checkpointRepository.existsById(JOB_NAME)) {
+            return;
+        }
+        try {
+            checkpointRepository.save(new ReconciliationCheckpoint(JOB_NAME));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 생성
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.pawbridge.paymentservice.domain.reconciliation.service;
+
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentResponse;
+import com.pawbridge.paymentservice.domain.payment.service.PaymentRecorder;
+import com.pawbridge.paymentservice.domain.reconciliation.entity.ReconciliationIssue;
+import com.pawbridge.paymentservice.domain.reconciliation.repository.ReconciliationIssueRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 대사 불일치 기록 + 보정 (불일치 1건당 짧은 트랜잭션)
+ * - 보정 Outbox와 불일치 기록을 같은 트랜잭션으로 커밋
+ * - 같은 결제/유형이 이미 기록되어 있으면 UNIQUE 제약으로 롤백 (중복 보정 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReconciliationRecorder {
+
+    private final ReconciliationIssueRepository issueRepository;
+    private final PaymentRecorder paymentRecorder;
+
+    @Transactional
+    public void report(ReconciliationIssue issue) {
+        issueRepository.save(issue);
+    }
+
+    /**
+     * 토스에서 취소된 완료 결제 보정 (로컬 CANCELED + PAYMENT_CANCELED)
+     */
+    @Transactional
+    public void correctCanceled(ReconciliationIssue issue) {
+        paymentRecorder.cancelByProvider(issue.getPaymentKey(), issue.getOrderId());
+        issueRepository.save(issue);
+    }
+
+    /**
+     * 유실된 결제 이벤트 재발행
+     */
+    @Transactional
+    public void correctByRepublish(ReconciliationIssue issue, String eventType, TossPaymentResponse payload) {
+        paymentRecorder.republish(issue.getPaymentKey(), eventType, payload);
+        issueRepository.save(issue);
+    }
+}
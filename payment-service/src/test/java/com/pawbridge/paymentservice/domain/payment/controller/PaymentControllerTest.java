@@ -0,0 +1,152 @@
+package com.pawbridge.paymentservice.domain.payment.controller;
+
+import com.pawbridge.paymentservice.common.service.IdempotencyService;
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentConfirmRequest;
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentResponse;
+import com.pawbridge.paymentservice.domain.payment.service.PaymentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 결제 승인 Idempotency 적용 범위
+ * - IdempotencyService 자체 동작은 store-service IdempotencyServiceTest에서 검증 (동일 사본)
+ * - 여기서는 payment-confirm 범위와 저장할 결과 판단(DONE/ABORTED만 저장)만 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentControllerTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "key-1";
+    private static final String REDIS_KEY = "idempotency:payment-confirm:" + USER_ID + ":" + KEY;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    // Redis 대역: 키 → 값 (SET NX / GET / 스크립트 의미만 흉내냄, TTL은 무시)
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+
+    private IdempotencyService idempotencyService;
+    private PaymentController paymentController;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        lenient().when(valueOperations.get(anyString()))
+                .thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(this::runScript);
+
+        idempotencyService = new IdempotencyService(redisTemplate, Jackson2ObjectMapperBuilder.json().build(),
+                Duration.ofHours(24), Duration.ofSeconds(60), Duration.ofSeconds(5), Duration.ofMillis(10));
+        paymentController = new PaymentController(paymentService, idempotencyService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyService.shutdown();
+    }
+
+    @Test
+    void 승인_완료_결과는_payment_confirm_범위에_저장해_재요청_시_다시_승인하지_않는다() {
+        TossPaymentConfirmRequest request = request();
+        given(paymentService.confirmPayment(USER_ID, request)).willReturn(response("DONE"));
+
+        TossPaymentResponse first = paymentController.confirmPayment(USER_ID, KEY, request).getBody();
+        TossPaymentResponse replay = paymentController.confirmPayment(USER_ID, KEY, request).getBody();
+
+        assertThat(redis.get(REDIS_KEY)).contains("\"state\":\"DONE\"");
+        assertThat(replay.getStatus()).isEqualTo("DONE");
+        assertThat(replay.getPaymentKey()).isEqualTo(first.getPaymentKey());
+        verify(paymentService, times(1)).confirmPayment(USER_ID, request);
+    }
+
+    @Test
+    void 처리_중_결과는_저장하지_않아_재요청_시_다시_확인한다() {
+        TossPaymentConfirmRequest request = request();
+        given(paymentService.confirmPayment(USER_ID, request))
+                .willReturn(response("IN_PROGRESS"))
+                .willReturn(response("DONE"));
+
+        TossPaymentResponse first = paymentController.confirmPayment(USER_ID, KEY, request).getBody();
+        assertThat(first.getStatus()).isEqualTo("IN_PROGRESS");
+        assertThat(redis).doesNotContainKey(REDIS_KEY);
+
+        TossPaymentResponse retried = paymentController.confirmPayment(USER_ID, KEY, request).getBody();
+
+        assertThat(retried.getStatus()).isEqualTo("DONE");
+        assertThat(redis.get(REDIS_KEY)).contains("\"state\":\"DONE\"");
+        verify(paymentService, times(2)).confirmPayment(USER_ID, request);
+    }
+
+    private TossPaymentConfirmRequest request() {
+        return TossPaymentConfirmRequest.builder()
+                .paymentKey("pay-key-1")
+                .orderId("order-uuid-1")
+                .amount(30000L)
+                .build();
+    }
+
+    private TossPaymentResponse response(String status) {
+        return TossPaymentResponse.builder()
+                .paymentKey("pay-key-1")
+                .orderId("order-uuid-1")
+                .totalAmount(30000L)
+                .status(status)
+                .build();
+    }
+
+    private Object runScript(InvocationOnMock invocation) {
+        RedisScript<?> script = invocation.getArgument(0);
+        String key = invocation.<List<String>>getArgument(1).get(0);
+        Object[] raw = invocation.getRawArguments();
+        Object[] args = raw[2] instanceof Object[] array ? array : Arrays.copyOfRange(raw, 2, raw.length);
+        String source = script.getScriptAsString();
+
+        synchronized (redis) {
+            if (!args[0].equals(redis.get(key))) {
+                return 0L;
+            }
+            if (source.contains("PEXPIRE")) {
+                return 1L;
+            }
+            if (source.contains("'DEL'")) {
+                redis.remove(key);
+                return 1L;
+            }
+            redis.put(key, (String) args[1]);
+            return 1L;
+        }
+    }
+}
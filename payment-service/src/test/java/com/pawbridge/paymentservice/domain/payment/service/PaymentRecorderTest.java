@@ -0,0 +1,112 @@
+package com.pawbridge.paymentservice.domain.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pawbridge.paymentservice.common.entity.Outbox;
+import com.pawbridge.paymentservice.common.repository.OutboxRepository;
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentResponse;
+import com.pawbridge.paymentservice.domain.payment.entity.Payment;
+import com.pawbridge.paymentservice.domain.payment.entity.PaymentStatus;
+import com.pawbridge.paymentservice.domain.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentRecorderTest {
+
+    private static final String PAYMENT_KEY = "pay_123";
+    private static final String ORDER_ID = "order-uuid";
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    private PaymentRecorder paymentRecorder;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        paymentRecorder = new PaymentRecorder(paymentRepository, outboxRepository, objectMapper);
+    }
+
+    @Test
+    void PENDING_결제는_DONE으로_확정하고_완료_이벤트를_기록한다() {
+        Payment payment = Payment.pending(PAYMENT_KEY, ORDER_ID, 1L, 10_000L);
+        given(paymentRepository.findForUpdateByPaymentKey(PAYMENT_KEY)).willReturn(Optional.of(payment));
+
+        boolean completed = paymentRecorder.complete(PAYMENT_KEY, doneResponse());
+
+        assertThat(completed).isTrue();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+        assertThat(payment.getMethod()).isEqualTo("카드");
+        assertThat(savedOutbox().getEventType()).isEqualTo("PAYMENT_COMPLETED");
+    }
+
+    @Test
+    void 이미_확정된_결제는_다시_전이하지_않는다() {
+        Payment payment = Payment.pending(PAYMENT_KEY, ORDER_ID, 1L, 10_000L);
+        payment.abort();
+        given(paymentRepository.findForUpdateByPaymentKey(PAYMENT_KEY)).willReturn(Optional.of(payment));
+
+        boolean completed = paymentRecorder.complete(PAYMENT_KEY, doneResponse());
+
+        assertThat(completed).isFalse();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.ABORTED);
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    void PENDING_결제는_ABORTED로_확정하고_실패_이벤트를_기록한다() {
+        Payment payment = Payment.pending(PAYMENT_KEY, ORDER_ID, 1L, 10_000L);
+        given(paymentRepository.findForUpdateByPaymentKey(PAYMENT_KEY)).willReturn(Optional.of(payment));
+
+        boolean aborted = paymentRecorder.abort(PAYMENT_KEY, ORDER_ID);
+
+        assertThat(aborted).isTrue();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.ABORTED);
+        assertThat(savedOutbox().getEventType()).isEqualTo("PAYMENT_FAILED");
+    }
+
+    @Test
+    void 완료되지_않은_결제는_제공자_취소로_바꾸지_않는다() {
+        Payment payment = Payment.pending(PAYMENT_KEY, ORDER_ID, 1L, 10_000L);
+        given(paymentRepository.findForUpdateByPaymentKey(PAYMENT_KEY)).willReturn(Optional.of(payment));
+
+        assertThat(paymentRecorder.cancelByProvider(PAYMENT_KEY, ORDER_ID)).isFalse();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        verify(outboxRepository, never()).save(any());
+    }
+
+    private TossPaymentResponse doneResponse() {
+        return TossPaymentResponse.builder()
+                .paymentKey(PAYMENT_KEY)
+                .orderId(ORDER_ID)
+                .method("카드")
+                .status("DONE")
+                .totalAmount(10_000L)
+                .requestedAt(OffsetDateTime.now())
+                .approvedAt(OffsetDateTime.now())
+                .build();
+    }
+
+    private Outbox savedOutbox() {
+        ArgumentCaptor<Outbox> captor = ArgumentCaptor.forClass(Outbox.class);
+        verify(outboxRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
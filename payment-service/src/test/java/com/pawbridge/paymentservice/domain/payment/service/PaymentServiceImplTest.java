@@ -0,0 +1,216 @@
+package com.pawbridge.paymentservice.domain.payment.service;
+
+import com.pawbridge.paymentservice.client.StoreServiceClient;
+import com.pawbridge.paymentservice.client.TossPaymentsClient;
+import com.pawbridge.paymentservice.domain.payment.dto.StoreOrderResponse;
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentConfirmRequest;
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentResponse;
+import com.pawbridge.paymentservice.domain.payment.entity.Payment;
+import com.pawbridge.paymentservice.domain.payment.entity.PaymentStatus;
+import com.pawbridge.paymentservice.domain.payment.repository.PaymentRepository;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceImplTest {
+
+    private static final String PAYMENT_KEY = "pay_123";
+    private static final String ORDER_ID = "order-uuid";
+    private static final long AMOUNT = 10_000L;
+
+    @Mock
+    private TossPaymentsClient tossPaymentsClient;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentRecorder paymentRecorder;
+
+    @Mock
+    private StoreServiceClient storeServiceClient;
+
+    @InjectMocks
+    private PaymentServiceImpl paymentService;
+
+    private final TossPaymentConfirmRequest request = TossPaymentConfirmRequest.builder()
+            .paymentKey(PAYMENT_KEY)
+            .orderId(ORDER_ID)
+            .amount(AMOUNT)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(paymentService, "staleAfterSeconds", 60L);
+        ReflectionTestUtils.setField(paymentService, "recoveryBatchSize", 2);
+    }
+
+    @Test
+    void 토스_승인_성공이면_DONE으로_확정한다() {
+        givenNewPayment();
+        TossPaymentResponse done = tossResponse("DONE");
+        given(tossPaymentsClient.confirmPayment(request)).willReturn(done);
+
+        TossPaymentResponse response = paymentService.confirmPayment(1L, request);
+
+        assertThat(response.getStatus()).isEqualTo("DONE");
+        verify(paymentRecorder).createPending(1L, request);
+        verify(paymentRecorder).complete(PAYMENT_KEY, done);
+    }
+
+    @Test
+    void 토스가_4xx로_거절하면_ABORTED로_확정한다() {
+        givenNewPayment();
+        given(tossPaymentsClient.confirmPayment(request)).willThrow(feignException(400, "REJECT_CARD_PAYMENT"));
+
+        TossPaymentResponse response = paymentService.confirmPayment(1L, request);
+
+        assertThat(response.getStatus()).isEqualTo("ABORTED");
+        verify(paymentRecorder).abort(PAYMENT_KEY, ORDER_ID);
+    }
+
+    @Test
+    void 서킷이_열려_승인_요청이_나가지_않으면_ABORTED로_확정한다() {
+        givenNewPayment();
+        given(tossPaymentsClient.confirmPayment(request)).willThrow(
+                CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("toss-payments")));
+
+        TossPaymentResponse response = paymentService.confirmPayment(1L, request);
+
+        assertThat(response.getStatus()).isEqualTo("ABORTED");
+        verify(paymentRecorder).abort(PAYMENT_KEY, ORDER_ID);
+    }
+
+    @Test
+    void 결과를_알_수_없는_실패는_PENDING으로_남긴다() {
+        givenNewPayment();
+        given(tossPaymentsClient.confirmPayment(request)).willThrow(feignException(503, "UNAVAILABLE"));
+
+        TossPaymentResponse response = paymentService.confirmPayment(1L, request);
+
+        assertThat(response.getStatus()).isEqualTo("IN_PROGRESS");
+        verify(paymentRecorder, never()).abort(anyString(), anyString());
+        verify(paymentRecorder, never()).complete(anyString(), any());
+    }
+
+    @Test
+    void 동시_승인_요청은_먼저_기록된_결제_상태로_응답한다() {
+        givenVerifiedOrder();
+        given(paymentRecorder.createPending(1L, request)).willThrow(new DataIntegrityViolationException("duplicate"));
+        given(paymentRepository.findByPaymentKey(PAYMENT_KEY))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(Payment.pending(PAYMENT_KEY, ORDER_ID, 1L, AMOUNT)));
+
+        TossPaymentResponse response = paymentService.confirmPayment(1L, request);
+
+        assertThat(response.getStatus()).isEqualTo("IN_PROGRESS");
+        verify(tossPaymentsClient, never()).confirmPayment(any());
+    }
+
+    @Test
+    void 복구는_토스에서_계속_진행_중인_결제를_건너뛰고_다음_배치로_이어간다() {
+        Payment first = pendingPayment(1L);
+        Payment second = pendingPayment(2L);
+        Payment third = pendingPayment(3L);
+        given(paymentRepository.findByStatusAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                eq(PaymentStatus.PENDING), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(first, second));
+        given(paymentRepository.findByStatusAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                eq(PaymentStatus.PENDING), any(LocalDateTime.class), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(third));
+        given(tossPaymentsClient.getPayment(first.getPaymentKey())).willReturn(tossResponse("WAITING_FOR_DEPOSIT"));
+        given(tossPaymentsClient.getPayment(second.getPaymentKey())).willReturn(tossResponse("IN_PROGRESS"));
+        TossPaymentResponse thirdDone = tossResponse("DONE");
+        given(tossPaymentsClient.getPayment(third.getPaymentKey())).willReturn(thirdDone);
+        given(paymentRecorder.complete(third.getPaymentKey(), thirdDone)).willReturn(true);
+
+        int firstRun = paymentService.recoverPendingPayments();
+        int secondRun = paymentService.recoverPendingPayments();
+
+        assertThat(firstRun).isZero();
+        assertThat(secondRun).isEqualTo(1);
+        // 마지막 배치가 가득 차지 않았으므로 다음 실행은 처음부터
+        assertThat(ReflectionTestUtils.getField(paymentService, "recoveryCursor")).hasToString("0");
+    }
+
+    @Test
+    void 복구_시_토스에_없는_결제는_ABORTED로_확정한다() {
+        Payment payment = pendingPayment(1L);
+        given(paymentRepository.findByStatusAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                eq(PaymentStatus.PENDING), any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(payment));
+        given(tossPaymentsClient.getPayment(payment.getPaymentKey())).willThrow(feignException(404, "NOT_FOUND_PAYMENT"));
+        given(paymentRecorder.abort(payment.getPaymentKey(), ORDER_ID)).willReturn(true);
+
+        assertThat(paymentService.recoverPendingPayments()).isEqualTo(1);
+    }
+
+    private void givenNewPayment() {
+        givenVerifiedOrder();
+        given(paymentRepository.findByPaymentKey(PAYMENT_KEY)).willReturn(Optional.empty());
+    }
+
+    private void givenVerifiedOrder() {
+        given(paymentRepository.findFirstByOrderIdAndStatus(ORDER_ID, PaymentStatus.DONE)).willReturn(Optional.empty());
+        StoreOrderResponse orderInfo = mock(StoreOrderResponse.class);
+        given(orderInfo.getTotalAmount()).willReturn(AMOUNT);
+        given(storeServiceClient.getOrder(ORDER_ID)).willReturn(orderInfo);
+    }
+
+    private Payment pendingPayment(Long id) {
+        Payment payment = Payment.pending(PAYMENT_KEY + "_" + id, ORDER_ID, 1L, AMOUNT);
+        ReflectionTestUtils.setField(payment, "id", id);
+        return payment;
+    }
+
+    private TossPaymentResponse tossResponse(String status) {
+        return TossPaymentResponse.builder()
+                .paymentKey(PAYMENT_KEY)
+                .orderId(ORDER_ID)
+                .status(status)
+                .totalAmount(AMOUNT)
+                .approvedAt(OffsetDateTime.now())
+                .build();
+    }
+
+    private FeignException feignException(int status, String code) {
+        Request feignRequest = Request.create(Request.HttpMethod.POST, "https://api.tosspayments.com/v1/payments/confirm",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        Response response = Response.builder()
+                .status(status)
+                .reason(code)
+                .request(feignRequest)
+                .headers(Map.of())
+                .body("{\"code\":\"" + code + "\"}", StandardCharsets.UTF_8)
+                .build();
+        return FeignException.errorStatus("TossPaymentsClient#confirmPayment", response);
+    }
+}
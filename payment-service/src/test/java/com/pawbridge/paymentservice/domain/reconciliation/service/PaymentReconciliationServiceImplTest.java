@@ -0,0 +1,284 @@
+package com.pawbridge.paymentservice.domain.reconciliation.service;
+
+import com.pawbridge.paymentservice.client.StoreServiceClient;
+import com.pawbridge.paymentservice.client.TossPaymentsClient;
+import com.pawbridge.paymentservice.domain.payment.dto.StoreOrderResponse;
+import com.pawbridge.paymentservice.domain.payment.dto.TossPaymentResponse;
+import com.pawbridge.paymentservice.domain.payment.entity.Payment;
+import com.pawbridge.paymentservice.domain.payment.repository.PaymentRepository;
+import com.pawbridge.paymentservice.domain.reconciliation.entity.ReconciliationCheckpoint;
+import com.pawbridge.paymentservice.domain.reconciliation.entity.ReconciliationIssue;
+import com.pawbridge.paymentservice.domain.reconciliation.entity.ReconciliationIssueType;
+import com.pawbridge.paymentservice.domain.reconciliation.repository.ReconciliationCheckpointRepository;
+import com.pawbridge.paymentservice.domain.reconciliation.repository.ReconciliationIssueRepository;
+import feign.RetryableException;
+import feign.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationServiceImplTest {
+
+    private static final String JOB_NAME = "payment-reconciliation";
+    private static final long AMOUNT = 10_000L;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private ReconciliationCheckpointRepository checkpointRepository;
+
+    @Mock
+    private ReconciliationIssueRepository issueRepository;
+
+    @Mock
+    private ReconciliationRecorder reconciliationRecorder;
+
+    @Mock
+    private TossPaymentsClient tossPaymentsClient;
+
+    @Mock
+    private StoreServiceClient storeServiceClient;
+
+    private ThreadPoolTaskExecutor reconciliationExecutor;
+
+    private PaymentReconciliationServiceImpl reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        reconciliationExecutor = new ThreadPoolTaskExecutor();
+        reconciliationExecutor.setCorePoolSize(2);
+        reconciliationExecutor.initialize();
+
+        reconciliationService = new PaymentReconciliationServiceImpl(paymentRepository, checkpointRepository,
+                issueRepository, reconciliationRecorder, tossPaymentsClient, storeServiceClient, reconciliationExecutor);
+        ReflectionTestUtils.setField(reconciliationService, "lookback", Duration.ofHours(48));
+        ReflectionTestUtils.setField(reconciliationService, "settleDelay", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(reconciliationService, "batchSize", 200);
+        ReflectionTestUtils.setField(reconciliationService, "maxBatchesPerRun", 50);
+        ReflectionTestUtils.setField(reconciliationService, "lease", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(reconciliationService, "recheckAfter", Duration.ofHours(24));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciliationExecutor.shutdown();
+    }
+
+    @Test
+    void 다른_인스턴스가_임대를_가지고_있으면_실행하지_않는다() {
+        given(checkpointRepository.existsById(JOB_NAME)).willReturn(true);
+        given(checkpointRepository.tryAcquire(eq(JOB_NAME), anyString(), any(), any())).willReturn(0);
+
+        assertThat(reconciliationService.reconcile()).isZero();
+
+        verify(paymentRepository, never()).findReconciliationBatch(any(), any(), any(), any(), any(), any());
+        verify(checkpointRepository, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    void 토스에서_취소된_완료_결제는_취소로_보정한다() {
+        Payment payment = donePayment(1L);
+        givenRun(List.of(payment));
+        given(tossPaymentsClient.getPayment("pay_1")).willReturn(tossResponse("CANCELED", AMOUNT));
+        given(storeServiceClient.getOrder("order_1")).willReturn(order("PAID"));
+
+        assertThat(reconciliationService.reconcile()).isEqualTo(1);
+
+        ArgumentCaptor<ReconciliationIssue> issue = ArgumentCaptor.forClass(ReconciliationIssue.class);
+        verify(reconciliationRecorder).correctCanceled(issue.capture());
+        assertThat(issue.getValue().getIssueType()).isEqualTo(ReconciliationIssueType.CANCELED_AT_PROVIDER);
+        assertThat(issue.getValue().isCorrected()).isTrue();
+    }
+
+    @Test
+    void 주문이_결제대기인_완료_결제는_완료_이벤트를_재발행한다() {
+        Payment payment = donePayment(1L);
+        TossPaymentResponse provider = tossResponse("DONE", AMOUNT);
+        givenRun(List.of(payment));
+        given(tossPaymentsClient.getPayment("pay_1")).willReturn(provider);
+        given(storeServiceClient.getOrder("order_1")).willReturn(order("PENDING"));
+
+        assertThat(reconciliationService.reconcile()).isEqualTo(1);
+
+        verify(reconciliationRecorder).correctByRepublish(any(ReconciliationIssue.class), eq("PAYMENT_COMPLETED"), eq(provider));
+    }
+
+    @Test
+    void 금액이_다르면_보정하지_않고_보고만_한다() {
+        Payment payment = donePayment(1L);
+        givenRun(List.of(payment));
+        given(tossPaymentsClient.getPayment("pay_1")).willReturn(tossResponse("DONE", AMOUNT + 1));
+        given(storeServiceClient.getOrder("order_1")).willReturn(order("PAID"));
+
+        assertThat(reconciliationService.reconcile()).isEqualTo(1);
+
+        ArgumentCaptor<ReconciliationIssue> issue = ArgumentCaptor.forClass(ReconciliationIssue.class);
+        verify(reconciliationRecorder).report(issue.capture());
+        assertThat(issue.getValue().getIssueType()).isEqualTo(ReconciliationIssueType.AMOUNT_MISMATCH);
+        assertThat(issue.getValue().isCorrected()).isFalse();
+    }
+
+    @Test
+    void 로컬_실패_결제가_토스에서_승인됐으면_환불_대상으로_보고한다() {
+        Payment payment = Payment.pending("pay_1", "order_1", 1L, AMOUNT);
+        payment.abort();
+        ReflectionTestUtils.setField(payment, "id", 1L);
+        givenRun(List.of(payment));
+        given(tossPaymentsClient.getPayment("pay_1")).willReturn(tossResponse("DONE", AMOUNT));
+        given(storeServiceClient.getOrder("order_1")).willReturn(order("PENDING"));
+
+        assertThat(reconciliationService.reconcile()).isEqualTo(1);
+
+        ArgumentCaptor<ReconciliationIssue> issue = ArgumentCaptor.forClass(ReconciliationIssue.class);
+        verify(reconciliationRecorder).report(issue.capture());
+        assertThat(issue.getValue().getIssueType()).isEqualTo(ReconciliationIssueType.APPROVED_AT_PROVIDER);
+    }
+
+    @Test
+    void 이미_기록된_불일치는_다시_보정하지_않는다() {
+        Payment payment = donePayment(1L);
+        givenRun(List.of(payment));
+        given(tossPaymentsClient.getPayment("pay_1")).willReturn(tossResponse("CANCELED", AMOUNT));
+        given(storeServiceClient.getOrder("order_1")).willReturn(order("PAID"));
+        given(issueRepository.existsByPaymentKeyAndIssueType("pay_1", ReconciliationIssueType.CANCELED_AT_PROVIDER))
+                .willReturn(true);
+
+        assertThat(reconciliationService.reconcile()).isZero();
+
+        verify(reconciliationRecorder, never()).correctCanceled(any());
+    }
+
+    @Test
+    void 일치하는_결제는_기록_없이_확인_시각만_남긴다() {
+        givenRun(List.of(donePayment(1L), donePayment(2L)));
+        given(tossPaymentsClient.getPayment(anyString())).willReturn(tossResponse("DONE", AMOUNT));
+        given(storeServiceClient.getOrder(anyString())).willReturn(order("PAID"));
+
+        assertThat(reconciliationService.reconcile()).isZero();
+
+        verify(paymentRepository).markReconciled(eq(List.of(1L, 2L)), any());
+        verify(reconciliationRecorder, never()).report(any());
+    }
+
+    @Test
+    void 토스_조회가_실패한_결제는_확인_시각을_남기지_않는다() {
+        givenRun(List.of(donePayment(1L), donePayment(2L)));
+        given(tossPaymentsClient.getPayment("pay_1")).willThrow(readTimeout());
+        given(tossPaymentsClient.getPayment("pay_2")).willReturn(tossResponse("DONE", AMOUNT));
+        given(storeServiceClient.getOrder(anyString())).willReturn(order("PAID"));
+
+        reconciliationService.reconcile();
+
+        verify(paymentRepository).markReconciled(eq(List.of(2L)), any());
+    }
+
+    @Test
+    void 새_구간은_확인_후_재조회_간격이_지난_결제만_조회한다() {
+        givenRun(List.of());
+
+        reconciliationService.reconcile();
+
+        ArgumentCaptor<LocalDateTime> recheckBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(paymentRepository).findReconciliationBatch(eq(0L), any(), any(), any(), recheckBefore.capture(), any());
+        assertThat(recheckBefore.getValue()).isBefore(LocalDateTime.now().minusHours(23));
+        verify(checkpointRepository).complete(eq(JOB_NAME), anyString());
+    }
+
+    @Test
+    void 완료되지_않은_실행은_저장된_커서부터_이어서_처리한다() {
+        ReconciliationCheckpoint checkpoint = new ReconciliationCheckpoint(JOB_NAME);
+        ReflectionTestUtils.setField(checkpoint, "completed", false);
+        ReflectionTestUtils.setField(checkpoint, "lastPaymentId", 41L);
+        given(checkpointRepository.existsById(JOB_NAME)).willReturn(true);
+        given(checkpointRepository.tryAcquire(eq(JOB_NAME), anyString(), any(), any())).willReturn(1);
+        given(checkpointRepository.findById(JOB_NAME)).willReturn(Optional.of(checkpoint));
+        given(paymentRepository.findReconciliationBatch(any(), any(), any(), any(), any(), any())).willReturn(List.of());
+
+        reconciliationService.reconcile();
+
+        verify(checkpointRepository, never()).startRun(anyString(), anyString(), any(), any());
+        verify(paymentRepository).findReconciliationBatch(eq(41L), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void 임대를_잃으면_다음_청크를_처리하지_않고_자신의_임대만_해제한다() {
+        givenRun(List.of(donePayment(1L)), List.of(donePayment(2L)));
+        given(tossPaymentsClient.getPayment(anyString())).willReturn(tossResponse("DONE", AMOUNT));
+        given(storeServiceClient.getOrder(anyString())).willReturn(order("PAID"));
+        given(checkpointRepository.advance(eq(JOB_NAME), anyString(), anyLong(), any())).willReturn(0);
+
+        reconciliationService.reconcile();
+
+        verify(paymentRepository, times(1)).findReconciliationBatch(any(), any(), any(), any(), any(), any());
+        verify(checkpointRepository, never()).complete(anyString(), anyString());
+
+        ArgumentCaptor<String> acquiredBy = ArgumentCaptor.forClass(String.class);
+        verify(checkpointRepository).tryAcquire(eq(JOB_NAME), acquiredBy.capture(), any(), any());
+        verify(checkpointRepository).release(JOB_NAME, acquiredBy.getValue());
+    }
+
+    @SafeVarargs
+    private void givenRun(List<Payment>... batches) {
+        given(checkpointRepository.existsById(JOB_NAME)).willReturn(true);
+        given(checkpointRepository.tryAcquire(eq(JOB_NAME), anyString(), any(), any())).willReturn(1);
+        given(checkpointRepository.findById(JOB_NAME)).willReturn(Optional.of(new ReconciliationCheckpoint(JOB_NAME)));
+        given(checkpointRepository.startRun(eq(JOB_NAME), anyString(), any(), any())).willReturn(1);
+
+        var stubbing = given(paymentRepository.findReconciliationBatch(any(), any(), any(), any(), any(), any()));
+        for (List<Payment> batch : batches) {
+            stubbing = stubbing.willReturn(batch);
+        }
+        stubbing.willReturn(List.of());
+    }
+
+    private Payment donePayment(long id) {
+        Payment payment = Payment.pending("pay_" + id, "order_" + id, 1L, AMOUNT);
+        payment.approve(LocalDateTime.now());
+        ReflectionTestUtils.setField(payment, "id", id);
+        return payment;
+    }
+
+    private TossPaymentResponse tossResponse(String status, long amount) {
+        return TossPaymentResponse.builder()
+                .status(status)
+                .totalAmount(amount)
+                .build();
+    }
+
+    private StoreOrderResponse order(String status) {
+        StoreOrderResponse order = new StoreOrderResponse();
+        ReflectionTestUtils.setField(order, "status", status);
+        return order;
+    }
+
+    private RetryableException readTimeout() {
+        Request request = Request.create(Request.HttpMethod.GET, "https://api.tosspayments.com/v1/payments/pay_1",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return new RetryableException(-1, "Read timed out", Request.HttpMethod.GET, (Long) null, request);
+    }
+}
@@ -0,0 +1,49 @@
+package com.pawbridge.storeservice.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * Kafka Consumer 설정 (배치 리스너)
+ *
+ * 에러 핸들링:
+ * - 레코드 단위 실패는 리스너가 직접 DLT({topic}.DLT)로 격리 (전송 실패 시 예외 전파)
+ * - BatchListenerFailedException: 실패 레코드 앞까지 커밋, 실패 레코드부터 2회 재시도 (1초 간격) 후 해당 레코드 DLT 전송
+ * - 그 외 전파된 예외는 배치 전체 2회 재시도 후 레코드별 DLT 전송
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "store.kafka.payment-batch.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaConsumerConfig {
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchKafkaListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory,
+            KafkaTemplate<String, String> kafkaTemplate) {
+
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(
+                new DeadLetterPublishingRecoverer(kafkaTemplate),
+                new FixedBackOff(1000L, 2L)  // 1초 간격, 2회 재시도
+        );
+        errorHandler.setRetryListeners((record, ex, deliveryAttempt) ->
+                log.warn("[KAFKA-RETRY] Batch retry attempt {} for topic={}, partition={}, offset={}",
+                        deliveryAttempt, record.topic(), record.partition(), record.offset()));
+
+        factory.setCommonErrorHandler(errorHandler);
+
+        return factory;
+    }
+}
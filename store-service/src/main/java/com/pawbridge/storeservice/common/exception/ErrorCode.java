@@ -23,7 +23,11 @@ public enum ErrorCode {
     
     // Order
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "O001", "Order not found"),
-    INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST, "O002", "Invalid order status");
+    INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST, "O002", "Invalid order status"),
+
+    // Idempotency
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "I001", "Request with the same Idempotency-Key is in progress"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "I002", "Idempotency-Key was used with a different request");
 
     private final HttpStatus status;
     private final String code;
@@ -71,6 +71,16 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.valueOf(ErrorCode.ACCESS_DENIED.getStatus().value()));
     }
 
+    /**
+     * Idempotency-Key 중복 요청 처리 실패 (처리 중 대기 초과: 409, 다른 요청에 키 재사용: 422)
+     */
+    @ExceptionHandler(IdempotencyException.class)
+    protected ResponseEntity<ErrorResponse> handleIdempotencyException(IdempotencyException e) {
+        log.warn("handleIdempotencyException: {}", e.getMessage());
+        final ErrorResponse response = ErrorResponse.of(e.getErrorCode());
+        return new ResponseEntity<>(response, e.getErrorCode().getStatus());
+    }
+
     /**
      * 비즈니스 로직 수행 중 발생하는 Custom Exception을 처리한다.
      * (아직 BusinessException 클래스는 없으므로 RuntimeException으로 대체하거나, 추후 추가 필요)
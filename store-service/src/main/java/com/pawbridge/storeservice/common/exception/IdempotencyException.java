@@ -0,0 +1,25 @@
+package com.pawbridge.storeservice.common.exception;
+
+import lombok.Getter;
+
+/**
+ * Idempotency-Key 처리 실패 (처리 중인 중복 요청 대기 초과, 키 재사용)
+ */
+@Getter
+public class IdempotencyException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public IdempotencyException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+    public static IdempotencyException inProgress() {
+        return new IdempotencyException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+
+    public static IdempotencyException keyReused() {
+        return new IdempotencyException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+}
@@ -0,0 +1,261 @@
+package com.pawbridge.storeservice.common.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawbridge.storeservice.common.exception.IdempotencyException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리 (Redis)
+ *
+ * 더블 클릭/클라이언트 재시도가 DB(재고 비관적 락)까지 중복 도달하지 않도록:
+ * - 첫 요청이 SET NX로 키를 선점 (IN_PROGRESS, lock-ttl)
+ * - 처리 중에는 lock-ttl의 1/3마다 선점 연장 (처리가 lock-ttl보다 길어져도 중복 요청이 다시 선점하지 못함)
+ * - 처리 완료 시 응답 저장 (DONE, result-ttl) → 이후 중복 요청은 DB 접근 없이 저장된 응답 반환
+ * - storeResult가 false인 결과 (최종 결과가 아님, 예: 결제 IN_PROGRESS)는 저장하지 않고 선점 해제
+ * - 응답 저장/연장/해제는 자신이 선점한 경우에만 (owner 비교 CAS 스크립트)
+ * - 처리 중 들어온 중복 요청은 완료될 때까지 대기 후 같은 응답 반환 (wait-timeout 초과 시 409)
+ * - 같은 키로 다른 요청 본문이 오면 422
+ * - 처리 실패 시 선점 해제 (같은 키로 재시도 가능)
+ * - Redis 장애 시 Idempotency 없이 처리 (fail-open)
+ *
+ * 트랜잭션 밖(Controller)에서 호출해야 커밋된 결과만 저장됨
+ * 서비스마다 독립된 Gradle 빌드라 store/payment에 동일한 사본을 둠 (수정 시 함께 맞출 것)
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+    private static final String DONE = "DONE";
+
+    // 자신이 선점한 경우에만 해제 (선점 만료 후 다른 요청이 다시 선점했을 수 있음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // 자신이 선점한 경우에만 연장
+    private static final RedisScript<Long> EXTEND_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    // 자신이 선점한 경우에만 응답 저장 (다른 요청의 선점/응답을 덮어쓰지 않음)
+    private static final RedisScript<Long> STORE_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration resultTtl;
+    private final Duration lockTtl;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    public IdempotencyService(StringRedisTemplate redisTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${store.idempotency.result-ttl:24h}") Duration resultTtl,
+                              @Value("${store.idempotency.lock-ttl:30s}") Duration lockTtl,
+                              @Value("${store.idempotency.wait-timeout:10s}") Duration waitTimeout,
+                              @Value("${store.idempotency.poll-interval:50ms}") Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.resultTtl = resultTtl;
+        this.lockTtl = lockTtl;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    /**
+     * 저장 값 (state=IN_PROGRESS면 response 없음, owner로 선점자 구분)
+     */
+    private record IdempotencyRecord(String state, String owner, String fingerprint, String response) {
+    }
+
+    /**
+     * 모든 결과를 저장
+     */
+    public <T> T execute(String scope, Long userId, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        return execute(scope, userId, idempotencyKey, request, responseType, action, result -> true);
+    }
+
+    /**
+     * @param scope 작업 구분 (예: order)
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 그대로 실행)
+     * @param request 요청 본문 (같은 키 재사용 검증용)
+     * @param storeResult 저장할 결과인지 (false면 선점만 해제)
+     */
+    public <T> T execute(String scope, Long userId, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action, Predicate<T> storeResult) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String redisKey = KEY_PREFIX + scope + ":" + userId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        String owner = UUID.randomUUID().toString();
+        String claim = write(new IdempotencyRecord(IN_PROGRESS, owner, fingerprint, null));
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            String current;
+            try {
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(redisKey, claim, lockTtl))) {
+                    return runAndStore(redisKey, claim, owner, fingerprint, action, storeResult);
+                }
+                current = redisTemplate.opsForValue().get(redisKey);
+            } catch (DataAccessException e) {
+                log.warn("Idempotency store unavailable, processing without idempotency: key={}, cause={}",
+                        redisKey, e.getMessage());
+                return action.get();
+            }
+
+            if (current != null) {
+                IdempotencyRecord record = read(current);
+                if (!fingerprint.equals(record.fingerprint())) {
+                    throw IdempotencyException.keyReused();
+                }
+                if (DONE.equals(record.state())) {
+                    log.info("Idempotent replay: key={}", redisKey);
+                    return readResponse(record.response(), responseType);
+                }
+            }
+
+            // 다른 요청이 처리 중 (또는 실패로 해제된 직후) → 잠시 후 다시 확인/선점
+            if (System.nanoTime() > deadline) {
+                throw IdempotencyException.inProgress();
+            }
+            sleep();
+        }
+    }
+
+    private <T> T runAndStore(String redisKey, String claim, String owner, String fingerprint,
+                              Supplier<T> action, Predicate<T> storeResult) {
+        T result;
+        long heartbeatMillis = Math.max(1, lockTtl.toMillis() / 3);
+        ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleAtFixedRate(
+                () -> extend(redisKey, claim), heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            release(redisKey, claim);
+            throw e;
+        } finally {
+            heartbeat.cancel(false);
+        }
+
+        if (!storeResult.test(result)) {
+            release(redisKey, claim);
+            return result;
+        }
+
+        try {
+            String done = write(new IdempotencyRecord(DONE, owner, fingerprint, write(result)));
+            Long stored = redisTemplate.execute(STORE_SCRIPT, List.of(redisKey),
+                    claim, done, String.valueOf(resultTtl.toMillis()));
+            if (stored == null || stored == 0) {
+                log.warn("Idempotency claim lost before storing response: key={}", redisKey);
+            }
+        } catch (Exception e) {
+            // 응답 저장 실패: 선점은 lock-ttl 후 만료 (그 사이 중복 요청은 대기 후 409)
+            log.error("Failed to store idempotent response: key={}", redisKey, e);
+        }
+        return result;
+    }
+
+    private void extend(String redisKey, String claim) {
+        try {
+            Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(redisKey),
+                    claim, String.valueOf(lockTtl.toMillis()));
+            if (extended == null || extended == 0) {
+                log.warn("Idempotency claim lost while processing: key={}", redisKey);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to extend idempotency key: key={}, cause={}", redisKey, e.getMessage());
+        }
+    }
+
+    private void release(String redisKey, String claim) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(redisKey), claim);
+        } catch (Exception e) {
+            log.warn("Failed to release idempotency key: key={}, cause={}", redisKey, e.getMessage());
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(
+                    objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to fingerprint idempotent request", e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotency record", e);
+        }
+    }
+
+    private IdempotencyRecord read(String value) {
+        try {
+            return objectMapper.readValue(value, IdempotencyRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize idempotency record", e);
+        }
+    }
+
+    private <T> T readResponse(String response, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(response, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize idempotent response", e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IdempotencyException.inProgress();
+        }
+    }
+}
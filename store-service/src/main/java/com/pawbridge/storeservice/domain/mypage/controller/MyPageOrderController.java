@@ -1,15 +1,19 @@
 package com.pawbridge.storeservice.domain.mypage.controller;
 
 import com.pawbridge.storeservice.domain.mypage.dto.OrderResponse;
+import com.pawbridge.storeservice.domain.mypage.dto.OrderSliceResponse;
 import com.pawbridge.storeservice.domain.mypage.service.MyPageOrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 /**
  * 마이페이지용 주문 API 컨트롤러
  * - FeignClient 전용
@@ -35,4 +39,19 @@ public class MyPageOrderController {
         Page<OrderResponse> orders = myPageOrderService.findByUserId(userId, pageable);
         return ResponseEntity.ok(orders);
     }
+
+    /**
+     * 사용자별 주문 목록 커서 조회 (무한 스크롤)
+     * - GET /api/v1/mypage/orders/scroll?userId={userId}&cursorCreatedAt=...&cursorId=...
+     * - 응답의 nextCursorCreatedAt, nextCursorId를 다음 요청에 전달
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<OrderSliceResponse> getOrdersByUserIdWithCursor(
+            @RequestParam Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        OrderSliceResponse orders = myPageOrderService.findByUserIdWithCursor(userId, cursorCreatedAt, cursorId, size);
+        return ResponseEntity.ok(orders);
+    }
 }
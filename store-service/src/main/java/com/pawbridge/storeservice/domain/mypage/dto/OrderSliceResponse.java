@@ -0,0 +1,25 @@
+package com.pawbridge.storeservice.domain.mypage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 내역 커서 페이징 응답 DTO
+ * - 마이페이지 무한 스크롤용
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSliceResponse {
+
+    private List<OrderResponse> orders;
+    private boolean hasNext;
+    private LocalDateTime nextCursorCreatedAt;
+    private Long nextCursorId;
+}
@@ -3,26 +3,70 @@ package com.pawbridge.storeservice.domain.mypage.repository;
 import com.pawbridge.storeservice.domain.order.entity.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 주문 Repository
  * - 마이페이지용
+ * - 2단계 조회: (1) idx_orders_user_id_created_at 인덱스로 주문 ID만 페이징 → (2) 해당 ID의 주문 항목 일괄 fetch
+ *   (컬렉션 fetch join + Pageable 조합 시 발생하는 메모리 페이징(HHH000104) 방지)
  */
 @Repository
 public interface MyOrderRepository extends JpaRepository<Order, Long> {
 
     /**
-     * 사용자별 주문 목록 조회 (OrderItems fetch join)
-     * - N+1 방지를 위해 @EntityGraph 사용
+     * 1단계: 사용자별 주문 ID 페이징 조회
+     * @param userId 사용자 ID
+     * @param pageable 페이징 정보 (정렬 포함)
+     * @return Page<Long> 주문 ID
+     */
+    @Query(value = "SELECT o.id FROM Order o WHERE o.userId = :userId",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.userId = :userId")
+    Page<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 1단계 (커서): 첫 페이지 주문 ID 조회 (최신순)
+     * @param userId 사용자 ID
+     * @param pageable 조회 건수 (count 쿼리 없음)
+     * @return 주문 ID 목록
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.userId = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findFirstIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 1단계 (커서): 커서 이후 주문 ID 조회 (최신순)
      * @param userId 사용자 ID
-     * @param pageable 페이징 정보
-     * @return Page<Order>
+     * @param cursorCreatedAt 이전 페이지 마지막 주문 생성일시
+     * @param cursorId 이전 페이지 마지막 주문 ID
+     * @param pageable 조회 건수 (count 쿼리 없음)
+     * @return 주문 ID 목록
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.userId = :userId " +
+           "AND (o.createdAt < :cursorCreatedAt OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsByUserIdAfterCursor(
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 2단계: 페이지에 포함된 주문만 OrderItems, ProductSKU fetch join
+     * @param ids 주문 ID 목록
+     * @return 주문 목록 (순서 보장 없음)
      */
-    @EntityGraph(attributePaths = {"orderItems", "orderItems.productSKU"})
-    Page<Order> findByUserId(Long userId, Pageable pageable);
+    @Query("SELECT DISTINCT o FROM Order o " +
+           "LEFT JOIN FETCH o.orderItems oi " +
+           "LEFT JOIN FETCH oi.productSKU " +
+           "WHERE o.id IN :ids")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * 사용자별 주문 개수
@@ -1,9 +1,12 @@
 package com.pawbridge.storeservice.domain.mypage.service;
 
 import com.pawbridge.storeservice.domain.mypage.dto.OrderResponse;
+import com.pawbridge.storeservice.domain.mypage.dto.OrderSliceResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+
 /**
  * 마이페이지용 주문 서비스
  * - FeignClient 전용 단순 조회
@@ -18,4 +21,14 @@ public interface MyPageOrderService {
      * @return 주문 목록
      */
     Page<OrderResponse> findByUserId(Long userId, Pageable pageable);
+
+    /**
+     * 사용자별 주문 목록 커서 조회 (무한 스크롤)
+     * @param userId 사용자 ID
+     * @param cursorCreatedAt 이전 페이지 마지막 주문 생성일시 (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 주문 ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 주문 목록 + 다음 커서
+     */
+    OrderSliceResponse findByUserIdWithCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int size);
 }
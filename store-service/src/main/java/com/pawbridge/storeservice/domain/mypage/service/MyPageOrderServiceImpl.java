@@ -1,25 +1,37 @@
 package com.pawbridge.storeservice.domain.mypage.service;
 
 import com.pawbridge.storeservice.domain.mypage.dto.OrderResponse;
+import com.pawbridge.storeservice.domain.mypage.dto.OrderSliceResponse;
 import com.pawbridge.storeservice.domain.mypage.repository.MyOrderRepository;
 import com.pawbridge.storeservice.domain.order.entity.Order;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 마이페이지용 주문 서비스 구현
  * - FeignClient 전용 단순 조회
  * - MySQL 사용
+ * - 주문 ID 페이징 후 해당 페이지 주문만 항목 fetch (페이지당 최대 size건 로딩)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MyPageOrderServiceImpl implements MyPageOrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MyOrderRepository orderRepository;
 
     /**
@@ -30,8 +42,53 @@ public class MyPageOrderServiceImpl implements MyPageOrderService {
     public Page<OrderResponse> findByUserId(Long userId, Pageable pageable) {
         log.debug("[MyPage] 사용자별 주문 목록 조회: userId={}", userId);
 
-        Page<Order> orders = orderRepository.findByUserId(userId, pageable);
+        Page<Long> orderIds = orderRepository.findIdsByUserId(userId, pageable);
+        List<OrderResponse> content = loadOrders(orderIds.getContent());
+
+        return new PageImpl<>(content, pageable, orderIds.getTotalElements());
+    }
+
+    /**
+     * 사용자별 주문 목록 커서 조회 (MySQL)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public OrderSliceResponse findByUserIdWithCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        log.debug("[MyPage] 사용자별 주문 커서 조회: userId={}, cursor=({}, {})", userId, cursorCreatedAt, cursorId);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Long> ids = (cursorCreatedAt == null || cursorId == null)
+                ? orderRepository.findFirstIdsByUserId(userId, limit)
+                : orderRepository.findIdsByUserIdAfterCursor(userId, cursorCreatedAt, cursorId, limit);
+
+        boolean hasNext = ids.size() > pageSize;
+        List<OrderResponse> orders = loadOrders(hasNext ? ids.subList(0, pageSize) : ids);
+        OrderResponse last = orders.isEmpty() ? null : orders.get(orders.size() - 1);
+
+        return OrderSliceResponse.builder()
+                .orders(orders)
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext ? last.getOrderId() : null)
+                .build();
+    }
+
+    /**
+     * 2단계: 페이지 ID 목록의 주문 + 항목을 한 번에 조회 후 1단계 정렬 순서로 복원
+     */
+    private List<OrderResponse> loadOrders(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Order> ordersById = orderRepository.findAllWithItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
 
-        return orders.map(OrderResponse::from);
+        return ids.stream()
+                .map(ordersById::get)
+                .filter(order -> order != null)
+                .map(OrderResponse::from)
+                .collect(Collectors.toList());
     }
 }
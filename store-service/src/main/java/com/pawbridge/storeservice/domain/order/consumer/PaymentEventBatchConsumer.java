@@ -0,0 +1,146 @@
+package com.pawbridge.storeservice.domain.order.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawbridge.storeservice.domain.order.dto.PaymentEvent;
+import com.pawbridge.storeservice.domain.order.service.PaymentEventBatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 결제 이벤트 배치 Consumer
+ * - poll 단위로 수신한 결제 이벤트를 1회 역직렬화 → 주문 UUID 기준 중복 제거(마지막 이벤트 유지)
+ * - 배치 전체를 한 트랜잭션으로 적용, 실패 시 레코드 단위로 재적용하여 실패 레코드만 DLT로 격리
+ * - 랭킹 증가는 커밋 이후 Redis 파이프라인으로 일괄 반영
+ * - DLT 전송은 ack를 기다림 → 실패 시 BatchListenerFailedException(레코드 인덱스)으로 배치 실패 처리
+ *   (에러 핸들러가 앞선 레코드 오프셋만 커밋하고 실패 레코드부터 재시도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "store.kafka.payment-batch.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentEventBatchConsumer {
+
+    private static final String DLT_SUFFIX = ".DLT";
+    private static final long DLT_SEND_TIMEOUT_SECONDS = 10L;
+
+    private final ObjectMapper objectMapper;
+    private final PaymentEventBatchService paymentEventBatchService;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    @KafkaListener(topics = {"payment.events", "payment"}, groupId = "payment-group", containerFactory = "batchKafkaListenerContainerFactory")
+    public void handlePaymentEvents(List<ConsumerRecord<String, String>> records) {
+        log.info("Received Payment Event batch: size={}", records.size());
+
+        // 1. 역직렬화 + 배치 내 중복 제거 (같은 주문은 마지막 이벤트만 적용)
+        Map<String, PaymentEvent> latestByOrder = new LinkedHashMap<>();
+        Map<String, Integer> indexByOrder = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            PaymentEvent event = parse(records.get(i), i);
+            if (event == null) {
+                continue;
+            }
+            latestByOrder.remove(event.getOrderId());
+            latestByOrder.put(event.getOrderId(), event);
+            indexByOrder.put(event.getOrderId(), i);
+        }
+
+        if (latestByOrder.isEmpty()) {
+            return;
+        }
+
+        List<PaymentEvent> events = new ArrayList<>(latestByOrder.values());
+
+        // 2. 배치 단일 트랜잭션 적용
+        try {
+            Map<Long, Long> rankingIncrements = paymentEventBatchService.applyBatch(events);
+            paymentEventBatchService.incrementRankings(rankingIncrements);
+            return;
+        } catch (Exception e) {
+            log.warn("Payment event batch failed, falling back to per-record processing: size={}, cause={}",
+                    events.size(), e.getMessage());
+        }
+
+        // 3. 실패 격리: 레코드 단위 트랜잭션으로 재적용, 실패 레코드는 DLT 전송
+        for (PaymentEvent event : events) {
+            try {
+                Map<Long, Long> rankingIncrements = paymentEventBatchService.applyBatch(List.of(event));
+                paymentEventBatchService.incrementRankings(rankingIncrements);
+            } catch (Exception e) {
+                log.error("Payment Event Processing Failed - OrderID: {}, Status: {}",
+                        event.getOrderId(), event.getStatus(), e);
+                int index = indexByOrder.get(event.getOrderId());
+                sendToDeadLetter(records.get(index), index, e);
+            }
+        }
+    }
+
+    /**
+     * Debezium Outbox 메시지 역직렬화
+     * - payload가 escape된 JSON 문자열이면 내부 문자열만 한 번 더 파싱
+     * @param index 배치 내 레코드 위치 (DLT 전송 실패 시 에러 핸들러에 전달)
+     * @return 유효하지 않은 메시지면 DLT 전송 후 null
+     */
+    private PaymentEvent parse(ConsumerRecord<String, String> record, int index) {
+        try {
+            JsonNode root = objectMapper.readTree(record.value());
+            JsonNode payload = root.path("payload");
+
+            PaymentEvent event;
+            if (payload.isTextual()) {
+                event = objectMapper.readValue(payload.asText(), PaymentEvent.class);
+            } else if (payload.isObject()) {
+                event = objectMapper.treeToValue(payload, PaymentEvent.class);
+            } else {
+                event = objectMapper.treeToValue(root, PaymentEvent.class);
+            }
+
+            if (event.getOrderId() == null || event.getStatus() == null) {
+                log.warn("Invalid Payment Event Format (missing orderId or status): {}", record.value());
+                return null;
+            }
+            return event;
+        } catch (Exception e) {
+            log.error("Payment Event Parsing Failed: topic={}, offset={}", record.topic(), record.offset(), e);
+            sendToDeadLetter(record, index, e);
+            return null;
+        }
+    }
+
+    /**
+     * DLT 동기 전송
+     * - 전송 실패 시 BatchListenerFailedException으로 실패 레코드 인덱스를 알림
+     *   → 앞선 레코드 오프셋만 커밋되고 실패 레코드부터 재전달 (이벤트 유실 방지)
+     * - 재처리 시 이미 적용된 이벤트는 상태 확인으로 건너뜀 (PAID 중복 적용 없음)
+     */
+    private void sendToDeadLetter(ConsumerRecord<String, String> record, int index, Exception cause) {
+        String dltTopic = record.topic() + DLT_SUFFIX;
+        try {
+            kafkaTemplate.send(dltTopic, record.key(), record.value()).get(DLT_SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            log.warn("Payment event sent to DLT: topic={}, offset={}, cause={}",
+                    dltTopic, record.offset(), cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BatchListenerFailedException(
+                    "DLT publish interrupted: topic=" + dltTopic + ", offset=" + record.offset(), e, index);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("DLT publish failed, failing batch: topic={}, offset={}", dltTopic, record.offset(), e);
+            throw new BatchListenerFailedException(
+                    "DLT publish failed: topic=" + dltTopic + ", offset=" + record.offset(), e, index);
+        }
+    }
+}
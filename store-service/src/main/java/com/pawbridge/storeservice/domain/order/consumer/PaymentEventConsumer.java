@@ -7,6 +7,7 @@ import com.pawbridge.storeservice.domain.order.entity.Order;
 import com.pawbridge.storeservice.domain.order.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
@@ -15,9 +16,15 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
+/**
+ * 결제 이벤트 단건 Consumer (레거시)
+ * - store.kafka.payment-batch.enabled=false 일 때만 활성화
+ * - 기본은 PaymentEventBatchConsumer (배치 모드)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "store.kafka.payment-batch.enabled", havingValue = "false")
 public class PaymentEventConsumer {
 
     private final OrderRepository orderRepository;
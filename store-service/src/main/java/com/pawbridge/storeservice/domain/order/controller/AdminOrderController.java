@@ -1,5 +1,7 @@
 package com.pawbridge.storeservice.domain.order.controller;
 
+import com.pawbridge.storeservice.domain.order.dto.AdminOrderSearchRequest;
+import com.pawbridge.storeservice.domain.order.dto.AdminOrderSearchResponse;
 import com.pawbridge.storeservice.domain.order.dto.DeliveryStatusUpdateRequest;
 import com.pawbridge.storeservice.domain.order.dto.OrderResponse;
 import com.pawbridge.storeservice.domain.order.dto.OrderStatusUpdateRequest;
@@ -10,9 +12,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 /**
  * 관리자용 주문 관리 API
  */
@@ -43,6 +48,35 @@ public class AdminOrderController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 주문 검색 (관리자용)
+     * - 키셋 페이징: 응답의 nextCursorCreatedAt, nextCursorId를 다음 요청에 함께 전달 (한쪽만 있으면 400)
+     * - 검색: keyword (전체 주문번호 단건 조회, 주문번호 prefix, 수령인 이름 전문 검색)
+     * - 전체 건수: exactCount=true 일 때만 정확한 COUNT 수행
+     */
+    @GetMapping("/search")
+    public ResponseEntity<AdminOrderSearchResponse> searchOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) DeliveryStatus deliveryStatus,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false, defaultValue = "20") Integer size,
+            @RequestParam(required = false, defaultValue = "false") Boolean exactCount) {
+        AdminOrderSearchRequest request = AdminOrderSearchRequest.builder()
+                .status(status)
+                .deliveryStatus(deliveryStatus)
+                .userId(userId)
+                .keyword(keyword)
+                .cursorCreatedAt(cursorCreatedAt)
+                .cursorId(cursorId)
+                .size(size)
+                .exactCount(exactCount)
+                .build();
+        return ResponseEntity.ok(adminOrderService.searchOrders(request));
+    }
+
     /**
      * 주문 상태 변경 (관리자용)
      */
@@ -1,5 +1,6 @@
 package com.pawbridge.storeservice.domain.order.controller;
 
+import com.pawbridge.storeservice.common.service.IdempotencyService;
 import com.pawbridge.storeservice.domain.order.dto.DirectOrderCreateRequest;
 import com.pawbridge.storeservice.domain.order.dto.OrderCreateRequest;
 import com.pawbridge.storeservice.domain.order.dto.OrderResponse;
@@ -19,20 +20,29 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
 
+    /**
+     * 주문 생성
+     * - Idempotency-Key 헤더가 있으면 같은 키의 중복 요청은 재고 차감 없이 첫 응답을 그대로 반환
+     */
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(
             @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody OrderCreateRequest request) {
-        OrderResponse response = orderService.createOrder(userId, request);
+        OrderResponse response = idempotencyService.execute("order", userId, idempotencyKey, request,
+                OrderResponse.class, () -> orderService.createOrder(userId, request));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @PostMapping("/direct")
     public ResponseEntity<OrderResponse> createDirectOrder(
             @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody DirectOrderCreateRequest request) {
-        OrderResponse response = orderService.createDirectOrder(userId, request);
+        OrderResponse response = idempotencyService.execute("order-direct", userId, idempotencyKey, request,
+                OrderResponse.class, () -> orderService.createDirectOrder(userId, request));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -0,0 +1,30 @@
+package com.pawbridge.storeservice.domain.order.dto;
+
+import com.pawbridge.storeservice.domain.order.entity.DeliveryStatus;
+import com.pawbridge.storeservice.domain.order.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminOrderSearchRequest {
+
+    private OrderStatus status;              // 주문 상태 필터
+    private DeliveryStatus deliveryStatus;   // 배송 상태 필터
+    private Long userId;                     // 사용자 ID 필터
+    private String keyword;                  // 주문번호(전체/prefix) 또는 수령인 이름
+    private LocalDateTime cursorCreatedAt;   // 이전 페이지 마지막 주문 생성일시
+    private Long cursorId;                   // 이전 페이지 마지막 주문 ID
+
+    @Builder.Default
+    private Integer size = 20;               // 페이지 크기
+
+    @Builder.Default
+    private Boolean exactCount = false;      // 정확한 전체 건수 계산 여부 (기본: 추정치)
+}
@@ -0,0 +1,23 @@
+package com.pawbridge.storeservice.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminOrderSearchResponse {
+
+    private List<OrderResponse> orders;          // 주문 목록
+    private Boolean hasNext;                     // 다음 페이지 여부
+    private LocalDateTime nextCursorCreatedAt;   // 다음 페이지 커서 (생성일시)
+    private Long nextCursorId;                   // 다음 페이지 커서 (주문 ID)
+    private Long totalCount;                     // 전체 건수 (추정치 요청 시 필터 없는 경우만 제공)
+    private Boolean totalCountExact;             // totalCount가 정확한 값인지 여부
+}
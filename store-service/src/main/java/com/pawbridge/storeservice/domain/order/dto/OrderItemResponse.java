@@ -3,9 +3,11 @@ package com.pawbridge.storeservice.domain.order.dto;
 import com.pawbridge.storeservice.domain.order.entity.OrderItem;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class OrderItemResponse {
     private String productName;
     private String skuCode;
@@ -4,6 +4,7 @@ import com.pawbridge.storeservice.domain.order.entity.Order;
 import com.pawbridge.storeservice.domain.order.entity.OrderItem;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,6 +12,7 @@ import java.util.stream.Collectors;
 
 @Getter
 @Builder
+@Jacksonized // Idempotency-Key 저장 응답 역직렬화
 public class OrderResponse {
     private Long orderId;
     private String orderUuid;
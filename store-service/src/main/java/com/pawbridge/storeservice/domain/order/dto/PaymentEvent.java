@@ -0,0 +1,27 @@
+package com.pawbridge.storeservice.domain.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 이벤트 (payment-service Outbox → Kafka)
+ * - TossPaymentResponse 중 주문 상태 전이에 필요한 필드만 역직렬화
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PaymentEvent {
+    private String orderId;  // 주문 UUID
+    private String status;   // DONE, ABORTED, CANCELED ...
+
+    public boolean isDone() {
+        return "DONE".equals(status);
+    }
+
+    public boolean isCanceled() {
+        return "ABORTED".equals(status) || "CANCELED".equals(status);
+    }
+}
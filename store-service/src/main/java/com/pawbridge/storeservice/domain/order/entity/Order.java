@@ -12,7 +12,13 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = {
+                @Index(name = "idx_orders_created_at_id", columnList = "createdAt, id"),
+                @Index(name = "idx_orders_user_id_created_at", columnList = "userId, createdAt")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity {
 
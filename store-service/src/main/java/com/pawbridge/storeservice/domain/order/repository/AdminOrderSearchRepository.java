@@ -0,0 +1,101 @@
+package com.pawbridge.storeservice.domain.order.repository;
+
+import com.pawbridge.storeservice.domain.order.entity.Order;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 주문 검색 전용 Repository
+ * - (created_at, id) 키셋 페이징: idx_orders_created_at_id 역순 스캔, OFFSET 없음
+ * - 수령인 검색: receiver_name ngram FULLTEXT 인덱스 (infrastructure/mysql/migrations 참고)
+ * - 주문번호 검색: order_uuid 유니크 인덱스 prefix 스캔
+ */
+@Repository
+public interface AdminOrderSearchRepository extends JpaRepository<Order, Long> {
+
+    String FILTERS =
+            "(:status IS NULL OR o.status = :status) " +
+            "AND (:deliveryStatus IS NULL OR o.delivery_status = :deliveryStatus) " +
+            "AND (:userId IS NULL OR o.user_id = :userId) ";
+
+    String KEYSET =
+            "AND (:cursorCreatedAt IS NULL " +
+            "     OR o.created_at < :cursorCreatedAt " +
+            "     OR (o.created_at = :cursorCreatedAt AND o.id < :cursorId)) " +
+            "ORDER BY o.created_at DESC, o.id DESC " +
+            "LIMIT :limit";
+
+    /**
+     * 필터 + 키셋 페이징 (키워드 없음)
+     */
+    @Query(value = "SELECT o.* FROM orders o WHERE " + FILTERS + KEYSET, nativeQuery = true)
+    List<Order> searchPage(
+            @Param("status") String status,
+            @Param("deliveryStatus") String deliveryStatus,
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit);
+
+    /**
+     * 수령인 이름 전문 검색 + 키셋 페이징
+     */
+    @Query(value = "SELECT o.* FROM orders o WHERE " + FILTERS +
+            "AND MATCH(o.receiver_name) AGAINST (:keyword IN BOOLEAN MODE) " + KEYSET, nativeQuery = true)
+    List<Order> searchPageByReceiverName(
+            @Param("keyword") String keyword,
+            @Param("status") String status,
+            @Param("deliveryStatus") String deliveryStatus,
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit);
+
+    /**
+     * 주문번호 prefix 검색 + 키셋 페이징
+     */
+    @Query(value = "SELECT o.* FROM orders o WHERE " + FILTERS +
+            "AND o.order_uuid LIKE CONCAT(:uuidPrefix, '%') " + KEYSET, nativeQuery = true)
+    List<Order> searchPageByOrderUuidPrefix(
+            @Param("uuidPrefix") String uuidPrefix,
+            @Param("status") String status,
+            @Param("deliveryStatus") String deliveryStatus,
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM orders o WHERE " + FILTERS, nativeQuery = true)
+    long countFiltered(
+            @Param("status") String status,
+            @Param("deliveryStatus") String deliveryStatus,
+            @Param("userId") Long userId);
+
+    @Query(value = "SELECT COUNT(*) FROM orders o WHERE " + FILTERS +
+            "AND MATCH(o.receiver_name) AGAINST (:keyword IN BOOLEAN MODE)", nativeQuery = true)
+    long countByReceiverName(
+            @Param("keyword") String keyword,
+            @Param("status") String status,
+            @Param("deliveryStatus") String deliveryStatus,
+            @Param("userId") Long userId);
+
+    @Query(value = "SELECT COUNT(*) FROM orders o WHERE " + FILTERS +
+            "AND o.order_uuid LIKE CONCAT(:uuidPrefix, '%')", nativeQuery = true)
+    long countByOrderUuidPrefix(
+            @Param("uuidPrefix") String uuidPrefix,
+            @Param("status") String status,
+            @Param("deliveryStatus") String deliveryStatus,
+            @Param("userId") Long userId);
+
+    /**
+     * 주문 테이블 추정 행 수 (InnoDB 통계, COUNT(*) 풀스캔 없음)
+     */
+    @Query(value = "SELECT COALESCE(TABLE_ROWS, 0) FROM information_schema.TABLES " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'orders'", nativeQuery = true)
+    long estimateTotalRows();
+}
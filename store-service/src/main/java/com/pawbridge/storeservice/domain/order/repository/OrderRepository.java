@@ -6,7 +6,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +20,13 @@ public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecific
     // 페이징 조회
     Page<Order> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
     Page<Order> findByUserIdAndStatusOrderByCreatedAtDesc(Long userId, OrderStatus status, Pageable pageable);
+
+    // 결제 이벤트 배치 처리용: 주문 + 항목 + SKU + 상품 단일 조회
+    @Query("SELECT DISTINCT o FROM Order o " +
+           "LEFT JOIN FETCH o.orderItems oi " +
+           "LEFT JOIN FETCH oi.productSKU s " +
+           "LEFT JOIN FETCH s.product " +
+           "WHERE o.orderUuid IN :orderUuids")
+    List<Order> findAllWithItemsByOrderUuidIn(@Param("orderUuids") Collection<String> orderUuids);
 }
 
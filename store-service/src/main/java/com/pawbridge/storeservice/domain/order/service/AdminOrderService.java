@@ -1,5 +1,7 @@
 package com.pawbridge.storeservice.domain.order.service;
 
+import com.pawbridge.storeservice.domain.order.dto.AdminOrderSearchRequest;
+import com.pawbridge.storeservice.domain.order.dto.AdminOrderSearchResponse;
 import com.pawbridge.storeservice.domain.order.dto.OrderResponse;
 import com.pawbridge.storeservice.domain.order.entity.DeliveryStatus;
 import com.pawbridge.storeservice.domain.order.entity.OrderStatus;
@@ -22,6 +24,13 @@ public interface AdminOrderService {
             String sortBy,
             String sortOrder,
             Pageable pageable);
+
+    /**
+     * 주문 검색 (관리자용, 키셋 페이징)
+     * - 전체 주문번호는 유니크 인덱스 단건 조회
+     * - 전체 건수는 exactCount 요청 시에만 COUNT 쿼리 실행
+     */
+    AdminOrderSearchResponse searchOrders(AdminOrderSearchRequest request);
     
     /**
      * 주문 상태 변경 (관리자용)
@@ -1,9 +1,12 @@
 package com.pawbridge.storeservice.domain.order.service;
 
+import com.pawbridge.storeservice.domain.order.dto.AdminOrderSearchRequest;
+import com.pawbridge.storeservice.domain.order.dto.AdminOrderSearchResponse;
 import com.pawbridge.storeservice.domain.order.dto.OrderResponse;
 import com.pawbridge.storeservice.domain.order.entity.DeliveryStatus;
 import com.pawbridge.storeservice.domain.order.entity.Order;
 import com.pawbridge.storeservice.domain.order.entity.OrderStatus;
+import com.pawbridge.storeservice.domain.order.repository.AdminOrderSearchRepository;
 import com.pawbridge.storeservice.domain.order.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +18,10 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 /**
  * 관리자용 주문 관리 서비스 구현체
  */
@@ -24,7 +31,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class AdminOrderServiceImpl implements AdminOrderService {
 
+    private static final Pattern FULL_UUID = Pattern.compile(
+            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+    private static final Pattern UUID_PREFIX = Pattern.compile("^(?=.*[0-9-])[0-9a-fA-F-]{4,36}$");
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
+    private final AdminOrderSearchRepository adminOrderSearchRepository;
 
     @Override
     public Page<OrderResponse> getAllOrders(
@@ -73,6 +86,82 @@ public class AdminOrderServiceImpl implements AdminOrderService {
         return orders.map(OrderResponse::from);
     }
 
+    @Override
+    public AdminOrderSearchResponse searchOrders(AdminOrderSearchRequest request) {
+        // 커서는 (생성일시, ID) 쌍으로만 유효 (ID 없이 생성일시만 오면 같은 시각의 행이 누락됨)
+        if ((request.getCursorCreatedAt() == null) != (request.getCursorId() == null)) {
+            throw new IllegalArgumentException("cursorCreatedAt과 cursorId는 함께 전달해야 합니다.");
+        }
+
+        String keyword = request.getKeyword() != null ? request.getKeyword().trim() : null;
+        String status = request.getStatus() != null ? request.getStatus().name() : null;
+        String deliveryStatus = request.getDeliveryStatus() != null ? request.getDeliveryStatus().name() : null;
+        Long userId = request.getUserId();
+        int size = Math.min(request.getSize() != null ? request.getSize() : 20, MAX_PAGE_SIZE);
+        boolean exactCount = Boolean.TRUE.equals(request.getExactCount());
+
+        // 1. 전체 주문번호: 유니크 인덱스 단건 조회 (fast path)
+        if (keyword != null && FULL_UUID.matcher(keyword).matches()) {
+            List<OrderResponse> orders = orderRepository.findByOrderUuid(keyword.toLowerCase())
+                    .filter(o -> status == null || o.getStatus().name().equals(status))
+                    .filter(o -> deliveryStatus == null || o.getDeliveryStatus().name().equals(deliveryStatus))
+                    .filter(o -> userId == null || o.getUserId().equals(userId))
+                    .map(OrderResponse::from)
+                    .stream()
+                    .collect(Collectors.toList());
+
+            return AdminOrderSearchResponse.builder()
+                    .orders(orders)
+                    .hasNext(false)
+                    .totalCount((long) orders.size())
+                    .totalCountExact(true)
+                    .build();
+        }
+
+        // 2. 키셋 페이징 조회 (size + 1 건 조회로 다음 페이지 판단)
+        List<Order> rows;
+        Long totalCount = null;
+        int limit = size + 1;
+
+        if (keyword == null || keyword.isBlank()) {
+            rows = adminOrderSearchRepository.searchPage(
+                    status, deliveryStatus, userId, request.getCursorCreatedAt(), request.getCursorId(), limit);
+            if (exactCount) {
+                totalCount = adminOrderSearchRepository.countFiltered(status, deliveryStatus, userId);
+            } else if (status == null && deliveryStatus == null && userId == null) {
+                totalCount = adminOrderSearchRepository.estimateTotalRows();
+            }
+        } else if (UUID_PREFIX.matcher(keyword).matches()) {
+            String uuidPrefix = keyword.toLowerCase();
+            rows = adminOrderSearchRepository.searchPageByOrderUuidPrefix(
+                    uuidPrefix, status, deliveryStatus, userId, request.getCursorCreatedAt(), request.getCursorId(), limit);
+            if (exactCount) {
+                totalCount = adminOrderSearchRepository.countByOrderUuidPrefix(uuidPrefix, status, deliveryStatus, userId);
+            }
+        } else {
+            // ngram 파서: 구문 검색으로 연속된 토큰 일치 (불리언 연산자 제거)
+            String phrase = "\"" + keyword.replaceAll("[\"+\\-<>()~*@]", " ").trim() + "\"";
+            rows = adminOrderSearchRepository.searchPageByReceiverName(
+                    phrase, status, deliveryStatus, userId, request.getCursorCreatedAt(), request.getCursorId(), limit);
+            if (exactCount) {
+                totalCount = adminOrderSearchRepository.countByReceiverName(phrase, status, deliveryStatus, userId);
+            }
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<Order> page = hasNext ? rows.subList(0, size) : rows;
+        Order last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return AdminOrderSearchResponse.builder()
+                .orders(page.stream().map(OrderResponse::from).collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .totalCount(totalCount)
+                .totalCountExact(exactCount)
+                .build();
+    }
+
     @Override
     @Transactional
     public OrderResponse updateOrderStatus(Long orderId, OrderStatus status) {
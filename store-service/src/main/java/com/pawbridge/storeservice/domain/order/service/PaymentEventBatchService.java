@@ -0,0 +1,101 @@
+package com.pawbridge.storeservice.domain.order.service;
+
+import com.pawbridge.storeservice.domain.order.dto.PaymentEvent;
+import com.pawbridge.storeservice.domain.order.entity.Order;
+import com.pawbridge.storeservice.domain.order.entity.OrderStatus;
+import com.pawbridge.storeservice.domain.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 이벤트 배치 처리 서비스
+ * - 배치 내 주문/항목/상품을 단일 쿼리로 조회 후 상태 전이를 한 트랜잭션으로 커밋
+ * - 랭킹 증가분은 상품별로 합산하여 커밋 이후 Redis 파이프라인으로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentEventBatchService {
+
+    private static final String RANKING_KEY_PREFIX = "store:ranking:daily:";
+
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 결제 이벤트 일괄 적용 (단일 트랜잭션)
+     * @param events 주문 UUID 기준으로 중복 제거된 이벤트 목록
+     * @return 상품 ID별 랭킹 증가분 (커밋 후 반영)
+     */
+    @Transactional
+    public Map<Long, Long> applyBatch(List<PaymentEvent> events) {
+        List<String> orderUuids = events.stream().map(PaymentEvent::getOrderId).toList();
+        Map<String, Order> ordersByUuid = orderRepository.findAllWithItemsByOrderUuidIn(orderUuids).stream()
+                .collect(Collectors.toMap(Order::getOrderUuid, Function.identity()));
+
+        Map<Long, Long> rankingIncrements = new HashMap<>();
+
+        for (PaymentEvent event : events) {
+            Order order = ordersByUuid.get(event.getOrderId());
+            if (order == null) {
+                throw new IllegalArgumentException("Order not found: " + event.getOrderId());
+            }
+
+            if (event.isDone()) {
+                if (order.getStatus() == OrderStatus.PAID) {
+                    log.info("Order {} is already paid.", order.getOrderUuid());
+                    continue;
+                }
+                order.paid();
+                order.getOrderItems().forEach(item -> rankingIncrements.merge(
+                        item.getProductSKU().getProduct().getId(), item.getQuantity().longValue(), Long::sum));
+            } else if (event.isCanceled()) {
+                log.warn("Payment Failed/Canceled for Order: {}. Triggering Rollback...", order.getOrderUuid());
+                orderService.cancelOrder(order.getOrderUuid());
+            } else {
+                log.debug("Skipping payment event with status: {}", event.getStatus());
+            }
+        }
+
+        log.info("Payment event batch applied: events={}, rankedProducts={}", events.size(), rankingIncrements.size());
+        return rankingIncrements;
+    }
+
+    /**
+     * 일간 랭킹 증가 (Redis 파이프라인, 1회 왕복)
+     * @param rankingIncrements 상품 ID별 증가분
+     */
+    public void incrementRankings(Map<Long, Long> rankingIncrements) {
+        if (rankingIncrements.isEmpty()) {
+            return;
+        }
+        String rankingKey = RANKING_KEY_PREFIX + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                rankingIncrements.forEach((productId, quantity) ->
+                        stringConnection.zIncrBy(rankingKey, quantity, String.valueOf(productId)));
+                return null;
+            });
+        } catch (Exception e) {
+            // 랭킹 실패는 주문 상태에 영향 없음
+            log.error("Ranking update failed: key={}, products={}", rankingKey, rankingIncrements.keySet(), e);
+        }
+    }
+}
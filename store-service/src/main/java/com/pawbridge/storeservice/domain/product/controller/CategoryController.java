@@ -3,11 +3,15 @@ package com.pawbridge.storeservice.domain.product.controller;
 import com.pawbridge.storeservice.domain.product.dto.CategoryCreateRequest;
 import com.pawbridge.storeservice.domain.product.dto.CategoryUpdateRequest;
 import com.pawbridge.storeservice.domain.product.dto.CategoryResponse;
+import com.pawbridge.storeservice.domain.product.dto.CategoryTreeSnapshot;
 import com.pawbridge.storeservice.domain.product.service.CategoryService;
+import com.pawbridge.storeservice.domain.product.service.CategoryTreeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,6 +21,7 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CategoryTreeService categoryTreeService;
 
     @PostMapping
     public ResponseEntity<CategoryResponse> createCategory(@RequestBody CategoryCreateRequest request) {
@@ -24,10 +29,26 @@ public class CategoryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 카테고리 트리 조회
+     * - 메모리 스냅샷 버전 기반 ETag 조건부 응답 (변경 없으면 304)
+     * - If-None-Match 비교는 checkNotModified에 위임 (W/ 약한 ETag, 여러 ETag 목록, * 처리)
+     */
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getAllCategories() {
-        List<CategoryResponse> responses = categoryService.getAllCategories();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<List<CategoryResponse>> getAllCategories(WebRequest webRequest) {
+        CategoryTreeSnapshot snapshot = categoryTreeService.getSnapshot();
+        String etag = snapshot.getEtag();
+
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getRoots());
     }
 
     /**
@@ -50,8 +50,7 @@ public class ProductController {
         @RequestParam(required = false, defaultValue = "0") Integer page,
         @RequestParam(required = false, defaultValue = "20") Integer size
     ) {
-        // [DEBUG] Request Log
-        log.info(">>> [Controller] Search Request - Keyword: {}, Category: {}, MinPrice: {}", keyword, categoryId, minPrice);
+        log.debug(">>> [Controller] Search Request - Keyword: {}, Category: {}, MinPrice: {}", keyword, categoryId, minPrice);
 
         ProductSearchRequest searchRequest = ProductSearchRequest.builder()
             .keyword(keyword)
@@ -69,6 +68,39 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 패싯 검색 (hits + 카테고리/가격대/옵션값/재고 집계, search_after 커서 페이징)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductFacetSearchResponse> searchProductsWithFacets(
+        @RequestParam(required = false) String keyword,
+        @RequestParam(required = false) Long minPrice,
+        @RequestParam(required = false) Long maxPrice,
+        @RequestParam(required = false) Long categoryId,
+        @RequestParam(required = false, defaultValue = "false") Boolean inStockOnly,
+        @RequestParam(required = false, defaultValue = "relevance") String sortBy,
+        @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false, defaultValue = "20") Integer size,
+        @RequestParam(required = false, defaultValue = "10000") Long priceInterval
+    ) {
+        ProductFacetSearchRequest searchRequest = ProductFacetSearchRequest.builder()
+            .keyword(keyword)
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .categoryId(categoryId)
+            .inStockOnly(inStockOnly)
+            .sortBy(sortBy)
+            .sortOrder(sortOrder)
+            .cursor(cursor)
+            .size(size)
+            .priceInterval(priceInterval)
+            .build();
+
+        ProductFacetSearchResponse response = productSearchService.searchWithFacets(searchRequest);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{productId}")
     public ResponseEntity<Void> deleteProduct(@PathVariable Long productId) {
         productService.deleteProduct(productId);
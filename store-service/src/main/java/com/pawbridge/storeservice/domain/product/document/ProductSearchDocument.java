@@ -0,0 +1,73 @@
+package com.pawbridge.storeservice.domain.product.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+
+/**
+ * Elasticsearch용 상품 SKU 문서
+ * - Outbox → Debezium → ES Sink Connector로 자동 동기화 (인덱스 생성은 setup-store-index 스크립트 담당)
+ * - ProductEventPayload와 동일한 필드 구조 유지
+ * - 날짜 필드는 String으로 매핑 후 응답 변환 시 파싱
+ */
+@Document(indexName = "store.outbox.events", createIndex = false)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchDocument {
+
+    @Id
+    private String esId; // Elasticsearch Document ID (_id)
+
+    @Field(type = FieldType.Long)
+    private Long skuId;
+
+    @Field(type = FieldType.Long)
+    private Long productId;
+
+    @Field(type = FieldType.Long)
+    private Long categoryId;
+
+    @MultiField(
+        mainField = @Field(type = FieldType.Text, analyzer = "korean"),
+        otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+    )
+    private String productName;
+
+    @Field(type = FieldType.Keyword)
+    private String skuCode;
+
+    @MultiField(
+        mainField = @Field(type = FieldType.Text, analyzer = "korean"),
+        otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+    )
+    private String optionName;
+
+    @Field(type = FieldType.Long)
+    private Long price;
+
+    @Field(type = FieldType.Integer)
+    private Integer stockQuantity;
+
+    @Field(type = FieldType.Boolean)
+    private Boolean isPrimarySku;
+
+    @Field(type = FieldType.Keyword)
+    private String status;
+
+    @Field(type = FieldType.Keyword)
+    private String imageUrl;
+
+    // 타임스탬프 (ISO-8601 문자열 그대로 보관)
+    private String createdAt;
+
+    private String updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.pawbridge.storeservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카테고리 트리 조립용 단일 쿼리 프로젝션
+ * - 엔티티 연관관계(children)를 거치지 않고 parentId만 조회
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryTreeRow {
+    private Long id;
+    private String name;
+    private String description;
+    private Long parentId;
+}
@@ -0,0 +1,24 @@
+package com.pawbridge.storeservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카테고리 트리 불변 스냅샷
+ * - roots 및 하위 children 목록은 모두 수정 불가 리스트
+ * - version: 카테고리 변경 시 Redis에서 증가하는 전역 버전 (모든 레플리카 동일)
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryTreeSnapshot {
+    private final List<CategoryResponse> roots;
+    private final long version;
+    private final LocalDateTime builtAt;
+
+    public String getEtag() {
+        return "\"category-tree-" + version + "\"";
+    }
+}
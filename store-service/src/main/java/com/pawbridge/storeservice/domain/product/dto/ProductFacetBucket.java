@@ -0,0 +1,15 @@
+package com.pawbridge.storeservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetBucket {
+    private String key;  // 버킷 키
+    private Long count;  // 문서 수
+}
@@ -0,0 +1,28 @@
+package com.pawbridge.storeservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetSearchRequest {
+
+    private String keyword;              // 검색어 (상품명, 옵션명)
+    private Long minPrice;               // 최소 가격
+    private Long maxPrice;               // 최대 가격
+    private Long categoryId;             // 카테고리 ID 필터
+    private Boolean inStockOnly;         // 재고 있는 상품만
+    private String sortBy;               // 정렬 기준 (relevance, price, createdAt)
+    private String sortOrder;            // 정렬 순서 (asc, desc)
+    private String cursor;               // 이전 페이지 마지막 hit의 search_after 커서
+
+    @Builder.Default
+    private Integer size = 20;           // 페이지 크기
+
+    @Builder.Default
+    private Long priceInterval = 10000L; // 가격 히스토그램 구간 크기
+}
@@ -0,0 +1,21 @@
+package com.pawbridge.storeservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetSearchResponse {
+
+    private List<ProductSearchItem> items;  // 검색 결과 목록
+    private ProductSearchFacets facets;     // 패싯 집계 결과
+    private Long totalCount;                // 전체 결과 수
+    private String nextCursor;              // 다음 페이지 커서 (search_after)
+    private Boolean hasNext;                // 다음 페이지 여부
+}
@@ -0,0 +1,16 @@
+package com.pawbridge.storeservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPriceRangeBucket {
+    private Long from;   // 구간 시작 (포함)
+    private Long to;     // 구간 끝 (미포함)
+    private Long count;  // 문서 수
+}
@@ -0,0 +1,29 @@
+package com.pawbridge.storeservice.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchFacets {
+
+    private List<ProductFacetBucket> categories;        // 카테고리별 상품 수 (key: categoryId)
+    private List<ProductPriceRangeBucket> priceRanges;  // 가격대별 상품 수
+    private List<ProductFacetBucket> optionValues;      // 옵션값별 상품 수 (key: optionName)
+    private List<ProductFacetBucket> stock;             // 재고 여부별 상품 수 (key: IN_STOCK, OUT_OF_STOCK)
+
+    public static ProductSearchFacets empty() {
+        return ProductSearchFacets.builder()
+                .categories(List.of())
+                .priceRanges(List.of())
+                .optionValues(List.of())
+                .stock(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.pawbridge.storeservice.domain.product.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카테고리 생성/수정/삭제 이벤트 (애플리케이션 내부 이벤트)
+ * - 트랜잭션 커밋 후 카테고리 트리 재빌드 및 레플리카 브로드캐스트 트리거
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryChangedEvent {
+    private final Long categoryId;
+}
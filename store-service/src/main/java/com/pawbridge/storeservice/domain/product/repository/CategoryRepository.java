@@ -1,10 +1,20 @@
 package com.pawbridge.storeservice.domain.product.repository;
 
+import com.pawbridge.storeservice.domain.product.dto.CategoryTreeRow;
 import com.pawbridge.storeservice.domain.product.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByName(String name);
+
+    /**
+     * 카테고리 트리 조립용 전체 조회 (단일 쿼리, children 지연 로딩 없음)
+     */
+    @Query("SELECT new com.pawbridge.storeservice.domain.product.dto.CategoryTreeRow(c.id, c.name, c.description, p.id) " +
+           "FROM Category c LEFT JOIN c.parent p ORDER BY c.id")
+    List<CategoryTreeRow> findAllTreeRows();
 }
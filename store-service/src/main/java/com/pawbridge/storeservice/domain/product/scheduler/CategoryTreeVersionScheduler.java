@@ -0,0 +1,22 @@
+package com.pawbridge.storeservice.domain.product.scheduler;
+
+import com.pawbridge.storeservice.domain.product.service.CategoryTreeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 트리 버전 확인 스케줄러
+ * - Pub/Sub 메시지를 놓친 레플리카가 오래된 스냅샷을 계속 제공하지 않도록 Redis 버전과 주기적으로 비교
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeVersionScheduler {
+
+    private final CategoryTreeService categoryTreeService;
+
+    @Scheduled(fixedDelayString = "${store.category-tree.version-check-ms:30000}")
+    public void checkVersion() {
+        categoryTreeService.refreshIfStale();
+    }
+}
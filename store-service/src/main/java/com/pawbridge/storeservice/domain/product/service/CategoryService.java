@@ -4,19 +4,22 @@ import com.pawbridge.storeservice.domain.product.dto.CategoryCreateRequest;
 import com.pawbridge.storeservice.domain.product.dto.CategoryUpdateRequest;
 import com.pawbridge.storeservice.domain.product.dto.CategoryResponse;
 import com.pawbridge.storeservice.domain.product.entity.Category;
+import com.pawbridge.storeservice.domain.product.event.CategoryChangedEvent;
 import com.pawbridge.storeservice.domain.product.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryTreeService categoryTreeService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CategoryResponse createCategory(CategoryCreateRequest request) {
@@ -33,22 +36,16 @@ public class CategoryService {
                 .build();
         
         categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
         return CategoryResponse.from(category);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 전체 카테고리 트리 조회
+     * - CategoryTreeService의 메모리 스냅샷 반환 (조회 시 DB 쿼리 없음)
+     */
     public List<CategoryResponse> getAllCategories() {
-        // 현재는 상위 카테고리가 없는(null) 루트 카테고리만 가져와서, 자식 카테고리는 재귀호출이나 지연 로딩으로 처리됨을 가정
-        // 참고: 이 방식은 커스텀 쿼리나 필터링이 필요할 수 있음
-        // 개선안: Repository에 findByParentIsNull() 메서드를 추가하는 것이 효율적임
-        // MVP 단계이므로 모든 카테고리를 가져와서 메모리에서 필터링하거나, 간단한 구현을 유지
-        // N+1 문제를 방지하기 위해 추후 Batch Fetching 적용 필요
-        
-        List<Category> all = categoryRepository.findAll();
-        return all.stream()
-                .filter(c -> c.getParent() == null)
-                .map(CategoryResponse::from)
-                .collect(Collectors.toList());
+        return categoryTreeService.getSnapshot().getRoots();
     }
 
     @Transactional
@@ -62,6 +59,7 @@ public class CategoryService {
         }
         
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
     }
 
     /**
@@ -92,6 +90,7 @@ public class CategoryService {
         }
 
         category.update(request.getName(), request.getDescription(), newParent);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
         return CategoryResponse.from(category);
     }
 
@@ -0,0 +1,163 @@
+package com.pawbridge.storeservice.domain.product.service;
+
+import com.pawbridge.storeservice.domain.product.dto.CategoryResponse;
+import com.pawbridge.storeservice.domain.product.dto.CategoryTreeRow;
+import com.pawbridge.storeservice.domain.product.dto.CategoryTreeSnapshot;
+import com.pawbridge.storeservice.domain.product.event.CategoryChangedEvent;
+import com.pawbridge.storeservice.domain.product.repository.CategoryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Category Tree Service
+ * - 전체 카테고리 트리를 단일 쿼리로 조립하여 불변 스냅샷으로 메모리에 보관
+ * - 조회 시 DB 접근 없음 (스냅샷 참조만 반환)
+ * - 카테고리 변경 커밋 후 Redis 버전 증가 + Pub/Sub 브로드캐스트 → 모든 레플리카가 재빌드
+ * - Pub/Sub는 유실될 수 있으므로 주기적으로 Redis 버전과 비교하여 재빌드 (refreshIfStale)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryTreeService {
+
+    private static final String VERSION_KEY = "store:category:tree:version";
+    private static final String CHANGE_TOPIC = "store:category:tree:changed";
+
+    private final CategoryRepository categoryRepository;
+    private final RedissonClient redissonClient;
+
+    private volatile CategoryTreeSnapshot snapshot;
+    private int listenerId = -1;
+
+    @PostConstruct
+    public void subscribe() {
+        RTopic topic = redissonClient.getTopic(CHANGE_TOPIC);
+        listenerId = topic.addListener(Long.class, (channel, version) -> {
+            log.info(">>> [CATEGORY TREE] 변경 브로드캐스트 수신: version={}", version);
+            rebuild();
+        });
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (listenerId != -1) {
+            redissonClient.getTopic(CHANGE_TOPIC).removeListener(listenerId);
+        }
+    }
+
+    /**
+     * 현재 카테고리 트리 스냅샷 조회
+     * - 최초 조회 시에만 빌드, 이후에는 메모리 스냅샷 반환
+     */
+    public CategoryTreeSnapshot getSnapshot() {
+        CategoryTreeSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                rebuild();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 카테고리 트리 재빌드 (단일 쿼리)
+     */
+    public synchronized void rebuild() {
+        long version = currentVersion();
+        List<CategoryTreeRow> rows = categoryRepository.findAllTreeRows();
+        snapshot = new CategoryTreeSnapshot(buildTree(rows), version, LocalDateTime.now());
+        log.info(">>> [CATEGORY TREE] 재빌드 완료: version={}, categories={}", version, rows.size());
+    }
+
+    /**
+     * 카테고리 변경 커밋 후 전역 버전 증가 및 브로드캐스트
+     * - 발행한 레플리카 자신도 구독자로서 메시지를 받아 재빌드
+     * - Redis 장애 시 최소한 로컬 스냅샷은 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        try {
+            long version = redissonClient.getAtomicLong(VERSION_KEY).incrementAndGet();
+            redissonClient.getTopic(CHANGE_TOPIC).publish(version);
+            log.info(">>> [CATEGORY TREE] 변경 브로드캐스트: categoryId={}, version={}", event.getCategoryId(), version);
+        } catch (Exception e) {
+            log.error("카테고리 트리 브로드캐스트 실패, 로컬 재빌드로 대체: categoryId={}", event.getCategoryId(), e);
+            rebuild();
+        }
+    }
+
+    /**
+     * Redis 전역 버전과 스냅샷 버전이 다르면 재빌드
+     * - 브로드캐스트를 놓친 레플리카(재연결, 구독 지연 등)도 다음 확인 주기에 수렴
+     * - Redis 장애 시에는 기존 스냅샷 유지
+     */
+    public void refreshIfStale() {
+        CategoryTreeSnapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        long version;
+        try {
+            version = redissonClient.getAtomicLong(VERSION_KEY).get();
+        } catch (Exception e) {
+            log.warn("카테고리 트리 버전 확인 실패, 기존 스냅샷 유지: {}", e.getMessage());
+            return;
+        }
+        if (version != current.getVersion()) {
+            log.info(">>> [CATEGORY TREE] 버전 불일치 감지, 재빌드: local={}, redis={}", current.getVersion(), version);
+            rebuild();
+        }
+    }
+
+    private long currentVersion() {
+        try {
+            return redissonClient.getAtomicLong(VERSION_KEY).get();
+        } catch (Exception e) {
+            log.warn("카테고리 트리 버전 조회 실패, 로컬 버전 사용: {}", e.getMessage());
+            return snapshot != null ? snapshot.getVersion() + 1 : 0L;
+        }
+    }
+
+    private List<CategoryResponse> buildTree(List<CategoryTreeRow> rows) {
+        Map<Long, List<CategoryTreeRow>> childrenByParent = new HashMap<>();
+        List<CategoryTreeRow> rootRows = new ArrayList<>();
+        for (CategoryTreeRow row : rows) {
+            if (row.getParentId() == null) {
+                rootRows.add(row);
+            } else {
+                childrenByParent.computeIfAbsent(row.getParentId(), k -> new ArrayList<>()).add(row);
+            }
+        }
+        return toResponses(rootRows, childrenByParent);
+    }
+
+    private List<CategoryResponse> toResponses(List<CategoryTreeRow> rows, Map<Long, List<CategoryTreeRow>> childrenByParent) {
+        List<CategoryResponse> responses = new ArrayList<>(rows.size());
+        for (CategoryTreeRow row : rows) {
+            responses.add(CategoryResponse.builder()
+                    .id(row.getId())
+                    .name(row.getName())
+                    .description(row.getDescription())
+                    .parentId(row.getParentId())
+                    .children(toResponses(childrenByParent.getOrDefault(row.getId(), List.of()), childrenByParent))
+                    .build());
+        }
+        return List.copyOf(responses);
+    }
+}
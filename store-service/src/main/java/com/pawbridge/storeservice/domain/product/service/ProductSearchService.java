@@ -1,9 +1,16 @@
 package com.pawbridge.storeservice.domain.product.service;
 
 import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
-import co.elastic.clients.json.JsonData;
+import com.pawbridge.storeservice.domain.product.document.ProductSearchDocument;
+import com.pawbridge.storeservice.domain.product.dto.ProductFacetBucket;
+import com.pawbridge.storeservice.domain.product.dto.ProductFacetSearchRequest;
+import com.pawbridge.storeservice.domain.product.dto.ProductFacetSearchResponse;
+import com.pawbridge.storeservice.domain.product.dto.ProductPriceRangeBucket;
+import com.pawbridge.storeservice.domain.product.dto.ProductSearchFacets;
 import com.pawbridge.storeservice.domain.product.dto.ProductSearchRequest;
 import com.pawbridge.storeservice.domain.product.dto.ProductSearchResponse;
 import com.pawbridge.storeservice.domain.product.dto.ProductSearchItem;
@@ -11,6 +18,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
@@ -18,10 +27,12 @@ import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
-import java.time.LocalDateTime;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,27 +40,30 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProductSearchService {
 
+    private static final String AGG_CATEGORIES = "categories";
+    private static final String AGG_PRICE_RANGES = "priceRanges";
+    private static final String AGG_OPTION_VALUES = "optionValues";
+    private static final String AGG_STOCK = "stock";
+
+    private static final int CATEGORY_FACET_SIZE = 50;
+    private static final int OPTION_FACET_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ElasticsearchOperations elasticsearchOperations;
 
     public ProductSearchResponse searchProducts(ProductSearchRequest request) {
-        log.info(">>> [Service] Building search query for: {}", request);
+        log.debug(">>> [Service] Building search query for: {}", request);
 
         try {
             // 1. Elasticsearch 쿼리 생성
             NativeQuery searchQuery = buildSearchQuery(request);
-
-            // [DEBUG] 생성된 쿼리 DSL 로그
-            log.info(">>> [Service] Generated Query DSL: {}", searchQuery.getQuery().toString());
+            log.debug(">>> [Service] Generated Query DSL: {}", searchQuery.getQuery());
 
             // 2. 검색 실행
-            log.info(">>> [Service] Executing Elasticsearch query...");
-            SearchHits<Map> searchHits = elasticsearchOperations.search(
-                searchQuery,
-                Map.class,
-                org.springframework.data.elasticsearch.core.mapping.IndexCoordinates.of("store.outbox.events")
-            );
+            SearchHits<ProductSearchDocument> searchHits =
+                elasticsearchOperations.search(searchQuery, ProductSearchDocument.class);
 
-            log.info(">>> [Service] Search completed. Total Hits: {}", searchHits.getTotalHits());
+            log.debug(">>> [Service] Search completed. Total Hits: {}", searchHits.getTotalHits());
 
             // 3. 응답 객체로 변환
             List<ProductSearchItem> items = searchHits.getSearchHits().stream()
@@ -80,8 +94,180 @@ public class ProductSearchService {
         }
     }
 
+    /**
+     * 패싯 검색
+     * - 검색 결과(hits)와 카테고리/가격대/옵션값/재고 집계를 한 번의 요청으로 조회
+     * - search_after 커서 기반 페이징 (deep paging 시에도 from/size 비용 없음)
+     * - 기본 정렬은 관련도(_score) 순, skuId로 동점 정렬
+     * - 카테고리 필터는 post_filter로 적용 (카테고리 패싯은 선택한 카테고리 외 다른 카테고리도 집계)
+     *
+     * @throws IllegalArgumentException 잘못된 커서 (400)
+     */
+    public ProductFacetSearchResponse searchWithFacets(ProductFacetSearchRequest request) {
+        int size = Math.min(request.getSize() != null ? request.getSize() : 20, MAX_PAGE_SIZE);
+        long priceInterval = request.getPriceInterval() != null && request.getPriceInterval() > 0
+            ? request.getPriceInterval()
+            : 10000L;
+
+        // 커서 오류는 빈 결과가 아니라 잘못된 요청으로 응답
+        List<Object> searchAfter = request.getCursor() != null && !request.getCursor().isBlank()
+            ? decodeCursor(request.getCursor())
+            : null;
+
+        try {
+            NativeQuery searchQuery = buildFacetSearchQuery(request, size, priceInterval, searchAfter);
+            log.debug(">>> [Service] Generated Facet Query DSL: {}", searchQuery.getQuery());
+
+            SearchHits<ProductSearchDocument> searchHits =
+                elasticsearchOperations.search(searchQuery, ProductSearchDocument.class);
+
+            // size + 1 건을 조회하여 다음 페이지 존재 여부 판단
+            List<SearchHit<ProductSearchDocument>> hits = searchHits.getSearchHits();
+            boolean hasNext = hits.size() > size;
+            List<SearchHit<ProductSearchDocument>> pageHits = hasNext ? hits.subList(0, size) : hits;
+
+            List<ProductSearchItem> items = pageHits.stream()
+                .map(this::convertToSearchItem)
+                .collect(Collectors.toList());
+
+            String nextCursor = hasNext
+                ? encodeCursor(pageHits.get(pageHits.size() - 1).getSortValues())
+                : null;
+
+            return ProductFacetSearchResponse.builder()
+                .items(items)
+                .facets(extractFacets(searchHits, priceInterval))
+                .totalCount(searchHits.getTotalHits())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+
+        } catch (Exception e) {
+            log.warn(">>> [Service] ES 패싯 검색 실패 (인덱스 미존재 가능): {}", e.getMessage());
+            return ProductFacetSearchResponse.builder()
+                .items(List.of())
+                .facets(ProductSearchFacets.empty())
+                .totalCount(0L)
+                .hasNext(false)
+                .build();
+        }
+    }
+
     private NativeQuery buildSearchQuery(ProductSearchRequest request) {
 
+        // 1. 검색 조건 (키워드는 scoring, 나머지는 filter context)
+        Query finalQuery = buildBoolQuery(
+            request.getKeyword(),
+            request.getCategoryId(),
+            request.getMinPrice(),
+            request.getMaxPrice(),
+            request.getInStockOnly()
+        );
+
+        // 2. 페이징
+        Pageable pageable = PageRequest.of(
+            request.getPage() != null ? request.getPage() : 0,
+            request.getSize() != null ? request.getSize() : 20
+        );
+
+        // 3. NativeQuery 빌더
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+            .withQuery(finalQuery)
+            .withPageable(pageable);
+
+        // 4. 정렬 ('minPrice' 대신 'price' 사용)
+        String sortBy = request.getSortBy() != null ? request.getSortBy() : "skuId";
+        if ("minPrice".equals(sortBy)) sortBy = "price"; // 레거시 파라미터 매핑 필요 시 사용
+
+        String finalSortBy = sortBy;
+        SortOrder sortOrder = "asc".equalsIgnoreCase(request.getSortOrder())
+            ? SortOrder.Asc
+            : SortOrder.Desc;
+
+        queryBuilder.withSort(s -> s.field(f -> f.field(finalSortBy).order(sortOrder)));
+
+        return queryBuilder.build();
+    }
+
+    private NativeQuery buildFacetSearchQuery(ProductFacetSearchRequest request, int size,
+                                              long priceInterval, List<Object> searchAfter) {
+        // 카테고리를 제외한 조건만 query에 적용 (카테고리는 post_filter)
+        Query finalQuery = buildBoolQuery(
+            request.getKeyword(),
+            null,
+            request.getMinPrice(),
+            request.getMaxPrice(),
+            request.getInStockOnly()
+        );
+
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+            .withQuery(finalQuery)
+            .withMaxResults(size + 1);
+
+        // 1. 정렬 (관련도 기본, skuId 동점 정렬로 search_after 커서 안정성 확보)
+        SortOrder sortOrder = "asc".equalsIgnoreCase(request.getSortOrder())
+            ? SortOrder.Asc
+            : SortOrder.Desc;
+        String sortBy = request.getSortBy() != null ? request.getSortBy() : "relevance";
+
+        switch (sortBy) {
+            case "price", "minPrice" ->
+                queryBuilder.withSort(s -> s.field(f -> f.field("price").order(sortOrder)));
+            case "createdAt" ->
+                queryBuilder.withSort(s -> s.field(f -> f.field("createdAt").order(sortOrder)));
+            default ->
+                queryBuilder.withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)));
+        }
+        queryBuilder.withSort(s -> s.field(f -> f.field("skuId").order(SortOrder.Asc)));
+
+        // 2. search_after 커서
+        if (searchAfter != null) {
+            queryBuilder.withSearchAfter(searchAfter);
+        }
+
+        // 3. 카테고리 post_filter
+        // - hits와 카테고리 외 패싯에만 적용, 카테고리 패싯은 다른 카테고리 건수도 보여줌
+        Long categoryId = request.getCategoryId();
+        Query categoryFilter = categoryId != null
+            ? Query.of(q -> q.term(t -> t.field("categoryId").value(categoryId)))
+            : null;
+        if (categoryFilter != null) {
+            queryBuilder.withFilter(categoryFilter);
+        }
+
+        // 4. 패싯 집계
+        queryBuilder
+            .withAggregation(AGG_CATEGORIES, Aggregation.of(a -> a
+                .terms(t -> t.field("categoryId").size(CATEGORY_FACET_SIZE))))
+            .withAggregation(AGG_PRICE_RANGES, inCategory(categoryFilter, AGG_PRICE_RANGES, Aggregation.of(a -> a
+                .histogram(h -> h.field("price").interval((double) priceInterval).minDocCount(1)))))
+            .withAggregation(AGG_OPTION_VALUES, inCategory(categoryFilter, AGG_OPTION_VALUES, Aggregation.of(a -> a
+                .terms(t -> t.field("optionName.keyword").size(OPTION_FACET_SIZE)))))
+            .withAggregation(AGG_STOCK, inCategory(categoryFilter, AGG_STOCK, Aggregation.of(a -> a
+                .filters(f -> f.filters(b -> b.keyed(Map.of(
+                    "IN_STOCK", Query.of(q -> q.range(r -> r.number(n -> n.field("stockQuantity").gt(0.0)))),
+                    "OUT_OF_STOCK", Query.of(q -> q.range(r -> r.number(n -> n.field("stockQuantity").lte(0.0))))
+                )))))));
+
+        return queryBuilder.build();
+    }
+
+    /**
+     * post_filter는 집계에 적용되지 않으므로 카테고리 외 패싯은 filter 집계로 감싸 같은 카테고리로 제한
+     */
+    private Aggregation inCategory(Query categoryFilter, String name, Aggregation aggregation) {
+        if (categoryFilter == null) return aggregation;
+        return Aggregation.of(a -> a
+            .filter(categoryFilter)
+            .aggregations(name, aggregation));
+    }
+
+    /**
+     * 공통 검색 조건
+     * - 키워드만 must(scoring), 구조화된 조건은 모두 filter context (캐시 가능, 점수 계산 없음)
+     */
+    private Query buildBoolQuery(String keyword, Long categoryId, Long minPrice, Long maxPrice, Boolean inStockOnly) {
+
         // BoolQuery 빌더
         BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
 
@@ -90,33 +276,32 @@ public class ProductSearchService {
         boolQueryBuilder.filter(f -> f.term(t -> t.field("isPrimarySku").value(true)));
 
         // 0.5 카테고리 필터
-        if (request.getCategoryId() != null) {
-            boolQueryBuilder.filter(f -> f.term(t -> t.field("categoryId").value(request.getCategoryId())));
+        if (categoryId != null) {
+            boolQueryBuilder.filter(f -> f.term(t -> t.field("categoryId").value(categoryId)));
         }
 
         // 1. 키워드 검색 (상품명, 옵션명)
-        if (request.getKeyword() != null && !request.getKeyword().isBlank()) {
-            String keyword = request.getKeyword();
+        if (keyword != null && !keyword.isBlank()) {
 
             // 다중 필드 검색 쿼리
             Query multiMatchQuery = Query.of(q -> q.multiMatch(mm -> mm
                 .query(keyword)
-                .fields("productName^2.0", "optionName") 
+                .fields("productName^2.0", "optionName")
             ));
 
             boolQueryBuilder.must(multiMatchQuery);
         }
 
         // 2. 가격 범위 필터 (단순 'price' 필드)
-        if (request.getMinPrice() != null || request.getMaxPrice() != null) {
+        if (minPrice != null || maxPrice != null) {
             Query priceRangeQuery = Query.of(q -> q.range(r -> r
                 .number(n -> {
                     n.field("price");
-                    if (request.getMinPrice() != null) {
-                        n.gte(request.getMinPrice().doubleValue());
+                    if (minPrice != null) {
+                        n.gte(minPrice.doubleValue());
                     }
-                    if (request.getMaxPrice() != null) {
-                        n.lte(request.getMaxPrice().doubleValue());
+                    if (maxPrice != null) {
+                        n.lte(maxPrice.doubleValue());
                     }
                     return n;
                 })
@@ -126,7 +311,7 @@ public class ProductSearchService {
         }
 
         // 3. 재고 필터
-        if (request.getInStockOnly() != null && request.getInStockOnly()) {
+        if (inStockOnly != null && inStockOnly) {
             Query stockQuery = Query.of(q -> q.range(r -> r
                 .number(n -> n
                     .field("stockQuantity")
@@ -144,92 +329,130 @@ public class ProductSearchService {
         ));
         boolQueryBuilder.filter(statusQuery);
 
-        // 5. 최종 쿼리 생성
-        Query finalQuery = Query.of(q -> q.bool(boolQueryBuilder.build()));
+        return Query.of(q -> q.bool(boolQueryBuilder.build()));
+    }
 
-        // 6. 페이징
-        Pageable pageable = PageRequest.of(
-            request.getPage() != null ? request.getPage() : 0,
-            request.getSize() != null ? request.getSize() : 20
-        );
+    private ProductSearchFacets extractFacets(SearchHits<ProductSearchDocument> searchHits, long priceInterval) {
+        if (!(searchHits.getAggregations() instanceof ElasticsearchAggregations aggregations)) {
+            return ProductSearchFacets.empty();
+        }
+        Map<String, ElasticsearchAggregation> aggregationMap = aggregations.aggregationsAsMap();
 
-        // 7. NativeQuery 빌더
-        NativeQueryBuilder queryBuilder = NativeQuery.builder()
-            .withQuery(finalQuery)
-            .withPageable(pageable);
+        return ProductSearchFacets.builder()
+            .categories(toTermBuckets(unwrap(aggregationMap, AGG_CATEGORIES)))
+            .priceRanges(toPriceRangeBuckets(unwrap(aggregationMap, AGG_PRICE_RANGES), priceInterval))
+            .optionValues(toTermBuckets(unwrap(aggregationMap, AGG_OPTION_VALUES)))
+            .stock(toStockBuckets(unwrap(aggregationMap, AGG_STOCK)))
+            .build();
+    }
 
-        // 8. 정렬 ('minPrice' 대신 'price' 사용)
-        String sortBy = request.getSortBy() != null ? request.getSortBy() : "skuId";
-        if ("minPrice".equals(sortBy)) sortBy = "price"; // 레거시 파라미터 매핑 필요 시 사용
+    /**
+     * 카테고리 filter 집계로 감싼 경우 내부 집계 결과를 꺼냄
+     */
+    private Aggregate unwrap(Map<String, ElasticsearchAggregation> aggregationMap, String name) {
+        ElasticsearchAggregation aggregation = aggregationMap.get(name);
+        if (aggregation == null) return null;
+        Aggregate aggregate = aggregation.aggregation().getAggregate();
+        if (aggregate.isFilter()) {
+            return aggregate.filter().aggregations().get(name);
+        }
+        return aggregate;
+    }
 
-        String finalSortBy = sortBy;
-        SortOrder sortOrder = "asc".equalsIgnoreCase(request.getSortOrder())
-            ? SortOrder.Asc
-            : SortOrder.Desc;
+    private List<ProductFacetBucket> toTermBuckets(Aggregate aggregate) {
+        if (aggregate == null) return List.of();
 
-        queryBuilder.withSort(s -> s.field(f -> f.field(finalSortBy).order(sortOrder)));
+        if (aggregate.isLterms()) {
+            return aggregate.lterms().buckets().array().stream()
+                .map(b -> new ProductFacetBucket(String.valueOf(b.key()), b.docCount()))
+                .collect(Collectors.toList());
+        }
+        if (aggregate.isSterms()) {
+            return aggregate.sterms().buckets().array().stream()
+                .map(b -> new ProductFacetBucket(b.key().stringValue(), b.docCount()))
+                .collect(Collectors.toList());
+        }
+        return List.of();
+    }
 
-        return queryBuilder.build();
+    /**
+     * 히스토그램 버킷 → 가격대 [from, from + interval)
+     * - minDocCount(1)로 빈 버킷이 빠지므로 다음 버킷 key가 아니라 interval로 상한 계산
+     */
+    private List<ProductPriceRangeBucket> toPriceRangeBuckets(Aggregate aggregate, long priceInterval) {
+        if (aggregate == null || !aggregate.isHistogram()) return List.of();
+
+        return aggregate.histogram().buckets().array().stream()
+            .map(b -> {
+                long from = (long) b.key();
+                return new ProductPriceRangeBucket(from, from + priceInterval, b.docCount());
+            })
+            .collect(Collectors.toList());
     }
 
-    private ProductSearchItem convertToSearchItem(SearchHit<Map> hit) {
-        Map<String, Object> source = hit.getContent();
+    private List<ProductFacetBucket> toStockBuckets(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isFilters()) return List.of();
 
-        return ProductSearchItem.builder()
-            .id(getLongValue(source, "productId"))
-            .skuId(getLongValue(source, "skuId"))
-            .name(getStringValue(source, "productName"))
-            .optionName(getStringValue(source, "optionName"))
-            .description(getStringValue(source, "productName")) // SKU 인덱스에 description 필드가 없을 수 있어 상품명을 대신 사용
-            .imageUrl(getStringValue(source, "imageUrl"))
-            .price(getLongValue(source, "price"))
-            .totalStock(getIntegerValue(source, "stockQuantity"))
-            .status(getStringValue(source, "status"))
-            .createdAt(getLocalDateTimeValue(source, "createdAt"))
-            .updatedAt(getLocalDateTimeValue(source, "updatedAt"))
-            .build();
+        return aggregate.filters().buckets().keyed().entrySet().stream()
+            .map(e -> new ProductFacetBucket(e.getKey(), e.getValue().docCount()))
+            .collect(Collectors.toList());
     }
 
-    private String getStringValue(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        return value != null ? value.toString() : null;
+    /**
+     * search_after 커서 인코딩 (sort 값 목록 → URL-safe Base64)
+     */
+    private String encodeCursor(List<Object> sortValues) {
+        String joined = sortValues.stream()
+            .map(String::valueOf)
+            .collect(Collectors.joining(","));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
     }
 
-    private Long getLongValue(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        if (value == null) return null;
-        if (value instanceof Number) {
-            return ((Number) value).longValue();
-        }
+    /**
+     * @throws IllegalArgumentException Base64/숫자 형식이 아닌 커서
+     */
+    private List<Object> decodeCursor(String cursor) {
         try {
-            return Long.parseLong(value.toString());
-        } catch (NumberFormatException e) {
-            log.warn("Failed to parse Long value for key: {}, value: {}", key, value);
-            return null;
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            List<Object> values = new ArrayList<>();
+            for (String token : joined.split(",")) {
+                try {
+                    values.add(Long.parseLong(token));
+                } catch (NumberFormatException e) {
+                    values.add(Double.parseDouble(token));
+                }
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("Invalid search cursor: " + cursor, e);
         }
     }
 
-    private Integer getIntegerValue(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        if (value == null) return null;
-        if (value instanceof Number) {
-            return ((Number) value).intValue();
-        }
-        try {
-            return Integer.parseInt(value.toString());
-        } catch (NumberFormatException e) {
-            log.warn("Failed to parse Integer value for key: {}, value: {}", key, value);
-            return null;
-        }
+    private ProductSearchItem convertToSearchItem(SearchHit<ProductSearchDocument> hit) {
+        ProductSearchDocument document = hit.getContent();
+
+        return ProductSearchItem.builder()
+            .id(document.getProductId())
+            .skuId(document.getSkuId())
+            .name(document.getProductName())
+            .optionName(document.getOptionName())
+            .description(document.getProductName()) // SKU 인덱스에 description 필드가 없어 상품명을 대신 사용
+            .imageUrl(document.getImageUrl())
+            .price(document.getPrice())
+            .totalStock(document.getStockQuantity())
+            .status(document.getStatus())
+            .createdAt(parseLocalDateTime(document.getCreatedAt()))
+            .updatedAt(parseLocalDateTime(document.getUpdatedAt()))
+            .build();
     }
 
-    private LocalDateTime getLocalDateTimeValue(Map<String, Object> map, String key) {
-        Object value = map.get(key);
+    private LocalDateTime parseLocalDateTime(String value) {
         if (value == null) return null;
         try {
-            return LocalDateTime.parse(value.toString());
+            return LocalDateTime.parse(value);
         } catch (Exception e) {
-            log.warn("Failed to parse LocalDateTime for key: {}, value: {}", key, value);
+            log.warn("Failed to parse LocalDateTime value: {}", value);
             return null;
         }
     }
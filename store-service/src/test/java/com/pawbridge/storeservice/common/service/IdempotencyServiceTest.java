@@ -0,0 +1,252 @@
+package com.pawbridge.storeservice.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawbridge.storeservice.common.exception.IdempotencyException;
+import com.pawbridge.storeservice.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String SCOPE = "order";
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "key-1";
+    private static final String REDIS_KEY = "idempotency:" + SCOPE + ":" + USER_ID + ":" + KEY;
+
+    record TestRequest(String item) {
+    }
+
+    record TestResponse(String id) {
+    }
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    // Redis 대역: 키 → 값 (SET NX / GET / 스크립트 의미만 흉내냄, TTL은 무시)
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private final AtomicInteger claims = new AtomicInteger();
+    private final AtomicInteger extensions = new AtomicInteger();
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> {
+                    boolean claimed = redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null;
+                    if (claimed) {
+                        claims.incrementAndGet();
+                    }
+                    return claimed;
+                });
+        lenient().when(valueOperations.get(anyString()))
+                .thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(this::runScript);
+
+        idempotencyService = service(Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyService.shutdown();
+    }
+
+    @Test
+    void 키가_없으면_Redis_없이_그대로_실행한다() {
+        TestResponse response = idempotencyService.execute(SCOPE, USER_ID, null, new TestRequest("a"),
+                TestResponse.class, () -> new TestResponse("r-1"));
+
+        assertThat(response).isEqualTo(new TestResponse("r-1"));
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    void 완료된_키로_다시_요청하면_실행하지_않고_저장된_응답을_반환한다() {
+        AtomicInteger executions = new AtomicInteger();
+
+        TestResponse first = idempotencyService.execute(SCOPE, USER_ID, KEY, new TestRequest("a"),
+                TestResponse.class, () -> new TestResponse("r-" + executions.incrementAndGet()));
+        TestResponse replay = idempotencyService.execute(SCOPE, USER_ID, KEY, new TestRequest("a"),
+                TestResponse.class, () -> new TestResponse("r-" + executions.incrementAndGet()));
+
+        assertThat(replay).isEqualTo(first);
+        assertThat(executions).hasValue(1);
+        assertThat(redis.get(REDIS_KEY)).contains("\"state\":\"DONE\"");
+    }
+
+    @Test
+    void 같은_키를_다른_요청_본문에_쓰면_거부한다() {
+        idempotencyService.execute(SCOPE, USER_ID, KEY, new TestRequest("a"),
+                TestResponse.class, () -> new TestResponse("r-1"));
+
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, USER_ID, KEY, new TestRequest("b"),
+                TestResponse.class, () -> new TestResponse("r-2")))
+                .isInstanceOfSatisfying(IdempotencyException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED));
+    }
+
+    @Test
+    void 처리에_실패하면_선점을_해제해_같은_키로_재시도할_수_있다() {
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, USER_ID, KEY, new TestRequest("a"),
+                TestResponse.class, () -> {
+                    throw new IllegalStateException("out of stock");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(redis).doesNotContainKey(REDIS_KEY);
+
+        TestResponse retried = idempotencyService.execute(SCOPE, USER_ID, KEY, new TestRequest("a"),
+                TestResponse.class, () -> new TestResponse("r-2"));
+
+        assertThat(retried).isEqualTo(new TestResponse("r-2"));
+    }
+
+    @Test
+    void 저장하지_않을_결과는_선점만_해제한다() {
+        TestResponse response = idempotencyService.execute(SCOPE, USER_ID, KEY, new TestRequest("a"),
+                TestResponse.class, () -> new TestResponse("in-progress"), result -> false);
+
+        assertThat(response).isEqualTo(new TestResponse("in-progress"));
+        assertThat(redis).doesNotContainKey(REDIS_KEY);
+    }
+
+    @Test
+    void 선점을_잃었으면_다른_요청의_선점을_응답으로_덮어쓰지_않는다() {
+        String otherClaim = "{\"state\":\"IN_PROGRESS\",\"owner\":\"other\",\"fingerprint\":\"x\",\"response\":null}";
+
+        idempotencyService.execute(SCOPE, USER_ID, KEY, new TestRequest("a"), TestResponse.class, () -> {
+            redis.put(REDIS_KEY, otherClaim); // 선점 만료 후 다른 요청이 다시 선점
+            return new TestResponse("r-1");
+        });
+
+        assertThat(redis.get(REDIS_KEY)).isEqualTo(otherClaim);
+    }
+
+    @Test
+    void 처리가_길어지면_lock_ttl이_지나기_전에_선점을_연장한다() throws InterruptedException {
+        IdempotencyService shortLock = service(Duration.ofMillis(60));
+        try {
+            shortLock.execute(SCOPE, USER_ID, KEY, new TestRequest("a"), TestResponse.class, () -> {
+                sleep(200);
+                return new TestResponse("r-1");
+            });
+        } finally {
+            shortLock.shutdown();
+        }
+
+        assertThat(extensions.get()).isGreaterThanOrEqualTo(2);
+        assertThat(redis.get(REDIS_KEY)).contains("\"state\":\"DONE\"");
+    }
+
+    @Test
+    void 동시에_들어온_중복_요청은_한_번만_실행하고_같은_응답을_받는다() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<TestResponse> first = pool.submit(() -> duplicate(start, executions));
+            Future<TestResponse> second = pool.submit(() -> duplicate(start, executions));
+            start.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(second.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(executions).hasValue(1);
+        assertThat(claims).hasValue(1);
+    }
+
+    @Test
+    void Redis_장애_시_Idempotency_없이_실행한다() {
+        willThrow(new QueryTimeoutException("redis down"))
+                .given(valueOperations).setIfAbsent(anyString(), anyString(), any(Duration.class));
+
+        TestResponse response = idempotencyService.execute(SCOPE, USER_ID, KEY, new TestRequest("a"),
+                TestResponse.class, () -> new TestResponse("r-1"));
+
+        assertThat(response).isEqualTo(new TestResponse("r-1"));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    private TestResponse duplicate(CountDownLatch start, AtomicInteger executions) throws InterruptedException {
+        start.await();
+        return idempotencyService.execute(SCOPE, USER_ID, KEY, new TestRequest("a"), TestResponse.class, () -> {
+            sleep(100);
+            return new TestResponse("r-" + executions.incrementAndGet());
+        });
+    }
+
+    private IdempotencyService service(Duration lockTtl) {
+        return new IdempotencyService(redisTemplate, new ObjectMapper(), Duration.ofHours(24), lockTtl,
+                Duration.ofSeconds(5), Duration.ofMillis(10));
+    }
+
+    private Object runScript(InvocationOnMock invocation) {
+        RedisScript<?> script = invocation.getArgument(0);
+        String key = invocation.<List<String>>getArgument(1).get(0);
+        Object[] raw = invocation.getRawArguments();
+        Object[] args = raw[2] instanceof Object[] array ? array : Arrays.copyOfRange(raw, 2, raw.length);
+        String source = script.getScriptAsString();
+
+        synchronized (redis) {
+            if (!args[0].equals(redis.get(key))) {
+                return 0L;
+            }
+            if (source.contains("PEXPIRE")) {
+                extensions.incrementAndGet();
+                return 1L;
+            }
+            if (source.contains("'DEL'")) {
+                redis.remove(key);
+                return 1L;
+            }
+            redis.put(key, (String) args[1]);
+            return 1L;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
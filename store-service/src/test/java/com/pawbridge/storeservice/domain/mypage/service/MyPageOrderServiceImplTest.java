@@ -0,0 +1,109 @@
+package com.pawbridge.storeservice.domain.mypage.service;
+
+import com.pawbridge.storeservice.domain.mypage.dto.OrderResponse;
+import com.pawbridge.storeservice.domain.mypage.dto.OrderSliceResponse;
+import com.pawbridge.storeservice.domain.mypage.repository.MyOrderRepository;
+import com.pawbridge.storeservice.domain.order.entity.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MyPageOrderServiceImplTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private MyOrderRepository orderRepository;
+
+    @InjectMocks
+    private MyPageOrderServiceImpl myPageOrderService;
+
+    @Test
+    void 페이지_ID만_항목_조회하고_1단계_순서를_유지한다() {
+        Pageable pageable = PageRequest.of(0, 3);
+        given(orderRepository.findIdsByUserId(USER_ID, pageable))
+                .willReturn(new PageImpl<>(List.of(30L, 20L, 10L), pageable, 500));
+        // 2단계 결과는 순서 보장 없음
+        given(orderRepository.findAllWithItemsByIdIn(List.of(30L, 20L, 10L)))
+                .willReturn(List.of(order(10L, 0), order(30L, 2), order(20L, 1)));
+
+        Page<OrderResponse> page = myPageOrderService.findByUserId(USER_ID, pageable);
+
+        assertThat(page.getContent()).extracting(OrderResponse::getOrderId).containsExactly(30L, 20L, 10L);
+        assertThat(page.getTotalElements()).isEqualTo(500);
+        // 전체 주문이 아니라 페이지 크기만큼만 로딩
+        verify(orderRepository).findAllWithItemsByIdIn(List.of(30L, 20L, 10L));
+    }
+
+    @Test
+    void 커서_조회는_size_더하기_1건으로_다음_페이지를_판단하고_size건만_로딩한다() {
+        given(orderRepository.findFirstIdsByUserId(eq(USER_ID), eq(PageRequest.of(0, 4))))
+                .willReturn(List.of(40L, 30L, 20L, 10L));
+        given(orderRepository.findAllWithItemsByIdIn(List.of(40L, 30L, 20L)))
+                .willReturn(List.of(order(40L, 3), order(30L, 2), order(20L, 1)));
+
+        OrderSliceResponse slice = myPageOrderService.findByUserIdWithCursor(USER_ID, null, null, 3);
+
+        assertThat(slice.getOrders()).extracting(OrderResponse::getOrderId).containsExactly(40L, 30L, 20L);
+        assertThat(slice.isHasNext()).isTrue();
+        assertThat(slice.getNextCursorId()).isEqualTo(20L);
+        assertThat(slice.getNextCursorCreatedAt()).isEqualTo(NOW.plusMinutes(1));
+    }
+
+    @Test
+    void 마지막_페이지는_커서가_없다() {
+        LocalDateTime cursorCreatedAt = NOW.plusMinutes(1);
+        given(orderRepository.findIdsByUserIdAfterCursor(eq(USER_ID), eq(cursorCreatedAt), eq(20L), any(Pageable.class)))
+                .willReturn(List.of(10L));
+        given(orderRepository.findAllWithItemsByIdIn(List.of(10L))).willReturn(List.of(order(10L, 0)));
+
+        OrderSliceResponse slice = myPageOrderService.findByUserIdWithCursor(USER_ID, cursorCreatedAt, 20L, 3);
+
+        assertThat(slice.getOrders()).hasSize(1);
+        assertThat(slice.isHasNext()).isFalse();
+        assertThat(slice.getNextCursorId()).isNull();
+    }
+
+    @Test
+    void 빈_페이지는_항목_조회를_하지_않는다() {
+        Pageable pageable = PageRequest.of(5, 10);
+        given(orderRepository.findIdsByUserId(USER_ID, pageable)).willReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        Page<OrderResponse> page = myPageOrderService.findByUserId(USER_ID, pageable);
+
+        assertThat(page.getContent()).isEmpty();
+        verify(orderRepository, never()).findAllWithItemsByIdIn(anyList());
+    }
+
+    private Order order(Long id, int minutesAfterNow) {
+        Order order = Order.builder()
+                .orderUuid("order-" + id)
+                .userId(USER_ID)
+                .totalAmount(10000L)
+                .deliveryAddress("서울")
+                .build();
+        ReflectionTestUtils.setField(order, "id", id);
+        ReflectionTestUtils.setField(order, "createdAt", NOW.plusMinutes(minutesAfterNow));
+        return order;
+    }
+}
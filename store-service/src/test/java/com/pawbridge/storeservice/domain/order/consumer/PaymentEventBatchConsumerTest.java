@@ -0,0 +1,105 @@
+package com.pawbridge.storeservice.domain.order.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawbridge.storeservice.domain.order.service.PaymentEventBatchService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentEventBatchConsumerTest {
+
+    private static final String EVENT = "{\"payload\":{\"orderId\":\"order-1\",\"status\":\"DONE\"}}";
+
+    @Mock
+    private PaymentEventBatchService paymentEventBatchService;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private PaymentEventBatchConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new PaymentEventBatchConsumer(new ObjectMapper(), paymentEventBatchService, kafkaTemplate);
+    }
+
+    @Test
+    void 처리_실패_레코드는_DLT_전송_완료_후_다음으로_진행한다() {
+        given(paymentEventBatchService.applyBatch(anyList())).willThrow(new IllegalArgumentException("Order not found"));
+        given(kafkaTemplate.send(eq("payment.events.DLT"), eq("key"), eq(EVENT)))
+                .willReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        consumer.handlePaymentEvents(List.of(record(0L, EVENT)));
+
+        verify(kafkaTemplate).send("payment.events.DLT", "key", EVENT);
+    }
+
+    @Test
+    void DLT_전송_실패시_배치를_실패시켜_오프셋이_커밋되지_않는다() {
+        given(paymentEventBatchService.applyBatch(anyList())).willThrow(new IllegalArgumentException("Order not found"));
+        given(kafkaTemplate.send(eq("payment.events.DLT"), eq("key"), eq(EVENT)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        assertThatThrownBy(() -> consumer.handlePaymentEvents(List.of(record(0L, EVENT))))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isZero())
+                .hasMessageContaining("DLT publish failed");
+    }
+
+    @Test
+    void 파싱_불가_레코드도_DLT_전송_실패시_해당_레코드_인덱스로_배치를_실패시킨다() {
+        given(kafkaTemplate.send(eq("payment.events.DLT"), eq("key"), eq("not-json")))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // 앞선 정상 레코드(0)는 커밋 대상, 실패 레코드(1)부터 재전달
+        assertThatThrownBy(() -> consumer.handlePaymentEvents(List.of(record(0L, EVENT), record(1L, "not-json"))))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+        verify(paymentEventBatchService, never()).applyBatch(anyList());
+    }
+
+    @Test
+    void 재처리_단계의_DLT_전송_실패는_원본_레코드_인덱스를_전달한다() {
+        String duplicate = "{\"payload\":{\"orderId\":\"order-1\",\"status\":\"CANCELED\"}}";
+        given(paymentEventBatchService.applyBatch(anyList())).willThrow(new IllegalArgumentException("Order not found"));
+        given(kafkaTemplate.send(eq("payment.events.DLT"), eq("key"), eq(duplicate)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // 같은 주문은 마지막 이벤트(인덱스 1)만 적용되므로 실패 인덱스도 1
+        assertThatThrownBy(() -> consumer.handlePaymentEvents(List.of(record(0L, EVENT), record(1L, duplicate))))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+    }
+
+    @Test
+    void 정상_배치는_한_번에_적용한다() {
+        given(paymentEventBatchService.applyBatch(anyList())).willReturn(Map.of(1L, 2L));
+
+        consumer.handlePaymentEvents(List.of(record(0L, EVENT)));
+
+        verify(paymentEventBatchService).incrementRankings(Map.of(1L, 2L));
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String value) {
+        return new ConsumerRecord<>("payment.events", 0, offset, "key", value);
+    }
+}
@@ -0,0 +1,159 @@
+package com.pawbridge.storeservice.domain.order.controller;
+
+import com.pawbridge.storeservice.common.service.IdempotencyService;
+import com.pawbridge.storeservice.domain.order.dto.OrderCreateRequest;
+import com.pawbridge.storeservice.domain.order.dto.OrderResponse;
+import com.pawbridge.storeservice.domain.order.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderControllerTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "order-key-1";
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    // Redis 대역: 키 → 값 (SET NX / GET / 스크립트 의미만 흉내냄, TTL은 무시)
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+
+    private IdempotencyService idempotencyService;
+    private OrderController orderController;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        lenient().when(valueOperations.get(anyString()))
+                .thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(this::runScript);
+
+        idempotencyService = new IdempotencyService(redisTemplate, Jackson2ObjectMapperBuilder.json().build(),
+                Duration.ofHours(24), Duration.ofSeconds(30), Duration.ofSeconds(5), Duration.ofMillis(10));
+        orderController = new OrderController(orderService, idempotencyService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyService.shutdown();
+    }
+
+    @Test
+    void 같은_Idempotency_Key로_동시에_들어온_주문_생성은_한_번만_처리하고_같은_주문을_응답한다() throws Exception {
+        OrderCreateRequest request = request("홍길동");
+        given(orderService.createOrder(eq(USER_ID), any(OrderCreateRequest.class))).willAnswer(invocation -> {
+            Thread.sleep(200); // 재고 차감/주문 저장 중 중복 요청 도착
+            return OrderResponse.builder()
+                    .orderId(100L)
+                    .orderUuid("order-uuid-100")
+                    .userId(USER_ID)
+                    .totalAmount(30000L)
+                    .status("PENDING")
+                    .createdAt(LocalDateTime.of(2026, 1, 1, 12, 0))
+                    .items(List.of())
+                    .build();
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        List<ResponseEntity<OrderResponse>> responses = new ArrayList<>();
+        try {
+            List<Future<ResponseEntity<OrderResponse>>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return orderController.createOrder(USER_ID, KEY, request);
+                }));
+            }
+            start.countDown();
+            for (Future<ResponseEntity<OrderResponse>> future : futures) {
+                responses.add(future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        verify(orderService, times(1)).createOrder(eq(USER_ID), any(OrderCreateRequest.class));
+        assertThat(responses).hasSize(CONCURRENT_REQUESTS)
+                .allSatisfy(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+                    assertThat(response.getBody().getOrderUuid()).isEqualTo("order-uuid-100");
+                });
+    }
+
+    private OrderCreateRequest request(String receiverName) {
+        OrderCreateRequest request = new OrderCreateRequest();
+        ReflectionTestUtils.setField(request, "receiverName", receiverName);
+        ReflectionTestUtils.setField(request, "deliveryAddress", "서울시 강남구");
+        return request;
+    }
+
+    private Object runScript(InvocationOnMock invocation) {
+        RedisScript<?> script = invocation.getArgument(0);
+        String key = invocation.<List<String>>getArgument(1).get(0);
+        Object[] raw = invocation.getRawArguments();
+        Object[] args = raw[2] instanceof Object[] array ? array : Arrays.copyOfRange(raw, 2, raw.length);
+        String source = script.getScriptAsString();
+
+        synchronized (redis) {
+            if (!args[0].equals(redis.get(key))) {
+                return 0L;
+            }
+            if (source.contains("PEXPIRE")) {
+                return 1L;
+            }
+            if (source.contains("'DEL'")) {
+                redis.remove(key);
+                return 1L;
+            }
+            redis.put(key, (String) args[1]);
+            return 1L;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.pawbridge.storeservice.domain.order.service;
+
+import com.pawbridge.storeservice.domain.order.dto.AdminOrderSearchRequest;
+import com.pawbridge.storeservice.domain.order.dto.AdminOrderSearchResponse;
+import com.pawbridge.storeservice.domain.order.dto.OrderResponse;
+import com.pawbridge.storeservice.domain.order.entity.Order;
+import com.pawbridge.storeservice.domain.order.repository.AdminOrderSearchRepository;
+import com.pawbridge.storeservice.domain.order.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AdminOrderServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private AdminOrderSearchRepository adminOrderSearchRepository;
+
+    @InjectMocks
+    private AdminOrderServiceImpl adminOrderService;
+
+    @Test
+    void 커서_생성일시만_전달하면_조회_없이_예외가_발생한다() {
+        AdminOrderSearchRequest request = AdminOrderSearchRequest.builder()
+                .cursorCreatedAt(NOW)
+                .build();
+
+        assertThatThrownBy(() -> adminOrderService.searchOrders(request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(adminOrderSearchRepository, orderRepository);
+    }
+
+    @Test
+    void 커서_ID만_전달하면_조회_없이_예외가_발생한다() {
+        AdminOrderSearchRequest request = AdminOrderSearchRequest.builder()
+                .cursorId(10L)
+                .build();
+
+        assertThatThrownBy(() -> adminOrderService.searchOrders(request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(adminOrderSearchRepository, orderRepository);
+    }
+
+    @Test
+    void 커서_쌍을_그대로_전달하고_size_더하기_1건으로_다음_페이지를_판단한다() {
+        given(adminOrderSearchRepository.searchPage(null, null, null, NOW, 50L, 3))
+                .willReturn(List.of(order(45L, 0), order(44L, -1), order(43L, -2)));
+
+        AdminOrderSearchResponse response = adminOrderService.searchOrders(AdminOrderSearchRequest.builder()
+                .cursorCreatedAt(NOW)
+                .cursorId(50L)
+                .size(2)
+                .build());
+
+        assertThat(response.getOrders()).extracting(OrderResponse::getOrderId).containsExactly(45L, 44L);
+        assertThat(response.getHasNext()).isTrue();
+        assertThat(response.getNextCursorCreatedAt()).isEqualTo(NOW.minusMinutes(1));
+        assertThat(response.getNextCursorId()).isEqualTo(44L);
+    }
+
+    @Test
+    void 생성일시가_같은_행은_ID를_다음_커서로_삼아_동점을_구분한다() {
+        // 같은 시각에 생성된 주문 3건: 다음 페이지는 (NOW, 40) 이후의 30번부터 이어져야 함
+        given(adminOrderSearchRepository.searchPage(null, null, null, null, null, 3))
+                .willReturn(List.of(order(50L, 0), order(40L, 0), order(30L, 0)));
+        given(adminOrderSearchRepository.estimateTotalRows()).willReturn(1000L);
+
+        AdminOrderSearchResponse response = adminOrderService.searchOrders(AdminOrderSearchRequest.builder()
+                .size(2)
+                .build());
+
+        assertThat(response.getNextCursorCreatedAt()).isEqualTo(NOW);
+        assertThat(response.getNextCursorId()).isEqualTo(40L);
+        assertThat(response.getTotalCount()).isEqualTo(1000L);
+        assertThat(response.getTotalCountExact()).isFalse();
+
+        // 키셋 조건: 생성일시가 같으면 ID로 비교하고 정렬도 (created_at, id) 역순
+        assertThat(AdminOrderSearchRepository.KEYSET)
+                .contains("o.created_at < :cursorCreatedAt")
+                .contains("o.created_at = :cursorCreatedAt AND o.id < :cursorId")
+                .contains("ORDER BY o.created_at DESC, o.id DESC");
+    }
+
+    @Test
+    void 마지막_페이지는_커서가_없다() {
+        given(adminOrderSearchRepository.searchPage(null, null, null, NOW, 50L, 21))
+                .willReturn(List.of(order(10L, -5)));
+
+        AdminOrderSearchResponse response = adminOrderService.searchOrders(AdminOrderSearchRequest.builder()
+                .cursorCreatedAt(NOW)
+                .cursorId(50L)
+                .build());
+
+        assertThat(response.getOrders()).hasSize(1);
+        assertThat(response.getHasNext()).isFalse();
+        assertThat(response.getNextCursorCreatedAt()).isNull();
+        assertThat(response.getNextCursorId()).isNull();
+    }
+
+    @Test
+    void 전체_주문번호는_유니크_인덱스_단건_조회로_처리한다() {
+        String uuid = "0A1B2C3D-0000-4000-8000-00000000000F";
+        given(orderRepository.findByOrderUuid(uuid.toLowerCase())).willReturn(Optional.of(order(1L, 0)));
+
+        AdminOrderSearchResponse response = adminOrderService.searchOrders(AdminOrderSearchRequest.builder()
+                .keyword(uuid)
+                .build());
+
+        assertThat(response.getOrders()).extracting(OrderResponse::getOrderId).containsExactly(1L);
+        assertThat(response.getHasNext()).isFalse();
+        verifyNoInteractions(adminOrderSearchRepository);
+    }
+
+    @Test
+    void 주문번호_prefix는_소문자로_prefix_검색한다() {
+        given(adminOrderSearchRepository.searchPageByOrderUuidPrefix(
+                "0a1b-2c", null, null, null, null, null, 21)).willReturn(List.of());
+
+        adminOrderService.searchOrders(AdminOrderSearchRequest.builder()
+                .keyword(" 0A1B-2C ")
+                .build());
+
+        verify(adminOrderSearchRepository).searchPageByOrderUuidPrefix(
+                "0a1b-2c", null, null, null, null, null, 21);
+    }
+
+    @Test
+    void 수령인_이름은_연산자를_제거한_구문_검색으로_처리한다() {
+        given(adminOrderSearchRepository.searchPageByReceiverName(
+                any(), any(), any(), any(), any(), any(), anyInt())).willReturn(List.of());
+
+        adminOrderService.searchOrders(AdminOrderSearchRequest.builder()
+                .keyword("홍길동*")
+                .build());
+
+        verify(adminOrderSearchRepository).searchPageByReceiverName(
+                "\"홍길동\"", null, null, null, null, null, 21);
+    }
+
+    private Order order(Long id, int minutesAfterNow) {
+        Order order = Order.builder()
+                .orderUuid("order-" + id)
+                .userId(1L)
+                .totalAmount(10000L)
+                .deliveryAddress("서울")
+                .receiverName("홍길동")
+                .build();
+        ReflectionTestUtils.setField(order, "id", id);
+        ReflectionTestUtils.setField(order, "createdAt", NOW.plusMinutes(minutesAfterNow));
+        return order;
+    }
+}
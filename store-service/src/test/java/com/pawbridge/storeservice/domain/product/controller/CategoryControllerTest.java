@@ -0,0 +1,70 @@
+package com.pawbridge.storeservice.domain.product.controller;
+
+import com.pawbridge.storeservice.domain.product.dto.CategoryTreeSnapshot;
+import com.pawbridge.storeservice.domain.product.service.CategoryService;
+import com.pawbridge.storeservice.domain.product.service.CategoryTreeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryControllerTest {
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private CategoryTreeService categoryTreeService;
+
+    @InjectMocks
+    private CategoryController categoryController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(categoryController).build();
+        given(categoryTreeService.getSnapshot())
+                .willReturn(new CategoryTreeSnapshot(List.of(), 7L, LocalDateTime.now()));
+    }
+
+    @Test
+    void ETag가_일치하면_304() throws Exception {
+        mockMvc.perform(get("/api/v1/categories").header(HttpHeaders.IF_NONE_MATCH, "\"category-tree-7\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void 약한_ETag도_일치하면_304() throws Exception {
+        mockMvc.perform(get("/api/v1/categories").header(HttpHeaders.IF_NONE_MATCH, "W/\"category-tree-7\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void ETag_목록중_하나라도_일치하면_304() throws Exception {
+        mockMvc.perform(get("/api/v1/categories")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"category-tree-6\", \"category-tree-7\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void 버전이_바뀌면_200과_새_ETag() throws Exception {
+        mockMvc.perform(get("/api/v1/categories").header(HttpHeaders.IF_NONE_MATCH, "\"category-tree-6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"category-tree-7\""));
+    }
+}
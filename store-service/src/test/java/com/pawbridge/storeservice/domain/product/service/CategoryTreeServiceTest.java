@@ -0,0 +1,91 @@
+package com.pawbridge.storeservice.domain.product.service;
+
+import com.pawbridge.storeservice.domain.product.dto.CategoryTreeRow;
+import com.pawbridge.storeservice.domain.product.dto.CategoryTreeSnapshot;
+import com.pawbridge.storeservice.domain.product.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RAtomicLong version;
+
+    @InjectMocks
+    private CategoryTreeService categoryTreeService;
+
+    @BeforeEach
+    void setUp() {
+        given(redissonClient.getAtomicLong(anyString())).willReturn(version);
+        given(categoryRepository.findAllTreeRows()).willReturn(List.of(
+                new CategoryTreeRow(1L, "사료", null, null),
+                new CategoryTreeRow(2L, "건식", null, 1L)));
+    }
+
+    @Test
+    void 스냅샷은_최초_조회시에만_빌드한다() {
+        given(version.get()).willReturn(3L);
+
+        CategoryTreeSnapshot first = categoryTreeService.getSnapshot();
+        CategoryTreeSnapshot second = categoryTreeService.getSnapshot();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getVersion()).isEqualTo(3L);
+        assertThat(first.getRoots()).hasSize(1);
+        assertThat(first.getRoots().get(0).getChildren()).hasSize(1);
+        verify(categoryRepository, times(1)).findAllTreeRows();
+    }
+
+    @Test
+    void 브로드캐스트를_놓쳐도_Redis_버전이_바뀌면_재빌드한다() {
+        given(version.get()).willReturn(3L, 4L, 4L);
+        categoryTreeService.getSnapshot();
+
+        categoryTreeService.refreshIfStale();
+
+        assertThat(categoryTreeService.getSnapshot().getVersion()).isEqualTo(4L);
+        verify(categoryRepository, times(2)).findAllTreeRows();
+    }
+
+    @Test
+    void 버전이_같으면_재빌드하지_않는다() {
+        given(version.get()).willReturn(3L);
+        categoryTreeService.getSnapshot();
+
+        categoryTreeService.refreshIfStale();
+
+        verify(categoryRepository, times(1)).findAllTreeRows();
+    }
+
+    @Test
+    void Redis_장애시_기존_스냅샷을_유지한다() {
+        given(version.get()).willReturn(3L).willThrow(new IllegalStateException("redis down"));
+        CategoryTreeSnapshot snapshot = categoryTreeService.getSnapshot();
+
+        categoryTreeService.refreshIfStale();
+
+        assertThat(categoryTreeService.getSnapshot()).isSameAs(snapshot);
+        verify(categoryRepository, times(1)).findAllTreeRows();
+    }
+}
@@ -0,0 +1,158 @@
+package com.pawbridge.storeservice.domain.product.service;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.HistogramBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.LongTermsBucket;
+import com.pawbridge.storeservice.domain.product.document.ProductSearchDocument;
+import com.pawbridge.storeservice.domain.product.dto.ProductFacetSearchRequest;
+import com.pawbridge.storeservice.domain.product.dto.ProductFacetSearchResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchServiceTest {
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private SearchHits<ProductSearchDocument> searchHits;
+
+    @InjectMocks
+    private ProductSearchService productSearchService;
+
+    @Test
+    void 가격대_상한은_다음_버킷이_아니라_구간_크기로_계산한다() {
+        // 10000~30000 구간은 상품이 없어 버킷이 빠짐 (minDocCount 1)
+        givenSearchResult(List.of(), Map.of("priceRanges", Aggregate.of(a -> a.histogram(h -> h
+                .buckets(b -> b.array(List.of(
+                        HistogramBucket.of(x -> x.key(0.0).docCount(3)),
+                        HistogramBucket.of(x -> x.key(30000.0).docCount(1)))))))));
+
+        ProductFacetSearchResponse response = productSearchService.searchWithFacets(
+                ProductFacetSearchRequest.builder().priceInterval(10000L).build());
+
+        assertThat(response.getFacets().getPriceRanges())
+                .extracting("from", "to", "count")
+                .containsExactly(tuple(0L, 10000L, 3L), tuple(30000L, 40000L, 1L));
+    }
+
+    @Test
+    void 카테고리_필터는_post_filter로_적용하고_카테고리_패싯은_전체를_집계한다() {
+        Aggregate categories = Aggregate.of(a -> a.lterms(t -> t.buckets(b -> b.array(List.of(
+                LongTermsBucket.of(x -> x.key(1L).docCount(5)),
+                LongTermsBucket.of(x -> x.key(2L).docCount(2)))))));
+        Aggregate priceRangesInCategory = Aggregate.of(a -> a.filter(f -> f.docCount(5)
+                .aggregations("priceRanges", Aggregate.of(h -> h.histogram(x -> x.buckets(b -> b.array(List.of(
+                        HistogramBucket.of(y -> y.key(10000.0).docCount(5))))))))));
+        givenSearchResult(List.of(), Map.of("categories", categories, "priceRanges", priceRangesInCategory));
+
+        ProductFacetSearchResponse response = productSearchService.searchWithFacets(
+                ProductFacetSearchRequest.builder().keyword("사료").categoryId(1L).build());
+
+        NativeQuery query = capturedQuery();
+        assertThat(query.getFilter().term().field()).isEqualTo("categoryId");
+        assertThat(query.getQuery().bool().filter())
+                .noneMatch(filter -> filter.isTerm() && "categoryId".equals(filter.term().field()));
+        assertThat(query.getAggregations().get("categories").isTerms()).isTrue();
+        assertThat(query.getAggregations().get("priceRanges").isFilter()).isTrue();
+
+        assertThat(response.getFacets().getCategories())
+                .extracting("key", "count")
+                .containsExactly(tuple("1", 5L), tuple("2", 2L));
+        assertThat(response.getFacets().getPriceRanges())
+                .extracting("from", "to", "count")
+                .containsExactly(tuple(10000L, 20000L, 5L));
+    }
+
+    @Test
+    void 다음_페이지_커서는_마지막_hit의_정렬값을_그대로_search_after로_돌려준다() {
+        givenSearchResult(List.of(hit(1L, List.of(2.5, 10L)), hit(2L, List.of(1.5, 42L)), hit(3L, List.of(1.0, 7L))),
+                Map.of());
+
+        ProductFacetSearchResponse first = productSearchService.searchWithFacets(
+                ProductFacetSearchRequest.builder().size(2).build());
+
+        assertThat(first.getItems()).hasSize(2);
+        assertThat(first.getHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotBlank();
+
+        productSearchService.searchWithFacets(
+                ProductFacetSearchRequest.builder().size(2).cursor(first.getNextCursor()).build());
+
+        ArgumentCaptor<NativeQuery> captor = ArgumentCaptor.forClass(NativeQuery.class);
+        verify(elasticsearchOperations, times(2)).search(captor.capture(), eq(ProductSearchDocument.class));
+        assertThat(captor.getAllValues().get(0).getSearchAfter()).isNull();
+        assertThat(captor.getAllValues().get(1).getSearchAfter()).containsExactly(1.5, 42L);
+    }
+
+    @Test
+    void 마지막_페이지면_커서를_내려주지_않는다() {
+        givenSearchResult(List.of(hit(1L, List.of(2.5, 10L))), Map.of());
+
+        ProductFacetSearchResponse response = productSearchService.searchWithFacets(
+                ProductFacetSearchRequest.builder().size(2).build());
+
+        assertThat(response.getHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 잘못된_커서는_빈_결과가_아니라_예외로_거절한다() {
+        assertThatThrownBy(() -> productSearchService.searchWithFacets(
+                ProductFacetSearchRequest.builder().cursor("not-base64!!").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productSearchService.searchWithFacets(
+                ProductFacetSearchRequest.builder().cursor("YWJj").build())) // "abc"
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(elasticsearchOperations);
+    }
+
+    private void givenSearchResult(List<SearchHit<ProductSearchDocument>> hits, Map<String, Aggregate> aggregations) {
+        given(elasticsearchOperations.search(any(NativeQuery.class), eq(ProductSearchDocument.class)))
+                .willReturn(searchHits);
+        given(searchHits.getSearchHits()).willReturn(hits);
+        given(searchHits.getAggregations()).willReturn(new ElasticsearchAggregations(aggregations));
+    }
+
+    private NativeQuery capturedQuery() {
+        ArgumentCaptor<NativeQuery> captor = ArgumentCaptor.forClass(NativeQuery.class);
+        verify(elasticsearchOperations).search(captor.capture(), eq(ProductSearchDocument.class));
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchHit<ProductSearchDocument> hit(Long skuId, List<Object> sortValues) {
+        // 페이지 밖 hit은 변환되지 않으므로 lenient
+        SearchHit<ProductSearchDocument> hit = mock(SearchHit.class, withSettings().strictness(Strictness.LENIENT));
+        given(hit.getContent()).willReturn(ProductSearchDocument.builder().skuId(skuId).productId(skuId).build());
+        given(hit.getSortValues()).willReturn(sortValues);
+        return hit;
+    }
+}
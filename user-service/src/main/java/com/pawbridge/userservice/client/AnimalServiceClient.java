@@ -1,6 +1,8 @@
 package com.pawbridge.userservice.client;
 
+import com.pawbridge.userservice.config.FeignRetryConfig;
 import com.pawbridge.userservice.dto.response.AnimalResponse;
+import com.pawbridge.userservice.dto.response.AnimalSummaryResponse;
 import com.pawbridge.userservice.dto.response.PageResponse;
 import com.pawbridge.userservice.dto.response.ShelterResponse;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -15,8 +17,14 @@ import java.util.List;
  * Animal Service Feign Client
  * - animal-service와 통신
  * - 보호소 존재 여부 확인에 사용
+ * - 서킷 브레이커/벌크헤드/타임아웃: resilience4j.*.configs.animal-service (application.yml)
  */
-@FeignClient(name = "animal-service", url = "${service.animal.url:}")
+@FeignClient(
+        name = "animal-service",
+        url = "${service.animal.url:}",
+        configuration = FeignRetryConfig.class,
+        fallbackFactory = AnimalServiceClientFallbackFactory.class
+)
 public interface AnimalServiceClient {
 
     /**
@@ -36,12 +44,12 @@ public interface AnimalServiceClient {
     ShelterResponse getShelterByCareRegNo(@PathVariable("careRegNo") String careRegNo);
 
     /**
-     * 여러 동물 ID로 일괄 조회
-     * - 찜 목록 조회 시 사용
+     * 여러 동물 ID로 요약 일괄 조회
+     * - 찜 목록 조회 시 사용 (AnimalSummaryCache에 없는 ID만)
      * - mypage 전용 엔드포인트
      */
     @PostMapping("/api/v1/mypage/animals/batch")
-    List<AnimalResponse> getAnimalsByIds(@RequestBody List<Long> animalIds);
+    List<AnimalSummaryResponse> getAnimalsByIds(@RequestBody List<Long> animalIds);
 
     /**
      * 보호소별 동물 목록 조회
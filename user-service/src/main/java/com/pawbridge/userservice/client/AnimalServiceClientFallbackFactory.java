@@ -0,0 +1,65 @@
+package com.pawbridge.userservice.client;
+
+import com.pawbridge.userservice.dto.response.AnimalResponse;
+import com.pawbridge.userservice.dto.response.AnimalSummaryResponse;
+import com.pawbridge.userservice.dto.response.PageResponse;
+import com.pawbridge.userservice.dto.response.ShelterResponse;
+import com.pawbridge.userservice.service.ShelterInfoCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * AnimalServiceClient 장애 시 대체 응답
+ * - 보호소 조회: 마지막으로 조회된 보호소 정보(ShelterInfoCache)가 있으면 반환
+ * - 그 외 (보호소 존재 확인, 동물 조회): 원래 예외 그대로 전파
+ *   (회원가입 보호소 검증은 오래된 정보로 통과시키지 않음)
+ * - 서킷 오픈(CallNotPermittedException), 동시 호출 한도 초과(BulkheadFullException), 타임아웃 모두 포함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnimalServiceClientFallbackFactory implements FallbackFactory<AnimalServiceClient> {
+
+    private final ShelterInfoCache shelterInfoCache;
+
+    @Override
+    public AnimalServiceClient create(Throwable cause) {
+        return new AnimalServiceClient() {
+            @Override
+            public Boolean existsByCareRegNo(String careRegNo) {
+                throw propagate(cause);
+            }
+
+            @Override
+            public ShelterResponse getShelterByCareRegNo(String careRegNo) {
+                return shelterInfoCache.find(careRegNo)
+                        .map(shelter -> {
+                            log.warn("[FALLBACK] animal-service unavailable, using last known shelter: careRegNo={}, cause={}",
+                                    careRegNo, cause.toString());
+                            return shelter;
+                        })
+                        .orElseThrow(() -> propagate(cause));
+            }
+
+            @Override
+            public List<AnimalSummaryResponse> getAnimalsByIds(List<Long> animalIds) {
+                throw propagate(cause);
+            }
+
+            @Override
+            public PageResponse<AnimalResponse> getAnimalsByShelterId(Long shelterId, int page, int size, String sort) {
+                throw propagate(cause);
+            }
+        };
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException("animal-service call failed", cause);
+    }
+}
@@ -1,5 +1,6 @@
 package com.pawbridge.userservice.client;
 
+import com.pawbridge.userservice.config.FeignRetryConfig;
 import com.pawbridge.userservice.dto.response.CartResponse;
 import com.pawbridge.userservice.dto.response.OrderResponse;
 import com.pawbridge.userservice.dto.response.WishlistResponse;
@@ -12,8 +13,14 @@ import org.springframework.web.bind.annotation.RequestParam;
  * Store Service Feign Client
  * - store-service와 통신
  * - 찜 목록, 주문 내역, 장바구니 조회에 사용
+ * - 서킷 브레이커/벌크헤드/타임아웃: resilience4j.*.configs.store-service (application.yml)
+ * - 대체 응답 없음: 실패 시 마이페이지 해당 섹션만 누락
  */
-@FeignClient(name = "store-service", url = "${service.store.url:}")
+@FeignClient(
+        name = "store-service",
+        url = "${service.store.url:}",
+        configuration = FeignRetryConfig.class
+)
 public interface StoreServiceClient {
 
     /**
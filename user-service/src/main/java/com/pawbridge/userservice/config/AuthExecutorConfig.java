@@ -0,0 +1,31 @@
+package com.pawbridge.userservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 로그인 인증(BCrypt 검증) 전용 스레드 풀 설정
+ * - 기본 스레드 수 = CPU 코어 수 (BCrypt는 CPU 바운드)
+ * - 대기열이 가득 차면 즉시 거절 (AbortPolicy) → 로그인 폭주가 다른 요청 스레드의 CPU를 잠식하지 않음
+ */
+@Configuration
+public class AuthExecutorConfig {
+
+    @Bean(name = "authExecutor")
+    public ThreadPoolTaskExecutor authExecutor(
+            @Value("${security.login.auth-threads:0}") int authThreads,
+            @Value("${security.login.auth-queue-capacity:200}") int queueCapacity
+    ) {
+        int threads = authThreads > 0 ? authThreads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("auth-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.pawbridge.userservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 마이페이지 조합 조회용 스레드 풀 설정
+ * - 하위 서비스(animal-service, store-service) 호출을 병렬 실행
+ * - 대기열이 가득 차면 거절 → 해당 섹션만 누락 처리
+ */
+@Configuration
+public class MyPageConfig {
+
+    @Bean(name = "myPageExecutor")
+    public ThreadPoolTaskExecutor myPageExecutor(
+            @Value("${mypage.fanout.threads:16}") int threads,
+            @Value("${mypage.fanout.queue-capacity:200}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mypage-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,14 +1,19 @@
 package com.pawbridge.userservice.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pawbridge.userservice.filter.JwtAuthenticationFilter;
 import com.pawbridge.userservice.jwt.JwtProvider;
+import com.pawbridge.userservice.jwt.RefreshTokenStore;
 import com.pawbridge.userservice.oauth2.handler.OAuth2FailureHandler;
 import com.pawbridge.userservice.oauth2.handler.OAuth2SuccessHandler;
 import com.pawbridge.userservice.oauth2.service.CustomOAuth2UserService;
-import com.pawbridge.userservice.repository.RefreshTokenRepository;
+import com.pawbridge.userservice.security.LoginAttemptService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -25,17 +30,20 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginAttemptService loginAttemptService;
+    private final ObjectMapper objectMapper;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final OAuth2FailureHandler oAuth2FailureHandler;
 
     /**
      * BCryptPasswordEncoder Bean 등록
+     * - strength 변경 시 기존 해시는 다음 로그인 성공 때 새 cost로 재해싱됨 (PrincipalDetailsService.updatePassword)
      */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
@@ -44,7 +52,9 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain filterChain(
             HttpSecurity http,
-            AuthenticationConfiguration authenticationConfiguration
+            AuthenticationConfiguration authenticationConfiguration,
+            @Qualifier("authExecutor") ThreadPoolTaskExecutor authExecutor,
+            @Value("${security.login.auth-timeout-ms:5000}") long authTimeoutMs
     ) throws Exception {
         // AuthenticationManager 생성
         AuthenticationManager authenticationManager =
@@ -52,7 +62,8 @@ public class SecurityConfig {
 
         // JwtAuthenticationFilter 생성
         JwtAuthenticationFilter jwtAuthenticationFilter =
-                new JwtAuthenticationFilter(authenticationManager, jwtProvider, refreshTokenRepository);
+                new JwtAuthenticationFilter(authenticationManager, jwtProvider, refreshTokenStore,
+                        loginAttemptService, authExecutor, authTimeoutMs, objectMapper);
 
         http
                 // CSRF 비활성화 (JWT 사용)
@@ -0,0 +1,51 @@
+package com.pawbridge.userservice.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawbridge.userservice.service.AnimalSummaryCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동물 변경 이벤트 소비 (animal-service Outbox)
+ * - 찜 목록용 동물 요약 로컬 캐시 무효화 (수정/상태 변경/삭제)
+ * - 캐시는 인스턴스마다 존재하므로 인스턴스별 consumer group 사용 (브로드캐스트)
+ * - 재시작 시 과거 이벤트는 불필요하므로 latest부터 소비
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnimalEventConsumer {
+
+    private final AnimalSummaryCache animalSummaryCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = {"animal.updated", "animal.status.changed", "animal.deleted"},
+            groupId = "user-service-animal-cache-${random.uuid}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consumeAnimalEvent(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        try {
+            // Debezium EventRouter 구조: {schema, payload} 또는 payload 단독
+            JsonNode message = objectMapper.readTree(record.value());
+            JsonNode payload = message.has("payload") ? message.get("payload") : message;
+
+            if (payload.hasNonNull("animalId")) {
+                animalSummaryCache.evict(payload.get("animalId").asLong());
+                log.debug("[ANIMAL-CACHE] Evicted: animalId={}, topic={}", payload.get("animalId").asLong(), record.topic());
+            } else {
+                log.warn("[ANIMAL-CACHE] animalId missing in animal event: topic={}", record.topic());
+            }
+
+        } catch (Exception e) {
+            // 캐시 무효화 실패는 TTL로 보정되므로 재시도하지 않음
+            log.error("[ANIMAL-CACHE] Failed to consume animal event: {}", e.getMessage());
+        }
+        acknowledgment.acknowledge();
+    }
+}
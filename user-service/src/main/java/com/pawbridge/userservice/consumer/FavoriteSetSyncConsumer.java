@@ -0,0 +1,46 @@
+package com.pawbridge.userservice.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawbridge.userservice.service.FavoriteSetStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 찜 Outbox 이벤트 소비 (user-service 자신이 발행한 user.favorite.events)
+ * - Redis 찜 Set을 DB 기준으로 재동기화
+ * - Redis는 공유 저장소이므로 서비스 공통 consumer group 사용 (한 인스턴스만 처리)
+ * - 이벤트 내용 대신 DB를 재확인하므로 중복/재처리에 안전
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FavoriteSetSyncConsumer {
+
+    private final FavoriteSetStore favoriteSetStore;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "user.favorite.events", groupId = "user-service-favorite-set-group")
+    public void consumeFavoriteEvent(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        try {
+            // Debezium EventRouter 구조: {schema, payload} 또는 payload 단독
+            JsonNode message = objectMapper.readTree(record.value());
+            JsonNode payload = message.has("payload") ? message.get("payload") : message;
+
+            if (!payload.hasNonNull("userId") || !payload.hasNonNull("animalId")) {
+                log.warn("[FAVORITE-SET] userId or animalId missing in favorite event");
+            } else {
+                favoriteSetStore.syncFromDatabase(payload.get("userId").asLong(), payload.get("animalId").asLong());
+            }
+
+        } catch (Exception e) {
+            // 동기화 실패는 TTL 만료 후 재적재로 보정되므로 재시도하지 않음
+            log.error("[FAVORITE-SET] Failed to sync favorite set: {}", e.getMessage());
+        }
+        acknowledgment.acknowledge();
+    }
+}
@@ -8,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 동물 좋아요 컨트롤러 (CUD 전용)
  * - 좋아요 추가/제거/확인
@@ -64,4 +66,22 @@ public class FavoriteController {
                 .status(response.getCode())
                 .body(response);
     }
+
+    /**
+     * 좋아요 여부 일괄 확인 (동물 목록 카드용)
+     * - GET /api/v1/favorites/check?animalIds=1,2,3
+     * - 응답: 그 중 좋아요한 animalId 목록
+     * - animalIds는 최대 favorite.check.max-ids개 (초과 시 400)
+     */
+    @GetMapping("/check")
+    public ResponseEntity<ResponseDTO<List<Long>>> findFavoritedAnimalIds(
+            @RequestHeader(value = "X-User-Id", required = true) Long userId,
+            @RequestParam List<Long> animalIds) {
+
+        List<Long> favoritedAnimalIds = favoriteService.findFavoritedAnimalIds(userId, animalIds);
+        ResponseDTO<List<Long>> response = ResponseDTO.okWithData(favoritedAnimalIds);
+        return ResponseEntity
+                .status(response.getCode())
+                .body(response);
+    }
 }
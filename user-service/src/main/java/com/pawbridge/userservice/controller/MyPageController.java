@@ -3,6 +3,7 @@ package com.pawbridge.userservice.controller;
 import com.pawbridge.userservice.dto.response.AnimalResponse;
 import com.pawbridge.userservice.dto.response.CartResponse;
 import com.pawbridge.userservice.dto.response.FavoriteListResponseDto;
+import com.pawbridge.userservice.dto.response.MyPageSummaryResponse;
 import com.pawbridge.userservice.dto.response.OrderResponse;
 import com.pawbridge.userservice.dto.response.PageResponse;
 import com.pawbridge.userservice.dto.response.WishlistResponse;
@@ -33,14 +34,15 @@ public class MyPageController {
     private final FavoriteService favoriteService;
 
     /**
-     * 내가 좋아요한 동물 목록 조회
-     * - GET /api/v1/users/me/favorites
+     * 내가 좋아요한 동물 목록 조회 (페이지 단위)
+     * - GET /api/v1/users/me/favorite-animals?page=0&size=20
      */
     @GetMapping("/favorite-animals")
     public ResponseEntity<ResponseDTO<FavoriteListResponseDto>> getFavorites(
-            @RequestHeader(value = "X-User-Id", required = true) Long userId) {
+            @RequestHeader(value = "X-User-Id", required = true) Long userId,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        FavoriteListResponseDto favoriteListResponseDto = favoriteService.getFavorites(userId);
+        FavoriteListResponseDto favoriteListResponseDto = favoriteService.getFavorites(userId, pageable);
         ResponseDTO<FavoriteListResponseDto> response = ResponseDTO.okWithData(favoriteListResponseDto);
         return ResponseEntity
                 .status(response.getCode())
@@ -119,4 +121,22 @@ public class MyPageController {
                 .status(response.getCode())
                 .body(response);
     }
+
+    /**
+     * 마이페이지 요약 조회 (등록 동물, 찜, 주문, 장바구니 한 번에)
+     * - GET /api/v1/users/me/summary
+     * - 조회에 실패한 섹션은 null, unavailableSections에 이름 포함
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ResponseDTO<MyPageSummaryResponse>> getSummary(
+            @RequestHeader(value = "X-User-Id", required = true) Long userId,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        MyPageSummaryResponse summary = myPageService.getSummary(userId, pageable);
+        ResponseDTO<MyPageSummaryResponse> response = ResponseDTO.okWithData(summary);
+
+        return ResponseEntity
+                .status(response.getCode())
+                .body(response);
+    }
 }
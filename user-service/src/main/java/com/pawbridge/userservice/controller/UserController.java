@@ -12,6 +12,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+import java.util.Set;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/users")
@@ -86,4 +89,14 @@ public class UserController {
         return ResponseEntity.ok(nickname);
     }
 
+    /**
+     * 닉네임 일괄 조회 (내부 API - 마이크로서비스 간 호출용)
+     * - 목록 화면에서 작성자 닉네임을 한 번의 호출로 조회
+     * - 존재하지 않는 userId는 응답 Map에서 빠짐
+     */
+    @PostMapping("/internal/nicknames")
+    public ResponseEntity<Map<Long, String>> getUserNicknames(@RequestBody Set<Long> userIds) {
+        return ResponseEntity.ok(userService.getUserNicknames(userIds));
+    }
+
 }
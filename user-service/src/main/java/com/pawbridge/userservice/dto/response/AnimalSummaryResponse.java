@@ -0,0 +1,27 @@
+package com.pawbridge.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * animal-service에서 받아오는 동물 요약 DTO (찜 목록 카드용)
+ * - animal-service의 AnimalSummaryResponse와 동일한 구조
+ * - Enum 타입은 Jackson이 자동으로 String으로 변환
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnimalSummaryResponse {
+
+    private Long id;
+    private String species;  // Enum: DOG, CAT, ETC
+    private String breed;
+    private String gender;  // Enum: MALE, FEMALE, UNKNOWN
+    private Integer age;
+    private String status;  // Enum: PROTECT, ADOPTED, etc
+    private String imageUrl;
+    private String shelterName;
+}
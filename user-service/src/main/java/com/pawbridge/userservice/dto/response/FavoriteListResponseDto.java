@@ -1,17 +1,27 @@
 package com.pawbridge.userservice.dto.response;
 
+import org.springframework.data.domain.Page;
+
 import java.util.List;
 
 public record FavoriteListResponseDto(
         Long userId,
-        int totalCount,
+        long totalCount,     // 전체 찜 개수 (현재 페이지가 아닌 전체)
+        int page,
+        int size,
+        int totalPages,
+        boolean last,
         List<FavoriteWithAnimalDto> favorites  // 타입 변경!
 ) {
-    public static FavoriteListResponseDto of(Long userId, List<FavoriteWithAnimalDto> favorites) {
+    public static FavoriteListResponseDto of(Long userId, Page<?> page, List<FavoriteWithAnimalDto> favorites) {
         return new FavoriteListResponseDto(
                 userId,
-                favorites.size(),
+                page.getTotalElements(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalPages(),
+                page.isLast(),
                 favorites
         );
     }
-}
\ No newline at end of file
+}
@@ -24,9 +24,9 @@ public record FavoriteWithAnimalDto(
         String status
 ) {
     /**
-     * Favorite + AnimalResponse 조합
+     * Favorite + AnimalSummaryResponse 조합
      */
-    public static FavoriteWithAnimalDto of(Favorite favorite, AnimalResponse animal) {
+    public static FavoriteWithAnimalDto of(Favorite favorite, AnimalSummaryResponse animal) {
         return new FavoriteWithAnimalDto(
                 favorite.getFavoriteId(),
                 favorite.getUser().getUserId(),
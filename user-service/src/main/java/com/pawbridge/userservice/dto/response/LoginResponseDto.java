@@ -1,6 +1,7 @@
 package com.pawbridge.userservice.dto.response;
 
 import com.pawbridge.userservice.entity.User;
+import com.pawbridge.userservice.repository.projection.LoginCredential;
 
 public record LoginResponseDto(
         Long userId,
@@ -22,4 +23,16 @@ public record LoginResponseDto(
                 refreshToken
         );
     }
+
+    public static LoginResponseDto fromCredential(LoginCredential credential, String accessToken, String refreshToken) {
+        return new LoginResponseDto(
+                credential.userId(),
+                credential.email(),
+                credential.name(),
+                credential.role().name(),
+                credential.careRegNo(),
+                accessToken,
+                refreshToken
+        );
+    }
 }
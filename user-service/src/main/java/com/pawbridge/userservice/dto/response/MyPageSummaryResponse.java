@@ -0,0 +1,37 @@
+package com.pawbridge.userservice.dto.response;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 마이페이지 요약 응답 (여러 서비스 결과를 한 번에 조합)
+ * - 조회에 실패하거나 시간 초과된 섹션은 null + unavailableSections에 이름 포함
+ */
+public record MyPageSummaryResponse(
+        /**
+         * 내가 등록한 동물 (보호소 직원만, 그 외 null)
+         */
+        PageResponse<AnimalResponse> registeredAnimals,
+
+        /**
+         * 찜 목록
+         */
+        Page<WishlistResponse> wishlists,
+
+        /**
+         * 주문 내역
+         */
+        Page<OrderResponse> orders,
+
+        /**
+         * 장바구니 (없으면 null)
+         */
+        CartResponse cart,
+
+        /**
+         * 조회하지 못한 섹션 이름 목록 (registeredAnimals, wishlists, orders, cart)
+         */
+        List<String> unavailableSections
+) {
+}
@@ -0,0 +1,17 @@
+package com.pawbridge.userservice.dto.response;
+
+/**
+ * 사용자 닉네임 조회 결과 (내부 API - 벌크 조회용)
+ */
+public record UserNicknameResponse(
+        /**
+         * 사용자 ID
+         */
+        Long userId,
+
+        /**
+         * 닉네임
+         */
+        String nickname
+) {
+}
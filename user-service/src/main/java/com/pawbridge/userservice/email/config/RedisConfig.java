@@ -16,6 +16,9 @@ public class RedisConfig {
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(new StringRedisSerializer());
+        // Stream 레코드 필드(메일 발송 대기열)도 문자열로 저장
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new StringRedisSerializer());
         return template;
     }
 
@@ -50,4 +53,151 @@ public class RedisConfig {
                 "return newCount";
         return RedisScript.of(script, Long.class);
     }
+
+    /**
+     * Bloom filter 비트 일괄 설정 Lua 스크립트
+     * - ARGV: 설정할 비트 오프셋 목록
+     */
+    @Bean
+    public RedisScript<Long> bloomAddScript() {
+        String script =
+                "for i = 1, #ARGV do " +
+                "  redis.call('SETBIT', KEYS[1], ARGV[i], 1) " +
+                "end " +
+                "return #ARGV";
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * Bloom filter 포함 여부 확인 Lua 스크립트
+     * - 하나라도 0인 비트가 있으면 0 (확실히 없음), 모두 1이면 1 (있을 수 있음)
+     */
+    @Bean
+    public RedisScript<Long> bloomContainsScript() {
+        String script =
+                "for i = 1, #ARGV do " +
+                "  if redis.call('GETBIT', KEYS[1], ARGV[i]) == 0 then " +
+                "    return 0 " +
+                "  end " +
+                "end " +
+                "return 1";
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * Refresh Token 발급 Lua 스크립트 (family 생성 + 토큰 저장 + 사용자별 family 목록 갱신)
+     * - KEYS[1]: family 키, KEYS[2]: 토큰 키, KEYS[3]: 사용자별 family ZSET 키 (모두 같은 {userId} hash tag)
+     * - ARGV[1]: userId, ARGV[2]: familyId, ARGV[3]: TTL(초), ARGV[4]: 현재 시각(ms)
+     * - family ZSET score = 만료 시각(ms), 만료된 family는 발급/회전 시 정리
+     */
+    @Bean
+    public RedisScript<Long> refreshTokenIssueScript() {
+        String script =
+                "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3]) " +
+                "redis.call('SET', KEYS[2], ARGV[1] .. '|' .. ARGV[2], 'EX', ARGV[3]) " +
+                "redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', ARGV[4]) " +
+                "redis.call('ZADD', KEYS[3], tonumber(ARGV[4]) + tonumber(ARGV[3]) * 1000, ARGV[2]) " +
+                "redis.call('EXPIRE', KEYS[3], ARGV[3]) " +
+                "return 1";
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * Refresh Token 회전 Lua 스크립트
+     * - KEYS[1]: 기존 토큰 키, KEYS[2]: 기존 토큰 사용 기록 키, KEYS[3]: 새 토큰 키,
+     *   KEYS[4]: family 키, KEYS[5]: 사용자별 family ZSET 키 (모두 같은 {userId} hash tag)
+     * - ARGV[1]: TTL(초), ARGV[2]: 현재 시각(ms), ARGV[3]: familyId
+     * - 반환: "OK|userId|familyId" / "REUSED|userId|familyId|consumedAt" / "REVOKED" / "NOT_FOUND"
+     */
+    @Bean
+    public RedisScript<String> refreshTokenRotateScript() {
+        String script =
+                "local value = redis.call('GET', KEYS[1]) " +
+                "if value then " +
+                "  redis.call('DEL', KEYS[1]) " +
+                "  redis.call('SET', KEYS[2], value .. '|' .. ARGV[2], 'EX', ARGV[1]) " +
+                "  if redis.call('EXISTS', KEYS[4]) == 0 then " +
+                "    return 'REVOKED' " +
+                "  end " +
+                "  redis.call('SET', KEYS[3], value, 'EX', ARGV[1]) " +
+                "  redis.call('EXPIRE', KEYS[4], ARGV[1]) " +
+                "  redis.call('ZREMRANGEBYSCORE', KEYS[5], '-inf', ARGV[2]) " +
+                "  redis.call('ZADD', KEYS[5], tonumber(ARGV[2]) + tonumber(ARGV[1]) * 1000, ARGV[3]) " +
+                "  redis.call('EXPIRE', KEYS[5], ARGV[1]) " +
+                "  return 'OK|' .. value " +
+                "end " +
+                "local used = redis.call('GET', KEYS[2]) " +
+                "if used then " +
+                "  return 'REUSED|' .. used " +
+                "end " +
+                "return 'NOT_FOUND'";
+        return RedisScript.of(script, String.class);
+    }
+
+    /**
+     * 찜 Set 일괄 포함 여부 확인 Lua 스크립트
+     * - KEYS[1]: 사용자 찜 Set 키, ARGV[1]: 적재 완료 표시 멤버, ARGV[2..]: animalId 목록
+     * - 반환: 첫 글자 = 적재 여부(1/0), 이후 animalId별 포함 여부(1/0) 문자열 (미적재 시 "0")
+     */
+    @Bean
+    public RedisScript<String> favoriteSetCheckScript() {
+        String script =
+                "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then " +
+                "  return '0' " +
+                "end " +
+                "local result = {'1'} " +
+                "for i = 2, #ARGV do " +
+                "  result[i] = tostring(redis.call('SISMEMBER', KEYS[1], ARGV[i])) " +
+                "end " +
+                "return table.concat(result)";
+        return RedisScript.of(script, String.class);
+    }
+
+    /**
+     * 찜 Set 전체 적재 Lua 스크립트 (DB 기준으로 교체)
+     * - KEYS[1]: 사용자 찜 Set 키, KEYS[2]: 사용자 찜 쓰기 버전 키
+     * - ARGV[1]: TTL(초), ARGV[2]: 적재 완료 표시 멤버, ARGV[3]: DB 조회 전에 읽은 쓰기 버전, ARGV[4..]: animalId 목록
+     * - DB 조회 이후 찜 추가/삭제가 반영되었으면(버전 변경) 오래된 목록이므로 적재하지 않음
+     * - 반환: 적재한 animalId 수 (건너뛰면 -1)
+     */
+    @Bean
+    public RedisScript<Long> favoriteSetLoadScript() {
+        String script =
+                "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[3] then " +
+                "  return -1 " +
+                "end " +
+                "redis.call('DEL', KEYS[1]) " +
+                "redis.call('SADD', KEYS[1], ARGV[2]) " +
+                "for i = 4, #ARGV, 500 do " +
+                "  redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 499, #ARGV))) " +
+                "end " +
+                "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+                "return #ARGV - 3";
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * 찜 Set 단건 반영 Lua 스크립트
+     * - 쓰기 버전은 항상 올림 (진행 중인 적재가 오래된 목록을 덮어쓰지 않도록)
+     * - 적재된 Set에만 반영 (미적재 Set은 다음 조회 시 DB에서 적재되므로 건너뜀)
+     * - KEYS[1]: 사용자 찜 Set 키, KEYS[2]: 사용자 찜 쓰기 버전 키
+     * - ARGV[1]: 적재 완료 표시 멤버, ARGV[2]: "1"(추가)/"0"(삭제), ARGV[3]: animalId, ARGV[4]: TTL(초)
+     * - 반환: 반영 여부(1/0)
+     */
+    @Bean
+    public RedisScript<Long> favoriteSetApplyScript() {
+        String script =
+                "redis.call('INCR', KEYS[2]) " +
+                "redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+                "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then " +
+                "  return 0 " +
+                "end " +
+                "if ARGV[2] == '1' then " +
+                "  redis.call('SADD', KEYS[1], ARGV[3]) " +
+                "else " +
+                "  redis.call('SREM', KEYS[1], ARGV[3]) " +
+                "end " +
+                "return 1";
+        return RedisScript.of(script, Long.class);
+    }
 }
@@ -0,0 +1,74 @@
+package com.pawbridge.userservice.email.queue;
+
+import java.util.Map;
+
+/**
+ * 메일 발송 대기열 메시지 (Redis Stream 레코드)
+ */
+public record EmailDispatchMessage(
+        /**
+         * 메일 종류
+         */
+        EmailType type,
+
+        /**
+         * 수신자
+         */
+        String to,
+
+        /**
+         * 인증 코드
+         */
+        String code,
+
+        /**
+         * 발송 시도 횟수 (0부터 시작)
+         */
+        int attempt,
+
+        /**
+         * 최초 등록 시각 (epoch millis) - 인증 코드 만료 이후 발송 방지용
+         */
+        long enqueuedAt
+) {
+
+    public static EmailDispatchMessage of(EmailType type, String to, String code) {
+        return new EmailDispatchMessage(type, to, code, 0, System.currentTimeMillis());
+    }
+
+    public static EmailDispatchMessage fromFields(Map<?, ?> fields) {
+        return new EmailDispatchMessage(
+                EmailType.valueOf(String.valueOf(fields.get("type"))),
+                String.valueOf(fields.get("to")),
+                String.valueOf(fields.get("code")),
+                Integer.parseInt(String.valueOf(fields.get("attempt"))),
+                Long.parseLong(String.valueOf(fields.get("enqueuedAt")))
+        );
+    }
+
+    public Map<String, String> toFields() {
+        return Map.of(
+                "type", type.name(),
+                "to", to,
+                "code", code,
+                "attempt", String.valueOf(attempt),
+                "enqueuedAt", String.valueOf(enqueuedAt)
+        );
+    }
+
+    /**
+     * Dead Letter 보관용 필드 (인증 코드 제외)
+     */
+    public Map<String, String> toDeadLetterFields() {
+        return Map.of(
+                "type", type.name(),
+                "to", to,
+                "attempt", String.valueOf(attempt),
+                "enqueuedAt", String.valueOf(enqueuedAt)
+        );
+    }
+
+    public EmailDispatchMessage nextAttempt() {
+        return new EmailDispatchMessage(type, to, code, attempt + 1, enqueuedAt);
+    }
+}
@@ -0,0 +1,239 @@
+package com.pawbridge.userservice.email.queue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메일 발송 대기열 (Redis Stream + Consumer Group)
+ *
+ * - email:dispatch        : 발송 대기 스트림 (워커가 Consumer Group으로 분배 소비)
+ * - email:dispatch:retry  : 재시도 대기 ZSET (score = 재시도 시각, 지수 백오프)
+ * - email:dispatch:dead   : 최대 시도 초과 메시지 (Dead Letter 스트림, 인증 코드 제외 / 길이·TTL 제한)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailDispatchQueue {
+
+    private static final String STREAM_KEY = "email:dispatch";
+    private static final String RETRY_KEY = "email:dispatch:retry";
+    private static final String DEAD_LETTER_KEY = "email:dispatch:dead";
+    private static final String GROUP = "email-dispatch-workers";
+    private static final String RECLAIMER = "reclaimer";
+    private static final int RETRY_MOVE_BATCH = 100;
+    private static final int RECLAIM_BATCH = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${email.dispatch.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${email.dispatch.retry-base-delay-ms:2000}")
+    private long retryBaseDelayMs;
+
+    @Value("${email.dispatch.dead-letter.max-length:10000}")
+    private long deadLetterMaxLength;
+
+    @Value("${email.dispatch.dead-letter.ttl-hours:72}")
+    private long deadLetterTtlHours;
+
+    /**
+     * 발송 요청 등록 (HTTP 요청은 등록 직후 반환)
+     */
+    public void enqueue(EmailType type, String to, String code) {
+        add(EmailDispatchMessage.of(type, to, code));
+    }
+
+    /**
+     * Consumer Group 생성 (스트림이 없으면 함께 생성, 이미 있으면 무시)
+     */
+    public void createGroupIfAbsent() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                connection.streamCommands().xGroupCreate(
+                        STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0-0"), true);
+                return null;
+            });
+        } catch (RedisSystemException e) {
+            // BUSYGROUP: 이미 생성됨
+            log.debug("메일 발송 Consumer Group 이미 존재: {}", GROUP);
+        }
+    }
+
+    /**
+     * 워커에 새 메시지 배분 (비차단 조회)
+     */
+    public List<MapRecord<String, Object, Object>> read(String consumerName, int count) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        return records != null ? records : List.of();
+    }
+
+    /**
+     * 처리 완료 확인 (성공/재시도 예약/Dead Letter 이동 모두 ack)
+     */
+    public void ack(RecordId... recordIds) {
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, recordIds);
+    }
+
+    /**
+     * 발송 실패 처리
+     * - 최대 시도 횟수 미만이면 지수 백오프 후 재시도 예약
+     * - 초과하면 인증 코드를 제외하고 Dead Letter 스트림으로 이동 (근사 MAXLEN + TTL로 보관량 제한)
+     */
+    public void retryOrDeadLetter(EmailDispatchMessage message) {
+        EmailDispatchMessage next = message.nextAttempt();
+        if (next.attempt() >= maxAttempts) {
+            redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                    .in(DEAD_LETTER_KEY)
+                    .ofMap(next.toDeadLetterFields()));
+            redisTemplate.opsForStream().trim(DEAD_LETTER_KEY, deadLetterMaxLength, true);
+            redisTemplate.expire(DEAD_LETTER_KEY, Duration.ofHours(deadLetterTtlHours));
+            log.error("메일 발송 최종 실패, Dead Letter 이동: type={}, to={}, attempts={}",
+                    next.type(), next.to(), next.attempt());
+            return;
+        }
+
+        long delayMs = retryBaseDelayMs * (1L << message.attempt());
+        redisTemplate.opsForZSet().add(RETRY_KEY, encode(next), System.currentTimeMillis() + delayMs);
+        log.warn("메일 발송 실패, {}ms 후 재시도: type={}, to={}, attempt={}",
+                delayMs, next.type(), next.to(), next.attempt());
+    }
+
+    /**
+     * 재시도 시각이 된 메시지를 발송 스트림으로 복귀
+     * - ZREM 성공한 인스턴스만 복귀시켜 다중 인스턴스 중복 방지
+     */
+    public int moveDueRetries() {
+        Set<String> due = redisTemplate.opsForZSet()
+                .rangeByScore(RETRY_KEY, 0, System.currentTimeMillis(), 0, RETRY_MOVE_BATCH);
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+
+        int moved = 0;
+        for (String encoded : due) {
+            Long removed = redisTemplate.opsForZSet().remove(RETRY_KEY, encoded);
+            if (removed != null && removed > 0) {
+                add(decode(encoded));
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * 장시간 ack되지 않은 메시지 회수 (워커 비정상 종료 대비)
+     * - minIdle 이상 대기 중인 pending 메시지는 시도 횟수를 올려 재시도 예약(또는 Dead Letter)하고 기존 레코드는 ack
+     * - 워커를 죽게 만드는 메시지가 무한히 재등록되지 않도록 회수도 1회 시도로 계산
+     */
+    public int reclaimStale(Duration minIdle) {
+        PendingMessages pending = redisTemplate.opsForStream()
+                .pending(STREAM_KEY, GROUP, Range.unbounded(), RECLAIM_BATCH);
+        if (pending == null || pending.isEmpty()) {
+            return 0;
+        }
+
+        RecordId[] staleIds = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (staleIds.length == 0) {
+            return 0;
+        }
+
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream()
+                .claim(STREAM_KEY, GROUP, RECLAIMER, minIdle, staleIds);
+        for (MapRecord<String, Object, Object> record : claimed) {
+            retryOrDeadLetter(EmailDispatchMessage.fromFields(record.getValue()));
+            ack(record.getId());
+        }
+        return claimed.size();
+    }
+
+    /**
+     * 처리 완료된 레코드 정리 (XTRIM MINID)
+     * - 가장 오래된 pending 레코드(없으면 그룹의 last-delivered-id) 이전만 삭제
+     * - 근사 MAXLEN과 달리 아직 배분되지 않았거나 ack되지 않은 레코드는 삭제하지 않음
+     */
+    public void trim() {
+        String minId = oldestRetainedId();
+        if (minId == null) {
+            return;
+        }
+
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("XTRIM",
+                STREAM_KEY.getBytes(StandardCharsets.UTF_8),
+                "MINID".getBytes(StandardCharsets.UTF_8),
+                "~".getBytes(StandardCharsets.UTF_8),
+                minId.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String oldestRetainedId() {
+        PendingMessagesSummary summary = redisTemplate.opsForStream().pending(STREAM_KEY, GROUP);
+        if (summary != null && summary.getTotalPendingMessages() > 0) {
+            return summary.minMessageId();
+        }
+
+        StreamInfo.XInfoGroups groups = redisTemplate.opsForStream().groups(STREAM_KEY);
+        return groups.stream()
+                .filter(group -> GROUP.equals(group.groupName()))
+                .map(StreamInfo.XInfoGroup::lastDeliveredId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void add(EmailDispatchMessage message) {
+        redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofMap(message.toFields()));
+    }
+
+    /**
+     * ZSET 멤버 직렬화 (type|attempt|enqueuedAt|code|to)
+     */
+    private String encode(EmailDispatchMessage message) {
+        return String.join("|",
+                message.type().name(),
+                String.valueOf(message.attempt()),
+                String.valueOf(message.enqueuedAt()),
+                message.code(),
+                message.to());
+    }
+
+    private EmailDispatchMessage decode(String encoded) {
+        String[] parts = encoded.split("\\|", 5);
+        return EmailDispatchMessage.fromFields(Map.of(
+                "type", parts[0],
+                "attempt", parts[1],
+                "enqueuedAt", parts[2],
+                "code", parts[3],
+                "to", parts[4]
+        ));
+    }
+}
@@ -0,0 +1,135 @@
+package com.pawbridge.userservice.email.queue;
+
+import com.pawbridge.userservice.email.service.EmailSenderService;
+import com.pawbridge.userservice.email.service.EmailVerificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 발송 워커
+ * - emailDispatchExecutor 스레드마다 Consumer Group 소비자 1개로 대기열을 폴링
+ * - 배치 단위로 발송 후 ack, 실패 메시지는 재시도 예약 또는 Dead Letter 이동
+ * - 인증 코드 유효시간(EmailVerificationService.CODE_EXPIRATION_MINUTES)이 지난 메시지는 발송하지 않고 폐기
+ */
+@Slf4j
+@Component
+public class EmailDispatchWorker implements SmartLifecycle {
+
+    private static final long MAX_AGE_MS = TimeUnit.MINUTES.toMillis(EmailVerificationService.CODE_EXPIRATION_MINUTES);
+
+    private final EmailDispatchQueue emailDispatchQueue;
+    private final EmailSenderService emailSenderService;
+    private final ThreadPoolTaskExecutor emailDispatchExecutor;
+    private final String consumerPrefix = "worker-" + UUID.randomUUID();
+
+    private volatile boolean running;
+
+    @Value("${email.dispatch.workers:4}")
+    private int workers;
+
+    @Value("${email.dispatch.batch-size:20}")
+    private int batchSize;
+
+    @Value("${email.dispatch.poll-interval-ms:500}")
+    private long pollIntervalMs;
+
+    public EmailDispatchWorker(EmailDispatchQueue emailDispatchQueue,
+                               EmailSenderService emailSenderService,
+                               @Qualifier("emailDispatchExecutor") ThreadPoolTaskExecutor emailDispatchExecutor) {
+        this.emailDispatchQueue = emailDispatchQueue;
+        this.emailSenderService = emailSenderService;
+        this.emailDispatchExecutor = emailDispatchExecutor;
+    }
+
+    @Override
+    public void start() {
+        emailDispatchQueue.createGroupIfAbsent();
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            String consumerName = consumerPrefix + "-" + i;
+            emailDispatchExecutor.execute(() -> pollLoop(consumerName));
+        }
+        log.info("✅ Email dispatch workers started: count={}", workers);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void pollLoop(String consumerName) {
+        while (running) {
+            try {
+                List<MapRecord<String, Object, Object>> records = emailDispatchQueue.read(consumerName, batchSize);
+                if (records.isEmpty()) {
+                    Thread.sleep(pollIntervalMs);
+                    continue;
+                }
+                dispatch(records);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("메일 발송 워커 오류: consumer={}, error={}", consumerName, e.getMessage());
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * 배치 발송
+     * - sendAll 자체가 예외로 실패하면 배치 전체를 실패로 보고 시도 횟수를 올려 재시도 예약
+     */
+    void dispatch(List<MapRecord<String, Object, Object>> records) {
+        long now = System.currentTimeMillis();
+        List<EmailDispatchMessage> messages = new ArrayList<>(records.size());
+
+        for (MapRecord<String, Object, Object> record : records) {
+            EmailDispatchMessage message = EmailDispatchMessage.fromFields(record.getValue());
+            if (now - message.enqueuedAt() > MAX_AGE_MS) {
+                log.warn("인증 코드 만료로 메일 폐기: type={}, to={}", message.type(), message.to());
+                continue;
+            }
+            messages.add(message);
+        }
+
+        List<EmailDispatchMessage> failed = messages.isEmpty() ? List.of() : send(messages);
+        failed.forEach(emailDispatchQueue::retryOrDeadLetter);
+
+        emailDispatchQueue.ack(records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+        log.debug("메일 발송 배치 처리: total={}, failed={}", records.size(), failed.size());
+    }
+
+    private List<EmailDispatchMessage> send(List<EmailDispatchMessage> messages) {
+        try {
+            return emailSenderService.sendAll(messages);
+        } catch (RuntimeException e) {
+            log.error("메일 배치 발송 오류, 전체 재시도 예약: count={}", messages.size(), e);
+            return messages;
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.pawbridge.userservice.email.queue;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 발송 메일 종류 (제목 + 템플릿 경로)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EmailType {
+
+    VERIFICATION("[PawBridge] 이메일 인증 코드", "templates/email_verification.html"),
+    PASSWORD_RESET("[PawBridge] 비밀번호 재설정 인증 코드", "templates/password_reset.html");
+
+    private final String subject;
+    private final String templatePath;
+}
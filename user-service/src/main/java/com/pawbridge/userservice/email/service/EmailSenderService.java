@@ -1,14 +1,17 @@
 package com.pawbridge.userservice.email.service;
 
-import com.pawbridge.userservice.exception.EmailSendingException;
+import com.pawbridge.userservice.email.queue.EmailDispatchMessage;
 import com.pawbridge.userservice.exception.EmailTemplateLoadException;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
@@ -16,60 +19,103 @@ import org.springframework.stereotype.Service;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
+/**
+ * SMTP 메일 발송 (EmailDispatchWorker 전용)
+ * - 배치 단위로 JavaMailSender.send(MimeMessage...) 호출 → SMTP 연결 1개로 여러 메일 발송
+ * - 템플릿은 최초 1회 로드 후 코드 치환 위치 기준으로 분할해 캐시
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailSenderService {
 
+    private static final String CODE_PLACEHOLDER = "{{code}}";
+    private static final Pattern CODE_PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(CODE_PLACEHOLDER));
+
     private final JavaMailSender mailSender;
 
+    // 템플릿 경로 → 치환 위치 기준으로 분할된 조각
+    private final Map<String, String[]> compiledTemplates = new ConcurrentHashMap<>();
+
     @Value("${spring.mail.username}")
     private String fromEmail;
 
     /**
-     * 회원가입 인증 이메일 발송
+     * 메일 일괄 발송
+     * @param messages 발송할 메시지 목록
+     * @return 발송 실패한 메시지 목록 (재시도 대상)
      */
-    public void sendVerificationEmail(String to, String code) {
-        sendEmail(to, "[PawBridge] 이메일 인증 코드", "templates/email_verification.html", code);
-    }
+    public List<EmailDispatchMessage> sendAll(List<EmailDispatchMessage> messages) {
+        List<EmailDispatchMessage> failed = new ArrayList<>();
+        Map<MimeMessage, EmailDispatchMessage> mimeMessages = new IdentityHashMap<>();
 
-    /**
-     * 비밀번호 재설정 인증 이메일 발송
-     */
-    public void sendPasswordResetEmail(String to, String code) {
-        sendEmail(to, "[PawBridge] 비밀번호 재설정 인증 코드", "templates/password_reset.html", code);
-    }
+        for (EmailDispatchMessage message : messages) {
+            try {
+                mimeMessages.put(createMimeMessage(message), message);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                log.error("메일 메시지 생성 실패: to={}", message.to(), e);
+                failed.add(message);
+            }
+        }
+
+        if (mimeMessages.isEmpty()) {
+            return failed;
+        }
 
-    /**
-     * 이메일 발송 공통 로직
-     */
-    private void sendEmail(String to, String subject, String templatePath, String code) {
         try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            mailSender.send(mimeMessages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // 일부 실패: 실패한 메시지만 재시도 대상으로
+            if (e.getFailedMessages().isEmpty()) {
+                failed.addAll(mimeMessages.values());
+            } else {
+                e.getFailedMessages().keySet().forEach(mimeMessage -> failed.add(mimeMessages.get(mimeMessage)));
+            }
+            log.warn("메일 일부 발송 실패: total={}, failed={}", mimeMessages.size(), failed.size());
+        } catch (MailException e) {
+            failed.addAll(mimeMessages.values());
+            log.warn("메일 발송 실패 (SMTP): count={}, error={}", mimeMessages.size(), e.getMessage());
+        }
 
-            helper.setFrom(new InternetAddress(fromEmail, "PawBridge"));
-            helper.setTo(to);
-            helper.setSubject(subject);
+        return failed;
+    }
 
-            String emailContent = loadEmailTemplate(templatePath, code);
-            helper.setText(emailContent, true);
+    private MimeMessage createMimeMessage(EmailDispatchMessage message)
+            throws MessagingException, UnsupportedEncodingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
 
-            mailSender.send(message);
+        helper.setFrom(new InternetAddress(fromEmail, "PawBridge"));
+        helper.setTo(message.to());
+        helper.setSubject(message.type().getSubject());
+        helper.setText(render(message.type().getTemplatePath(), message.code()), true);
 
-        } catch (MessagingException | UnsupportedEncodingException e) {
-            throw new EmailSendingException("이메일 발송에 실패했습니다.", e);
-        }
+        return mimeMessage;
+    }
+
+    /**
+     * 캐시된 템플릿에 인증 코드 삽입
+     */
+    private String render(String templatePath, String code) {
+        String[] parts = compiledTemplates.computeIfAbsent(templatePath, this::compileTemplate);
+        return String.join(code, parts);
     }
 
     /**
-     * 이메일 템플릿 로드
+     * 이메일 템플릿 로드 및 분할
      */
-    private String loadEmailTemplate(String templatePath, String code) {
+    private String[] compileTemplate(String templatePath) {
         try {
             Resource resource = new ClassPathResource(templatePath);
             String template = new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
-            return template.replace("{{code}}", code);
+            return CODE_PLACEHOLDER_PATTERN.split(template, -1);
         } catch (IOException e) {
             throw new EmailTemplateLoadException();
         }
@@ -4,6 +4,8 @@ import com.pawbridge.userservice.exception.ExpiredCodeException;
 import com.pawbridge.userservice.exception.InvalidCodeException;
 import com.pawbridge.userservice.exception.TooManyAttemptsException;
 import com.pawbridge.userservice.exception.common.ErrorCode;
+import com.pawbridge.userservice.email.queue.EmailDispatchQueue;
+import com.pawbridge.userservice.email.queue.EmailType;
 import com.pawbridge.userservice.email.util.CodeGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -18,12 +20,12 @@ import java.util.concurrent.TimeUnit;
 public class EmailVerificationService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final EmailSenderService emailSenderService;
+    private final EmailDispatchQueue emailDispatchQueue;
     private final RedisScript<Long> checkAndIncrementScript;
     private final RedisScript<Long> incrementWithExpireScript;
 
     private static final int CODE_LENGTH = 6;
-    private static final long CODE_EXPIRATION_MINUTES = 5;
+    public static final long CODE_EXPIRATION_MINUTES = 5;
     private static final long VERIFIED_EXPIRATION_HOURS = 1;
     private static final int MAX_SEND_ATTEMPTS = 5;
     private static final int MAX_VERIFY_ATTEMPTS = 5;
@@ -38,13 +40,13 @@ public class EmailVerificationService {
         // 2. 6자리 숫자 코드 생성
         String code = CodeGenerator.generateNumeric(CODE_LENGTH);
 
-        // 3. 이메일 발송 먼저 (실패하면 예외 발생, Redis 저장 안 됨)
-        emailSenderService.sendVerificationEmail(email, code);
-
-        // 4. 발송 성공 후 Redis에 저장
+        // 3. Redis에 코드 저장
         String codeKey = "email:code:" + email;
         redisTemplate.opsForValue().set(codeKey, code, CODE_EXPIRATION_MINUTES, TimeUnit.MINUTES);
 
+        // 4. 발송 대기열 등록 (SMTP 발송은 EmailDispatchWorker가 비동기 처리)
+        emailDispatchQueue.enqueue(EmailType.VERIFICATION, email, code);
+
         // 5. 검증 시도 횟수 초기화
         String attemptsKey = "email:attempts:" + email;
         redisTemplate.delete(attemptsKey);
@@ -112,13 +114,13 @@ public class EmailVerificationService {
         // 2. 6자리 숫자 코드 생성
         String code = CodeGenerator.generateNumeric(CODE_LENGTH);
 
-        // 3. 이메일 발송 먼저 (실패하면 예외 발생, Redis 저장 안 됨)
-        emailSenderService.sendPasswordResetEmail(email, code);
-
-        // 4. 발송 성공 후 Redis에 저장
+        // 3. Redis에 코드 저장
         String codeKey = "password:reset:code:" + email;
         redisTemplate.opsForValue().set(codeKey, code, CODE_EXPIRATION_MINUTES, TimeUnit.MINUTES);
 
+        // 4. 발송 대기열 등록 (SMTP 발송은 EmailDispatchWorker가 비동기 처리)
+        emailDispatchQueue.enqueue(EmailType.PASSWORD_RESET, email, code);
+
         // 5. 검증 시도 횟수 초기화
         String attemptsKey = "password:reset:attempts:" + email;
         redisTemplate.delete(attemptsKey);
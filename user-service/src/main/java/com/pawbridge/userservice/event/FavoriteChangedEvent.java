@@ -0,0 +1,17 @@
+package com.pawbridge.userservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 찜 변경 애플리케이션 이벤트 (트랜잭션 커밋 후 Redis 찜 Set 반영용)
+ * - Kafka로 발행되지 않음 (Kafka 이벤트는 Outbox로 발행)
+ */
+@Getter
+@AllArgsConstructor
+public class FavoriteChangedEvent {
+
+    private Long userId;
+    private Long animalId;
+    private boolean favorited;
+}
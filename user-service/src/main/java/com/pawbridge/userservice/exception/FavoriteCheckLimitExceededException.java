@@ -0,0 +1,13 @@
+package com.pawbridge.userservice.exception;
+
+import com.pawbridge.userservice.exception.common.ApplicationException;
+import com.pawbridge.userservice.exception.common.ErrorCode;
+
+public class FavoriteCheckLimitExceededException extends ApplicationException {
+
+    private static final ErrorCode ERROR_CODE = ErrorCode.FAVORITE_CHECK_LIMIT_EXCEEDED;
+
+    public FavoriteCheckLimitExceededException() {
+        super(ERROR_CODE);
+    }
+}
@@ -69,6 +69,7 @@ public enum ErrorCode {
     // FAVORITE
     FAVORITE_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 찜한 동물입니다."),
     FAVORITE_NOT_FOUND(HttpStatus.NOT_FOUND, "찜 내역을 찾을 수 없습니다."),
+    FAVORITE_CHECK_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "한 번에 확인할 수 있는 동물 수를 초과했습니다."),
     USER_DELETION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "사용자 탈퇴에 실패했습니다."),
 
     // 5xx
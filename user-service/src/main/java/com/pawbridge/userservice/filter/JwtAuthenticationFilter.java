@@ -2,21 +2,27 @@ package com.pawbridge.userservice.filter;
 
 import com.pawbridge.userservice.dto.request.LoginRequestDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.pawbridge.userservice.repository.projection.LoginCredential;
 import com.pawbridge.userservice.dto.response.LoginResponseDto;
-import com.pawbridge.userservice.entity.RefreshToken;
-import com.pawbridge.userservice.entity.User;
 import com.pawbridge.userservice.jwt.JwtProvider;
-import com.pawbridge.userservice.repository.RefreshTokenRepository;
-import com.pawbridge.userservice.security.PrincipalDetails;
+import com.pawbridge.userservice.jwt.RefreshTokenStore;
+import com.pawbridge.userservice.security.LoginAttemptService;
+import com.pawbridge.userservice.security.LoginPrincipal;
 import com.pawbridge.userservice.util.CustomResponseUtil;
 import com.pawbridge.userservice.util.ResponseDTO;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -24,26 +30,48 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * JWT를 이용한 로그인 인증 필터
+ * - 요청 Body 파싱/응답 직렬화는 공유 ObjectReader/ObjectWriter 사용 (요청마다 ObjectMapper 생성 안 함)
+ * - BCrypt 검증은 authExecutor(고정 크기 풀 + 유한 대기열)에서 실행, 포화 시 503으로 즉시 거절
+ *   → 동시에 진행되는 BCrypt 연산 수는 풀 크기로 제한됨 (bulkhead)
+ * - auth-timeout-ms는 요청 스레드의 대기 시간 상한일 뿐, 이미 시작된 BCrypt 연산은 중단되지 않음
+ *   (BCrypt는 인터럽트에 반응하지 않으므로 대기열에 남은 작업만 취소)
+ * - 계정별 로그인 실패 횟수가 한도를 넘으면 BCrypt 검증 없이 429로 거절
  */
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
     private final JwtProvider jwtProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginAttemptService loginAttemptService;
+    private final ThreadPoolTaskExecutor authExecutor;
+    private final long authTimeoutMs;
+    private final ObjectReader loginRequestReader;
+    private final ObjectWriter responseWriter;
 
     public JwtAuthenticationFilter(
             AuthenticationManager authenticationManager,
             JwtProvider jwtProvider,
-            RefreshTokenRepository refreshTokenRepository
+            RefreshTokenStore refreshTokenStore,
+            LoginAttemptService loginAttemptService,
+            ThreadPoolTaskExecutor authExecutor,
+            long authTimeoutMs,
+            ObjectMapper objectMapper
     ) {
         super.setAuthenticationManager(authenticationManager);
         this.jwtProvider = jwtProvider;
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.loginAttemptService = loginAttemptService;
+        this.authExecutor = authExecutor;
+        this.authTimeoutMs = authTimeoutMs;
+        this.loginRequestReader = objectMapper.readerFor(LoginRequestDto.class);
+        this.responseWriter = objectMapper.writer();
         // 로그인 엔드포인트 설정
         setFilterProcessesUrl("/api/v1/auth/login");
     }
@@ -56,30 +84,57 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             HttpServletRequest request,
             HttpServletResponse response
     ) throws AuthenticationException {
+        LoginRequestDto loginRequest;
         try {
             // 요청 Body에서 email, password 추출
-            ObjectMapper objectMapper = new ObjectMapper();
-            LoginRequestDto loginRequest = objectMapper.readValue(
-                    request.getInputStream(),
-                    LoginRequestDto.class
-            );
-
-            // AuthenticationToken 생성
-            UsernamePasswordAuthenticationToken authenticationToken =
-                    new UsernamePasswordAuthenticationToken(
-                            loginRequest.email(),
-                            loginRequest.password(),
-                            new ArrayList<>()
-                    );
-
-            // AuthenticationManager에게 인증 요청
-            // 내부적으로 PrincipalDetailsService.loadUserByUsername() 호출
-            // BCryptPasswordEncoder로 비밀번호 검증
-            return this.getAuthenticationManager().authenticate(authenticationToken);
-
+            loginRequest = loginRequestReader.readValue(request.getInputStream());
         } catch (IOException e) {
             throw new RuntimeException("로그인 요청 처리 중 오류가 발생했습니다.", e);
         }
+
+        String email = loginRequest.email();
+        if (email == null || loginRequest.password() == null) {
+            throw new BadCredentialsException("이메일 또는 비밀번호가 비어 있습니다.");
+        }
+
+        // 실패 횟수 초과 계정은 BCrypt 검증 전에 거절
+        if (loginAttemptService.isBlocked(email)) {
+            throw new LockedException("로그인 실패 횟수 초과: " + email);
+        }
+
+        // AuthenticationToken 생성
+        UsernamePasswordAuthenticationToken authenticationToken =
+                new UsernamePasswordAuthenticationToken(email, loginRequest.password(), new ArrayList<>());
+
+        // AuthenticationManager에게 인증 요청 (authExecutor에서 실행)
+        // 내부적으로 PrincipalDetailsService.loadUserByUsername() 호출
+        // BCryptPasswordEncoder로 비밀번호 검증 (cost가 낮은 해시는 재해싱 후 저장)
+        Future<Authentication> future;
+        try {
+            future = authExecutor.submit(() -> this.getAuthenticationManager().authenticate(authenticationToken));
+        } catch (TaskRejectedException e) {
+            throw new AuthenticationServiceException("로그인 요청이 많아 처리할 수 없습니다.", e);
+        }
+
+        try {
+            return future.get(authTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BadCredentialsException badCredentials) {
+                loginAttemptService.recordFailure(email);
+                throw badCredentials;
+            }
+            if (e.getCause() instanceof AuthenticationException authenticationException) {
+                throw authenticationException;
+            }
+            throw new AuthenticationServiceException("로그인 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            // 아직 시작되지 않은 작업만 대기열에서 제거 (실행 중인 BCrypt는 끝까지 수행됨)
+            future.cancel(false);
+            throw new AuthenticationServiceException("로그인 처리 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("로그인 처리가 중단되었습니다.", e);
+        }
     }
 
     /**
@@ -93,39 +148,18 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             Authentication authResult
     ) throws IOException, ServletException {
         // 인증된 사용자 정보 추출
-        User user = ((PrincipalDetails) authResult.getPrincipal()).getUser();
+        LoginCredential credential = ((LoginPrincipal) authResult.getPrincipal()).getCredential();
+
+        loginAttemptService.reset(credential.email());
 
         // Access Token 생성
-        String accessToken = jwtProvider.createAccessToken(user);
-
-        // Refresh Token 생성
-        String refreshToken = jwtProvider.createRefreshToken();
-
-        // Refresh Token을 DB에 저장 (기존 토큰이 있으면 업데이트, 없으면 새로 생성)
-        long refreshTokenExpirationMs = jwtProvider.getRefreshTokenExpiration();
-        LocalDateTime expiresAt = LocalDateTime.now()
-                .plusSeconds(TimeUnit.MILLISECONDS.toSeconds(refreshTokenExpirationMs));
-
-        refreshTokenRepository.findByUserId(user.getUserId())
-                .ifPresentOrElse(
-                        // 기존 토큰이 있으면 업데이트
-                        existingToken -> {
-                            existingToken.updateToken(refreshToken, expiresAt);
-                            refreshTokenRepository.save(existingToken);
-                        },
-                        // 없으면 새로 생성
-                        () -> {
-                            RefreshToken newRefreshToken = RefreshToken.builder()
-                                    .token(refreshToken)
-                                    .userId(user.getUserId())
-                                    .expiresAt(expiresAt)
-                                    .build();
-                            refreshTokenRepository.save(newRefreshToken);
-                        }
-                );
+        String accessToken = jwtProvider.createAccessToken(credential);
+
+        // Refresh Token 발급 (Redis 저장소, 로그인마다 새 family)
+        String refreshToken = refreshTokenStore.issue(credential.userId());
 
         // 응답 데이터 생성
-        LoginResponseDto loginResponseDto = LoginResponseDto.fromEntity(user, accessToken, refreshToken);
+        LoginResponseDto loginResponseDto = LoginResponseDto.fromCredential(credential, accessToken, refreshToken);
 
         // ResponseDTO로 감싸기
         ResponseDTO<LoginResponseDto> responseDTO = ResponseDTO.okWithData(
@@ -134,8 +168,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         );
 
         // JSON 응답 전송
-        ObjectMapper objectMapper = new ObjectMapper();
-        String jsonResponse = objectMapper.writeValueAsString(responseDTO);
+        String jsonResponse = responseWriter.writeValueAsString(responseDTO);
 
         response.setStatus(HttpStatus.OK.value());
         response.setContentType("application/json");
@@ -155,7 +188,20 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         String errorMessage = getAuthenticationErrorMessage(exception);
 
         // CustomResponseUtil 사용하여 통일된 에러 응답
-        CustomResponseUtil.fail(response, errorMessage, HttpStatus.UNAUTHORIZED);
+        CustomResponseUtil.fail(response, errorMessage, getAuthenticationErrorStatus(exception));
+    }
+
+    /**
+     * 인증 실패 사유별 HTTP 상태
+     */
+    private HttpStatus getAuthenticationErrorStatus(AuthenticationException exception) {
+        if (exception instanceof LockedException) {
+            return HttpStatus.TOO_MANY_REQUESTS;
+        } else if (exception instanceof AuthenticationServiceException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        } else {
+            return HttpStatus.UNAUTHORIZED;
+        }
     }
 
     /**
@@ -166,6 +212,10 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             return "이메일 또는 비밀번호가 일치하지 않습니다.";
         } else if (exception instanceof UsernameNotFoundException) {
             return "존재하지 않는 사용자입니다.";
+        } else if (exception instanceof LockedException) {
+            return "로그인 실패 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.";
+        } else if (exception instanceof AuthenticationServiceException) {
+            return "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.";
         } else {
             return "인증에 실패했습니다.";
         }
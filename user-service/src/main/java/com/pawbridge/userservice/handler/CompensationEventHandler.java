@@ -1,11 +1,13 @@
 package com.pawbridge.userservice.handler;
 
 import com.pawbridge.userservice.entity.ProcessedEvent;
+import com.pawbridge.userservice.event.FavoriteChangedEvent;
 import com.pawbridge.userservice.event.FavoriteCompensationEvent;
 import com.pawbridge.userservice.repository.FavoriteRepository;
 import com.pawbridge.userservice.repository.ProcessedEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,7 @@ public class CompensationEventHandler {
 
     private final FavoriteRepository favoriteRepository;
     private final ProcessedEventRepository processedEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * FAVORITE_ADDED 이벤트 롤백 처리
@@ -50,6 +53,9 @@ public class CompensationEventHandler {
             log.warn("[COMPENSATION] Favorite already removed: eventId={}, userId={}, animalId={}",
                     eventId, userId, animalId);
         }
+
+        // 4. 커밋 후 Redis 찜 Set 반영 (보상 삭제는 Outbox 이벤트를 발행하지 않음)
+        eventPublisher.publishEvent(new FavoriteChangedEvent(userId, animalId, false));
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.pawbridge.userservice.jwt;
 
+import com.pawbridge.userservice.repository.projection.LoginCredential;
+import com.pawbridge.userservice.entity.Role;
 import com.pawbridge.userservice.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -10,6 +12,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtProvider {
@@ -32,18 +35,31 @@ public class JwtProvider {
      * Access Token 생성
      */
     public String createAccessToken(User user) {
+        return createAccessToken(user.getUserId(), user.getEmail(), user.getName(),
+                user.getRole(), user.getCareRegNo());
+    }
+
+    /**
+     * Access Token 생성 (일반 로그인 - 엔티티 없이 프로젝션으로 생성)
+     */
+    public String createAccessToken(LoginCredential credential) {
+        return createAccessToken(credential.userId(), credential.email(), credential.name(),
+                credential.role(), credential.careRegNo());
+    }
+
+    private String createAccessToken(Long userId, String email, String name, Role role, String careRegNo) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + accessTokenExpiration);
 
         var builder = Jwts.builder()
-                .subject(user.getEmail())
-                .claim("userId", user.getUserId())
-                .claim("name", user.getName())
-                .claim("role", user.getRole().name());
+                .subject(email)
+                .claim("userId", userId)
+                .claim("name", name)
+                .claim("role", role.name());
 
         // ROLE_SHELTER인 경우 careRegNo 추가
-        if (user.getCareRegNo() != null && !user.getCareRegNo().isBlank()) {
-            builder.claim("careRegNo", user.getCareRegNo());
+        if (careRegNo != null && !careRegNo.isBlank()) {
+            builder.claim("careRegNo", careRegNo);
         }
 
         return builder
@@ -55,12 +71,17 @@ public class JwtProvider {
 
     /**
      * Refresh Token 생성
+     * - jti(UUID)로 같은 시각에 발급된 토큰도 서로 다른 값이 되도록 보장 (토큰 해시가 저장소 키)
+     * - subject(userId)와 familyId로 회전 시 저장소 키(같은 hash slot)를 미리 계산
      */
-    public String createRefreshToken() {
+    public String createRefreshToken(Long userId, String familyId) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + refreshTokenExpiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(String.valueOf(userId))
+                .claim("familyId", familyId)
                 .issuedAt(now)
                 .expiration(expiration)
                 .signWith(secretKey)
@@ -86,6 +107,31 @@ public class JwtProvider {
         return refreshTokenExpiration;
     }
 
+    /**
+     * Refresh Token에서 userId 추출
+     * @return userId (family 도입 전 발급된 토큰이면 null)
+     */
+    public Long getUserIdFromRefreshToken(String token) {
+        try {
+            String subject = getClaims(token).getSubject();
+            return subject != null ? Long.valueOf(subject) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Refresh Token에서 familyId 추출
+     * @return familyId (family 도입 전 발급된 토큰이면 null)
+     */
+    public String getFamilyIdFromRefreshToken(String token) {
+        try {
+            return getClaims(token).get("familyId", String.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /**
      * JWT 토큰에서 careRegNo 추출
      * @param token JWT 토큰
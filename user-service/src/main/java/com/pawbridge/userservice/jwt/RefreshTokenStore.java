@@ -0,0 +1,179 @@
+package com.pawbridge.userservice.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Refresh Token 저장소 (Redis)
+ *
+ * 키 구조 (토큰 원문은 저장하지 않고 SHA-256 해시만 키로 사용, 사용자 단위 {userId} hash tag로 같은 slot 배치):
+ * - refresh:{userId}:token:{hash}  → "userId|familyId" (TTL = Refresh Token 만료 시간)
+ * - refresh:{userId}:used:{hash}   → 회전으로 소비된 토큰 기록 (재사용 감지용)
+ * - refresh:{userId}:family:{id}   → 로그인 1회 = family 1개, 삭제 시 family 전체 폐기
+ * - refresh:{userId}:families      → 사용자별 family ZSET (score = 만료 시각, 전체 로그아웃용)
+ *
+ * 회전 규칙:
+ * - Refresh Token에 userId/familyId를 담아 회전 스크립트가 다루는 키를 모두 KEYS로 전달 (Cluster 호환)
+ * - refresh 요청마다 기존 토큰 삭제 + 새 토큰 발급 (Lua 스크립트로 원자 처리)
+ * - 이미 소비된 토큰이 다시 오면 탈취로 간주하고 family 전체 폐기
+ * - 단, 소비 직후 reuse-grace 이내의 재요청은 동시 refresh로 보고 거절만 함
+ * - 만료된 family는 발급/회전 시 family ZSET에서 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh:{";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> refreshTokenIssueScript;
+    private final RedisScript<String> refreshTokenRotateScript;
+    private final JwtProvider jwtProvider;
+
+    @Value("${jwt.refresh-token-reuse-grace-ms:10000}")
+    private long reuseGraceMs;
+
+    /**
+     * 회전 결과
+     * - status가 ROTATED일 때만 refreshToken 발급됨
+     */
+    public record Rotation(Status status, Long userId, String refreshToken) {
+
+        public enum Status {
+            ROTATED,    // 정상 회전
+            REUSED,     // 소비된 토큰 재사용 → family 폐기됨
+            CONCURRENT, // 동시 refresh (유예 시간 내 재요청)
+            REVOKED,    // 이미 폐기된 family
+            NOT_FOUND   // 저장소에 없음 (레거시 DB 토큰일 수 있음)
+        }
+    }
+
+    /**
+     * 로그인 시 새 family로 Refresh Token 발급 (스크립트 1회 호출)
+     */
+    public String issue(Long userId) {
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = jwtProvider.createRefreshToken(userId, familyId);
+
+        redisTemplate.execute(
+                refreshTokenIssueScript,
+                List.of(familyKey(userId, familyId), tokenKey(userId, hash(refreshToken)), familiesKey(userId)),
+                userId.toString(),
+                familyId,
+                String.valueOf(ttl().toSeconds()),
+                String.valueOf(System.currentTimeMillis())
+        );
+
+        return refreshToken;
+    }
+
+    /**
+     * Refresh Token 회전
+     * - userId/familyId 클레임이 없는 토큰(family 도입 전 발급)은 NOT_FOUND → 호출 측 레거시 처리
+     */
+    public Rotation rotate(String refreshToken) {
+        Long userId = jwtProvider.getUserIdFromRefreshToken(refreshToken);
+        String familyId = jwtProvider.getFamilyIdFromRefreshToken(refreshToken);
+        if (userId == null || familyId == null) {
+            return new Rotation(Rotation.Status.NOT_FOUND, null, null);
+        }
+
+        String newRefreshToken = jwtProvider.createRefreshToken(userId, familyId);
+        String hash = hash(refreshToken);
+
+        String result = redisTemplate.execute(
+                refreshTokenRotateScript,
+                List.of(tokenKey(userId, hash), usedKey(userId, hash), tokenKey(userId, hash(newRefreshToken)),
+                        familyKey(userId, familyId), familiesKey(userId)),
+                String.valueOf(ttl().toSeconds()),
+                String.valueOf(System.currentTimeMillis()),
+                familyId
+        );
+
+        if (result == null || result.equals("NOT_FOUND")) {
+            return new Rotation(Rotation.Status.NOT_FOUND, null, null);
+        }
+        if (result.equals("REVOKED")) {
+            return new Rotation(Rotation.Status.REVOKED, null, null);
+        }
+
+        if (result.startsWith("OK|")) {
+            return new Rotation(Rotation.Status.ROTATED, userId, newRefreshToken);
+        }
+
+        // REUSED|userId|familyId|consumedAt
+        String[] parts = result.split("\\|");
+        long consumedAt = Long.parseLong(parts[3]);
+        if (System.currentTimeMillis() - consumedAt <= reuseGraceMs) {
+            return new Rotation(Rotation.Status.CONCURRENT, userId, null);
+        }
+
+        revokeFamily(userId, familyId);
+        log.warn("Refresh Token 재사용 감지, family 폐기: userId={}, familyId={}", userId, familyId);
+        return new Rotation(Rotation.Status.REUSED, userId, null);
+    }
+
+    /**
+     * family 폐기 (해당 로그인 세션의 모든 토큰 무효화)
+     */
+    public void revokeFamily(Long userId, String familyId) {
+        redisTemplate.delete(familyKey(userId, familyId));
+        redisTemplate.opsForZSet().remove(familiesKey(userId), familyId);
+    }
+
+    /**
+     * 사용자 전체 로그아웃 (모든 family 폐기)
+     */
+    public void revokeAll(Long userId) {
+        String familiesKey = familiesKey(userId);
+        Set<String> familyIds = redisTemplate.opsForZSet().range(familiesKey, 0, -1);
+        if (familyIds != null && !familyIds.isEmpty()) {
+            redisTemplate.delete(familyIds.stream().map(familyId -> familyKey(userId, familyId)).toList());
+        }
+        redisTemplate.delete(familiesKey);
+    }
+
+    private Duration ttl() {
+        return Duration.ofMillis(jwtProvider.getRefreshTokenExpiration());
+    }
+
+    private String tokenKey(Long userId, String hash) {
+        return KEY_PREFIX + userId + "}:token:" + hash;
+    }
+
+    private String usedKey(Long userId, String hash) {
+        return KEY_PREFIX + userId + "}:used:" + hash;
+    }
+
+    private String familyKey(Long userId, String familyId) {
+        return KEY_PREFIX + userId + "}:family:" + familyId;
+    }
+
+    private String familiesKey(Long userId) {
+        return KEY_PREFIX + userId + "}:families";
+    }
+
+    private String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,9 +1,8 @@
 package com.pawbridge.userservice.oauth2.handler;
 
-import com.pawbridge.userservice.entity.RefreshToken;
 import com.pawbridge.userservice.entity.User;
 import com.pawbridge.userservice.jwt.JwtProvider;
-import com.pawbridge.userservice.repository.RefreshTokenRepository;
+import com.pawbridge.userservice.jwt.RefreshTokenStore;
 import com.pawbridge.userservice.security.PrincipalDetails;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,8 +17,6 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
-import java.util.concurrent.TimeUnit;
 
 /**
  * OAuth2 로그인 성공 시 처리 핸들러
@@ -31,7 +28,7 @@ import java.util.concurrent.TimeUnit;
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JwtProvider jwtProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Value("${oauth2.redirect-uri}")
     private String redirectUri;
@@ -53,13 +50,10 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
             // 2. JWT Access Token 생성 (기존 JwtProvider 재사용)
             String accessToken = jwtProvider.createAccessToken(user);
 
-            // 3. Refresh Token 생성 (기존 JwtProvider 재사용)
-            String refreshToken = jwtProvider.createRefreshToken();
+            // 3. Refresh Token 발급 (Redis 저장소, JwtAuthenticationFilter와 동일한 패턴)
+            String refreshToken = refreshTokenStore.issue(user.getUserId());
 
-            // 4. Refresh Token DB 저장 (JwtAuthenticationFilter와 동일한 패턴)
-            saveRefreshToken(user.getUserId(), refreshToken);
-
-            // 5. 프론트엔드로 리다이렉트 (토큰을 쿼리 파라미터로 전달)
+            // 4. 프론트엔드로 리다이렉트 (토큰을 쿼리 파라미터로 전달)
             String targetUrl = UriComponentsBuilder.fromUriString(redirectUri)
                     .queryParam("accessToken", accessToken)
                     .queryParam("refreshToken", refreshToken)
@@ -84,34 +78,4 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
             getRedirectStrategy().sendRedirect(request, response, errorUrl);
         }
     }
-
-    /**
-     * Refresh Token을 DB에 저장
-     * JwtAuthenticationFilter와 동일한 로직 (기존 토큰 업데이트 또는 새로 생성)
-     */
-    private void saveRefreshToken(Long userId, String refreshToken) {
-        long refreshTokenExpirationMs = jwtProvider.getRefreshTokenExpiration();
-        LocalDateTime expiresAt = LocalDateTime.now()
-                .plusSeconds(TimeUnit.MILLISECONDS.toSeconds(refreshTokenExpirationMs));
-
-        refreshTokenRepository.findByUserId(userId)
-                .ifPresentOrElse(
-                        // 기존 토큰이 있으면 업데이트
-                        existingToken -> {
-                            existingToken.updateToken(refreshToken, expiresAt);
-                            refreshTokenRepository.save(existingToken);
-                            log.info("RefreshToken 업데이트: userId={}", userId);
-                        },
-                        // 없으면 새로 생성
-                        () -> {
-                            RefreshToken newRefreshToken = RefreshToken.builder()
-                                    .token(refreshToken)
-                                    .userId(userId)
-                                    .expiresAt(expiresAt)
-                                    .build();
-                            refreshTokenRepository.save(newRefreshToken);
-                            log.info("RefreshToken 생성: userId={}", userId);
-                        }
-                );
-    }
 }
@@ -1,12 +1,15 @@
 package com.pawbridge.userservice.repository;
 
 import com.pawbridge.userservice.entity.Favorite;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +21,25 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
      */
     List<Favorite> findAllByUserUserIdOrderByCreatedAtDesc(Long userId);
 
+    /**
+     * 사용자별 찜 목록 페이지 조회 (정렬은 Pageable 기준)
+     */
+    Page<Favorite> findByUserUserId(Long userId, Pageable pageable);
+
+    /**
+     * 사용자가 찜한 animalId 전체 조회 (Redis 찜 Set 적재용)
+     * - animal_id 컬럼만 조회 (엔티티 로딩 없음)
+     */
+    @Query("SELECT f.animalId FROM Favorite f WHERE f.user.userId = :userId")
+    List<Long> findAnimalIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 후보 animalId 중 사용자가 찜한 animalId 조회 (Redis 장애 시 일괄 확인 대체용)
+     */
+    @Query("SELECT f.animalId FROM Favorite f WHERE f.user.userId = :userId AND f.animalId IN :animalIds")
+    List<Long> findAnimalIdsByUserIdAndAnimalIdIn(@Param("userId") Long userId,
+                                                  @Param("animalIds") Collection<Long> animalIds);
+
     /**
      * 특정 찜 조회
      */
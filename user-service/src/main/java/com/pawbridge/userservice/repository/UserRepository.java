@@ -1,16 +1,20 @@
 package com.pawbridge.userservice.repository;
 
 import com.pawbridge.userservice.dto.response.DailySignupStatsResponse;
+import com.pawbridge.userservice.dto.response.UserNicknameResponse;
 import com.pawbridge.userservice.entity.Role;
 import com.pawbridge.userservice.entity.User;
+import com.pawbridge.userservice.repository.projection.LoginCredential;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,6 +50,47 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByNickname(String nickname);
 
+    /**
+     * 일반 로그인용 인증 정보 조회
+     * - LOCAL 계정만 대상 (email + provider UNIQUE 인덱스 탐색)
+     * - 인증에 필요한 컬럼만 조회 (엔티티 로딩 없음)
+     */
+    @Query("SELECT new com.pawbridge.userservice.repository.projection.LoginCredential(" +
+           "u.userId, u.email, u.name, u.password, u.role, u.careRegNo) " +
+           "FROM User u WHERE u.email = :email AND u.provider = 'LOCAL'")
+    Optional<LoginCredential> findLoginCredentialByEmail(@Param("email") String email);
+
+    /**
+     * 비밀번호 해시 교체 (로그인 시 BCrypt cost 업그레이드용)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.userId = :userId")
+    int updatePassword(@Param("userId") Long userId, @Param("password") String password);
+
+    /**
+     * 여러 사용자의 닉네임 일괄 조회 (내부 API용)
+     * - userId, nickname 두 컬럼만 조회 (엔티티 로딩 없음)
+     * - 존재하지 않는 ID는 결과에서 빠짐
+     */
+    @Query("SELECT new com.pawbridge.userservice.dto.response.UserNicknameResponse(u.userId, u.nickname) " +
+           "FROM User u WHERE u.userId IN :userIds")
+    List<UserNicknameResponse> findNicknamesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 후보 닉네임 중 이미 사용 중인 닉네임 일괄 조회 (닉네임 풀 보충용)
+     * - 후보 묶음당 쿼리 1회 (UNIQUE 인덱스 탐색)
+     */
+    @Query("SELECT u.nickname FROM User u WHERE u.nickname IN :nicknames")
+    List<String> findNicknamesIn(@Param("nicknames") Collection<String> nicknames);
+
+    /**
+     * 닉네임 키셋 스캔 (Bloom filter 초기 적재용)
+     * - userId 커서 기반으로 OFFSET 없이 순회
+     */
+    @Query("SELECT new com.pawbridge.userservice.dto.response.UserNicknameResponse(u.userId, u.nickname) " +
+           "FROM User u WHERE u.userId > :lastUserId ORDER BY u.userId ASC")
+    List<UserNicknameResponse> findNicknamesAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+
     /**
      * 일별 가입자 수 통계 (관리자용)
      * @param startDate 시작 날짜
@@ -0,0 +1,47 @@
+package com.pawbridge.userservice.repository.projection;
+
+import com.pawbridge.userservice.entity.Role;
+
+/**
+ * 로그인 인증용 사용자 정보 (엔티티 로딩 없이 필요한 컬럼만 조회)
+ * - 비밀번호 검증 + Access Token/로그인 응답 생성에 필요한 필드만 포함
+ */
+public record LoginCredential(
+        /**
+         * 사용자 ID
+         */
+        Long userId,
+
+        /**
+         * 이메일
+         */
+        String email,
+
+        /**
+         * 이름
+         */
+        String name,
+
+        /**
+         * 비밀번호 해시 (BCrypt)
+         */
+        String password,
+
+        /**
+         * 권한
+         */
+        Role role,
+
+        /**
+         * 보호소 등록번호 (ROLE_SHELTER인 경우만)
+         */
+        String careRegNo
+) {
+
+    /**
+     * 비밀번호 해시만 교체한 사본 (해시 업그레이드 후 사용)
+     */
+    public LoginCredential withPassword(String newPassword) {
+        return new LoginCredential(userId, email, name, newPassword, role, careRegNo);
+    }
+}
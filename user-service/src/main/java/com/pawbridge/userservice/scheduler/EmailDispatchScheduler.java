@@ -0,0 +1,50 @@
+package com.pawbridge.userservice.scheduler;
+
+import com.pawbridge.userservice.email.queue.EmailDispatchQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailDispatchScheduler {
+
+    private static final Duration STALE_PENDING_IDLE = Duration.ofMinutes(2);
+
+    private final EmailDispatchQueue emailDispatchQueue;
+
+    /**
+     * 재시도 시각이 된 메일을 발송 대기열로 복귀 (1초 간격)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void moveDueRetries() {
+        try {
+            int moved = emailDispatchQueue.moveDueRetries();
+            if (moved > 0) {
+                log.info("[EMAIL] Requeued {} mails for retry", moved);
+            }
+        } catch (Exception e) {
+            log.error("[EMAIL] Failed to requeue retry mails: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 비정상 종료된 워커가 ack하지 못한 메일 회수 + 스트림 정리 (1분 간격)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void reclaimAndTrim() {
+        try {
+            int reclaimed = emailDispatchQueue.reclaimStale(STALE_PENDING_IDLE);
+            if (reclaimed > 0) {
+                log.warn("[EMAIL] Reclaimed {} stale pending mails", reclaimed);
+            }
+            emailDispatchQueue.trim();
+        } catch (Exception e) {
+            log.error("[EMAIL] Failed to reclaim pending mails: {}", e.getMessage());
+        }
+    }
+}
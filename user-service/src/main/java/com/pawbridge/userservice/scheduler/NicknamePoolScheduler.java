@@ -0,0 +1,33 @@
+package com.pawbridge.userservice.scheduler;
+
+import com.pawbridge.userservice.service.NicknameBloomFilter;
+import com.pawbridge.userservice.service.NicknameGeneratorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknamePoolScheduler {
+
+    private final NicknameBloomFilter nicknameBloomFilter;
+    private final NicknameGeneratorService nicknameGeneratorService;
+
+    /**
+     * 닉네임 Bloom filter 적재 + 풀 보충
+     * 기동 직후 1회, 이후 주기적으로 풀 크기를 하한 이상으로 유지
+     * ready 만료 또는 비트 추가 실패(stale) 시 Bloom filter를 DB 기준으로 재적재
+     */
+    @Scheduled(initialDelayString = "${nickname.pool.initial-delay-ms:10000}",
+               fixedDelayString = "${nickname.pool.refill-interval-ms:60000}")
+    public void refillNicknamePool() {
+        try {
+            nicknameBloomFilter.warmUpIfNeeded();
+            nicknameGeneratorService.refillPool();
+        } catch (Exception e) {
+            log.error("[NICKNAME] Failed to refill nickname pool", e);
+        }
+    }
+}
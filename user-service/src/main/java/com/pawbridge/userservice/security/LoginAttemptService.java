@@ -0,0 +1,85 @@
+package com.pawbridge.userservice.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Locale;
+
+/**
+ * 계정별 로그인 실패 횟수 제한 (Redis)
+ * - login:fail:{email} → 실패 횟수 (첫 실패 시점부터 window 동안 유지)
+ * - 실패 횟수가 max-failures 이상이면 window 만료까지 BCrypt 검증 없이 즉시 거절
+ * - 로그인 성공 시 초기화
+ * - Redis 장애 시 fail-open (차단 없이 로그인 진행, 경고 로그만 남김)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginAttemptService {
+
+    private static final String FAIL_KEY_PREFIX = "login:fail:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> incrementWithExpireScript;
+
+    @Value("${security.login.max-failures:5}")
+    private int maxFailures;
+
+    @Value("${security.login.failure-window-seconds:900}")
+    private long failureWindowSeconds;
+
+    /**
+     * 로그인 차단 여부
+     */
+    public boolean isBlocked(String email) {
+        try {
+            String count = redisTemplate.opsForValue().get(failKey(email));
+            return count != null && Long.parseLong(count) >= maxFailures;
+        } catch (DataAccessException e) {
+            log.warn("[LOGIN] 실패 횟수 조회 실패, 차단 없이 진행: email={}, error={}", email, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 로그인 실패 기록
+     */
+    public void recordFailure(String email) {
+        Long failures;
+        try {
+            failures = redisTemplate.execute(
+                    incrementWithExpireScript,
+                    Collections.singletonList(failKey(email)),
+                    String.valueOf(failureWindowSeconds)
+            );
+        } catch (DataAccessException e) {
+            log.warn("[LOGIN] 실패 횟수 기록 실패: email={}, error={}", email, e.getMessage());
+            return;
+        }
+
+        if (failures != null && failures == maxFailures) {
+            log.warn("로그인 실패 횟수 초과로 일시 차단: email={}, windowSeconds={}", email, failureWindowSeconds);
+        }
+    }
+
+    /**
+     * 로그인 성공 시 실패 횟수 초기화
+     */
+    public void reset(String email) {
+        try {
+            redisTemplate.delete(failKey(email));
+        } catch (DataAccessException e) {
+            log.warn("[LOGIN] 실패 횟수 초기화 실패: email={}, error={}", email, e.getMessage());
+        }
+    }
+
+    private String failKey(String email) {
+        return FAIL_KEY_PREFIX + email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,40 @@
+package com.pawbridge.userservice.security;
+
+import com.pawbridge.userservice.repository.projection.LoginCredential;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 일반 로그인(email + password) 전용 UserDetails
+ * - User 엔티티 대신 LoginCredential 프로젝션을 감쌈
+ * - OAuth2 로그인은 기존 PrincipalDetails 사용
+ */
+@Getter
+public class LoginPrincipal implements UserDetails {
+
+    private final LoginCredential credential;
+
+    public LoginPrincipal(LoginCredential credential) {
+        this.credential = credential;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(credential.role().name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return credential.password();
+    }
+
+    @Override
+    public String getUsername() {
+        return credential.email();
+    }
+}
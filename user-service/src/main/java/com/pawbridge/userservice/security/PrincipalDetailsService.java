@@ -1,28 +1,48 @@
 package com.pawbridge.userservice.security;
 
-import com.pawbridge.userservice.entity.User;
+import com.pawbridge.userservice.repository.projection.LoginCredential;
 import com.pawbridge.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class PrincipalDetailsService implements UserDetailsService {
+public class PrincipalDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
     /**
      * Spring Security가 로그인 시 자동으로 호출
      * username에 email이 전달됨
+     * - 인증에 필요한 컬럼만 조회 (LoginCredential 프로젝션)
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        LoginCredential credential = userRepository.findLoginCredentialByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
-        return new PrincipalDetails(user);
+        return new LoginPrincipal(credential);
+    }
+
+    /**
+     * 비밀번호 해시 업그레이드
+     * - 로그인 성공 시 저장된 해시의 BCrypt cost가 설정값보다 낮으면
+     *   DaoAuthenticationProvider가 평문 비밀번호로 재해싱한 뒤 호출
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        LoginCredential credential = ((LoginPrincipal) user).getCredential();
+        userRepository.updatePassword(credential.userId(), newPassword);
+        log.info("비밀번호 해시 업그레이드: userId={}", credential.userId());
+
+        return new LoginPrincipal(credential.withPassword(newPassword));
     }
 }
@@ -0,0 +1,93 @@
+package com.pawbridge.userservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pawbridge.userservice.client.AnimalServiceClient;
+import com.pawbridge.userservice.dto.response.AnimalSummaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 동물 요약 로컬 캐시 (찜 목록 카드용)
+ *
+ * 찜 목록 페이지마다 animal-service를 전체 ID로 호출하던 구조를 개선:
+ * - 페이지에 필요한 animalId를 로컬 캐시에서 먼저 조회
+ * - 캐시에 없는 ID만 한 번의 벌크 호출로 조회
+ * - animal.updated / animal.status.changed / animal.deleted 이벤트 수신 시 해당 항목 무효화 (AnimalEventConsumer)
+ *
+ * animal-service 장애 시 조회된 항목만 반환 (누락 ID는 호출 측에서 처리, 캐시에 저장하지 않음)
+ */
+@Component
+@Slf4j
+public class AnimalSummaryCache {
+
+    private final AnimalServiceClient animalServiceClient;
+    private final Cache<Long, AnimalSummaryResponse> summaryCache;
+
+    public AnimalSummaryCache(AnimalServiceClient animalServiceClient,
+                              @Value("${favorite.animal-cache.max-size:20000}") long maxSize,
+                              @Value("${favorite.animal-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.animalServiceClient = animalServiceClient;
+        this.summaryCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    /**
+     * 동물 요약 일괄 조회
+     * @param animalIds 조회할 동물 ID (중복/null 허용)
+     * @return animalId → 요약 (삭제되었거나 조회 실패한 ID는 제외)
+     */
+    public Map<Long, AnimalSummaryResponse> getAll(Collection<Long> animalIds) {
+        Set<Long> distinctIds = animalIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Long, AnimalSummaryResponse> summaries = new HashMap<>(summaryCache.getAllPresent(distinctIds));
+
+        List<Long> missingIds = distinctIds.stream()
+                .filter(animalId -> !summaries.containsKey(animalId))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            Map<Long, AnimalSummaryResponse> fetched = fetchSummaries(missingIds);
+            summaryCache.putAll(fetched);
+            summaries.putAll(fetched);
+        }
+
+        return summaries;
+    }
+
+    /**
+     * 캐시 항목 무효화 (동물 정보 변경 이벤트 수신 시)
+     */
+    public void evict(Long animalId) {
+        summaryCache.invalidate(animalId);
+    }
+
+    private Map<Long, AnimalSummaryResponse> fetchSummaries(List<Long> animalIds) {
+        try {
+            List<AnimalSummaryResponse> animals = animalServiceClient.getAnimalsByIds(animalIds);
+            log.debug("Fetched {} animal summaries from animal-service (requested {})",
+                    animals.size(), animalIds.size());
+
+            return animals.stream()
+                    .collect(Collectors.toMap(AnimalSummaryResponse::getId, animal -> animal, (a, b) -> a));
+        } catch (Exception e) {
+            log.error("Failed to fetch animal summaries from animal-service: ids={}", animalIds, e);
+            return Map.of();
+        }
+    }
+}
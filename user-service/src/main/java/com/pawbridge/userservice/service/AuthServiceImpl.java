@@ -13,6 +13,7 @@ import com.pawbridge.userservice.exception.RefreshTokenNotFoundException;
 import com.pawbridge.userservice.exception.TokenInvalidException;
 import com.pawbridge.userservice.exception.UserNotFoundException;
 import com.pawbridge.userservice.jwt.JwtProvider;
+import com.pawbridge.userservice.jwt.RefreshTokenStore;
 import com.pawbridge.userservice.repository.RefreshTokenRepository;
 import com.pawbridge.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,9 +22,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -32,6 +31,7 @@ import java.util.concurrent.TimeUnit;
 public class AuthServiceImpl implements AuthService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
     private final PasswordEncoder passwordEncoder;
@@ -50,44 +50,51 @@ public class AuthServiceImpl implements AuthService {
             throw new TokenInvalidException();
         }
 
-        // 2. DB에서 Refresh Token 조회
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
-                .orElseThrow(RefreshTokenNotFoundException::new);
+        // 2. Redis 저장소에서 원자적으로 회전 (사용된 토큰 재사용 시 family 전체 폐기)
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(refreshTokenValue);
 
-        // 3. Refresh Token 만료 여부 확인
-        if (refreshToken.isExpired()) {
-            refreshTokenRepository.delete(refreshToken);
-            throw new RefreshTokenExpiredException();
+        Long userId;
+        String newRefreshToken;
+        switch (rotation.status()) {
+            case ROTATED -> {
+                userId = rotation.userId();
+                newRefreshToken = rotation.refreshToken();
+            }
+            case REUSED, REVOKED -> throw new TokenInvalidException();
+            case CONCURRENT -> throw new RefreshTokenNotFoundException();
+            default -> {
+                // 3. Redis에 없으면 기존 DB 토큰을 한 번만 인정하고 Redis로 이관
+                RefreshToken legacyToken = refreshTokenRepository.findByToken(refreshTokenValue)
+                        .orElseThrow(RefreshTokenNotFoundException::new);
+                refreshTokenRepository.delete(legacyToken);
+                if (legacyToken.isExpired()) {
+                    throw new RefreshTokenExpiredException();
+                }
+                userId = legacyToken.getUserId();
+                newRefreshToken = refreshTokenStore.issue(userId);
+                log.info("RefreshToken Redis 이관: userId={}", userId);
+            }
         }
 
         // 4. 사용자 정보 조회
-        User user = userRepository.findById(refreshToken.getUserId())
+        User user = userRepository.findById(userId)
                 .orElseThrow(UserNotFoundException::new);
 
         // 5. 새로운 Access Token 생성
         String newAccessToken = jwtProvider.createAccessToken(user);
 
-        // 6. 새로운 Refresh Token 생성
-        String newRefreshToken = jwtProvider.createRefreshToken();
-
-        // 7. DB의 Refresh Token 업데이트
-        long refreshTokenExpirationMs = jwtProvider.getRefreshTokenExpiration();
-        LocalDateTime newExpiresAt = LocalDateTime.now()
-                .plusSeconds(TimeUnit.MILLISECONDS.toSeconds(refreshTokenExpirationMs));
-
-        refreshToken.updateToken(newRefreshToken, newExpiresAt);
-        refreshTokenRepository.save(refreshToken);
-
-        // 8. 응답 반환
+        // 6. 응답 반환
         return new RefreshTokenResponseDto(newAccessToken, newRefreshToken);
     }
 
     /**
-     * 로그아웃 - Refresh Token 삭제
+     * 로그아웃 - 사용자의 모든 Refresh Token family 폐기
      */
     @Override
     @Transactional
     public void logout(Long userId) {
+        refreshTokenStore.revokeAll(userId);
+        // 이관 기간 동안 남아있을 수 있는 DB 토큰도 함께 삭제
         refreshTokenRepository.deleteByUserId(userId);
     }
 
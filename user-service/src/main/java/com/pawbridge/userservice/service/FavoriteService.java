@@ -2,6 +2,9 @@ package com.pawbridge.userservice.service;
 
 import com.pawbridge.userservice.dto.response.FavoriteListResponseDto;
 import com.pawbridge.userservice.dto.response.FavoriteResponseDto;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 
 public interface FavoriteService {
 
@@ -16,12 +19,18 @@ public interface FavoriteService {
     void removeFavorite(Long userId, Long animalId);
 
     /**
-     * 찜 목록 조회
+     * 찜 목록 조회 (페이지 단위)
      */
-    FavoriteListResponseDto getFavorites(Long userId);
+    FavoriteListResponseDto getFavorites(Long userId, Pageable pageable);
 
     /**
      * 찜 여부 확인
      */
     boolean isFavorite(Long userId, Long animalId);
+
+    /**
+     * 찜 여부 일괄 확인
+     * @return animalIds 중 찜한 animalId
+     */
+    List<Long> findFavoritedAnimalIds(Long userId, List<Long> animalIds);
 }
@@ -1,22 +1,28 @@
 package com.pawbridge.userservice.service;
 
-import com.pawbridge.userservice.client.AnimalServiceClient;
-import com.pawbridge.userservice.dto.response.AnimalResponse;
+import com.pawbridge.userservice.dto.response.AnimalSummaryResponse;
 import com.pawbridge.userservice.dto.response.FavoriteListResponseDto;
 import com.pawbridge.userservice.dto.response.FavoriteResponseDto;
 import com.pawbridge.userservice.dto.response.FavoriteWithAnimalDto;
 import com.pawbridge.userservice.entity.Favorite;
 import com.pawbridge.userservice.entity.User;
 import com.pawbridge.userservice.event.FavoriteAddedEvent;
+import com.pawbridge.userservice.event.FavoriteChangedEvent;
 import com.pawbridge.userservice.event.FavoriteRemovedEvent;
 import com.pawbridge.userservice.exception.FavoriteAlreadyExistsException;
+import com.pawbridge.userservice.exception.FavoriteCheckLimitExceededException;
 import com.pawbridge.userservice.exception.FavoriteNotFoundException;
 import com.pawbridge.userservice.exception.UserNotFoundException;
 import com.pawbridge.userservice.repository.FavoriteRepository;
 import com.pawbridge.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,8 +30,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,7 +42,13 @@ public class FavoriteServiceImpl implements FavoriteService {
     private final FavoriteRepository favoriteRepository;
     private final UserRepository userRepository;
     private final OutboxService outboxService;
-    private final AnimalServiceClient animalServiceClient;  // 추가
+    private final AnimalSummaryCache animalSummaryCache;
+    private final FavoriteSetStore favoriteSetStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 일괄 확인 1회당 최대 animalId 수 (Redis 스크립트 인자/DB IN 절 크기 제한)
+    @Value("${favorite.check.max-ids:100}")
+    private int maxCheckIds;
 
     /**
      * 찜 추가
@@ -73,6 +85,9 @@ public class FavoriteServiceImpl implements FavoriteService {
             );
             outboxService.saveEvent("Favorite", userId.toString(), "FAVORITE_ADDED", "user.favorite.events", eventPayload);
 
+            // 5. 커밋 후 Redis 찜 Set 반영
+            eventPublisher.publishEvent(new FavoriteChangedEvent(userId, animalId, true));
+
             return FavoriteResponseDto.fromEntity(saved);
 
         } catch (DataIntegrityViolationException e) {
@@ -108,52 +123,42 @@ public class FavoriteServiceImpl implements FavoriteService {
                     "timestamp", LocalDateTime.now().toString()
             );
             outboxService.saveEvent("Favorite", userId.toString(), "FAVORITE_REMOVED", "user.favorite.events", eventPayload);
+
+            // 4. 커밋 후 Redis 찜 Set 반영
+            eventPublisher.publishEvent(new FavoriteChangedEvent(userId, animalId, false));
         }
     }
 
     /**
-     * 찜 목록 조회
+     * 찜 목록 조회 (페이지 단위)
+     * - 현재 페이지의 animalId만 AnimalSummaryCache로 조회 (캐시에 없는 ID만 animal-service 호출)
      */
     @Override
     @Transactional(readOnly = true)
-    public FavoriteListResponseDto getFavorites(Long userId) {
+    public FavoriteListResponseDto getFavorites(Long userId, Pageable pageable) {
         // 1. User 존재 여부 확인
         if (!userRepository.existsById(userId)) {
             log.error("User not found: userId={}", userId);
             throw new UserNotFoundException();
         }
 
-        // 2. 사용자의 Favorite 목록 조회 (최신순)
-        List<Favorite> favorites = favoriteRepository.findAllByUserUserIdOrderByCreatedAtDesc(userId);
+        // 2. 사용자의 Favorite 페이지 조회
+        Page<Favorite> favorites = favoriteRepository.findByUserUserId(userId, pageable);
 
         if (favorites.isEmpty()) {
-            return FavoriteListResponseDto.of(userId, new ArrayList<>());
+            return FavoriteListResponseDto.of(userId, favorites, new ArrayList<>());
         }
 
-        // 3. animalId 목록 추출
+        // 3. 현재 페이지의 animalId로 동물 요약 조회 (로컬 캐시 → 누락분만 animal-service)
         List<Long> animalIds = favorites.stream()
                 .map(Favorite::getAnimalId)
                 .collect(Collectors.toList());
+        Map<Long, AnimalSummaryResponse> animalMap = animalSummaryCache.getAll(animalIds);
 
-        // 4. FeignClient로 animal-service에서 동물 정보 일괄 조회
-        List<AnimalResponse> animals = new ArrayList<>();
-        try {
-            animals = animalServiceClient.getAnimalsByIds(animalIds);
-            log.info("Fetched {} animals from animal-service for user {}", animals.size(), userId);
-        } catch (Exception e) {
-            log.error("Failed to fetch animals from animal-service for user {}", userId, e);
-            // Circuit Breaker 패턴: 실패 시에도 찜 목록은 반환 (동물 정보 없이)
-            // 또는 예외를 던져서 프론트엔드에 에러 전달
-        }
-
-        // 5. animalId를 키로 하는 Map 생성 (O(1) 조회)
-        Map<Long, AnimalResponse> animalMap = animals.stream()
-                .collect(Collectors.toMap(AnimalResponse::getId, Function.identity()));
-
-        // 6. Favorite + AnimalResponse 조합
+        // 4. Favorite + AnimalSummaryResponse 조합
         List<FavoriteWithAnimalDto> favoriteDtos = favorites.stream()
                 .map(favorite -> {
-                    AnimalResponse animal = animalMap.get(favorite.getAnimalId());
+                    AnimalSummaryResponse animal = animalMap.get(favorite.getAnimalId());
                     if (animal != null) {
                         return FavoriteWithAnimalDto.of(favorite, animal);
                     } else {
@@ -165,16 +170,45 @@ public class FavoriteServiceImpl implements FavoriteService {
                 })
                 .collect(Collectors.toList());
 
-        // 7. 응답 반환
-        return FavoriteListResponseDto.of(userId, favoriteDtos);
+        // 5. 응답 반환
+        return FavoriteListResponseDto.of(userId, favorites, favoriteDtos);
     }
 
     /**
      * 찜 여부 확인
+     * - Redis 찜 Set 조회 (미적재 시 DB에서 적재)
+     * - Redis 장애 시 DB 직접 조회
      */
     @Override
-    @Transactional(readOnly = true)
     public boolean isFavorite(Long userId, Long animalId) {
-        return favoriteRepository.existsByUserUserIdAndAnimalId(userId, animalId);
+        try {
+            return favoriteSetStore.findFavorited(userId, List.of(animalId)).contains(animalId);
+        } catch (DataAccessException e) {
+            log.warn("Favorite set unavailable, falling back to DB: userId={}, cause={}", userId, e.getMessage());
+            return favoriteRepository.existsByUserUserIdAndAnimalId(userId, animalId);
+        }
+    }
+
+    /**
+     * 찜 여부 일괄 확인 (동물 목록 카드용)
+     * - Redis 찜 Set 1회 왕복 (미적재 시 DB에서 적재)
+     * - 요청 animalId 수는 favorite.check.max-ids 이하로 제한
+     * - Redis 장애 시 DB IN 쿼리 1회로 대체
+     */
+    @Override
+    public List<Long> findFavoritedAnimalIds(Long userId, List<Long> animalIds) {
+        if (animalIds.size() > maxCheckIds) {
+            throw new FavoriteCheckLimitExceededException();
+        }
+
+        try {
+            return new ArrayList<>(favoriteSetStore.findFavorited(userId, animalIds));
+        } catch (DataAccessException e) {
+            log.warn("Favorite set unavailable, falling back to DB: userId={}, cause={}", userId, e.getMessage());
+            List<Long> candidates = animalIds.stream().filter(Objects::nonNull).distinct().toList();
+            return candidates.isEmpty()
+                    ? new ArrayList<>()
+                    : favoriteRepository.findAnimalIdsByUserIdAndAnimalIdIn(userId, candidates);
+        }
     }
 }
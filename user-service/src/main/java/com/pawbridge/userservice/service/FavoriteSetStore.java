@@ -0,0 +1,159 @@
+package com.pawbridge.userservice.service;
+
+import com.pawbridge.userservice.event.FavoriteChangedEvent;
+import com.pawbridge.userservice.repository.FavoriteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 찜 animalId Set (Redis)
+ * - favorite:user:{userId}         → 찜한 animalId Set + 적재 완료 표시 멤버
+ * - favorite:user:{userId}:version → 찜 쓰기 버전 (반영마다 증가, {userId} hash tag로 Set과 같은 slot)
+ * - 동물 목록 카드 N개의 찜 여부를 Redis 1회 왕복으로 확인
+ *
+ * 정합성 (MySQL favorites 테이블이 원본):
+ * - 찜 추가/삭제 커밋 직후 반영 (FavoriteChangedEvent, AFTER_COMMIT)
+ * - Outbox(user.favorite.events) 소비 시 DB 재확인 후 다시 반영 (FavoriteSetSyncConsumer)
+ *   → 커밋 직후 반영이 유실/역순이어도 커밋 순서대로 오는 Outbox 이벤트로 수렴
+ * - 적재 완료 표시가 없는 Set(만료/신규)은 반영하지 않고, 다음 조회 시 DB에서 통째로 적재
+ * - 적재는 DB 조회 전 쓰기 버전을 읽어 두고, 그 사이 반영이 있었으면 건너뜀 (오래된 목록으로 덮어쓰기 방지)
+ * - TTL로 사용하지 않는 사용자의 Set은 자동 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FavoriteSetStore {
+
+    private static final String KEY_PREFIX = "favorite:user:{";
+    private static final String INITIAL_VERSION = "0";
+    private static final String READY_MEMBER = "__ready";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<String> favoriteSetCheckScript;
+    private final RedisScript<Long> favoriteSetLoadScript;
+    private final RedisScript<Long> favoriteSetApplyScript;
+    private final FavoriteRepository favoriteRepository;
+
+    @Value("${favorite.set.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    /**
+     * 찜한 animalId 일괄 확인
+     * @param userId 사용자 ID
+     * @param animalIds 확인할 animalId (중복/null 허용)
+     * @return 그 중 찜한 animalId
+     */
+    public Set<Long> findFavorited(Long userId, Collection<Long> animalIds) {
+        List<Long> distinctIds = animalIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        List<String> args = new ArrayList<>(distinctIds.size() + 1);
+        args.add(READY_MEMBER);
+        distinctIds.forEach(animalId -> args.add(String.valueOf(animalId)));
+
+        String result = redisTemplate.execute(
+                favoriteSetCheckScript, Collections.singletonList(key(userId)), args.toArray());
+
+        if (result != null && result.length() == distinctIds.size() + 1 && result.charAt(0) == '1') {
+            Set<Long> favorited = new LinkedHashSet<>();
+            for (int i = 0; i < distinctIds.size(); i++) {
+                if (result.charAt(i + 1) == '1') {
+                    favorited.add(distinctIds.get(i));
+                }
+            }
+            return favorited;
+        }
+
+        // 미적재 → DB에서 적재 후 응답
+        Set<Long> allFavorited = warmUp(userId);
+        return distinctIds.stream()
+                .filter(allFavorited::contains)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * DB 기준으로 사용자 찜 Set 적재
+     * - DB 조회 전에 쓰기 버전을 읽고, 적재 시점에 버전이 바뀌었으면 적재하지 않음 (다음 조회 시 재시도)
+     * @return 사용자가 찜한 전체 animalId (DB 조회 결과)
+     */
+    public Set<Long> warmUp(Long userId) {
+        String version = redisTemplate.opsForValue().get(versionKey(userId));
+        List<Long> animalIds = favoriteRepository.findAnimalIdsByUserId(userId);
+
+        List<String> args = new ArrayList<>(animalIds.size() + 3);
+        args.add(String.valueOf(ttlSeconds));
+        args.add(READY_MEMBER);
+        args.add(version != null ? version : INITIAL_VERSION);
+        animalIds.forEach(animalId -> args.add(String.valueOf(animalId)));
+
+        Long loaded = redisTemplate.execute(
+                favoriteSetLoadScript, List.of(key(userId), versionKey(userId)), args.toArray());
+        if (loaded != null && loaded < 0) {
+            log.debug("Favorite set warm-up skipped, changed during load: userId={}", userId);
+        } else {
+            log.debug("Favorite set warmed up: userId={}, size={}", userId, animalIds.size());
+        }
+
+        return new HashSet<>(animalIds);
+    }
+
+    /**
+     * 단건 반영 (적재된 Set에만, 쓰기 버전은 항상 증가)
+     */
+    public void apply(Long userId, Long animalId, boolean favorited) {
+        redisTemplate.execute(
+                favoriteSetApplyScript,
+                List.of(key(userId), versionKey(userId)),
+                READY_MEMBER, favorited ? "1" : "0", String.valueOf(animalId), String.valueOf(ttlSeconds));
+    }
+
+    /**
+     * DB 재확인 후 반영 (Outbox 이벤트 소비 시)
+     */
+    public void syncFromDatabase(Long userId, Long animalId) {
+        apply(userId, animalId, favoriteRepository.existsByUserUserIdAndAnimalId(userId, animalId));
+    }
+
+    /**
+     * 찜 추가/삭제 커밋 직후 반영
+     * - 실패해도 Outbox 소비 시 다시 반영되므로 예외를 전파하지 않음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        try {
+            apply(event.getUserId(), event.getAnimalId(), event.isFavorited());
+        } catch (Exception e) {
+            log.warn("Favorite set update failed, will converge via outbox: userId={}, animalId={}, cause={}",
+                    event.getUserId(), event.getAnimalId(), e.getMessage());
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId + "}";
+    }
+
+    private String versionKey(Long userId) {
+        return KEY_PREFIX + userId + "}:version";
+    }
+}
@@ -2,6 +2,7 @@ package com.pawbridge.userservice.service;
 
 import com.pawbridge.userservice.dto.response.AnimalResponse;
 import com.pawbridge.userservice.dto.response.CartResponse;
+import com.pawbridge.userservice.dto.response.MyPageSummaryResponse;
 import com.pawbridge.userservice.dto.response.OrderResponse;
 import com.pawbridge.userservice.dto.response.PageResponse;
 import com.pawbridge.userservice.dto.response.WishlistResponse;
@@ -43,4 +44,13 @@ public interface MyPageService {
      * @return 장바구니 (없으면 null)
      */
     CartResponse getCart(Long userId);
+
+    /**
+     * 마이페이지 요약 조회 (등록 동물, 찜, 주문, 장바구니 병렬 조회)
+     * - 느리거나 실패한 섹션은 누락하고 나머지만 반환
+     * @param userId 사용자 ID
+     * @param pageable 페이징 정보 (각 목록 섹션에 공통 적용)
+     * @return 마이페이지 요약
+     */
+    MyPageSummaryResponse getSummary(Long userId, Pageable pageable);
 }
@@ -4,6 +4,7 @@ import com.pawbridge.userservice.client.AnimalServiceClient;
 import com.pawbridge.userservice.client.StoreServiceClient;
 import com.pawbridge.userservice.dto.response.AnimalResponse;
 import com.pawbridge.userservice.dto.response.CartResponse;
+import com.pawbridge.userservice.dto.response.MyPageSummaryResponse;
 import com.pawbridge.userservice.dto.response.OrderResponse;
 import com.pawbridge.userservice.dto.response.PageResponse;
 import com.pawbridge.userservice.dto.response.ShelterResponse;
@@ -13,24 +14,64 @@ import com.pawbridge.userservice.entity.User;
 import com.pawbridge.userservice.exception.UnauthorizedException;
 import com.pawbridge.userservice.exception.UserNotFoundException;
 import com.pawbridge.userservice.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 /**
  * 마이페이지 서비스 구현
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MyPageServiceImpl implements MyPageService {
 
     private final UserRepository userRepository;
     private final AnimalServiceClient animalServiceClient;
     private final StoreServiceClient storeServiceClient;
+    private final ShelterInfoCache shelterInfoCache;
+    private final ThreadPoolTaskExecutor myPageExecutor;
+    private final long sectionTimeoutMs;
+
+    public MyPageServiceImpl(UserRepository userRepository,
+                             AnimalServiceClient animalServiceClient,
+                             StoreServiceClient storeServiceClient,
+                             ShelterInfoCache shelterInfoCache,
+                             @Qualifier("myPageExecutor") ThreadPoolTaskExecutor myPageExecutor,
+                             @Value("${mypage.fanout.timeout-ms:2000}") long sectionTimeoutMs) {
+        this.userRepository = userRepository;
+        this.animalServiceClient = animalServiceClient;
+        this.storeServiceClient = storeServiceClient;
+        this.shelterInfoCache = shelterInfoCache;
+        this.myPageExecutor = myPageExecutor;
+        this.sectionTimeoutMs = sectionTimeoutMs;
+    }
+
+    /**
+     * 섹션 조회 결과
+     * - available=false면 실패/시간 초과로 누락된 섹션
+     */
+    private record Section<T>(T data, boolean available) {
+
+        static <T> Section<T> of(T data) {
+            return new Section<>(data, true);
+        }
+
+        static <T> Section<T> unavailable() {
+            return new Section<>(null, false);
+        }
+    }
 
     /**
      * 내가 등록한 동물 조회 (보호소 직원용)
@@ -63,7 +104,7 @@ public class MyPageServiceImpl implements MyPageService {
         // 4. FeignClient로 Shelter 조회
         ShelterResponse shelter;
         try {
-            shelter = animalServiceClient.getShelterByCareRegNo(careRegNo);
+            shelter = fetchShelter(careRegNo);
             log.info("Found shelter: id={}, name={}", shelter.getId(), shelter.getName());
         } catch (Exception e) {
             log.error("Failed to fetch shelter from animal-service: careRegNo={}", careRegNo, e);
@@ -73,14 +114,7 @@ public class MyPageServiceImpl implements MyPageService {
         // 5. FeignClient로 보호소의 동물 목록 조회
         PageResponse<AnimalResponse> animals;
         try {
-            // Sort를 "property,direction" 형식으로 변환
-            String sortParam = "createdAt,desc"; // 기본값
-            if (pageable.getSort().isSorted()) {
-                sortParam = pageable.getSort().stream()
-                        .map(order -> order.getProperty() + "," + order.getDirection().name().toLowerCase())
-                        .reduce((a, b) -> a + "," + b)
-                        .orElse("createdAt,desc");
-            }
+            String sortParam = toSortParam(pageable);
 
             animals = animalServiceClient.getAnimalsByShelterId(
                     shelter.getId(),
@@ -114,14 +148,7 @@ public class MyPageServiceImpl implements MyPageService {
         // 2. FeignClient로 store-service에서 찜 목록 조회
         Page<WishlistResponse> wishlists;
         try {
-            // Sort를 "property,direction" 형식으로 변환
-            String sortParam = "createdAt,desc"; // 기본값
-            if (pageable.getSort().isSorted()) {
-                sortParam = pageable.getSort().stream()
-                        .map(order -> order.getProperty() + "," + order.getDirection().name().toLowerCase())
-                        .reduce((a, b) -> a + "," + b)
-                        .orElse("createdAt,desc");
-            }
+            String sortParam = toSortParam(pageable);
 
             wishlists = storeServiceClient.getWishlistsByUserId(
                     userId,
@@ -155,14 +182,7 @@ public class MyPageServiceImpl implements MyPageService {
         // 2. FeignClient로 store-service에서 주문 목록 조회
         Page<OrderResponse> orders;
         try {
-            // Sort를 "property,direction" 형식으로 변환
-            String sortParam = "createdAt,desc"; // 기본값
-            if (pageable.getSort().isSorted()) {
-                sortParam = pageable.getSort().stream()
-                        .map(order -> order.getProperty() + "," + order.getDirection().name().toLowerCase())
-                        .reduce((a, b) -> a + "," + b)
-                        .orElse("createdAt,desc");
-            }
+            String sortParam = toSortParam(pageable);
 
             orders = storeServiceClient.getOrdersByUserId(
                     userId,
@@ -209,4 +229,101 @@ public class MyPageServiceImpl implements MyPageService {
 
         return cart;
     }
+
+    /**
+     * 마이페이지 요약 조회
+     * - 사용자 조회(DB) 1회 후 하위 서비스 호출을 myPageExecutor에서 병렬 실행
+     * - 보호소 조회 → 동물 목록 조회만 순차 (shelterId 필요), 나머지는 서로 독립
+     * - 섹션별 제한 시간 초과/실패 시 해당 섹션만 누락 → 전체 지연 ≈ 가장 느린 호출
+     */
+    @Override
+    public MyPageSummaryResponse getSummary(Long userId, Pageable pageable) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(UserNotFoundException::new);
+
+        String sortParam = toSortParam(pageable);
+        int page = pageable.getPageNumber();
+        int size = pageable.getPageSize();
+
+        CompletableFuture<Section<PageResponse<AnimalResponse>>> registeredAnimals;
+        String careRegNo = user.getCareRegNo();
+        if (user.getRole() == Role.ROLE_SHELTER && careRegNo != null && !careRegNo.isEmpty()) {
+            registeredAnimals = fetchSection("registeredAnimals", userId, () -> {
+                ShelterResponse shelter = fetchShelter(careRegNo);
+                return animalServiceClient.getAnimalsByShelterId(shelter.getId(), page, size, sortParam);
+            });
+        } else {
+            registeredAnimals = CompletableFuture.completedFuture(Section.of(null));
+        }
+
+        CompletableFuture<Section<Page<WishlistResponse>>> wishlists = fetchSection("wishlists", userId,
+                () -> storeServiceClient.getWishlistsByUserId(userId, page, size, sortParam));
+        CompletableFuture<Section<Page<OrderResponse>>> orders = fetchSection("orders", userId,
+                () -> storeServiceClient.getOrdersByUserId(userId, page, size, sortParam));
+        CompletableFuture<Section<CartResponse>> cart = fetchSection("cart", userId,
+                () -> storeServiceClient.getCartByUserId(userId));
+
+        // 각 섹션은 제한 시간 내 반드시 완료되므로 전체 대기도 제한 시간으로 bounded
+        CompletableFuture.allOf(registeredAnimals, wishlists, orders, cart).join();
+
+        List<String> unavailableSections = new ArrayList<>();
+        if (!registeredAnimals.join().available()) unavailableSections.add("registeredAnimals");
+        if (!wishlists.join().available()) unavailableSections.add("wishlists");
+        if (!orders.join().available()) unavailableSections.add("orders");
+        if (!cart.join().available()) unavailableSections.add("cart");
+
+        if (!unavailableSections.isEmpty()) {
+            log.warn("마이페이지 일부 섹션 누락: userId={}, sections={}", userId, unavailableSections);
+        }
+
+        return new MyPageSummaryResponse(
+                registeredAnimals.join().data(),
+                wishlists.join().data(),
+                orders.join().data(),
+                cart.join().data(),
+                unavailableSections
+        );
+    }
+
+    /**
+     * 섹션 하나를 myPageExecutor에서 비동기 조회
+     * - 제한 시간 초과, 호출 실패, 스레드 풀 포화 모두 unavailable로 처리 (예외 전파 안 함)
+     */
+    private <T> CompletableFuture<Section<T>> fetchSection(String name, Long userId, Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(() -> Section.of(call.get()), myPageExecutor)
+                    .orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        log.warn("마이페이지 섹션 조회 실패: section={}, userId={}, cause={}",
+                                name, userId, e.toString());
+                        return Section.unavailable();
+                    });
+        } catch (TaskRejectedException e) {
+            log.warn("마이페이지 섹션 조회 거절 (스레드 풀 포화): section={}, userId={}", name, userId);
+            return CompletableFuture.completedFuture(Section.unavailable());
+        }
+    }
+
+    /**
+     * 보호소 조회 + 마지막 조회 결과 기록
+     * - animal-service 장애 시 AnimalServiceClientFallbackFactory가 기록된 정보로 응답
+     */
+    private ShelterResponse fetchShelter(String careRegNo) {
+        ShelterResponse shelter = animalServiceClient.getShelterByCareRegNo(careRegNo);
+        shelterInfoCache.remember(shelter);
+        return shelter;
+    }
+
+    /**
+     * Sort를 "property,direction" 형식으로 변환
+     */
+    private String toSortParam(Pageable pageable) {
+        if (!pageable.getSort().isSorted()) {
+            return "createdAt,desc"; // 기본값
+        }
+        return pageable.getSort().stream()
+                .map(order -> order.getProperty() + "," + order.getDirection().name().toLowerCase())
+                .reduce((a, b) -> a + "," + b)
+                .orElse("createdAt,desc");
+    }
 }
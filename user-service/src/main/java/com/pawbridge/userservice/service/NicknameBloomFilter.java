@@ -0,0 +1,188 @@
+package com.pawbridge.userservice.service;
+
+import com.pawbridge.userservice.dto.response.UserNicknameResponse;
+import com.pawbridge.userservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용 중인 닉네임 Bloom filter (Redis 비트맵)
+ * - mightContain == false 이면 확실히 미사용 → DB 중복 조회 생략
+ * - true 이면 사용 중일 수 있음 → DB로 최종 확인
+ * - 초기 적재(warmUpIfNeeded) 완료 전에는 항상 true를 반환해 DB 확인으로 동작
+ * - ready 표시는 TTL로 만료되어 주기적으로 DB에서 재적재 (누락된 비트 복구)
+ * - 비트 추가 실패(Redis 장애) 시 stale 표시 → 다음 스케줄에서 ready 해제 후 재적재
+ * - 탈퇴/변경으로 해제된 닉네임은 비트가 남지만 오탐(false positive)일 뿐 정합성에는 영향 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameBloomFilter {
+
+    private static final String BLOOM_KEY = "nickname:bloom";
+    private static final String READY_KEY = "nickname:bloom:ready";
+    private static final String WARM_UP_LOCK_KEY = "nickname:bloom:lock";
+    private static final Duration WARM_UP_LOCK_TTL = Duration.ofMinutes(10);
+    private static final int WARM_UP_BATCH_SIZE = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<Long> bloomAddScript;
+    private final RedisScript<Long> bloomContainsScript;
+    private final UserRepository userRepository;
+
+    // 비트 추가에 실패해 필터에 누락된 닉네임이 있을 수 있음 (재적재 필요)
+    private final AtomicBoolean stale = new AtomicBoolean(false);
+
+    // 비트 수 (기본 2^23 = 1MB, 50만 건 기준 오탐률 약 0.1%)
+    @Value("${nickname.bloom.bits:8388608}")
+    private long bits;
+
+    @Value("${nickname.bloom.hash-functions:7}")
+    private int hashFunctions;
+
+    // ready 표시 유지 시간 (만료되면 DB에서 재적재)
+    @Value("${nickname.bloom.rewarm-interval-ms:21600000}")
+    private long rewarmIntervalMs;
+
+    /**
+     * 닉네임 추가
+     */
+    public void add(String nickname) {
+        addAll(List.of(nickname));
+    }
+
+    /**
+     * 닉네임 일괄 추가 (스크립트 1회 호출)
+     */
+    public void addAll(Collection<String> nicknames) {
+        if (nicknames.isEmpty()) {
+            return;
+        }
+
+        List<String> offsets = new ArrayList<>(nicknames.size() * hashFunctions);
+        nicknames.forEach(nickname -> offsets.addAll(offsets(nickname)));
+        redisTemplate.execute(bloomAddScript, Collections.singletonList(BLOOM_KEY), offsets.toArray());
+    }
+
+    /**
+     * 닉네임 추가 (실패해도 예외를 던지지 않음)
+     * - 실패 시 stale 표시 → 다음 스케줄에서 DB 기준으로 재적재
+     */
+    public void addOrMarkStale(String nickname) {
+        try {
+            add(nickname);
+        } catch (Exception e) {
+            stale.set(true);
+            log.warn("[NICKNAME] Bloom filter 추가 실패, 재적재 예약: nickname={}", nickname, e);
+        }
+    }
+
+    /**
+     * 사용 중일 가능성 확인
+     * - ready 표시는 있는데 비트맵 키가 없으면 (eviction/FLUSH) ready를 해제하고 재적재 대기
+     */
+    public boolean mightContain(String nickname) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+            return true;
+        }
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(BLOOM_KEY))) {
+            log.warn("[NICKNAME] Bloom filter 비트맵 유실, ready 해제");
+            redisTemplate.delete(READY_KEY);
+            return true;
+        }
+
+        Long result = redisTemplate.execute(bloomContainsScript,
+                Collections.singletonList(BLOOM_KEY), offsets(nickname).toArray());
+        return result == null || result != 0L;
+    }
+
+    /**
+     * 기존 회원 닉네임 적재
+     * - stale 표시가 있으면 ready를 해제해 재적재 (해제 전까지는 UNIQUE 제약이 최종 보장)
+     * - 이미 적재되었거나 다른 인스턴스가 적재 중이면 생략
+     * - userId 키셋 스캔으로 배치 단위 적재 후 TTL이 있는 ready 표시
+     */
+    public void warmUpIfNeeded() {
+        if (stale.getAndSet(false)) {
+            try {
+                redisTemplate.delete(READY_KEY);
+                log.info("[NICKNAME] Bloom filter 누락 가능성으로 재적재");
+            } catch (Exception e) {
+                stale.set(true);
+                throw e;
+            }
+        }
+
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+            return;
+        }
+
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(WARM_UP_LOCK_KEY, "1", WARM_UP_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            long lastUserId = 0L;
+            long loaded = 0;
+
+            while (true) {
+                List<UserNicknameResponse> rows = userRepository.findNicknamesAfter(
+                        lastUserId, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                addAll(rows.stream().map(UserNicknameResponse::nickname).toList());
+                loaded += rows.size();
+                lastUserId = rows.get(rows.size() - 1).userId();
+            }
+
+            redisTemplate.opsForValue().set(READY_KEY, "1", Duration.ofMillis(rewarmIntervalMs));
+            log.info("닉네임 Bloom filter 적재 완료: count={}, elapsedMs={}", loaded, System.currentTimeMillis() - start);
+        } finally {
+            redisTemplate.delete(WARM_UP_LOCK_KEY);
+        }
+    }
+
+    /**
+     * 비트 오프셋 계산 (double hashing: h1 + i * h2)
+     */
+    private List<String> offsets(String nickname) {
+        ByteBuffer digest = ByteBuffer.wrap(md5(nickname.getBytes(StandardCharsets.UTF_8)));
+        long h1 = digest.getLong();
+        long h2 = digest.getLong();
+
+        List<String> offsets = new ArrayList<>(hashFunctions);
+        for (int i = 0; i < hashFunctions; i++) {
+            offsets.add(String.valueOf(Math.floorMod(h1 + i * h2, bits)));
+        }
+        return offsets;
+    }
+
+    private byte[] md5(byte[] input) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(input);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
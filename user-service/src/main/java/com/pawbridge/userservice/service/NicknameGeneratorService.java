@@ -3,20 +3,41 @@ package com.pawbridge.userservice.service;
 import com.pawbridge.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NicknameGeneratorService {
 
+    private static final String POOL_KEY = "nickname:pool";
+    private static final String CURSOR_KEY = "nickname:pool:cursor";
+    private static final int REFILL_BATCH_SIZE = 500;
+    private static final int MAX_REFILL_BATCHES = 20;
+    // 조합 수(18,000)와 서로소인 승수로 아핀 순열 구성 (인스턴스 간 동일한 섞인 순서)
+    private static final long SHUFFLE_MULTIPLIER = 7919L;
+    private static final long SHUFFLE_OFFSET = 1231L;
+
     private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NicknameBloomFilter bloomFilter;
     private final SecureRandom random = new SecureRandom();
 
+    @Value("${nickname.pool.low-watermark:1000}")
+    private long poolLowWatermark;
+
+    @Value("${nickname.pool.target-size:5000}")
+    private long poolTargetSize;
+
     // 부사 목록 (20개)
     private static final List<String> ADVERBS = Arrays.asList(
             "아주", "매우", "정말", "진짜", "엄청", "살짝", "조금",
@@ -43,32 +64,133 @@ public class NicknameGeneratorService {
     );
 
     /**
-     * 중복되지 않는 랜덤 닉네임 생성
-     * 최대 100번 시도 후 실패 시 숫자 접미사 추가
+     * 중복되지 않는 닉네임 할당
+     * - Redis 풀에서 SPOP으로 원자적으로 꺼냄 (DB 조회 없음, 인스턴스 간 중복 할당 없음)
+     * - 풀이 비었거나 Redis 장애 시 랜덤 조합 + 숫자 접미사로 대체 (UNIQUE 제약 위반은 호출 측 재시도로 처리)
+     * - 보충은 NicknamePoolScheduler에서만 수행 (가입 요청 경로에서 DB 조회 없음)
+     * - 할당한 닉네임은 Bloom filter에 추가 (실패 시 다음 스케줄에서 DB 기준 재적재)
      */
     public String generateUniqueNickname() {
-        int maxAttempts = 100;
+        String nickname = popFromPool();
+        if (nickname == null) {
+            nickname = generateRandomNickname() + random.nextInt(1_000_000);
+            log.warn("랜덤 닉네임 대체 할당: {}", nickname);
+        } else {
+            log.debug("닉네임 풀에서 할당: {}", nickname);
+        }
 
-        for (int i = 0; i < maxAttempts; i++) {
-            String nickname = generateRandomNickname();
+        bloomFilter.addOrMarkStale(nickname);
+        return nickname;
+    }
 
-            if (!userRepository.existsByNickname(nickname)) {
-                log.debug("유니크 닉네임 생성 완료: {} ({}번째 시도)", nickname, i + 1);
-                return nickname;
+    private String popFromPool() {
+        try {
+            String nickname = redisTemplate.opsForSet().pop(POOL_KEY);
+            if (nickname == null) {
+                // 요청 경로에서 보충하면 가입마다 DB IN 쿼리가 발생하므로 스케줄러 보충을 기다림
+                log.warn("닉네임 풀 소진, 다음 스케줄 보충까지 랜덤 닉네임으로 대체");
             }
+            return nickname;
+        } catch (Exception e) {
+            log.error("닉네임 풀 사용 불가, 랜덤 닉네임으로 대체", e);
+            return null;
+        }
+    }
+
+    /**
+     * 사용자가 직접 입력한 닉네임이 사용 중일 가능성 확인
+     * - false면 확실히 미사용이므로 DB 중복 조회 생략 가능
+     */
+    public boolean mightBeTaken(String nickname) {
+        try {
+            return bloomFilter.mightContain(nickname);
+        } catch (Exception e) {
+            log.warn("닉네임 Bloom filter 조회 실패, DB 확인으로 대체: {}", e.getMessage());
+            return true;
         }
+    }
+
+    /**
+     * 사용자가 직접 선택한 닉네임 점유 표시
+     * - Bloom filter에 추가 (실패 시 다음 스케줄에서 DB 기준 재적재)
+     * - 풀에 같은 닉네임이 있으면 제거 (실패 시 해당 닉네임 할당은 UNIQUE 제약 → 호출 측 재시도로 처리)
+     */
+    public void markTaken(String nickname) {
+        bloomFilter.addOrMarkStale(nickname);
+        try {
+            redisTemplate.opsForSet().remove(POOL_KEY, nickname);
+        } catch (Exception e) {
+            log.warn("[NICKNAME] 풀에서 점유 닉네임 제거 실패: nickname={}", nickname, e);
+        }
+    }
+
+    /**
+     * 닉네임 풀 보충
+     * - 풀 크기가 하한 미만이면 목표 크기까지 채움
+     * - INCRBY로 열거 구간을 예약하므로 여러 인스턴스가 동시에 보충해도 후보가 겹치지 않음
+     * - Bloom filter 누락 가능성이 있으므로 후보 전체를 배치당 1회 IN 쿼리로 DB 확인
+     * - DB에서 사용 중으로 확인된 후보는 Bloom filter에도 다시 추가 (누락 비트 복구)
+     */
+    public void refillPool() {
+        Long size = redisTemplate.opsForSet().size(POOL_KEY);
+        long current = size != null ? size : 0L;
+        if (current >= poolLowWatermark) {
+            return;
+        }
+
+        long needed = poolTargetSize - current;
+        long added = 0;
+        int batches = 0;
+
+        while (added < needed && batches < MAX_REFILL_BATCHES) {
+            Long end = redisTemplate.opsForValue().increment(CURSOR_KEY, REFILL_BATCH_SIZE);
+            long startIndex = end - REFILL_BATCH_SIZE;
+
+            List<String> candidates = new ArrayList<>(REFILL_BATCH_SIZE);
+            for (long index = startIndex; index < end; index++) {
+                candidates.add(nicknameAt(index));
+            }
+
+            Set<String> taken = new HashSet<>(userRepository.findNicknamesIn(candidates));
+            if (!taken.isEmpty()) {
+                bloomFilter.addAll(taken);
+            }
+
+            String[] available = candidates.stream()
+                    .filter(candidate -> !taken.contains(candidate))
+                    .toArray(String[]::new);
+            if (available.length > 0) {
+                redisTemplate.opsForSet().add(POOL_KEY, available);
+            }
+
+            added += available.length;
+            batches++;
+        }
+
+        log.info("닉네임 풀 보충 완료: added={}, batches={}", added, batches);
+    }
+
+    /**
+     * 열거 인덱스 → 닉네임
+     * - 인덱스를 조합 수(20×30×30)로 나눈 몫이 회차, 나머지를 아핀 순열로 섞어 조합 선택
+     * - 0회차는 접미사 없이, 이후 회차는 회차 번호를 접미사로 붙여 조합 공간을 무한히 확장
+     */
+    private String nicknameAt(long index) {
+        int total = getTotalCombinations();
+        long round = index / total;
+        int position = (int) Math.floorMod(SHUFFLE_MULTIPLIER * (index % total) + SHUFFLE_OFFSET, (long) total);
 
-        // 100번 시도 후에도 중복이면 숫자 추가
-        String baseNickname = generateRandomNickname();
-        int suffix = random.nextInt(10000);
-        String nicknameWithSuffix = baseNickname + suffix;
+        int animalCount = ANIMALS.size();
+        int adjectiveCount = ADJECTIVES.size();
+        String nickname = ADVERBS.get(position / (adjectiveCount * animalCount))
+                + ADJECTIVES.get((position / animalCount) % adjectiveCount)
+                + ANIMALS.get(position % animalCount);
 
-        log.warn("100번 재시도 후 숫자 접미사 추가: {}", nicknameWithSuffix);
-        return nicknameWithSuffix;
+        return round == 0 ? nickname : nickname + round;
     }
 
     /**
-     * 부사 + 형용사 + 동물명사 조합으로 닉네임 생성
+     * 부사 + 형용사 + 동물명사 조합으로 닉네임 생성 (풀 사용 불가 시 대체용)
      */
     private String generateRandomNickname() {
         String adverb = ADVERBS.get(random.nextInt(ADVERBS.size()));
@@ -0,0 +1,41 @@
+package com.pawbridge.userservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pawbridge.userservice.dto.response.ShelterResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 마지막으로 조회된 보호소 정보 (careRegNo 기준)
+ *
+ * animal-service 장애 시 대체 응답용 (AnimalServiceClientFallbackFactory):
+ * - 정상 조회 결과를 기록해 두고, 장애 중에는 조금 오래된 정보라도 반환
+ * - 보호소 정보는 거의 바뀌지 않으므로 stale 응답 허용
+ */
+@Component
+public class ShelterInfoCache {
+
+    private final Cache<String, ShelterResponse> shelterCache;
+
+    public ShelterInfoCache(@Value("${mypage.shelter-cache.max-size:5000}") long maxSize,
+                            @Value("${mypage.shelter-cache.expire-after-write:24h}") Duration expireAfterWrite) {
+        this.shelterCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public void remember(ShelterResponse shelter) {
+        if (shelter != null && shelter.getCareRegNo() != null) {
+            shelterCache.put(shelter.getCareRegNo(), shelter);
+        }
+    }
+
+    public Optional<ShelterResponse> find(String careRegNo) {
+        return Optional.ofNullable(shelterCache.getIfPresent(careRegNo));
+    }
+}
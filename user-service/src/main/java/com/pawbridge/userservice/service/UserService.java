@@ -13,7 +13,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface UserService {
 
@@ -32,6 +34,9 @@ public interface UserService {
     // 닉네임 조회 (내부 API용)
     String getUserNickname(Long userId);
 
+    // 닉네임 일괄 조회 (내부 API용)
+    Map<Long, String> getUserNicknames(Collection<Long> userIds);
+
     // ========== 관리자 전용 메서드 ==========
 
     /**
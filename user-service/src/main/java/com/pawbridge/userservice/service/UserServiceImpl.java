@@ -10,6 +10,7 @@ import com.pawbridge.userservice.dto.request.UpdateNicknameRequestDto;
 import com.pawbridge.userservice.dto.response.DailySignupStatsResponse;
 import com.pawbridge.userservice.dto.response.SignUpResponseDto;
 import com.pawbridge.userservice.dto.response.UserInfoResponseDto;
+import com.pawbridge.userservice.dto.response.UserNicknameResponse;
 import com.pawbridge.userservice.entity.Role;
 import com.pawbridge.userservice.entity.User;
 import com.pawbridge.userservice.exception.*;
@@ -24,7 +25,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -39,6 +43,9 @@ public class UserServiceImpl implements UserService {
     private final EmailVerificationService emailVerificationService;
     private final NicknameGeneratorService nicknameGeneratorService;
     private final AnimalServiceClient animalServiceClient;
+    private final OutboxService outboxService;
+
+    private static final String USER_PROFILE_TOPIC = "user.profile.events";
 
     @Override
     @Transactional
@@ -193,12 +200,16 @@ public class UserServiceImpl implements UserService {
 
         // 3. 닉네임 중복 체크 및 변경 (동시성 처리)
         try {
-            if (userRepository.existsByNickname(newNickname)) {
+            // Bloom filter에서 확실히 미사용이면 DB 조회 생략 (최종 보장은 UNIQUE 제약)
+            if (nicknameGeneratorService.mightBeTaken(newNickname)
+                    && userRepository.existsByNickname(newNickname)) {
                 throw new NicknameDuplicateException();
             }
 
             user.updateNickname(newNickname);
-            userRepository.save(user);
+            userRepository.saveAndFlush(user);
+            nicknameGeneratorService.markTaken(newNickname);
+            publishNicknameChanged(userId, newNickname);
 
             log.info("닉네임 변경 완료: userId={}, 새 닉네임={}", userId, newNickname);
         } catch (DataIntegrityViolationException e) {
@@ -216,6 +227,32 @@ public class UserServiceImpl implements UserService {
         return user.getNickname();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, String> getUserNicknames(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return userRepository.findNicknamesByUserIdIn(new HashSet<>(userIds)).stream()
+                .collect(Collectors.toMap(UserNicknameResponse::userId, UserNicknameResponse::nickname));
+    }
+
+    /**
+     * 닉네임 변경 이벤트 발행 (Outbox)
+     * - 다른 서비스의 닉네임 로컬 캐시 무효화용
+     * - 닉네임 UNIQUE 제약 검사(flush) 이후에 호출
+     */
+    private void publishNicknameChanged(Long userId, String nickname) {
+        Map<String, Object> eventPayload = Map.of(
+                "eventType", "USER_NICKNAME_CHANGED",
+                "userId", userId,
+                "nickname", nickname,
+                "timestamp", LocalDateTime.now().toString()
+        );
+        outboxService.saveEvent("User", userId.toString(), "USER_NICKNAME_CHANGED", USER_PROFILE_TOPIC, eventPayload);
+    }
+
     // ========== 관리자 전용 메서드 ==========
 
     @Override
@@ -246,12 +283,15 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UserNotFoundException());
 
         // 닉네임 수정
+        boolean nicknameChanged = false;
         if (request.nickname() != null && !request.nickname().isBlank()) {
             if (!user.getNickname().equals(request.nickname())) {
-                if (userRepository.existsByNickname(request.nickname())) {
+                if (nicknameGeneratorService.mightBeTaken(request.nickname())
+                        && userRepository.existsByNickname(request.nickname())) {
                     throw new NicknameDuplicateException();
                 }
                 user.updateNickname(request.nickname());
+                nicknameChanged = true;
             }
         }
 
@@ -265,7 +305,11 @@ public class UserServiceImpl implements UserService {
             user.updateCareRegNo(request.careRegNo());
         }
 
-        userRepository.save(user);
+        userRepository.saveAndFlush(user);
+        if (nicknameChanged) {
+            nicknameGeneratorService.markTaken(user.getNickname());
+            publishNicknameChanged(userId, user.getNickname());
+        }
         log.info("회원 수정 완료 (관리자): userId={}", userId);
     }
 
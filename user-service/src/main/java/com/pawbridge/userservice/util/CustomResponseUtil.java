@@ -12,9 +12,10 @@ import org.springframework.http.HttpStatus;
 public class CustomResponseUtil {
 
     private static final Logger log = LoggerFactory.getLogger(CustomResponseUtil.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     public static void fail(HttpServletResponse response, String msg, HttpStatus httpStatus) {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             response.setStatus(httpStatus.value());
 
             // 로그인 실패 JSON 응답을 생성
@@ -22,7 +23,7 @@ public class CustomResponseUtil {
                 httpStatus,
                 msg);
 
-            String jsonResponse = objectMapper.writeValueAsString(errorResponse);
+            String jsonResponse = OBJECT_MAPPER.writeValueAsString(errorResponse);
             response.setContentType("application/json");
             response.setCharacterEncoding("UTF-8");
             response.getWriter().write(jsonResponse);
@@ -0,0 +1,198 @@
+package com.pawbridge.userservice.client;
+
+import com.pawbridge.userservice.config.BudgetedRetryer;
+import com.pawbridge.userservice.dto.response.ShelterResponse;
+import com.pawbridge.userservice.service.ShelterInfoCache;
+import feign.Client;
+import feign.Feign;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * animal-service 장애 주입 테스트
+ * - 실제 Feign 프록시에 장애를 내는 Client를 연결하고, application.yml의 재시도/타임아웃 설정을 그대로 사용
+ * - Spring Cloud CircuitBreaker의 Feign 연동처럼 TimeLimiter 실패 원인을 FallbackFactory로 전달
+ */
+class AnimalServiceClientFaultInjectionTest {
+
+    private static final String CARE_REG_NO = "CARE-1";
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private Properties config;
+    private ExecutorService executor;
+    private ShelterInfoCache shelterInfoCache;
+    private AnimalServiceClientFallbackFactory fallbackFactory;
+
+    @BeforeEach
+    void setUp() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        config = yaml.getObject();
+        executor = Executors.newCachedThreadPool();
+        shelterInfoCache = new ShelterInfoCache(100, Duration.ofHours(24));
+        fallbackFactory = new AnimalServiceClientFallbackFactory(shelterInfoCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 연결_실패는_최대_시도_횟수만큼_재시도한_뒤_마지막_보호소_정보로_대체한다() {
+        ShelterResponse lastKnown = ShelterResponse.builder().id(10L).careRegNo(CARE_REG_NO).name("행복보호소").build();
+        shelterInfoCache.remember(lastKnown);
+        AnimalServiceClient client = feignClient((request, options) -> {
+            attempts.incrementAndGet();
+            throw new ConnectException("Connection refused");
+        });
+
+        ShelterResponse shelter = callWithFallback(client, timeLimit(), c -> c.getShelterByCareRegNo(CARE_REG_NO));
+
+        assertThat(shelter).isSameAs(lastKnown);
+        assertThat(attempts).hasValue(maxAttempts());
+    }
+
+    @Test
+    void 읽기_타임아웃이_반복돼도_재시도가_time_limiter_예산_안에서_끝난다() {
+        AnimalServiceClient client = feignClient((request, options) -> {
+            attempts.incrementAndGet();
+            sleep(options.readTimeoutMillis());
+            throw new SocketTimeoutException("Read timed out");
+        });
+
+        long start = System.nanoTime();
+        // 폴백이 TimeoutException이 아닌 RetryableException을 받으면 재시도가 제한 시간 안에 끝난 것
+        assertThatThrownBy(() -> callWithFallback(client, timeLimit(), c -> c.getShelterByCareRegNo(CARE_REG_NO)))
+                .isInstanceOf(RetryableException.class);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(attempts).hasValue(maxAttempts());
+        assertThat(elapsedMs).isLessThan(timeLimit().toMillis());
+    }
+
+    @Test
+    void 제한_시간을_넘기면_TimeoutException으로_폴백하고_기록된_보호소_정보를_반환한다() {
+        ShelterResponse lastKnown = ShelterResponse.builder().id(10L).careRegNo(CARE_REG_NO).build();
+        shelterInfoCache.remember(lastKnown);
+        AnimalServiceClient client = feignClient((request, options) -> {
+            sleep(2000);
+            throw new SocketTimeoutException("Read timed out");
+        });
+
+        ShelterResponse shelter = callWithFallback(client, Duration.ofMillis(200),
+                c -> c.getShelterByCareRegNo(CARE_REG_NO));
+
+        assertThat(shelter).isSameAs(lastKnown);
+    }
+
+    @Test
+    void 기록된_보호소_정보가_없으면_타임아웃을_전파한다() {
+        AnimalServiceClient client = feignClient((request, options) -> {
+            sleep(2000);
+            throw new SocketTimeoutException("Read timed out");
+        });
+
+        assertThatThrownBy(() -> callWithFallback(client, Duration.ofMillis(200),
+                c -> c.getShelterByCareRegNo(CARE_REG_NO)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void 보호소_존재_확인은_오래된_정보로_대체하지_않고_서버_오류를_그대로_전파한다() {
+        shelterInfoCache.remember(ShelterResponse.builder().id(10L).careRegNo(CARE_REG_NO).build());
+        AnimalServiceClient client = feignClient((request, options) -> {
+            attempts.incrementAndGet();
+            return Response.builder()
+                    .status(503)
+                    .reason("Service Unavailable")
+                    .request(request)
+                    .headers(Map.of())
+                    .body("unavailable", StandardCharsets.UTF_8)
+                    .build();
+        });
+
+        assertThatThrownBy(() -> callWithFallback(client, timeLimit(), c -> c.existsByCareRegNo(CARE_REG_NO)))
+                .isInstanceOf(FeignException.ServiceUnavailable.class);
+        // 5xx 응답은 RetryableException이 아니므로 재시도하지 않음
+        assertThat(attempts).hasValue(1);
+    }
+
+    private <T> T callWithFallback(AnimalServiceClient client, Duration timeLimit,
+                                   Function<AnimalServiceClient, T> call) {
+        TimeLimiter timeLimiter = TimeLimiter.of(timeLimit);
+        try {
+            return timeLimiter.executeFutureSupplier(() -> executor.submit(() -> call.apply(client)));
+        } catch (Exception e) {
+            return call.apply(fallbackFactory.create(e));
+        }
+    }
+
+    private AnimalServiceClient feignClient(Client faultyClient) {
+        String clientConfig = "spring.cloud.openfeign.client.config.animal-service.";
+        return Feign.builder()
+                .contract(new SpringMvcContract())
+                .client(faultyClient)
+                .options(new Request.Options(
+                        intConfig(clientConfig + "connect-timeout"), TimeUnit.MILLISECONDS,
+                        intConfig(clientConfig + "read-timeout"), TimeUnit.MILLISECONDS, true))
+                .retryer(new BudgetedRetryer(
+                        maxAttempts(),
+                        intConfig("resilience.feign-retry.backoff-ms"),
+                        Double.parseDouble(config.getProperty("resilience.feign-retry.budget-ratio")),
+                        intConfig("resilience.feign-retry.max-budget")))
+                .target(AnimalServiceClient.class, "http://animal-service");
+    }
+
+    private Duration timeLimit() {
+        return DurationStyle.detectAndParse(
+                config.getProperty("resilience4j.timelimiter.configs.animal-service.timeout-duration"));
+    }
+
+    private int maxAttempts() {
+        return intConfig("resilience.feign-retry.max-attempts");
+    }
+
+    private int intConfig(String key) {
+        return Integer.parseInt(config.getProperty(key));
+    }
+
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("cancelled by time limiter");
+        }
+    }
+}
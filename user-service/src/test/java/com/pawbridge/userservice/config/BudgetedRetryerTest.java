@@ -0,0 +1,69 @@
+package com.pawbridge.userservice.config;
+
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BudgetedRetryerTest {
+
+    private static final RetryableException READ_TIMEOUT = new RetryableException(
+            -1, "Read timed out", Request.HttpMethod.GET, (Long) null,
+            Request.create(Request.HttpMethod.GET, "http://animal-service/api/v1/animals", Map.of(),
+                    null, StandardCharsets.UTF_8, null));
+
+    @Test
+    void 최대_시도_횟수에_도달하면_예외를_전파한다() {
+        Retryer retryer = new BudgetedRetryer(3, 0, 0.1, 10).clone();
+
+        assertThatCode(() -> retryer.continueOrPropagate(READ_TIMEOUT)).doesNotThrowAnyException();
+        assertThatCode(() -> retryer.continueOrPropagate(READ_TIMEOUT)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> retryer.continueOrPropagate(READ_TIMEOUT)).isSameAs(READ_TIMEOUT);
+    }
+
+    @Test
+    void 예산이_소진되면_재시도하지_않는다() {
+        BudgetedRetryer prototype = new BudgetedRetryer(2, 0, 0, 1);
+
+        Retryer first = prototype.clone();
+        assertThatCode(() -> first.continueOrPropagate(READ_TIMEOUT)).doesNotThrowAnyException();
+
+        Retryer second = prototype.clone();
+        assertThatThrownBy(() -> second.continueOrPropagate(READ_TIMEOUT)).isSameAs(READ_TIMEOUT);
+    }
+
+    @Test
+    void 요청마다_clone에서_예산을_적립한다() {
+        BudgetedRetryer prototype = new BudgetedRetryer(2, 0, 0.5, 1);
+
+        Retryer first = prototype.clone(); // 예산 상한(1)에서 적립 무시
+        assertThatCode(() -> first.continueOrPropagate(READ_TIMEOUT)).doesNotThrowAnyException();
+
+        Retryer second = prototype.clone(); // 0.5
+        assertThatThrownBy(() -> second.continueOrPropagate(READ_TIMEOUT)).isSameAs(READ_TIMEOUT);
+
+        Retryer third = prototype.clone(); // 1.0
+        assertThatCode(() -> third.continueOrPropagate(READ_TIMEOUT)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void 예산은_상한을_넘어_쌓이지_않는다() {
+        BudgetedRetryer prototype = new BudgetedRetryer(2, 0, 1.0, 2);
+        for (int i = 0; i < 10; i++) {
+            prototype.clone();
+        }
+
+        Retryer first = prototype.clone();
+        Retryer second = prototype.clone();
+        Retryer third = prototype.clone();
+        assertThatCode(() -> first.continueOrPropagate(READ_TIMEOUT)).doesNotThrowAnyException();
+        assertThatCode(() -> second.continueOrPropagate(READ_TIMEOUT)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> third.continueOrPropagate(READ_TIMEOUT)).isSameAs(READ_TIMEOUT);
+    }
+}
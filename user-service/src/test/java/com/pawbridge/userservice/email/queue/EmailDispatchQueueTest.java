@@ -0,0 +1,113 @@
+package com.pawbridge.userservice.email.queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatchQueueTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisConnection connection;
+
+    private EmailDispatchQueue emailDispatchQueue;
+
+    @BeforeEach
+    void setUp() {
+        emailDispatchQueue = new EmailDispatchQueue(redisTemplate);
+        ReflectionTestUtils.setField(emailDispatchQueue, "maxAttempts", 3);
+        ReflectionTestUtils.setField(emailDispatchQueue, "retryBaseDelayMs", 1000L);
+        ReflectionTestUtils.setField(emailDispatchQueue, "deadLetterMaxLength", 100L);
+        ReflectionTestUtils.setField(emailDispatchQueue, "deadLetterTtlHours", 24L);
+    }
+
+    @Test
+    void 최대_시도_미만이면_재시도_대기열에_예약한다() {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        EmailDispatchMessage message = new EmailDispatchMessage(
+                EmailType.VERIFICATION, "user@pawbridge.com", "123456", 0, System.currentTimeMillis());
+
+        emailDispatchQueue.retryOrDeadLetter(message);
+
+        verify(zSetOperations).add(eq("email:dispatch:retry"), anyString(), anyDouble());
+        verify(redisTemplate, never()).opsForStream();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 최대_시도를_넘으면_인증_코드를_제외하고_Dead_Letter에_보관한다() {
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+        EmailDispatchMessage message = new EmailDispatchMessage(
+                EmailType.VERIFICATION, "user@pawbridge.com", "123456", 2, System.currentTimeMillis());
+
+        emailDispatchQueue.retryOrDeadLetter(message);
+
+        ArgumentCaptor<MapRecord<String, String, String>> recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations).add(recordCaptor.capture());
+        MapRecord<String, String, String> deadLetter = recordCaptor.getValue();
+        assertThat(deadLetter.getStream()).isEqualTo("email:dispatch:dead");
+        assertThat(deadLetter.getValue())
+                .doesNotContainKey("code")
+                .containsEntry("to", "user@pawbridge.com")
+                .containsEntry("attempt", "3");
+        verify(streamOperations).trim("email:dispatch:dead", 100L, true);
+        verify(redisTemplate).expire("email:dispatch:dead", Duration.ofHours(24));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 가장_오래된_pending_레코드_이전만_정리한다() {
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+        given(streamOperations.pending("email:dispatch", "email-dispatch-workers")).willReturn(
+                new PendingMessagesSummary("email-dispatch-workers", 2L,
+                        Range.closed("1700000000000-0", "1700000000500-0"), Map.of("worker-1", 2L)));
+
+        emailDispatchQueue.trim();
+
+        ArgumentCaptor<RedisCallback<Object>> callbackCaptor = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).execute(callbackCaptor.capture());
+        callbackCaptor.getValue().doInRedis(connection);
+
+        ArgumentCaptor<byte[][]> argsCaptor = ArgumentCaptor.forClass(byte[][].class);
+        verify(connection).execute(eq("XTRIM"), argsCaptor.capture());
+        assertThat(argsCaptor.getValue())
+                .extracting(arg -> new String(arg, StandardCharsets.UTF_8))
+                .containsExactly("email:dispatch", "MINID", "~", "1700000000000-0");
+        verify(streamOperations, never()).trim(anyString(), anyLong(), anyBoolean());
+    }
+}
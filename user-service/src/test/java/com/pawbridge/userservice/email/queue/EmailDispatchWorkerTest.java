@@ -0,0 +1,80 @@
+package com.pawbridge.userservice.email.queue;
+
+import com.pawbridge.userservice.email.service.EmailSenderService;
+import com.pawbridge.userservice.exception.EmailTemplateLoadException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatchWorkerTest {
+
+    @Mock
+    private EmailDispatchQueue emailDispatchQueue;
+
+    @Mock
+    private EmailSenderService emailSenderService;
+
+    @Mock
+    private ThreadPoolTaskExecutor emailDispatchExecutor;
+
+    private EmailDispatchWorker emailDispatchWorker;
+
+    @BeforeEach
+    void setUp() {
+        emailDispatchWorker = new EmailDispatchWorker(emailDispatchQueue, emailSenderService, emailDispatchExecutor);
+    }
+
+    @Test
+    void 배치_발송이_예외로_실패하면_모두_재시도_예약하고_ack한다() {
+        EmailDispatchMessage first = message("a@pawbridge.com", System.currentTimeMillis());
+        EmailDispatchMessage second = message("b@pawbridge.com", System.currentTimeMillis());
+        given(emailSenderService.sendAll(List.of(first, second))).willThrow(new EmailTemplateLoadException());
+
+        emailDispatchWorker.dispatch(List.of(record("1-0", first), record("2-0", second)));
+
+        verify(emailDispatchQueue).retryOrDeadLetter(first);
+        verify(emailDispatchQueue).retryOrDeadLetter(second);
+        verify(emailDispatchQueue).ack(RecordId.of("1-0"), RecordId.of("2-0"));
+    }
+
+    @Test
+    void 인증_코드가_만료된_메일은_발송하지_않고_ack한다() {
+        long expiredAt = System.currentTimeMillis() - Duration.ofMinutes(6).toMillis();
+        EmailDispatchMessage expired = message("a@pawbridge.com", expiredAt);
+
+        emailDispatchWorker.dispatch(List.of(record("1-0", expired)));
+
+        verify(emailSenderService, never()).sendAll(anyList());
+        verify(emailDispatchQueue, never()).retryOrDeadLetter(any());
+        verify(emailDispatchQueue).ack(RecordId.of("1-0"));
+    }
+
+    private EmailDispatchMessage message(String to, long enqueuedAt) {
+        return new EmailDispatchMessage(EmailType.VERIFICATION, to, "123456", 0, enqueuedAt);
+    }
+
+    private MapRecord<String, Object, Object> record(String id, EmailDispatchMessage message) {
+        Map<Object, Object> fields = Map.copyOf(message.toFields());
+        return StreamRecords.newRecord()
+                .in("email:dispatch")
+                .withId(RecordId.of(id))
+                .ofMap(fields);
+    }
+}
@@ -0,0 +1,157 @@
+package com.pawbridge.userservice.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String FAMILY_ID = "family-1";
+    private static final String OLD_TOKEN = "old-refresh-token";
+    private static final String NEW_TOKEN = "new-refresh-token";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisScript<Long> refreshTokenIssueScript;
+
+    @Mock
+    private RedisScript<String> refreshTokenRotateScript;
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new RefreshTokenStore(redisTemplate, refreshTokenIssueScript, refreshTokenRotateScript, jwtProvider);
+        ReflectionTestUtils.setField(refreshTokenStore, "reuseGraceMs", 10_000L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 발급은_같은_hash_slot의_키로_스크립트_1회_호출한다() {
+        given(jwtProvider.createRefreshToken(eq(USER_ID), any())).willReturn(NEW_TOKEN);
+        given(jwtProvider.getRefreshTokenExpiration()).willReturn(1_209_600_000L);
+
+        String issued = refreshTokenStore.issue(USER_ID);
+
+        assertThat(issued).isEqualTo(NEW_TOKEN);
+        ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(eq(refreshTokenIssueScript), keysCaptor.capture(), any(Object[].class));
+        assertThat(keysCaptor.getValue()).hasSize(3).allMatch(key -> key.startsWith("refresh:{7}:"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 정상_회전이면_새_토큰을_반환하고_모든_키를_KEYS로_전달한다() {
+        givenRefreshTokenClaims();
+        given(redisTemplate.execute(eq(refreshTokenRotateScript), anyList(), any(Object[].class)))
+                .willReturn("OK|7|family-1");
+
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(OLD_TOKEN);
+
+        assertThat(rotation.status()).isEqualTo(RefreshTokenStore.Rotation.Status.ROTATED);
+        assertThat(rotation.userId()).isEqualTo(USER_ID);
+        assertThat(rotation.refreshToken()).isEqualTo(NEW_TOKEN);
+
+        ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate).execute(eq(refreshTokenRotateScript), keysCaptor.capture(), any(Object[].class));
+        assertThat(keysCaptor.getValue())
+                .hasSize(5)
+                .allMatch(key -> key.startsWith("refresh:{7}:"))
+                .contains("refresh:{7}:family:family-1", "refresh:{7}:families");
+    }
+
+    @Test
+    void 유예_시간이_지난_재사용은_family를_폐기한다() {
+        givenRefreshTokenClaims();
+        long consumedAt = System.currentTimeMillis() - 60_000L;
+        given(redisTemplate.execute(eq(refreshTokenRotateScript), anyList(), any(Object[].class)))
+                .willReturn("REUSED|7|family-1|" + consumedAt);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(OLD_TOKEN);
+
+        assertThat(rotation.status()).isEqualTo(RefreshTokenStore.Rotation.Status.REUSED);
+        verify(redisTemplate).delete("refresh:{7}:family:family-1");
+        verify(zSetOperations).remove("refresh:{7}:families", FAMILY_ID);
+    }
+
+    @Test
+    void 유예_시간_이내의_재사용은_동시_요청으로_보고_family를_유지한다() {
+        givenRefreshTokenClaims();
+        given(redisTemplate.execute(eq(refreshTokenRotateScript), anyList(), any(Object[].class)))
+                .willReturn("REUSED|7|family-1|" + System.currentTimeMillis());
+
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(OLD_TOKEN);
+
+        assertThat(rotation.status()).isEqualTo(RefreshTokenStore.Rotation.Status.CONCURRENT);
+        verify(redisTemplate, never()).delete(any(String.class));
+    }
+
+    @Test
+    void 폐기된_family의_토큰은_REVOKED를_반환한다() {
+        givenRefreshTokenClaims();
+        given(redisTemplate.execute(eq(refreshTokenRotateScript), anyList(), any(Object[].class)))
+                .willReturn("REVOKED");
+
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(OLD_TOKEN);
+
+        assertThat(rotation.status()).isEqualTo(RefreshTokenStore.Rotation.Status.REVOKED);
+        assertThat(rotation.refreshToken()).isNull();
+    }
+
+    @Test
+    void family_클레임이_없는_레거시_토큰은_스크립트_없이_NOT_FOUND를_반환한다() {
+        given(jwtProvider.getUserIdFromRefreshToken(OLD_TOKEN)).willReturn(null);
+
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(OLD_TOKEN);
+
+        assertThat(rotation.status()).isEqualTo(RefreshTokenStore.Rotation.Status.NOT_FOUND);
+        verify(redisTemplate, never()).execute(eq(refreshTokenRotateScript), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void 전체_로그아웃은_모든_family와_목록을_삭제한다() {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.range("refresh:{7}:families", 0, -1)).willReturn(Set.of(FAMILY_ID));
+
+        refreshTokenStore.revokeAll(USER_ID);
+
+        verify(redisTemplate).delete(List.of("refresh:{7}:family:family-1"));
+        verify(redisTemplate).delete("refresh:{7}:families");
+    }
+
+    private void givenRefreshTokenClaims() {
+        given(jwtProvider.getUserIdFromRefreshToken(OLD_TOKEN)).willReturn(USER_ID);
+        given(jwtProvider.getFamilyIdFromRefreshToken(OLD_TOKEN)).willReturn(FAMILY_ID);
+        given(jwtProvider.createRefreshToken(USER_ID, FAMILY_ID)).willReturn(NEW_TOKEN);
+        given(jwtProvider.getRefreshTokenExpiration()).willReturn(1_209_600_000L);
+    }
+}
@@ -0,0 +1,67 @@
+package com.pawbridge.userservice.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAttemptServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisScript<Long> incrementWithExpireScript;
+
+    private LoginAttemptService loginAttemptService;
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptService = new LoginAttemptService(redisTemplate, incrementWithExpireScript);
+        ReflectionTestUtils.setField(loginAttemptService, "maxFailures", 5);
+        ReflectionTestUtils.setField(loginAttemptService, "failureWindowSeconds", 900L);
+    }
+
+    @Test
+    void 실패_횟수가_한도_이상이면_차단한다() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("login:fail:user@pawbridge.com")).willReturn("5");
+
+        assertThat(loginAttemptService.isBlocked(" User@PawBridge.com ")).isTrue();
+    }
+
+    @Test
+    void Redis_장애_시_차단하지_않는다() {
+        given(redisTemplate.opsForValue()).willThrow(new QueryTimeoutException("redis down"));
+
+        assertThat(loginAttemptService.isBlocked("user@pawbridge.com")).isFalse();
+    }
+
+    @Test
+    void Redis_장애_시_실패_기록과_초기화는_예외를_던지지_않는다() {
+        given(redisTemplate.execute(eq(incrementWithExpireScript), anyList(), any(Object[].class)))
+                .willThrow(new QueryTimeoutException("redis down"));
+        given(redisTemplate.delete("login:fail:user@pawbridge.com"))
+                .willThrow(new QueryTimeoutException("redis down"));
+
+        assertThatCode(() -> loginAttemptService.recordFailure("user@pawbridge.com")).doesNotThrowAnyException();
+        assertThatCode(() -> loginAttemptService.reset("user@pawbridge.com")).doesNotThrowAnyException();
+    }
+}
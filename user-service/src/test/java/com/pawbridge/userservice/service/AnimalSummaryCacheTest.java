@@ -0,0 +1,126 @@
+package com.pawbridge.userservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawbridge.userservice.client.AnimalServiceClient;
+import com.pawbridge.userservice.consumer.AnimalEventConsumer;
+import com.pawbridge.userservice.dto.response.AnimalSummaryResponse;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AnimalSummaryCacheTest {
+
+    @Mock
+    private AnimalServiceClient animalServiceClient;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private AnimalSummaryCache animalSummaryCache;
+    private AnimalEventConsumer animalEventConsumer;
+
+    @BeforeEach
+    void setUp() {
+        animalSummaryCache = new AnimalSummaryCache(animalServiceClient, 100, Duration.ofMinutes(10));
+        animalEventConsumer = new AnimalEventConsumer(animalSummaryCache, new ObjectMapper());
+    }
+
+    @Test
+    void 캐시에_없는_ID만_animal_service로_조회한다() {
+        given(animalServiceClient.getAnimalsByIds(List.of(10L, 20L))).willReturn(summaries(10L, 20L));
+        animalSummaryCache.getAll(List.of(10L, 20L));
+
+        given(animalServiceClient.getAnimalsByIds(List.of(30L))).willReturn(summaries(30L));
+        Map<Long, AnimalSummaryResponse> result = animalSummaryCache.getAll(Arrays.asList(20L, 30L, 10L, 30L, null));
+
+        assertThat(result).containsOnlyKeys(10L, 20L, 30L);
+        verify(animalServiceClient).getAnimalsByIds(List.of(10L, 20L));
+        verify(animalServiceClient).getAnimalsByIds(List.of(30L));
+        verifyNoMoreInteractions(animalServiceClient);
+    }
+
+    @Test
+    void 모두_캐시에_있으면_원격_호출을_하지_않는다() {
+        given(animalServiceClient.getAnimalsByIds(List.of(10L, 20L))).willReturn(summaries(10L, 20L));
+        animalSummaryCache.getAll(List.of(10L, 20L));
+
+        Map<Long, AnimalSummaryResponse> result = animalSummaryCache.getAll(List.of(20L, 10L));
+
+        assertThat(result).containsOnlyKeys(10L, 20L);
+        verify(animalServiceClient).getAnimalsByIds(anyList());
+        verifyNoMoreInteractions(animalServiceClient);
+    }
+
+    @Test
+    void 빈_목록은_원격_호출을_하지_않는다() {
+        assertThat(animalSummaryCache.getAll(List.of())).isEmpty();
+        verifyNoInteractions(animalServiceClient);
+    }
+
+    @Test
+    void 동물_변경_이벤트로_무효화된_항목만_다시_조회한다() {
+        given(animalServiceClient.getAnimalsByIds(List.of(10L, 20L))).willReturn(summaries(10L, 20L));
+        animalSummaryCache.getAll(List.of(10L, 20L));
+
+        animalEventConsumer.consumeAnimalEvent(
+                record("animal.status.changed", "{\"payload\":{\"animalId\":10,\"newStatus\":\"ADOPTED\"}}"),
+                acknowledgment);
+
+        given(animalServiceClient.getAnimalsByIds(List.of(10L))).willReturn(summaries(10L));
+        animalSummaryCache.getAll(List.of(10L, 20L));
+
+        verify(animalServiceClient).getAnimalsByIds(List.of(10L));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void 동물_삭제_이벤트_후에는_삭제된_동물을_캐시에서_반환하지_않는다() {
+        given(animalServiceClient.getAnimalsByIds(List.of(10L, 20L))).willReturn(summaries(10L, 20L));
+        animalSummaryCache.getAll(List.of(10L, 20L));
+
+        animalEventConsumer.consumeAnimalEvent(record("animal.deleted", "{\"animalId\":20}"), acknowledgment);
+
+        // animal-service는 삭제된 ID를 응답에서 제외
+        given(animalServiceClient.getAnimalsByIds(List.of(20L))).willReturn(List.of());
+        Map<Long, AnimalSummaryResponse> result = animalSummaryCache.getAll(List.of(10L, 20L));
+
+        assertThat(result).containsOnlyKeys(10L);
+    }
+
+    @Test
+    void 조회_실패는_캐시에_저장하지_않아_다음_요청에서_다시_조회한다() {
+        given(animalServiceClient.getAnimalsByIds(List.of(10L)))
+                .willThrow(new IllegalStateException("animal-service down"))
+                .willReturn(summaries(10L));
+
+        assertThat(animalSummaryCache.getAll(List.of(10L))).isEmpty();
+        assertThat(animalSummaryCache.getAll(List.of(10L))).containsOnlyKeys(10L);
+    }
+
+    private ConsumerRecord<String, String> record(String topic, String value) {
+        return new ConsumerRecord<>(topic, 0, 0L, null, value);
+    }
+
+    private List<AnimalSummaryResponse> summaries(Long... animalIds) {
+        return Arrays.stream(animalIds)
+                .map(animalId -> AnimalSummaryResponse.builder().id(animalId).status("PROTECT").build())
+                .toList();
+    }
+}
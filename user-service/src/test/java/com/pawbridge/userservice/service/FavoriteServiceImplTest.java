@@ -0,0 +1,140 @@
+package com.pawbridge.userservice.service;
+
+import com.pawbridge.userservice.client.AnimalServiceClient;
+import com.pawbridge.userservice.dto.response.AnimalSummaryResponse;
+import com.pawbridge.userservice.dto.response.FavoriteListResponseDto;
+import com.pawbridge.userservice.dto.response.FavoriteWithAnimalDto;
+import com.pawbridge.userservice.entity.Favorite;
+import com.pawbridge.userservice.entity.User;
+import com.pawbridge.userservice.exception.FavoriteCheckLimitExceededException;
+import com.pawbridge.userservice.repository.FavoriteRepository;
+import com.pawbridge.userservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class FavoriteServiceImplTest {
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+
+    @Mock
+    private FavoriteSetStore favoriteSetStore;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AnimalServiceClient animalServiceClient;
+
+    @InjectMocks
+    private FavoriteServiceImpl favoriteService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(favoriteService, "maxCheckIds", 3);
+    }
+
+    @Test
+    void Redis_장애_시_찜_여부는_DB로_확인한다() {
+        given(favoriteSetStore.findFavorited(1L, List.of(10L)))
+                .willThrow(new RedisConnectionFailureException("redis down"));
+        given(favoriteRepository.existsByUserUserIdAndAnimalId(1L, 10L)).willReturn(true);
+
+        assertThat(favoriteService.isFavorite(1L, 10L)).isTrue();
+    }
+
+    @Test
+    void Redis_장애_시_일괄_확인은_DB_IN_쿼리로_대체한다() {
+        given(favoriteSetStore.findFavorited(1L, List.of(10L, 20L)))
+                .willThrow(new RedisConnectionFailureException("redis down"));
+        given(favoriteRepository.findAnimalIdsByUserIdAndAnimalIdIn(1L, List.of(10L, 20L))).willReturn(List.of(20L));
+
+        assertThat(favoriteService.findFavoritedAnimalIds(1L, List.of(10L, 20L))).containsExactly(20L);
+    }
+
+    @Test
+    void 일괄_확인_개수가_한도를_넘으면_거절한다() {
+        List<Long> animalIds = Collections.nCopies(4, 1L);
+
+        assertThatThrownBy(() -> favoriteService.findFavoritedAnimalIds(1L, animalIds))
+                .isInstanceOf(FavoriteCheckLimitExceededException.class);
+        verifyNoInteractions(favoriteSetStore);
+        verifyNoInteractions(favoriteRepository);
+    }
+
+    @Test
+    void 찜_목록은_캐시에_없는_동물만_animal_service로_조회한다() {
+        FavoriteServiceImpl service = withAnimalCache();
+        Pageable firstPage = PageRequest.of(0, 2);
+        Pageable secondPage = PageRequest.of(1, 2);
+        given(userRepository.existsById(1L)).willReturn(true);
+        given(favoriteRepository.findByUserUserId(1L, firstPage))
+                .willReturn(new PageImpl<>(List.of(favorite(1L, 10L), favorite(2L, 20L)), firstPage, 4));
+        given(favoriteRepository.findByUserUserId(1L, secondPage))
+                .willReturn(new PageImpl<>(List.of(favorite(3L, 20L), favorite(4L, 30L)), secondPage, 4));
+        given(animalServiceClient.getAnimalsByIds(List.of(10L, 20L))).willReturn(List.of(summary(10L), summary(20L)));
+        given(animalServiceClient.getAnimalsByIds(List.of(30L))).willReturn(List.of(summary(30L)));
+
+        service.getFavorites(1L, firstPage);
+        FavoriteListResponseDto response = service.getFavorites(1L, secondPage);
+        service.getFavorites(1L, firstPage);
+
+        assertThat(response.favorites()).extracting(FavoriteWithAnimalDto::animalId).containsExactly(20L, 30L);
+        verify(animalServiceClient).getAnimalsByIds(List.of(10L, 20L));
+        verify(animalServiceClient).getAnimalsByIds(List.of(30L));
+        verifyNoMoreInteractions(animalServiceClient);
+    }
+
+    @Test
+    void 조회되지_않은_동물은_삭제됨으로_표시한다() {
+        FavoriteServiceImpl service = withAnimalCache();
+        Pageable pageable = PageRequest.of(0, 2);
+        given(userRepository.existsById(1L)).willReturn(true);
+        given(favoriteRepository.findByUserUserId(1L, pageable))
+                .willReturn(new PageImpl<>(List.of(favorite(1L, 10L), favorite(2L, 20L)), pageable, 2));
+        given(animalServiceClient.getAnimalsByIds(List.of(10L, 20L))).willReturn(List.of(summary(10L)));
+
+        FavoriteListResponseDto response = service.getFavorites(1L, pageable);
+
+        assertThat(response.favorites()).extracting(FavoriteWithAnimalDto::status).containsExactly("PROTECT", "DELETED");
+    }
+
+    private FavoriteServiceImpl withAnimalCache() {
+        AnimalSummaryCache animalSummaryCache = new AnimalSummaryCache(animalServiceClient, 100, Duration.ofMinutes(10));
+        return new FavoriteServiceImpl(favoriteRepository, userRepository, null, animalSummaryCache,
+                favoriteSetStore, null);
+    }
+
+    private Favorite favorite(Long favoriteId, Long animalId) {
+        return Favorite.builder()
+                .favoriteId(favoriteId)
+                .user(User.builder().userId(1L).build())
+                .animalId(animalId)
+                .build();
+    }
+
+    private AnimalSummaryResponse summary(Long animalId) {
+        return AnimalSummaryResponse.builder().id(animalId).status("PROTECT").build();
+    }
+}
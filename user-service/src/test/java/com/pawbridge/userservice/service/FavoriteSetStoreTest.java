@@ -0,0 +1,160 @@
+package com.pawbridge.userservice.service;
+
+import com.pawbridge.userservice.repository.FavoriteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * FavoriteSetStore 테스트
+ * - 찜 Set/쓰기 버전은 Lua 스크립트 동작을 흉내 낸 메모리 상태로 대체
+ */
+@ExtendWith(MockitoExtension.class)
+class FavoriteSetStoreTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String READY_MEMBER = "__ready";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisScript<String> favoriteSetCheckScript;
+
+    @Mock
+    private RedisScript<Long> favoriteSetLoadScript;
+
+    @Mock
+    private RedisScript<Long> favoriteSetApplyScript;
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+
+    private FavoriteSetStore favoriteSetStore;
+
+    // Redis 상태 (찜 Set + 쓰기 버전)
+    private final Set<String> favoriteSet = new HashSet<>();
+    private final AtomicLong version = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        favoriteSetStore = new FavoriteSetStore(redisTemplate, favoriteSetCheckScript,
+                favoriteSetLoadScript, favoriteSetApplyScript, favoriteRepository);
+        ReflectionTestUtils.setField(favoriteSetStore, "ttlSeconds", 60L);
+
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.get("favorite:user:{1}:version"))
+                .thenAnswer(invocation -> version.get() == 0 ? null : String.valueOf(version.get()));
+
+        // 적재: 버전이 바뀌었으면 건너뜀
+        lenient().when(redisTemplate.execute(eq(favoriteSetLoadScript), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    Object[] args = Arrays.copyOfRange(invocation.getArguments(), 2, invocation.getArguments().length);
+                    if (!String.valueOf(version.get()).equals(args[2])) {
+                        return -1L;
+                    }
+                    favoriteSet.clear();
+                    favoriteSet.add(READY_MEMBER);
+                    for (int i = 3; i < args.length; i++) {
+                        favoriteSet.add((String) args[i]);
+                    }
+                    return (long) (args.length - 3);
+                });
+
+        // 단건 반영: 버전은 항상 증가, 적재된 Set에만 반영
+        lenient().when(redisTemplate.execute(eq(favoriteSetApplyScript), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    Object[] args = Arrays.copyOfRange(invocation.getArguments(), 2, invocation.getArguments().length);
+                    version.incrementAndGet();
+                    if (!favoriteSet.contains(READY_MEMBER)) {
+                        return 0L;
+                    }
+                    if ("1".equals(args[1])) {
+                        favoriteSet.add((String) args[2]);
+                    } else {
+                        favoriteSet.remove((String) args[2]);
+                    }
+                    return 1L;
+                });
+    }
+
+    @Test
+    void 적재_중_찜_추가가_반영되면_오래된_목록으로_덮어쓰지_않는다() {
+        given(favoriteRepository.findAnimalIdsByUserId(USER_ID)).willAnswer(invocation -> {
+            // DB 조회 직후 다른 요청의 찜 추가가 커밋되어 반영됨
+            favoriteSetStore.apply(USER_ID, 30L, true);
+            return List.of(10L, 20L);
+        });
+
+        favoriteSetStore.warmUp(USER_ID);
+
+        assertThat(favoriteSet).doesNotContain(READY_MEMBER, "10", "20");
+    }
+
+    @Test
+    void 적재_중_찜_삭제가_반영되면_삭제된_항목을_되살리지_않는다() {
+        given(favoriteRepository.findAnimalIdsByUserId(USER_ID)).willAnswer(invocation -> {
+            favoriteSetStore.apply(USER_ID, 20L, false);
+            return List.of(10L, 20L);
+        });
+
+        favoriteSetStore.warmUp(USER_ID);
+
+        assertThat(favoriteSet).doesNotContain(READY_MEMBER, "20");
+    }
+
+    @Test
+    void 변경이_없으면_적재하고_이후_반영은_Set에_적용된다() {
+        given(favoriteRepository.findAnimalIdsByUserId(USER_ID)).willReturn(List.of(10L, 20L));
+
+        Set<Long> loaded = favoriteSetStore.warmUp(USER_ID);
+        favoriteSetStore.apply(USER_ID, 20L, false);
+        favoriteSetStore.apply(USER_ID, 30L, true);
+
+        assertThat(loaded).containsExactlyInAnyOrder(10L, 20L);
+        assertThat(favoriteSet).containsExactlyInAnyOrder(READY_MEMBER, "10", "30");
+    }
+
+    @Test
+    void 적재된_Set의_포함_여부_문자열을_animalId로_변환한다() {
+        given(redisTemplate.execute(eq(favoriteSetCheckScript), eq(List.of("favorite:user:{1}")), any(Object[].class)))
+                .willReturn("1010");
+
+        Set<Long> favorited = favoriteSetStore.findFavorited(USER_ID, Arrays.asList(5L, 6L, null, 7L, 5L));
+
+        assertThat(favorited).containsExactly(5L, 7L);
+    }
+
+    @Test
+    void 미적재_Set이면_DB에서_적재한_결과로_응답한다() {
+        given(redisTemplate.execute(eq(favoriteSetCheckScript), anyList(), any(Object[].class))).willReturn("0");
+        given(favoriteRepository.findAnimalIdsByUserId(USER_ID)).willReturn(List.of(6L));
+
+        Set<Long> favorited = favoriteSetStore.findFavorited(USER_ID, List.of(5L, 6L));
+
+        assertThat(favorited).containsExactly(6L);
+        assertThat(favoriteSet).contains(READY_MEMBER, "6");
+    }
+}
@@ -0,0 +1,157 @@
+package com.pawbridge.userservice.service;
+
+import com.pawbridge.userservice.client.AnimalServiceClient;
+import com.pawbridge.userservice.client.StoreServiceClient;
+import com.pawbridge.userservice.dto.response.AnimalResponse;
+import com.pawbridge.userservice.dto.response.CartResponse;
+import com.pawbridge.userservice.dto.response.MyPageSummaryResponse;
+import com.pawbridge.userservice.dto.response.PageResponse;
+import com.pawbridge.userservice.dto.response.ShelterResponse;
+import com.pawbridge.userservice.entity.Role;
+import com.pawbridge.userservice.entity.User;
+import com.pawbridge.userservice.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MyPageServiceImplTest {
+
+    private static final Long USER_ID = 1L;
+    private static final long SECTION_TIMEOUT_MS = 1000L;
+    private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AnimalServiceClient animalServiceClient;
+
+    @Mock
+    private StoreServiceClient storeServiceClient;
+
+    @Mock
+    private ShelterInfoCache shelterInfoCache;
+
+    private ThreadPoolTaskExecutor myPageExecutor;
+    private MyPageServiceImpl myPageService;
+
+    @BeforeEach
+    void setUp() {
+        myPageExecutor = new ThreadPoolTaskExecutor();
+        myPageExecutor.setCorePoolSize(8);
+        myPageExecutor.setMaxPoolSize(8);
+        myPageExecutor.initialize();
+
+        myPageService = new MyPageServiceImpl(userRepository, animalServiceClient, storeServiceClient,
+                shelterInfoCache, myPageExecutor, SECTION_TIMEOUT_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        myPageExecutor.shutdown();
+    }
+
+    @Test
+    void 하위_호출을_병렬로_실행해_전체_지연이_가장_느린_섹션에_가깝다() {
+        givenUser(Role.ROLE_SHELTER, "CARE-1");
+        PageResponse<AnimalResponse> animals = new PageResponse<>();
+        CartResponse cart = CartResponse.builder().build();
+        // 보호소 → 동물 목록만 순차 (200 + 200ms), 나머지는 각각 300ms → 합계 1300ms, 최댓값 400ms
+        given(animalServiceClient.getShelterByCareRegNo("CARE-1"))
+                .willAnswer(after(200, ShelterResponse.builder().id(10L).build()));
+        given(animalServiceClient.getAnimalsByShelterId(10L, 0, 10, "createdAt,desc")).willAnswer(after(200, animals));
+        given(storeServiceClient.getWishlistsByUserId(USER_ID, 0, 10, "createdAt,desc"))
+                .willAnswer(after(300, new PageImpl<>(List.of())));
+        given(storeServiceClient.getOrdersByUserId(USER_ID, 0, 10, "createdAt,desc"))
+                .willAnswer(after(300, new PageImpl<>(List.of())));
+        given(storeServiceClient.getCartByUserId(USER_ID)).willAnswer(after(300, cart));
+
+        long start = System.nanoTime();
+        MyPageSummaryResponse summary = myPageService.getSummary(USER_ID, PAGEABLE);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMs).isBetween(400L, 900L);
+        assertThat(summary.unavailableSections()).isEmpty();
+        assertThat(summary.registeredAnimals()).isSameAs(animals);
+        assertThat(summary.wishlists()).isNotNull();
+        assertThat(summary.orders()).isNotNull();
+        assertThat(summary.cart()).isSameAs(cart);
+    }
+
+    @Test
+    void 제한_시간을_넘긴_섹션만_누락하고_나머지는_응답한다() {
+        givenUser(Role.ROLE_SHELTER, "CARE-1");
+        given(animalServiceClient.getShelterByCareRegNo("CARE-1"))
+                .willAnswer(after(50, ShelterResponse.builder().id(10L).build()));
+        given(animalServiceClient.getAnimalsByShelterId(10L, 0, 10, "createdAt,desc"))
+                .willAnswer(after(50, new PageResponse<AnimalResponse>()));
+        given(storeServiceClient.getWishlistsByUserId(USER_ID, 0, 10, "createdAt,desc"))
+                .willAnswer(after(50, new PageImpl<>(List.of())));
+        given(storeServiceClient.getOrdersByUserId(USER_ID, 0, 10, "createdAt,desc"))
+                .willThrow(new IllegalStateException("store-service 500"));
+        // 제한 시간(1초)을 훨씬 넘기는 호출
+        given(storeServiceClient.getCartByUserId(USER_ID)).willAnswer(after(5000, CartResponse.builder().build()));
+
+        long start = System.nanoTime();
+        MyPageSummaryResponse summary = myPageService.getSummary(USER_ID, PAGEABLE);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMs).isLessThan(SECTION_TIMEOUT_MS + 1000);
+        assertThat(summary.unavailableSections()).containsExactly("orders", "cart");
+        assertThat(summary.cart()).isNull();
+        assertThat(summary.orders()).isNull();
+        assertThat(summary.registeredAnimals()).isNotNull();
+        assertThat(summary.wishlists()).isNotNull();
+    }
+
+    @Test
+    void 보호소_직원이_아니면_동물_섹션을_호출하지_않는다() {
+        givenUser(Role.ROLE_USER, null);
+        given(storeServiceClient.getWishlistsByUserId(USER_ID, 0, 10, "createdAt,desc"))
+                .willReturn(new PageImpl<>(List.of()));
+        given(storeServiceClient.getOrdersByUserId(USER_ID, 0, 10, "createdAt,desc"))
+                .willReturn(new PageImpl<>(List.of()));
+
+        MyPageSummaryResponse summary = myPageService.getSummary(USER_ID, PAGEABLE);
+
+        assertThat(summary.registeredAnimals()).isNull();
+        assertThat(summary.unavailableSections()).isEmpty();
+        verify(animalServiceClient, never()).getShelterByCareRegNo(anyString());
+        verify(animalServiceClient, never()).getAnimalsByShelterId(anyLong(), anyInt(), anyInt(), anyString());
+    }
+
+    private void givenUser(Role role, String careRegNo) {
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(User.builder()
+                .userId(USER_ID)
+                .role(role)
+                .careRegNo(careRegNo)
+                .build()));
+    }
+
+    private static <T> Answer<T> after(long delayMs, T value) {
+        return invocation -> {
+            Thread.sleep(delayMs);
+            return value;
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.pawbridge.userservice.service;
+
+import com.pawbridge.userservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NicknameBloomFilterTest {
+
+    private static final String BLOOM_KEY = "nickname:bloom";
+    private static final String READY_KEY = "nickname:bloom:ready";
+    private static final String LOCK_KEY = "nickname:bloom:lock";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisScript<Long> bloomAddScript;
+
+    @Mock
+    private RedisScript<Long> bloomContainsScript;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private NicknameBloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        bloomFilter = new NicknameBloomFilter(redisTemplate, bloomAddScript, bloomContainsScript, userRepository);
+        ReflectionTestUtils.setField(bloomFilter, "bits", 1024L);
+        ReflectionTestUtils.setField(bloomFilter, "hashFunctions", 3);
+        ReflectionTestUtils.setField(bloomFilter, "rewarmIntervalMs", 60_000L);
+    }
+
+    @Test
+    void 적재_전에는_사용_중일_수_있다고_응답한다() {
+        given(redisTemplate.hasKey(READY_KEY)).willReturn(false);
+
+        assertThat(bloomFilter.mightContain("아주귀여운강아지")).isTrue();
+        verify(redisTemplate, never()).execute(eq(bloomContainsScript), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void 비트맵이_유실되면_ready를_해제하고_사용_중일_수_있다고_응답한다() {
+        given(redisTemplate.hasKey(READY_KEY)).willReturn(true);
+        given(redisTemplate.hasKey(BLOOM_KEY)).willReturn(false);
+
+        assertThat(bloomFilter.mightContain("아주귀여운강아지")).isTrue();
+        verify(redisTemplate).delete(READY_KEY);
+        verify(redisTemplate, never()).execute(eq(bloomContainsScript), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void 비트가_하나라도_없으면_미사용으로_응답한다() {
+        given(redisTemplate.hasKey(READY_KEY)).willReturn(true);
+        given(redisTemplate.hasKey(BLOOM_KEY)).willReturn(true);
+        given(redisTemplate.execute(eq(bloomContainsScript), eq(List.of(BLOOM_KEY)), any(Object[].class)))
+                .willReturn(0L);
+
+        assertThat(bloomFilter.mightContain("아주귀여운강아지")).isFalse();
+    }
+
+    @Test
+    void 이미_적재되어_있으면_DB를_조회하지_않는다() {
+        given(redisTemplate.hasKey(READY_KEY)).willReturn(true);
+
+        bloomFilter.warmUpIfNeeded();
+
+        verify(userRepository, never()).findNicknamesAfter(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void 추가_실패_후에는_ready를_해제하고_DB에서_재적재한다() {
+        willThrow(new QueryTimeoutException("redis down"))
+                .given(redisTemplate).execute(eq(bloomAddScript), anyList(), any(Object[].class));
+        bloomFilter.addOrMarkStale("아주귀여운강아지123");
+
+        given(redisTemplate.hasKey(READY_KEY)).willReturn(false);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), eq("1"), any(Duration.class))).willReturn(true);
+        given(userRepository.findNicknamesAfter(eq(0L), any(Pageable.class))).willReturn(List.of());
+
+        bloomFilter.warmUpIfNeeded();
+
+        verify(redisTemplate).delete(READY_KEY);
+        verify(valueOperations).set(READY_KEY, "1", Duration.ofMillis(60_000L));
+        verify(redisTemplate).delete(LOCK_KEY);
+    }
+}
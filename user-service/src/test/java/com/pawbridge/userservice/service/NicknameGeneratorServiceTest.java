@@ -0,0 +1,160 @@
+package com.pawbridge.userservice.service;
+
+import com.pawbridge.userservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NicknameGeneratorServiceTest {
+
+    private static final String POOL_KEY = "nickname:pool";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private NicknameBloomFilter bloomFilter;
+
+    @InjectMocks
+    private NicknameGeneratorService nicknameGeneratorService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(nicknameGeneratorService, "poolLowWatermark", 100L);
+        ReflectionTestUtils.setField(nicknameGeneratorService, "poolTargetSize", 500L);
+    }
+
+    @Test
+    void 풀에서_꺼낸_닉네임을_Bloom_filter에_추가한다() {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.pop(POOL_KEY)).willReturn("아주귀여운강아지");
+
+        String nickname = nicknameGeneratorService.generateUniqueNickname();
+
+        assertThat(nickname).isEqualTo("아주귀여운강아지");
+        verify(bloomFilter).addOrMarkStale("아주귀여운강아지");
+    }
+
+    @Test
+    void 가입이_반복되고_풀이_소진되거나_다시_채워져도_닉네임_할당은_DB를_조회하지_않는다() {
+        // Redis SET 대역: 다른 인스턴스의 스케줄러가 중간에 풀을 다시 채움
+        Deque<String> pool = new ArrayDeque<>();
+        addToPool(pool, 0, 1000);
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.pop(POOL_KEY)).willAnswer(invocation -> pool.poll());
+
+        Set<String> issued = new HashSet<>();
+        for (int signUp = 0; signUp < 3000; signUp++) {
+            if (signUp == 1500) {
+                addToPool(pool, 1000, 1000);
+            }
+            issued.add(nicknameGeneratorService.generateUniqueNickname());
+        }
+
+        // 풀 2000건 + 소진 구간 대체 닉네임 1000건
+        assertThat(issued).hasSizeGreaterThanOrEqualTo(2990);
+        assertThat(issued).contains("pooled-0", "pooled-1999");
+        // 보충(풀 크기 확인, 커서 예약, DB 확인)은 요청 경로에서 실행되지 않음
+        verify(setOperations, never()).size(POOL_KEY);
+        verifyNoInteractions(userRepository, valueOperations);
+    }
+
+    @Test
+    void Redis_장애_시_대체_닉네임도_Bloom_filter_추가를_시도한다() {
+        given(redisTemplate.opsForSet()).willThrow(new QueryTimeoutException("redis down"));
+
+        String nickname = nicknameGeneratorService.generateUniqueNickname();
+
+        assertThat(nickname).matches(".+\\d+");
+        verify(bloomFilter).addOrMarkStale(nickname);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 보충_시_후보_전체를_DB로_확인하고_사용_중인_닉네임은_제외한다() {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(setOperations.size(POOL_KEY)).willReturn(0L);
+        given(valueOperations.increment("nickname:pool:cursor", 500)).willReturn(500L);
+        given(userRepository.findNicknamesIn(anyCollection())).willAnswer(invocation -> {
+            Collection<String> candidates = invocation.getArgument(0);
+            return List.of(candidates.iterator().next());
+        });
+
+        nicknameGeneratorService.refillPool();
+
+        ArgumentCaptor<Collection<String>> candidatesCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(userRepository).findNicknamesIn(candidatesCaptor.capture());
+        String taken = candidatesCaptor.getValue().iterator().next();
+        assertThat(candidatesCaptor.getValue()).hasSize(500);
+
+        ArgumentCaptor<String[]> pooledCaptor = ArgumentCaptor.forClass(String[].class);
+        verify(setOperations).add(eq(POOL_KEY), pooledCaptor.capture());
+        assertThat(pooledCaptor.getValue()).hasSize(499).doesNotContain(taken);
+        verify(bloomFilter).addAll(Set.of(taken));
+    }
+
+    @Test
+    void 풀이_비어_있으면_요청_경로에서_보충하지_않고_대체_닉네임을_할당한다() {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.pop(POOL_KEY)).willReturn(null);
+
+        String nickname = nicknameGeneratorService.generateUniqueNickname();
+
+        assertThat(nickname).matches(".+\\d+");
+        verify(bloomFilter).addOrMarkStale(nickname);
+        verify(setOperations, never()).size(POOL_KEY);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void 풀_제거에_실패해도_점유_표시는_예외를_던지지_않는다() {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.remove(eq(POOL_KEY), anyString())).willThrow(new QueryTimeoutException("redis down"));
+
+        assertThatCode(() -> nicknameGeneratorService.markTaken("멋진사자")).doesNotThrowAnyException();
+        verify(bloomFilter).addOrMarkStale("멋진사자");
+    }
+
+    private void addToPool(Deque<String> pool, int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            pool.add("pooled-" + i);
+        }
+    }
+}